@@ -175,13 +175,10 @@ public class MetricsHubAgentApplication implements Runnable {
 				// context.
 				lifecycle.restartAsync(() -> newAgentContext);
 			}
-			case LOCAL_ONLY ->
+			case LOCAL_ONLY, NO_CHANGE ->
 				// ReloadService already grafted the required TelemetryManagers from newAgentContext
-				// into the running one. The remaining state on newAgentContext is no longer needed.
-				newAgentContext.close();
-			case NO_CHANGE ->
-				// The freshly built context is not needed
-				newAgentContext.close();
+				// into the running one and closed newAgentContext.
+				log.debug("Agent configuration reloaded: {}.", result);
 			default -> log.warn("Unknown reload result: {}", result);
 		}
 	}
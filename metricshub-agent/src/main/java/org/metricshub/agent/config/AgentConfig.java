@@ -49,7 +49,7 @@ import org.springframework.core.io.ClassPathResource;
 
 /**
  * AgentConfig represents the configuration for the MetricsHub agent. It includes settings for
- * job pool size, logger level, output directory, collect period, discovery cycle, alerting system configuration,
+ * job pool size, protocol request concurrency limits, logger level, output directory, collect period, discovery cycle, alerting system configuration,
  * sequential mode, hostname resolution, job timeout, OpenTelemetry (OTel) collector configuration,
  * exporter configuration, custom attributes, custom metrics, and resource group configurations.
  */
@@ -80,6 +80,12 @@ public class AgentConfig {
 	@Default
 	private int jobPoolSize = DEFAULT_JOB_POOL_SIZE;
 
+	@Default
+	private int maxConcurrentRequests = MetricsHubConstants.DEFAULT_MAX_CONCURRENT_REQUESTS;
+
+	@Default
+	private int maxConcurrentRequestsPerHost = MetricsHubConstants.DEFAULT_MAX_CONCURRENT_REQUESTS_PER_HOST;
+
 	@Default
 	@JsonSetter(nulls = SKIP)
 	private String loggerLevel = "error";
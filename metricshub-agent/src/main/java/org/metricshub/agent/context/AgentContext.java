@@ -58,6 +58,7 @@ import org.metricshub.agent.service.OtelCollectorProcessService;
 import org.metricshub.agent.service.TaskSchedulingService;
 import org.metricshub.engine.common.helpers.JsonHelper;
 import org.metricshub.engine.common.helpers.MetricsHubConstants;
+import org.metricshub.engine.common.helpers.ThreadHelper;
 import org.metricshub.engine.connector.model.ConnectorStore;
 import org.metricshub.engine.connector.parser.EnvironmentProcessor;
 import org.metricshub.engine.extension.ExtensionManager;
@@ -145,7 +146,11 @@ public class AgentContext implements AutoCloseable {
 		pid = findPid();
 
 		if (createConnectorStore) {
-			connectorStore = ConfigHelper.buildConnectorStore(extensionManager, preConfig.getPatchDirectory());
+			connectorStore = ConfigHelper.buildConnectorStore(
+				extensionManager,
+				preConfig.getPatchDirectory(),
+				Path.of(preConfig.getOutputDirectory())
+			);
 		}
 
 		// Initialize agent information
@@ -156,6 +161,12 @@ public class AgentContext implements AutoCloseable {
 
 		logProductInformation();
 
+		// Reject invalid request concurrency limits now, they are applied when the context starts scheduling
+		ThreadHelper.validateConcurrencyLimits(
+			agentConfig.getMaxConcurrentRequests(),
+			agentConfig.getMaxConcurrentRequestsPerHost()
+		);
+
 		// Normalizes the agent configuration, configurations from parent will be set in children configuration
 		// to ease data retrieval in the scheduler
 		ConfigHelper.normalizeAgentConfiguration(agentConfig);
@@ -186,6 +197,7 @@ public class AgentContext implements AutoCloseable {
 			.withMetricsExporter(metricsExporter)
 			.withHostMetricDefinitions(hostMetricDefinitions)
 			.withExtensionManager(extensionManager)
+			.withMonitorJobExecutor(TaskSchedulingService.newMonitorJobExecutor(agentConfig.getJobPoolSize()))
 			.build();
 
 		final var startupDuration = Duration.ofNanos(System.nanoTime() - startTime);
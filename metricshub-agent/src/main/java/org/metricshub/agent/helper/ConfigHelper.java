@@ -43,6 +43,7 @@ import java.nio.file.StandardCopyOption;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -73,6 +74,7 @@ import org.metricshub.engine.common.helpers.JsonHelper;
 import org.metricshub.engine.common.helpers.LocalOsHandler;
 import org.metricshub.engine.common.helpers.MetricsHubConstants;
 import org.metricshub.engine.common.helpers.ResourceHelper;
+import org.metricshub.engine.common.helpers.VersionHelper;
 import org.metricshub.engine.configuration.AdditionalConnector;
 import org.metricshub.engine.configuration.HostConfiguration;
 import org.metricshub.engine.configuration.IConfiguration;
@@ -1269,6 +1271,71 @@ public class ConfigHelper {
 	public static ConnectorStore buildConnectorStore(
 		final ExtensionManager extensionManager,
 		final String connectorsPatchPath
+	) {
+		return composeConnectorStore(extensionManager, connectorsPatchPath);
+	}
+
+	/**
+	 * Builds a {@link ConnectorStore} like {@link #buildConnectorStore(ExtensionManager, String)}, reusing the binary
+	 * snapshot stored in the given directory when none of the connector sources has changed.<br>
+	 * The snapshot key is computed from the content of the extensions directory, the connectors directory, the
+	 * connectors patch directory and the engine version. When the key matches, the snapshot is loaded instead of
+	 * parsing the connectors. Otherwise, the connector store is composed and a new snapshot is written.
+	 *
+	 * @param extensionManager     The manager responsible for discovering and providing connector extensions.
+	 * @param connectorsPatchPath  An optional filesystem path pointing to additional user-defined connectors.
+	 * @param snapshotDirectory    The directory where the connector store snapshot is stored.
+	 * @return A fully composed {@link ConnectorStore} containing all loaded connectors.
+	 */
+	public static ConnectorStore buildConnectorStore(
+		final ExtensionManager extensionManager,
+		final String connectorsPatchPath,
+		@NonNull final Path snapshotDirectory
+	) {
+		final Path snapshotFile = snapshotDirectory.resolve(ConnectorStoreSnapshot.SNAPSHOT_FILE_NAME);
+
+		final String key;
+		try {
+			key = ConnectorStoreSnapshot.computeKey(
+				VersionHelper.getClassVersion(),
+				Arrays.asList(
+					getSubDirectory("extensions", false),
+					getSubDirectory("connectors", false),
+					connectorsPatchPath != null ? Path.of(connectorsPatchPath) : null
+				)
+			);
+		} catch (Exception e) {
+			log.warn("Cannot compute the connector store snapshot key. Error: {}", e.getMessage());
+			log.debug("Exception: ", e);
+			return composeConnectorStore(extensionManager, connectorsPatchPath);
+		}
+
+		final Optional<ConnectorStore> maybeSnapshot = ConnectorStoreSnapshot.load(snapshotFile, key);
+		if (maybeSnapshot.isPresent()) {
+			final ConnectorStore connectorStore = maybeSnapshot.get();
+			log.info("Connector Store loaded from snapshot {}.", snapshotFile);
+			log.info("Global Connector Store size: {}", connectorStore.getStore().size());
+			return connectorStore;
+		}
+
+		final ConnectorStore connectorStore = composeConnectorStore(extensionManager, connectorsPatchPath);
+		if (ConnectorStoreSnapshot.save(snapshotFile, key, connectorStore)) {
+			log.info("Connector Store snapshot written to {}.", snapshotFile);
+		}
+		return connectorStore;
+	}
+
+	/**
+	 * Composes the {@link ConnectorStore} by parsing the extension connectors, the connectors subdirectory and the
+	 * optional connectors patch directory.
+	 *
+	 * @param extensionManager     The manager responsible for discovering and providing connector extensions.
+	 * @param connectorsPatchPath  An optional filesystem path pointing to additional user-defined connectors.
+	 * @return A fully composed {@link ConnectorStore} containing all loaded connectors.
+	 */
+	private static ConnectorStore composeConnectorStore(
+		final ExtensionManager extensionManager,
+		final String connectorsPatchPath
 	) {
 		// Get extension raw connector stores
 		final RawConnectorStore rawConnectorStore = extensionManager.aggregateExtensionRawConnectorStores();
@@ -0,0 +1,328 @@
+package org.metricshub.agent.helper;
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub Agent
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2025 MetricsHub
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.metricshub.engine.connector.model.ConnectorStore;
+
+/**
+ * Reads and writes the binary snapshot of a composed {@link ConnectorStore}.<br>
+ * The snapshot is identified by a key computed from the content of the connector sources and the engine version.
+ * When the key of the snapshot matches the current key, the agent loads the snapshot instead of parsing
+ * all the YAML connectors again.
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ConnectorStoreSnapshot {
+
+	/**
+	 * Name of the snapshot file in the output directory
+	 */
+	public static final String SNAPSHOT_FILE_NAME = "connector-store.snapshot";
+
+	/**
+	 * Magic number written at the beginning of the snapshot file ("MHCS")
+	 */
+	static final int MAGIC = 0x4D484353;
+
+	/**
+	 * Version of the snapshot file format, to increase whenever the layout of the file changes
+	 */
+	static final int FORMAT_VERSION = 1;
+
+	/**
+	 * Filter of the classes and graph sizes accepted when the snapshot is deserialized: the connector model only holds
+	 * MetricsHub classes, Java collections, boxed values and the Jackson subtypes of the raw connector store. Any other
+	 * class is rejected, as well as the graphs nested deeper or the arrays larger than the limits.
+	 */
+	static final ObjectInputFilter SNAPSHOT_FILTER = ObjectInputFilter.Config.createFilter(
+		"maxdepth=100;maxarray=16777216;org.metricshub.**;java.util.*;java.lang.*;" +
+		"com.fasterxml.jackson.databind.jsontype.NamedType;!*"
+	);
+
+	/**
+	 * Size of the buffer through which the source files are hashed
+	 */
+	private static final int HASH_BUFFER_SIZE = 8192;
+
+	/**
+	 * Computes the key of the connector store snapshot. The key is the SHA-256 hash of the engine version, and of
+	 * the relative path and content of each regular file found in the given source directories. The JAR files are
+	 * hashed with their size and last modification time instead of their content.
+	 *
+	 * @param engineVersion The version of the engine.
+	 * @param sources       The directories holding the connector sources. Missing directories are hashed as absent.
+	 * @return The key as a hexadecimal string.
+	 * @throws IOException if a source file cannot be read.
+	 */
+	public static String computeKey(final String engineVersion, @NonNull final List<Path> sources) throws IOException {
+		final MessageDigest digest = newDigest();
+		final byte[] buffer = new byte[HASH_BUFFER_SIZE];
+		update(digest, String.valueOf(engineVersion));
+
+		for (Path source : sources) {
+			if (source == null || !Files.isDirectory(source)) {
+				update(digest, "<none>");
+				continue;
+			}
+
+			update(digest, "<source>");
+
+			final List<Path> files = new ArrayList<>();
+			try (var stream = Files.walk(source)) {
+				files.addAll(stream.filter(Files::isRegularFile).sorted().toList());
+			}
+
+			for (Path file : files) {
+				update(digest, source.relativize(file).toString().replace('\\', '/'));
+				update(digest, Long.toString(Files.size(file)));
+				if (file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".jar")) {
+					// The extension JARs are large and replaced as a whole when they are upgraded
+					update(digest, Long.toString(Files.getLastModifiedTime(file).toMillis()));
+				} else {
+					updateWithContent(digest, file, buffer);
+				}
+			}
+		}
+
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	/**
+	 * Loads the connector store from the given snapshot file if the file exists and was written with the given key.
+	 * The file is memory-mapped and read in place.
+	 *
+	 * @param snapshotFile The snapshot file.
+	 * @param key          The expected key of the snapshot.
+	 * @return The {@link ConnectorStore} of the snapshot, or an empty {@link Optional} if the snapshot is missing,
+	 *         stale or unreadable.
+	 */
+	public static Optional<ConnectorStore> load(@NonNull final Path snapshotFile, @NonNull final String key) {
+		if (!Files.isRegularFile(snapshotFile)) {
+			return Optional.empty();
+		}
+
+		try (FileChannel channel = FileChannel.open(snapshotFile, StandardOpenOption.READ)) {
+			final ByteBuffer buffer = channel.map(MapMode.READ_ONLY, 0, channel.size());
+			final DataInputStream input = new DataInputStream(new ByteBufferInputStream(buffer));
+
+			if (input.readInt() != MAGIC || input.readInt() != FORMAT_VERSION || !key.equals(input.readUTF())) {
+				log.info("The connector store snapshot {} is outdated.", snapshotFile);
+				return Optional.empty();
+			}
+
+			try (ObjectInputStream objectInput = new SnapshotObjectInputStream(input)) {
+				return Optional.of((ConnectorStore) objectInput.readObject());
+			}
+		} catch (Exception e) {
+			log.warn("Cannot load the connector store snapshot {}. Error: {}", snapshotFile, e.getMessage());
+			log.debug("Exception: ", e);
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * Writes the given connector store to the snapshot file. The file is first written next to the target, then
+	 * moved in place, so that a concurrent reader never sees a partial snapshot.
+	 *
+	 * @param snapshotFile   The snapshot file.
+	 * @param key            The key of the snapshot.
+	 * @param connectorStore The {@link ConnectorStore} to write.
+	 * @return <code>true</code> if the snapshot has been written, otherwise <code>false</code>.
+	 */
+	public static boolean save(
+		@NonNull final Path snapshotFile,
+		@NonNull final String key,
+		@NonNull final ConnectorStore connectorStore
+	) {
+		Path temporaryFile = null;
+		try {
+			final Path directory = snapshotFile.toAbsolutePath().getParent();
+			Files.createDirectories(directory);
+			temporaryFile = Files.createTempFile(directory, SNAPSHOT_FILE_NAME, ".tmp");
+
+			try (
+				OutputStream output = new BufferedOutputStream(Files.newOutputStream(temporaryFile));
+				DataOutputStream dataOutput = new DataOutputStream(output)
+			) {
+				dataOutput.writeInt(MAGIC);
+				dataOutput.writeInt(FORMAT_VERSION);
+				dataOutput.writeUTF(key);
+
+				final ObjectOutputStream objectOutput = new ObjectOutputStream(dataOutput);
+				objectOutput.writeObject(connectorStore);
+				objectOutput.flush();
+			}
+
+			Files.move(temporaryFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			return true;
+		} catch (Exception e) {
+			log.warn("Cannot write the connector store snapshot {}. Error: {}", snapshotFile, e.getMessage());
+			log.debug("Exception: ", e);
+			deleteQuietly(temporaryFile);
+			return false;
+		}
+	}
+
+	/**
+	 * Deletes the given file, ignoring any error.
+	 *
+	 * @param file The file to delete, may be <code>null</code>.
+	 */
+	private static void deleteQuietly(final Path file) {
+		if (file == null) {
+			return;
+		}
+		try {
+			Files.deleteIfExists(file);
+		} catch (IOException e) {
+			log.debug("Cannot delete the temporary file {}.", file, e);
+		}
+	}
+
+	/**
+	 * Creates a new SHA-256 {@link MessageDigest}.
+	 *
+	 * @return The {@link MessageDigest} instance.
+	 */
+	private static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available.", e);
+		}
+	}
+
+	/**
+	 * Updates the digest with the given value followed by a separator.
+	 *
+	 * @param digest The digest to update.
+	 * @param value  The value to hash.
+	 */
+	private static void update(final MessageDigest digest, final String value) {
+		digest.update(value.getBytes(StandardCharsets.UTF_8));
+		digest.update((byte) 0);
+	}
+
+	/**
+	 * Updates the digest with the content of the given file, read through the given buffer.
+	 *
+	 * @param digest The digest to update.
+	 * @param file   The file to hash.
+	 * @param buffer The buffer the file is read through.
+	 * @throws IOException if the file cannot be read.
+	 */
+	private static void updateWithContent(final MessageDigest digest, final Path file, final byte[] buffer)
+		throws IOException {
+		try (InputStream input = Files.newInputStream(file)) {
+			int read;
+			while ((read = input.read(buffer)) != -1) {
+				digest.update(buffer, 0, read);
+			}
+		}
+	}
+
+	/**
+	 * {@link InputStream} reading the remaining bytes of a {@link ByteBuffer}.
+	 */
+	private static class ByteBufferInputStream extends InputStream {
+
+		private final ByteBuffer buffer;
+
+		ByteBufferInputStream(final ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		@Override
+		public int read() {
+			return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+		}
+
+		@Override
+		public int read(final byte[] bytes, final int offset, final int length) {
+			if (!buffer.hasRemaining()) {
+				return -1;
+			}
+			final int count = Math.min(length, buffer.remaining());
+			buffer.get(bytes, offset, count);
+			return count;
+		}
+
+		@Override
+		public int available() {
+			return buffer.remaining();
+		}
+	}
+
+	/**
+	 * {@link ObjectInputStream} accepting only the classes of {@link #SNAPSHOT_FILTER}, and falling back to the context
+	 * class loader, where the extension classes are visible.
+	 */
+	private static class SnapshotObjectInputStream extends ObjectInputStream {
+
+		SnapshotObjectInputStream(final InputStream input) throws IOException {
+			super(input);
+			setObjectInputFilter(SNAPSHOT_FILTER);
+		}
+
+		@Override
+		protected Class<?> resolveClass(final ObjectStreamClass description) throws IOException, ClassNotFoundException {
+			try {
+				return super.resolveClass(description);
+			} catch (ClassNotFoundException e) {
+				final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+				if (contextClassLoader == null) {
+					throw e;
+				}
+				return Class.forName(description.getName(), false, contextClassLoader);
+			}
+		}
+	}
+}
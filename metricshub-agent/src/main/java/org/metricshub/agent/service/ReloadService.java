@@ -119,6 +119,11 @@ public class ReloadService {
 	 * {@link ReloadResult#GLOBAL_RESTART_REQUIRED}, leaving the caller responsible for scheduling
 	 * a full restart through the lifecycle service.
 	 * </p>
+	 * <p>
+	 * Unless a restart is required, the reloaded agent context is closed before returning: the
+	 * running context keeps its own services and monitor job executor, so the ones created with the
+	 * reloaded context must not outlive the reload.
+	 * </p>
 	 *
 	 * @return the {@link ReloadResult} describing what happened
 	 */
@@ -127,6 +132,7 @@ public class ReloadService {
 
 		// No changes have been made to Agent Context
 		if (runningAgentContext.getAgentConfig().equals(reloadedAgentContext.getAgentConfig())) {
+			reloadedAgentContext.close();
 			return ReloadResult.NO_CHANGE;
 		}
 
@@ -172,6 +178,10 @@ public class ReloadService {
 		// Schedule the additional resources
 		scheduleResources(resourcesToSchedule, resourceQuotaSupplier.getAsInt());
 
+		// The required TelemetryManagers have been grafted into the running context, the resources
+		// run on its executor. Stop the services of the reloaded context.
+		reloadedAgentContext.close();
+
 		return ReloadResult.LOCAL_ONLY;
 	}
 
@@ -189,6 +199,8 @@ public class ReloadService {
 		// CHECKSTYLE:OFF
 		return (
 			runningConf.getJobPoolSize() != newConf.getJobPoolSize() ||
+			runningConf.getMaxConcurrentRequests() != newConf.getMaxConcurrentRequests() ||
+			runningConf.getMaxConcurrentRequestsPerHost() != newConf.getMaxConcurrentRequestsPerHost() ||
 			!Objects.equals(runningConf.getLoggerLevel(), newConf.getLoggerLevel()) ||
 			!Objects.equals(runningConf.getOutputDirectory(), newConf.getOutputDirectory()) ||
 			runningConf.getCollectPeriod() != newConf.getCollectPeriod() ||
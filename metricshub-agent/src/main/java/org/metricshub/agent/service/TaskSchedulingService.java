@@ -39,7 +39,10 @@ import org.metricshub.agent.opentelemetry.MetricsExporter;
 import org.metricshub.agent.service.scheduling.ResourceGroupScheduling;
 import org.metricshub.agent.service.scheduling.ResourceScheduling;
 import org.metricshub.agent.service.scheduling.SelfScheduling;
+import org.metricshub.engine.common.helpers.MetricsHubConstants;
+import org.metricshub.engine.common.helpers.ThreadHelper;
 import org.metricshub.engine.extension.ExtensionManager;
+import org.metricshub.engine.strategy.MonitorJobExecutor;
 import org.metricshub.engine.telemetry.TelemetryManager;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
@@ -62,11 +65,19 @@ public class TaskSchedulingService {
 	private MetricDefinitions hostMetricDefinitions;
 	private ExtensionManager extensionManager;
 	private MetricsExporter metricsExporter;
+	private MonitorJobExecutor monitorJobExecutor;
 
 	/**
 	 * Start scheduling
 	 */
 	public void start() {
+		// Bound the number of concurrent protocol requests, globally and per host. The limits are engine-wide,
+		// so they are only applied by the context that starts running, never by a context built for a reload.
+		ThreadHelper.configureConcurrencyLimits(
+			agentConfig.getMaxConcurrentRequests(),
+			agentConfig.getMaxConcurrentRequestsPerHost()
+		);
+
 		// Self recorder scheduling
 		scheduleSelfRecorder();
 
@@ -199,6 +210,7 @@ public class TaskSchedulingService {
 			.withTelemetryManager(telemetryManager)
 			.withHostMetricDefinitions(hostMetricDefinitions)
 			.withExtensionManager(safeExtensionManager)
+			.withMonitorJobExecutor(monitorJobExecutor)
 			.build()
 			.schedule();
 	}
@@ -234,12 +246,28 @@ public class TaskSchedulingService {
 		return threadPoolTaskScheduler;
 	}
 
+	/**
+	 * Create the monitor job executor shared by all the resources of the agent.
+	 * It allows as many jobs to run at the same time as the former per-connector
+	 * thread pools did, i.e. {@value MetricsHubConstants#MAX_THREADS_COUNT} jobs per scheduler thread.
+	 *
+	 * @param jobPoolSize The size of the job pool
+	 * @return new instance of {@link MonitorJobExecutor}
+	 */
+	public static MonitorJobExecutor newMonitorJobExecutor(final int jobPoolSize) {
+		return new MonitorJobExecutor(Math.max(1, jobPoolSize) * MetricsHubConstants.MAX_THREADS_COUNT);
+	}
+
 	/**
 	 * Cancels all the {@link ScheduledFuture} instances and shuts down the task scheduler
+	 * and the monitor job executor
 	 */
 	public void stop() {
 		schedules.values().forEach(action -> action.cancel(true));
 		metricsExporter.shutdown();
 		taskScheduler.destroy();
+		if (monitorJobExecutor != null) {
+			monitorJobExecutor.close();
+		}
 	}
 }
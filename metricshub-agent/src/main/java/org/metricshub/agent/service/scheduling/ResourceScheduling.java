@@ -35,6 +35,7 @@ import org.metricshub.agent.opentelemetry.MetricsExporter;
 import org.metricshub.agent.service.task.MonitoringTask;
 import org.metricshub.agent.service.task.MonitoringTaskInfo;
 import org.metricshub.engine.extension.ExtensionManager;
+import org.metricshub.engine.strategy.MonitorJobExecutor;
 import org.metricshub.engine.telemetry.TelemetryManager;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.support.PeriodicTrigger;
@@ -72,6 +73,8 @@ public class ResourceScheduling extends AbstractScheduling {
 	@NonNull
 	private ExtensionManager extensionManager;
 
+	private MonitorJobExecutor monitorJobExecutor;
+
 	/**
 	 * Constructs a new instance of {@code ResourceScheduling}.
 	 *
@@ -84,6 +87,7 @@ public class ResourceScheduling extends AbstractScheduling {
 	 * @param telemetryManager      Telemetry manager responsible for collecting and processing metrics for the resource.
 	 * @param hostMetricDefinitions Definitions of metrics for the host.
 	 * @param extensionManager      Manages and aggregates various types of extensions used within MetricsHub.
+	 * @param monitorJobExecutor    The agent's shared monitor job executor. The engine-wide default one is used if {@code null}.
 	 */
 	@Builder(setterPrefix = "with")
 	public ResourceScheduling(
@@ -95,7 +99,8 @@ public class ResourceScheduling extends AbstractScheduling {
 		@NonNull final ResourceConfig resourceConfig,
 		@NonNull final TelemetryManager telemetryManager,
 		@NonNull final MetricDefinitions hostMetricDefinitions,
-		@NonNull final ExtensionManager extensionManager
+		@NonNull final ExtensionManager extensionManager,
+		final MonitorJobExecutor monitorJobExecutor
 	) {
 		super(taskScheduler, schedules, metricsExporter);
 		this.resourceGroupKey = resourceGroupKey;
@@ -104,6 +109,7 @@ public class ResourceScheduling extends AbstractScheduling {
 		this.telemetryManager = telemetryManager;
 		this.hostMetricDefinitions = hostMetricDefinitions;
 		this.extensionManager = extensionManager;
+		this.monitorJobExecutor = monitorJobExecutor;
 	}
 
 	@Override
@@ -123,6 +129,7 @@ public class ResourceScheduling extends AbstractScheduling {
 				.metricsExporter(metricsExporter)
 				.hostMetricDefinitions(hostMetricDefinitions)
 				.extensionManager(extensionManager)
+				.monitorJobExecutor(monitorJobExecutor)
 				.isSuppressZerosCompression(ConfigHelper.isSuppressZerosCompression(resourceConfig.getStateSetCompression()))
 				.build()
 		);
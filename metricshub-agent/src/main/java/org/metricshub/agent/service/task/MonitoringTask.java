@@ -47,6 +47,7 @@ import org.metricshub.engine.connector.model.ConnectorStore;
 import org.metricshub.engine.connector.model.metric.MetricDefinition;
 import org.metricshub.engine.extension.ExtensionManager;
 import org.metricshub.engine.extension.IMetricEnrichmentExtension;
+import org.metricshub.engine.strategy.MonitorJobExecutor;
 import org.metricshub.engine.strategy.collect.CollectStrategy;
 import org.metricshub.engine.strategy.collect.PrepareCollectStrategy;
 import org.metricshub.engine.strategy.collect.ProtocolHealthCheckStrategy;
@@ -92,7 +93,11 @@ public class MonitoringTask implements Runnable {
 
 		configureLoggerContext(hostId);
 
-		final ClientsExecutor clientsExecutor = new ClientsExecutor(telemetryManager);
+		final MonitorJobExecutor monitorJobExecutor = monitoringTaskInfo.getMonitorJobExecutor();
+		final ClientsExecutor clientsExecutor = new ClientsExecutor(
+			telemetryManager,
+			monitorJobExecutor != null ? monitorJobExecutor : MonitorJobExecutor.getDefault()
+		);
 
 		// Are we supposed to run the discovery?
 		final long discoveryTime = System.currentTimeMillis();
@@ -29,6 +29,7 @@ import org.metricshub.agent.config.ResourceConfig;
 import org.metricshub.agent.context.MetricDefinitions;
 import org.metricshub.agent.opentelemetry.MetricsExporter;
 import org.metricshub.engine.extension.ExtensionManager;
+import org.metricshub.engine.strategy.MonitorJobExecutor;
 import org.metricshub.engine.telemetry.TelemetryManager;
 
 /**
@@ -61,4 +62,6 @@ public class MonitoringTaskInfo {
 	private ExtensionManager extensionManager;
 
 	private boolean isSuppressZerosCompression;
+
+	private MonitorJobExecutor monitorJobExecutor;
 }
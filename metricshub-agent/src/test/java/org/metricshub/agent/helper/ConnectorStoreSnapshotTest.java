@@ -0,0 +1,125 @@
+package org.metricshub.agent.helper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.metricshub.engine.connector.model.Connector;
+import org.metricshub.engine.connector.model.ConnectorStore;
+
+class ConnectorStoreSnapshotTest {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void testComputeKey() throws IOException {
+		final Path connectors = Files.createDirectories(tempDir.resolve("connectors"));
+		final Path patch = Files.createDirectories(tempDir.resolve("patch"));
+		Files.writeString(connectors.resolve("Linux.yaml"), "connector: {}");
+
+		final String key = ConnectorStoreSnapshot.computeKey("1.0.0", List.of(connectors, patch));
+		assertEquals(key, ConnectorStoreSnapshot.computeKey("1.0.0", List.of(connectors, patch)));
+
+		// Another engine version
+		assertNotEquals(key, ConnectorStoreSnapshot.computeKey("1.0.1", List.of(connectors, patch)));
+
+		// Missing patch directory
+		assertNotEquals(key, ConnectorStoreSnapshot.computeKey("1.0.0", Arrays.asList(connectors, null)));
+
+		// A file is added to the patch directory
+		Files.writeString(patch.resolve("MyConnector.yaml"), "connector: {}");
+		final String patchedKey = ConnectorStoreSnapshot.computeKey("1.0.0", List.of(connectors, patch));
+		assertNotEquals(key, patchedKey);
+
+		// A connector is modified
+		Files.writeString(connectors.resolve("Linux.yaml"), "connector: { displayName: Linux }");
+		final String modifiedKey = ConnectorStoreSnapshot.computeKey("1.0.0", List.of(connectors, patch));
+		assertNotEquals(patchedKey, modifiedKey);
+
+		// A JAR is identified by its size and last modification time
+		final Path jar = connectors.resolve("extension.jar");
+		Files.write(jar, new byte[] { 1, 2, 3 });
+		Files.setLastModifiedTime(jar, FileTime.fromMillis(1_000_000L));
+		final String jarKey = ConnectorStoreSnapshot.computeKey("1.0.0", List.of(connectors, patch));
+		assertNotEquals(modifiedKey, jarKey);
+
+		Files.write(jar, new byte[] { 4, 5, 6 });
+		Files.setLastModifiedTime(jar, FileTime.fromMillis(1_000_000L));
+		assertEquals(jarKey, ConnectorStoreSnapshot.computeKey("1.0.0", List.of(connectors, patch)));
+
+		Files.setLastModifiedTime(jar, FileTime.fromMillis(2_000_000L));
+		assertNotEquals(jarKey, ConnectorStoreSnapshot.computeKey("1.0.0", List.of(connectors, patch)));
+	}
+
+	@Test
+	void testSaveAndLoad() {
+		final ConnectorStore connectorStore = new ConnectorStore();
+		connectorStore.addOne("Linux", Connector.builder().constants(Map.of("_DEVICE", "disk")).build());
+		connectorStore.addConnectorsWithVariables(List.of("WindowsProcess"));
+
+		final Path snapshotFile = tempDir.resolve(ConnectorStoreSnapshot.SNAPSHOT_FILE_NAME);
+		assertTrue(ConnectorStoreSnapshot.load(snapshotFile, "key").isEmpty());
+
+		assertTrue(ConnectorStoreSnapshot.save(snapshotFile, "key", connectorStore));
+
+		final Optional<ConnectorStore> loaded = ConnectorStoreSnapshot.load(snapshotFile, "key");
+		assertTrue(loaded.isPresent());
+		assertEquals(connectorStore, loaded.get());
+
+		// A snapshot written with another key is ignored
+		assertFalse(ConnectorStoreSnapshot.load(snapshotFile, "other-key").isPresent());
+	}
+
+	@Test
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	void testLoadRejectedClasses() {
+		final Path snapshotFile = tempDir.resolve(ConnectorStoreSnapshot.SNAPSHOT_FILE_NAME);
+
+		// A class outside of the connector model
+		final ConnectorStore foreignStore = new ConnectorStore();
+		foreignStore.addConnectorsWithVariables((List) List.of(URI.create("https://metricshub.org")));
+		assertTrue(ConnectorStoreSnapshot.save(snapshotFile, "key", foreignStore));
+		assertTrue(ConnectorStoreSnapshot.load(snapshotFile, "key").isEmpty());
+
+		// A graph nested deeper than the limit
+		final List<Object> nested = new ArrayList<>();
+		List<Object> current = nested;
+		for (int i = 0; i < 200; i++) {
+			final List<Object> child = new ArrayList<>();
+			current.add(child);
+			current = child;
+		}
+		final ConnectorStore deepStore = new ConnectorStore();
+		deepStore.addConnectorsWithVariables((List) nested);
+		assertTrue(ConnectorStoreSnapshot.save(snapshotFile, "key", deepStore));
+		assertTrue(ConnectorStoreSnapshot.load(snapshotFile, "key").isEmpty());
+
+		// The same store with the model classes only is loaded
+		final ConnectorStore connectorStore = new ConnectorStore();
+		connectorStore.addConnectorsWithVariables(List.of("https://metricshub.org"));
+		assertTrue(ConnectorStoreSnapshot.save(snapshotFile, "key", connectorStore));
+		assertEquals(connectorStore, ConnectorStoreSnapshot.load(snapshotFile, "key").orElseThrow());
+	}
+
+	@Test
+	void testLoadCorruptedSnapshot() throws IOException {
+		final Path snapshotFile = tempDir.resolve(ConnectorStoreSnapshot.SNAPSHOT_FILE_NAME);
+		Files.writeString(snapshotFile, "not a snapshot");
+
+		assertTrue(ConnectorStoreSnapshot.load(snapshotFile, "key").isEmpty());
+	}
+}
@@ -799,6 +799,10 @@ class ReloadServiceTest {
 		final ReloadService reloadService = createReloadServiceWithConfigs(config, config);
 		assertEquals(ReloadService.ReloadResult.NO_CHANGE, reloadService.reload());
 
+		// The reloaded context is not needed and has been closed, the running one keeps running
+		assertTrue(reloadService.getReloadedAgentContext().isClosed());
+		assertFalse(reloadService.getRunningAgentContext().isClosed());
+
 		shutdownAgents(reloadService);
 	}
 
@@ -817,6 +821,9 @@ class ReloadServiceTest {
 
 		assertEquals(ReloadService.ReloadResult.GLOBAL_RESTART_REQUIRED, reloadService.reload());
 
+		// The reloaded context is handed over to the caller for the restart
+		assertFalse(newContext.isClosed());
+
 		shutdownAgents(reloadService);
 	}
 }
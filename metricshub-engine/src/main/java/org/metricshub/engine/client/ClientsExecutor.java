@@ -21,20 +21,28 @@ package org.metricshub.engine.client;
  * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
  */
 
+import static org.metricshub.engine.common.helpers.MetricsHubConstants.NEW_LINE;
+
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.metricshub.engine.common.helpers.Json2CsvHelper;
 import org.metricshub.engine.common.helpers.LoggingHelper;
+import org.metricshub.engine.common.helpers.TableJoinHelper;
 import org.metricshub.engine.common.helpers.TextTableHelper;
 import org.metricshub.engine.common.helpers.ThreadHelper;
+import org.metricshub.engine.common.helpers.Xml2CsvHelper;
+import org.metricshub.engine.strategy.MonitorJobExecutor;
+import org.metricshub.engine.strategy.source.SourceTable;
 import org.metricshub.engine.telemetry.TelemetryManager;
 import org.metricshub.jflat.JFlat;
-import org.metricshub.tablejoin.TableJoin;
 import org.metricshub.xflat.XFlat;
 import org.metricshub.xflat.exceptions.XFlatException;
 
@@ -43,6 +51,10 @@ import org.metricshub.xflat.exceptions.XFlatException;
  * various operations through Clients. It includes functionalities for executing
  * computations and running scripts. The execution is done on utilities like
  * AWK, JFlat, TableJoin and XFlat are supported.
+ * <p>
+ * It also carries the long-lived {@link MonitorJobExecutor} on which the strategies
+ * run their parallel jobs.
+ * </p>
  */
 @Slf4j
 @Data
@@ -54,6 +66,17 @@ public class ClientsExecutor {
 
 	private TelemetryManager telemetryManager;
 
+	private MonitorJobExecutor monitorJobExecutor = MonitorJobExecutor.getDefault();
+
+	/**
+	 * Create a new {@link ClientsExecutor} running its parallel jobs on the engine-wide default {@link MonitorJobExecutor}.
+	 *
+	 * @param telemetryManager The telemetry manager of the resource.
+	 */
+	public ClientsExecutor(final TelemetryManager telemetryManager) {
+		this.telemetryManager = telemetryManager;
+	}
+
 	/**
 	 * Execute TableJoin
 	 *
@@ -83,7 +106,7 @@ public class ClientsExecutor {
 			)
 		);
 
-		List<List<String>> result = TableJoin.join(
+		List<List<String>> result = TableJoinHelper.join(
 			leftTable,
 			rightTable,
 			leftKeyColumnNumber,
@@ -122,6 +145,43 @@ public class ClientsExecutor {
 		return executeJson2Csv(jsonSource, jsonEntryKey, propertyList, separator, telemetryManager.getHostname());
 	}
 
+	/**
+	 * Execute JSON to CSV operation, returning the rows of the CSV.
+	 * <p>
+	 * When the conversion is handled by {@link Json2CsvHelper}, the rows are emitted while the JSON is parsed and the
+	 * raw data is only built from them when it is read, otherwise the rows are split from the CSV produced by JFlat.
+	 * </p>
+	 *
+	 * @param jsonSource    The JSON source string.
+	 * @param jsonEntryKey  The JSON entry key.
+	 * @param propertyList  The list of properties.
+	 * @param separator     The separator for CSV.
+	 * @return The {@link SourceTable} holding the rows of the CSV, or <code>null</code> if the conversion failed.
+	 * @throws TimeoutException       If the execution times out.
+	 * @throws ExecutionException     If an execution exception occurs.
+	 * @throws InterruptedException   If the execution is interrupted.
+	 */
+	public SourceTable executeJson2CsvTable(
+		String jsonSource,
+		String jsonEntryKey,
+		List<String> propertyList,
+		String separator
+	) throws InterruptedException, ExecutionException, TimeoutException {
+		final SourceTable result = json2Csv(
+			jsonSource,
+			jsonEntryKey,
+			propertyList,
+			separator,
+			telemetryManager.getHostname()
+		);
+
+		if (result != null && result.getTable().isEmpty()) {
+			result.setTable(SourceTable.csvToTable(result.getRawData(), separator));
+		}
+
+		return result;
+	}
+
 	/**
 	 * Execute JSON to CSV operation.
 	 *
@@ -141,6 +201,41 @@ public class ClientsExecutor {
 		List<String> propertyList,
 		String separator,
 		String hostname
+	) throws InterruptedException, ExecutionException, TimeoutException {
+		final SourceTable result = json2Csv(jsonSource, jsonEntryKey, propertyList, separator, hostname);
+		if (result == null || result.getTable().isEmpty()) {
+			return result != null ? result.getRawData() : null;
+		}
+
+		// Format the rows emitted by Json2CsvHelper like the CSV produced by JFlat
+		return result
+			.getTable()
+			.stream()
+			.map(row -> SourceTable.lineToCsv(row, separator, false) + NEW_LINE)
+			.collect(Collectors.joining());
+	}
+
+	/**
+	 * Convert the JSON to CSV with {@link Json2CsvHelper}, or with JFlat when the conversion is not handled by the
+	 * helper. Both conversions are bounded by {@link #JSON_2_CSV_TIMEOUT}.
+	 *
+	 * @param jsonSource    The JSON source string.
+	 * @param jsonEntryKey  The JSON entry key.
+	 * @param propertyList  The list of properties.
+	 * @param separator     The separator for CSV.
+	 * @param hostname      The hostname, for logging purpose.
+	 * @return The {@link SourceTable} holding the rows emitted by the helper, or the CSV produced by JFlat as raw data,
+	 *         or <code>null</code> if the conversion failed.
+	 * @throws TimeoutException       If the execution times out.
+	 * @throws ExecutionException     If an execution exception occurs.
+	 * @throws InterruptedException   If the execution is interrupted.
+	 */
+	private static SourceTable json2Csv(
+		String jsonSource,
+		String jsonEntryKey,
+		List<String> propertyList,
+		String separator,
+		String hostname
 	) throws InterruptedException, ExecutionException, TimeoutException {
 		LoggingHelper.trace(() ->
 			log.trace(
@@ -153,14 +248,29 @@ public class ClientsExecutor {
 			)
 		);
 
-		final Callable<String> jflatToCSV = () -> {
+		final Callable<SourceTable> jsonToCSV = () -> {
+			// The rows are emitted while the JSON is parsed, the raw data is built from them only if it is read
+			final Optional<List<List<String>>> rows = Json2CsvHelper.convert(
+				jsonSource,
+				jsonEntryKey,
+				propertyList,
+				separator
+			);
+			if (rows.isPresent()) {
+				final SourceTable sourceTable = SourceTable.builder().table(rows.get()).build();
+				sourceTable.invalidateRawData();
+				return sourceTable;
+			}
+
 			try {
 				JFlat jsonFlat = new JFlat(jsonSource);
 
 				jsonFlat.parse();
 
 				// Get the CSV
-				return jsonFlat.toCSV(jsonEntryKey, propertyList.toArray(new String[0]), separator).toString();
+				return SourceTable.builder()
+					.rawData(jsonFlat.toCSV(jsonEntryKey, propertyList.toArray(new String[0]), separator).toString())
+					.build();
 			} catch (IllegalArgumentException e) {
 				log.error(
 					"Hostname {} - Error detected in the arguments when translating the JSON structure into CSV.",
@@ -174,7 +284,7 @@ public class ClientsExecutor {
 			return null;
 		};
 
-		String result = ThreadHelper.execute(jflatToCSV, JSON_2_CSV_TIMEOUT);
+		final SourceTable result = ThreadHelper.execute(jsonToCSV, JSON_2_CSV_TIMEOUT);
 
 		LoggingHelper.trace(() ->
 			log.trace(
@@ -184,7 +294,7 @@ public class ClientsExecutor {
 				jsonEntryKey,
 				propertyList,
 				separator,
-				result
+				result != null ? result.getRawData() : null
 			)
 		);
 
@@ -193,6 +303,10 @@ public class ClientsExecutor {
 
 	/**
 	 * Parse a XML with the argument properties into a list of values list.
+	 * <p>
+	 * The records are streamed by {@link Xml2CsvHelper} when it handles the properties, otherwise the XML is parsed by
+	 * XFlat.
+	 * </p>
 	 *
 	 * @param xml        The XML.
 	 * @param properties A string containing the paths to properties to retrieve separated by a semi-colon character.<br>
@@ -212,7 +326,10 @@ public class ClientsExecutor {
 			)
 		);
 
-		List<List<String>> result = XFlat.parseXml(xml, properties, recordTag);
+		final Optional<List<List<String>>> streamed = Xml2CsvHelper.parse(xml, properties, recordTag);
+		final List<List<String>> result = streamed.isPresent()
+			? streamed.get()
+			: XFlat.parseXml(xml, properties, recordTag);
 
 		LoggingHelper.trace(() ->
 			log.trace(
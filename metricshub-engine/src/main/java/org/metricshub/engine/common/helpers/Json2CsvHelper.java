@@ -0,0 +1,284 @@
+package org.metricshub.engine.common.helpers;
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub Engine
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2025 MetricsHub
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.StreamReadFeature;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import org.metricshub.engine.strategy.source.SourceTable;
+
+/**
+ * Helper class converting a JSON document to CSV with a pull parser, emitting the rows of the entries one by one
+ * without building the flattened tree of the document.
+ * <p>
+ * The result is the same as the JFlat conversion: one line per entry of the array at the entry key, made of the path of
+ * the entry (e.g. <code>/monitors[0]</code>) and the values of the properties, each followed by the separator.
+ * </p>
+ * <p>
+ * Only the conversions whose result is unambiguous are handled: an entry key made of object member names leading to an
+ * array of objects, properties naming members of these objects, and string, integer or boolean values that do not
+ * contain the separator or a line break. Like JFlat, a property missing from an entry gives an empty value. Any other
+ * conversion returns an empty {@link Optional}, and must be done by JFlat.
+ * </p>
+ */
+public class Json2CsvHelper {
+
+	private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+		.enable(StreamReadFeature.STRICT_DUPLICATE_DETECTION)
+		.build();
+
+	/**
+	 * Object member names, without any character JFlat could interpret as a path, an index or a wildcard.
+	 */
+	private static final Pattern MEMBER_NAME_PATTERN = Pattern.compile("[^/\\[\\]*.\\s]+");
+
+	/**
+	 * Characters making {@link SourceTable#csvToTable} split the lines on a regular expression instead of the
+	 * separator itself.
+	 */
+	private static final String REGEX_SPECIAL_CHARACTERS = "\\^$.|?*+()[]{}";
+
+	private Json2CsvHelper() {}
+
+	/**
+	 * Converts the entries of the given JSON document to CSV rows.
+	 *
+	 * @param json         The JSON document.
+	 * @param jsonEntryKey The path of the array of entries, e.g. <code>/monitors</code>.
+	 * @param propertyList The properties of the entries to retrieve.
+	 * @param separator    The separator of the CSV values.
+	 * @return The rows of the CSV, or an empty {@link Optional} if the conversion is not handled or the document is not
+	 *         valid JSON.
+	 */
+	public static Optional<List<List<String>>> convert(
+		final String json,
+		final String jsonEntryKey,
+		final List<String> propertyList,
+		final String separator
+	) {
+		if (!isSupported(json, jsonEntryKey, propertyList, separator)) {
+			return Optional.empty();
+		}
+
+		try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+			if (!moveToEntries(parser, jsonEntryKey)) {
+				return Optional.empty();
+			}
+
+			final List<List<String>> table = new ArrayList<>();
+			int index = 0;
+			JsonToken token;
+			while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+				if (token != JsonToken.START_OBJECT) {
+					return Optional.empty();
+				}
+
+				final List<String> row = readRow(parser, jsonEntryKey + "[" + index++ + "]", propertyList, separator);
+				if (row == null) {
+					return Optional.empty();
+				}
+
+				table.add(row);
+			}
+
+			// The rest of the document must be valid too, and must not be followed by another document
+			while (!parser.getParsingContext().inRoot()) {
+				if (parser.nextToken() == null) {
+					return Optional.empty();
+				}
+			}
+			if (parser.nextToken() != null || table.isEmpty()) {
+				return Optional.empty();
+			}
+
+			return Optional.of(table);
+		} catch (IOException e) {
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * Checks whether the given conversion is handled by {@link #convert}.
+	 *
+	 * @return <code>true</code> if the entry key, the properties and the separator are supported.
+	 */
+	private static boolean isSupported(
+		final String json,
+		final String jsonEntryKey,
+		final List<String> propertyList,
+		final String separator
+	) {
+		if (
+			json == null ||
+			jsonEntryKey == null ||
+			!jsonEntryKey.startsWith("/") ||
+			propertyList == null ||
+			propertyList.isEmpty() ||
+			separator == null ||
+			separator.isEmpty() ||
+			separator.contains("\n") ||
+			separator.chars().anyMatch(c -> REGEX_SPECIAL_CHARACTERS.indexOf(c) >= 0)
+		) {
+			return false;
+		}
+
+		for (final String memberName : jsonEntryKey.substring(1).split("/", -1)) {
+			if (!MEMBER_NAME_PATTERN.matcher(memberName).matches()) {
+				return false;
+			}
+		}
+
+		return propertyList
+			.stream()
+			.allMatch(property -> property != null && MEMBER_NAME_PATTERN.matcher(property).matches());
+	}
+
+	/**
+	 * Moves the parser to the start of the array at the given entry key.
+	 *
+	 * @param parser       The JSON parser, before the first token of the document.
+	 * @param jsonEntryKey The path of the array of entries.
+	 * @return <code>true</code> if the current token of the parser is the start of the array of entries.
+	 * @throws IOException If the document is not valid JSON.
+	 */
+	private static boolean moveToEntries(final JsonParser parser, final String jsonEntryKey) throws IOException {
+		final String[] memberNames = jsonEntryKey.substring(1).split("/");
+		JsonToken token = parser.nextToken();
+		for (final String memberName : memberNames) {
+			if (token != JsonToken.START_OBJECT || !moveToMember(parser, memberName)) {
+				return false;
+			}
+			token = parser.nextToken();
+		}
+		return token == JsonToken.START_ARRAY;
+	}
+
+	/**
+	 * Moves the parser to the given member of the current object.
+	 *
+	 * @param parser     The JSON parser, at the start of the object.
+	 * @param memberName The name of the member.
+	 * @return <code>true</code> if the current token of the parser is the name of the member.
+	 * @throws IOException If the document is not valid JSON.
+	 */
+	private static boolean moveToMember(final JsonParser parser, final String memberName) throws IOException {
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			if (memberName.equals(parser.currentName())) {
+				return true;
+			}
+			parser.nextToken();
+			parser.skipChildren();
+		}
+		return false;
+	}
+
+	/**
+	 * Reads the values of the given properties in the current entry.
+	 *
+	 * @param parser       The JSON parser, at the start of the entry object.
+	 * @param entryPath    The path of the entry, e.g. <code>/monitors[0]</code>.
+	 * @param propertyList The properties to retrieve.
+	 * @param separator    The separator of the CSV values.
+	 * @return The row made of the path of the entry and the values of the properties, empty when they are missing, or
+	 *         <code>null</code> if the entry is empty or a value is not supported.
+	 * @throws IOException If the document is not valid JSON.
+	 */
+	private static List<String> readRow(
+		final JsonParser parser,
+		final String entryPath,
+		final List<String> propertyList,
+		final String separator
+	) throws IOException {
+		if (entryPath.contains(separator)) {
+			return null;
+		}
+
+		final String[] values = new String[propertyList.size()];
+		boolean empty = true;
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			empty = false;
+			final String name = parser.currentName();
+			final JsonToken token = parser.nextToken();
+			boolean requested = false;
+			for (int i = 0; i < values.length; i++) {
+				if (name.equals(propertyList.get(i))) {
+					values[i] = readValue(parser, token, separator);
+					if (values[i] == null) {
+						return null;
+					}
+					requested = true;
+				}
+			}
+			if (!requested) {
+				parser.skipChildren();
+			}
+		}
+
+		// An empty entry leaves no trace in the flattened document of JFlat
+		if (empty) {
+			return null;
+		}
+
+		final List<String> row = new ArrayList<>(values.length + 1);
+		row.add(entryPath);
+		for (final String value : values) {
+			row.add(value != null ? value : "");
+		}
+		return row;
+	}
+
+	/**
+	 * Reads the current scalar value.
+	 *
+	 * @param parser    The JSON parser, at the value.
+	 * @param token     The current token of the parser.
+	 * @param separator The separator of the CSV values.
+	 * @return The value as text, or <code>null</code> if the value is not supported.
+	 * @throws IOException If the document is not valid JSON.
+	 */
+	private static String readValue(final JsonParser parser, final JsonToken token, final String separator)
+		throws IOException {
+		final String value;
+		if (token == JsonToken.VALUE_STRING) {
+			value = parser.getText();
+		} else if (
+			token == JsonToken.VALUE_NUMBER_INT && parser.getNumberType() != JsonParser.NumberType.BIG_INTEGER
+		) {
+			value = String.valueOf(parser.getLongValue());
+		} else if (token == JsonToken.VALUE_TRUE || token == JsonToken.VALUE_FALSE) {
+			value = parser.getText();
+		} else {
+			return null;
+		}
+
+		if (value.contains(separator) || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+			return null;
+		}
+		return value;
+	}
+}
@@ -157,6 +157,18 @@ public class MetricsHubConstants {
 	 * Thread Timeout
 	 */
 	public static final long THREAD_TIMEOUT = 2 * 60L; // 2 minutes
+	/**
+	 * Default maximum number of monitor jobs running at the same time, all hosts included
+	 */
+	public static final int DEFAULT_MAX_CONCURRENT_MONITOR_JOBS = 1000;
+	/**
+	 * Default maximum number of concurrent protocol requests, all hosts included
+	 */
+	public static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 2000;
+	/**
+	 * Default maximum number of concurrent protocol requests for a single host
+	 */
+	public static final int DEFAULT_MAX_CONCURRENT_REQUESTS_PER_HOST = 50;
 
 	/**
 	 * Maximum number of consecutive detection re-validation failures allowed
@@ -0,0 +1,156 @@
+package org.metricshub.engine.common.helpers;
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub Engine
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2025 MetricsHub
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.metricshub.tablejoin.TableJoin;
+
+/**
+ * Helper class joining two tables with a hash table built on the key column of the right table.
+ * <p>
+ * The result is the same as {@link TableJoin#join}: for each line of the left table, in order, one line per matching
+ * line of the right table, in order, made of the left line followed by the right line. A left line without any
+ * match is followed by the default right line, if any, or dropped otherwise. Each key is normalized once, so the join
+ * costs one lookup per left line instead of a comparison with every right line.
+ * </p>
+ * <p>
+ * WBEM keys, and tables with a line that has no value in the key column, are joined by {@link TableJoin#join}.
+ * </p>
+ */
+public class TableJoinHelper {
+
+	private TableJoinHelper() {}
+
+	/**
+	 * Joins the two given tables on the given key columns.
+	 *
+	 * @param leftTable            The left table.
+	 * @param rightTable           The right table.
+	 * @param leftKeyColumnNumber  The column number (1-based) of the key in the left table.
+	 * @param rightKeyColumnNumber The column number (1-based) of the key in the right table.
+	 * @param defaultRightLine     The line appended to the left lines that have no match in the right table. If
+	 *                             <code>null</code> or empty, the left lines without match are dropped.
+	 * @param wbemKeyType          {@code true} if the keys are WBEM keys.
+	 * @param caseInsensitive      {@code true} for case-insensitive comparison of the keys.
+	 * @return The joined table.
+	 */
+	public static List<List<String>> join(
+		final List<List<String>> leftTable,
+		final List<List<String>> rightTable,
+		final int leftKeyColumnNumber,
+		final int rightKeyColumnNumber,
+		final List<String> defaultRightLine,
+		final boolean wbemKeyType,
+		final boolean caseInsensitive
+	) {
+		if (wbemKeyType || !hasKeys(leftTable, leftKeyColumnNumber) || !hasKeys(rightTable, rightKeyColumnNumber)) {
+			return TableJoin.join(
+				leftTable,
+				rightTable,
+				leftKeyColumnNumber,
+				rightKeyColumnNumber,
+				defaultRightLine,
+				wbemKeyType,
+				caseInsensitive
+			);
+		}
+
+		// Index the right lines by key, keeping their order for the duplicate keys
+		final Map<String, List<List<String>>> rightLinesByKey = new HashMap<>();
+		for (final List<String> rightLine : rightTable) {
+			final String key = normalizeKey(rightLine.get(rightKeyColumnNumber - 1), caseInsensitive);
+			rightLinesByKey.computeIfAbsent(key, _ -> new ArrayList<>(1)).add(rightLine);
+		}
+
+		final boolean hasDefaultRightLine = defaultRightLine != null && !defaultRightLine.isEmpty();
+		final List<List<String>> result = new ArrayList<>(leftTable.size());
+		for (final List<String> leftLine : leftTable) {
+			final List<List<String>> rightLines = rightLinesByKey.get(
+				normalizeKey(leftLine.get(leftKeyColumnNumber - 1), caseInsensitive)
+			);
+			if (rightLines != null) {
+				for (final List<String> rightLine : rightLines) {
+					result.add(concat(leftLine, rightLine));
+				}
+			} else if (hasDefaultRightLine) {
+				result.add(concat(leftLine, defaultRightLine));
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Checks that the given table can be indexed on the given key column.
+	 *
+	 * @param table           The table.
+	 * @param keyColumnNumber The column number (1-based) of the key.
+	 * @return <code>true</code> if the table is not <code>null</code> and all its lines have a non-null key.
+	 */
+	private static boolean hasKeys(final List<List<String>> table, final int keyColumnNumber) {
+		if (table == null || keyColumnNumber < 1) {
+			return false;
+		}
+		for (final List<String> line : table) {
+			if (line == null || line.size() < keyColumnNumber || line.get(keyColumnNumber - 1) == null) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Normalizes the given key so that two keys are equal if and only if they match.
+	 * <p>
+	 * Case-insensitive keys are folded character by character the same way as {@link String#equalsIgnoreCase}, which
+	 * unlike {@link String#toLowerCase()} never changes the length of the key.
+	 * </p>
+	 *
+	 * @param key             The key.
+	 * @param caseInsensitive {@code true} for case-insensitive keys.
+	 * @return The normalized key.
+	 */
+	static String normalizeKey(final String key, final boolean caseInsensitive) {
+		if (!caseInsensitive) {
+			return key;
+		}
+
+		final StringBuilder builder = new StringBuilder(key.length());
+		key
+			.codePoints()
+			.forEach(codePoint -> builder.appendCodePoint(Character.toLowerCase(Character.toUpperCase(codePoint))));
+		return builder.toString();
+	}
+
+	/**
+	 * @return A new line made of the given left line followed by the given right line.
+	 */
+	private static List<String> concat(final List<String> leftLine, final List<String> rightLine) {
+		final List<String> line = new ArrayList<>(leftLine.size() + rightLine.size());
+		line.addAll(leftLine);
+		line.addAll(rightLine);
+		return line;
+	}
+}
@@ -29,10 +29,10 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
-import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import lombok.AccessLevel;
@@ -45,18 +45,24 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * Request execution helper for timeout management.
  * <p>
- * Wraps blocking request calls in a per-request single-thread executor so that
- * {@link Future#get(long, TimeUnit)} can enforce a timeout and cancel the task
- * if it exceeds the allowed duration.
+ * Runs blocking request calls on an engine-wide, virtual-thread-per-task
+ * executor so that {@link Future#get(long, TimeUnit)} can enforce a timeout and
+ * cancel the task if it exceeds the allowed duration. Virtual threads are cheap
+ * to start, so a request no longer costs the creation and tear down of a
+ * platform thread.
  * </p>
  * <p>
- * Concurrency is bounded by upper layers (job pool size, strategy executors,
- * connector thread pools), so no shared pool or admission control is needed here.
+ * Admission is bounded by a global limit and, for requests associated with a
+ * hostname, by a per-host limit (see {@link #configureConcurrencyLimits(int, int)}).
+ * A caller waits at most {@code timeout} seconds in total: the time spent waiting
+ * to be admitted is deducted from the time left for the request to complete. The
+ * permits are held until the request really terminates, so a request that ignores
+ * interruption keeps counting against the limits.
  * </p>
  * <p>
- * Per-(hostname, operationType) counters track completed and timed-out requests
- * for observability. Strategies read these counters and record them as metrics
- * on the host monitor when self-monitoring is enabled.
+ * Per-(hostname, operationType) counters track completed, timed-out, active and
+ * queued requests for observability. Strategies read these counters and record
+ * them as metrics on the host monitor when self-monitoring is enabled.
  * </p>
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
@@ -75,9 +81,43 @@ public class ThreadHelper {
 
 		final AtomicLong completed = new AtomicLong(0);
 		final AtomicLong timeout = new AtomicLong(0);
+		final AtomicLong active = new AtomicLong(0);
+		final AtomicLong queued = new AtomicLong(0);
 
 		Stats snapshot() {
-			return Stats.builder().completed(completed.get()).timeout(timeout.get()).build();
+			return Stats.builder()
+				.completed(completed.get())
+				.timeout(timeout.get())
+				.active(active.get())
+				.queued(queued.get())
+				.build();
+		}
+	}
+
+	/**
+	 * Admission limits currently in force. Replaced as a whole when the limits are
+	 * reconfigured, so that in-flight requests release the permits they acquired.
+	 */
+	record Limits(int maxRequests, int maxRequestsPerHost, Semaphore global, Map<String, Semaphore> perHost) {
+		/**
+		 * Create new limits with fresh semaphores.
+		 *
+		 * @param maxRequests        the global limit
+		 * @param maxRequestsPerHost the per-host limit
+		 * @return new {@link Limits} instance
+		 */
+		static Limits of(final int maxRequests, final int maxRequestsPerHost) {
+			return new Limits(maxRequests, maxRequestsPerHost, new Semaphore(maxRequests), new ConcurrentHashMap<>());
+		}
+
+		/**
+		 * Get the semaphore bounding the requests of the given hostname.
+		 *
+		 * @param hostname the hostname
+		 * @return the per-host {@link Semaphore}
+		 */
+		Semaphore forHost(final String hostname) {
+			return perHost.computeIfAbsent(hostname, _ -> new Semaphore(maxRequestsPerHost));
 		}
 	}
 
@@ -86,6 +126,31 @@ public class ThreadHelper {
 	 */
 	private static final ConcurrentHashMap<StatsKey, AtomicStats> STATS_MAP = new ConcurrentHashMap<>();
 
+	/**
+	 * Engine-wide executor running each request on its own virtual thread.
+	 */
+	private static final ExecutorService REQUEST_EXECUTOR = Executors.newThreadPerTaskExecutor(
+		Thread.ofVirtual().name("metricshub-worker-", 1).factory()
+	);
+
+	/**
+	 * Number of requests currently running, all hosts included.
+	 */
+	private static final AtomicLong ACTIVE_COUNT = new AtomicLong(0);
+
+	/**
+	 * Number of requests currently waiting for admission, all hosts included.
+	 */
+	private static final AtomicLong QUEUED_COUNT = new AtomicLong(0);
+
+	/**
+	 * The admission limits currently in force.
+	 */
+	private static volatile Limits limits = Limits.of(
+		MetricsHubConstants.DEFAULT_MAX_CONCURRENT_REQUESTS,
+		MetricsHubConstants.DEFAULT_MAX_CONCURRENT_REQUESTS_PER_HOST
+	);
+
 	/**
 	 * Immutable execution statistics snapshot.
 	 */
@@ -96,27 +161,58 @@ public class ThreadHelper {
 
 		private final long completed;
 		private final long timeout;
+		private final long active;
+		private final long queued;
 	}
 
 	/**
-	 * Custom thread factory that names threads for easier debugging and diagnostics.
+	 * Sets the global and per-host concurrency limits applied to the requests
+	 * executed through this helper. Requests already admitted keep the permits
+	 * they acquired under the previous limits.
+	 * <p>
+	 * The limits apply to the whole engine, they must only be set by the component
+	 * running the requests (e.g. the agent when it starts scheduling its resources).
+	 * </p>
+	 *
+	 * @param maxRequests        the maximum number of concurrent requests, all hosts included
+	 * @param maxRequestsPerHost the maximum number of concurrent requests for a single hostname
+	 * @throws IllegalArgumentException if one of the limits is lower than 1
 	 */
-	private static class MetricsHubThreadFactory implements ThreadFactory {
+	public static synchronized void configureConcurrencyLimits(final int maxRequests, final int maxRequestsPerHost) {
+		validateConcurrencyLimits(maxRequests, maxRequestsPerHost);
 
-		private static final AtomicInteger THREAD_COUNTER = new AtomicInteger(0);
+		final Limits current = limits;
+		if (current.maxRequests() == maxRequests && current.maxRequestsPerHost() == maxRequestsPerHost) {
+			return;
+		}
 
-		@Override
-		public Thread newThread(final Runnable runnable) {
-			final Thread thread = new Thread(runnable, "metricshub-worker-" + THREAD_COUNTER.incrementAndGet());
-			thread.setDaemon(true);
-			return thread;
+		limits = Limits.of(maxRequests, maxRequestsPerHost);
+	}
+
+	/**
+	 * Checks the given concurrency limits, so that a configuration can be rejected
+	 * before its limits are applied.
+	 *
+	 * @param maxRequests        the maximum number of concurrent requests, all hosts included
+	 * @param maxRequestsPerHost the maximum number of concurrent requests for a single hostname
+	 * @throws IllegalArgumentException if one of the limits is lower than 1
+	 */
+	public static void validateConcurrencyLimits(final int maxRequests, final int maxRequestsPerHost) {
+		if (maxRequests < 1 || maxRequestsPerHost < 1) {
+			throw new IllegalArgumentException(
+				String.format(
+					"Invalid request concurrency limits (global: %d, per host: %d). Limits must be greater than 0.",
+					maxRequests,
+					maxRequestsPerHost
+				)
+			);
 		}
 	}
 
 	/**
-	 * Executes a {@link Callable} task with a specified timeout using a dedicated
-	 * single-thread executor. This overload does <strong>not</strong> record any
-	 * statistics.
+	 * Executes a {@link Callable} task with a specified timeout on the shared
+	 * request executor. This overload does <strong>not</strong> record any
+	 * statistics and is only bounded by the global concurrency limit.
 	 *
 	 * @param <T>      the type of the result returned by the {@code callable}
 	 * @param callable the task to be executed
@@ -132,8 +228,9 @@ public class ThreadHelper {
 	}
 
 	/**
-	 * Executes a {@link Callable} task with a specified timeout using a dedicated
-	 * single-thread executor and records per-(hostname, operationType) statistics.
+	 * Executes a {@link Callable} task with a specified timeout on the shared
+	 * request executor, bounded by the global and per-host concurrency limits, and
+	 * records per-(hostname, operationType) statistics.
 	 *
 	 * @param <T>           the type of the result returned by the {@code callable}
 	 * @param callable      the task to be executed
@@ -159,8 +256,8 @@ public class ThreadHelper {
 	 *
 	 * @param <T>      the type of the result returned by the {@code callable}
 	 * @param callable the task to be executed
-	 * @param timeout  the maximum time to wait for the task to complete, in seconds
-	 * @param statsKey if non-null, the key under which to record statistics
+	 * @param timeout  the maximum time to wait for the task to be admitted and to complete, in seconds
+	 * @param statsKey if non-null, the key under which to record statistics and apply the per-host limit
 	 * @return the result of the executed task
 	 * @throws InterruptedException if the current thread was interrupted while waiting
 	 * @throws ExecutionException   if the computation threw an exception
@@ -168,29 +265,175 @@ public class ThreadHelper {
 	 */
 	private static <T> T doExecute(final Callable<T> callable, final long timeout, final StatsKey statsKey)
 		throws InterruptedException, ExecutionException, TimeoutException {
-		final ExecutorService executor = Executors.newSingleThreadExecutor(new MetricsHubThreadFactory());
+		final AtomicStats stats = statsKey != null ? getOrCreateStats(statsKey) : null;
+
+		// The admission and the execution share the same deadline
+		final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeout);
+		final Admission admission = admit(statsKey, timeout, deadline, stats);
+
+		final Future<T> future;
 		try {
-			final Future<T> future = executor.submit(callable);
-			try {
-				final T result = future.get(timeout, TimeUnit.SECONDS);
-				if (statsKey != null) {
-					getOrCreateStats(statsKey).completed.incrementAndGet();
+			future = REQUEST_EXECUTOR.submit(() -> {
+				if (!admission.start()) {
+					// Cancelled before it started, the caller released the permits
+					return null;
 				}
-				return result;
-			} catch (TimeoutException e) {
-				future.cancel(true);
-				if (statsKey != null) {
-					getOrCreateStats(statsKey).timeout.incrementAndGet();
+				try {
+					return callable.call();
+				} finally {
+					admission.release();
 				}
-				log.debug("Task timed out after {} seconds and was cancelled.", timeout);
-				throw e;
-			} catch (InterruptedException e) {
-				future.cancel(true);
-				Thread.currentThread().interrupt();
-				throw e;
+			});
+		} catch (RuntimeException e) {
+			admission.cancel();
+			throw e;
+		}
+
+		try {
+			final T result = future.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+			if (stats != null) {
+				stats.completed.incrementAndGet();
+			}
+			return result;
+		} catch (TimeoutException e) {
+			future.cancel(true);
+			admission.cancel();
+			if (stats != null) {
+				stats.timeout.incrementAndGet();
+			}
+			log.debug("Task timed out after {} seconds and was cancelled.", timeout);
+			throw e;
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			admission.cancel();
+			Thread.currentThread().interrupt();
+			throw e;
+		}
+	}
+
+	/**
+	 * Waits for the global and, if a key is given, the per-host permits.
+	 *
+	 * @param statsKey the (hostname, operationType) key, may be {@code null}
+	 * @param timeout  the timeout of the request, in seconds
+	 * @param deadline the {@link System#nanoTime()} value after which the permits are no longer awaited
+	 * @param stats    the statistics of the request, may be {@code null}
+	 * @return the {@link Admission} holding the acquired permits
+	 * @throws InterruptedException if the current thread was interrupted while waiting
+	 * @throws TimeoutException     if a permit could not be acquired in time
+	 */
+	private static Admission admit(
+		final StatsKey statsKey,
+		final long timeout,
+		final long deadline,
+		final AtomicStats stats
+	) throws InterruptedException, TimeoutException {
+		final Limits current = limits;
+		final Semaphore hostSemaphore = statsKey != null ? current.forHost(statsKey.hostname()) : null;
+		final Semaphore globalSemaphore = current.global();
+
+		QUEUED_COUNT.incrementAndGet();
+		if (stats != null) {
+			stats.queued.incrementAndGet();
+		}
+		try {
+			// Always acquire the per-host permit first, then the global one
+			if (hostSemaphore != null && !hostSemaphore.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+				throw admissionTimeout(statsKey, timeout, stats);
+			}
+			if (!globalSemaphore.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+				if (hostSemaphore != null) {
+					hostSemaphore.release();
+				}
+				throw admissionTimeout(statsKey, timeout, stats);
 			}
 		} finally {
-			executor.shutdownNow();
+			QUEUED_COUNT.decrementAndGet();
+			if (stats != null) {
+				stats.queued.decrementAndGet();
+			}
+		}
+
+		ACTIVE_COUNT.incrementAndGet();
+		if (stats != null) {
+			stats.active.incrementAndGet();
+		}
+
+		return new Admission(globalSemaphore, hostSemaphore, stats);
+	}
+
+	/**
+	 * Build the {@link TimeoutException} thrown when a request could not be admitted in time.
+	 *
+	 * @param statsKey the (hostname, operationType) key, may be {@code null}
+	 * @param timeout  the admission timeout, in seconds
+	 * @param stats    the statistics of the request, may be {@code null}
+	 * @return new {@link TimeoutException}
+	 */
+	private static TimeoutException admissionTimeout(
+		final StatsKey statsKey,
+		final long timeout,
+		final AtomicStats stats
+	) {
+		if (stats != null) {
+			stats.timeout.incrementAndGet();
+		}
+		final String target = statsKey != null ? statsKey.hostname() : "all hosts";
+		log.debug("Request could not be admitted within {} seconds. Concurrency limit reached for {}.", timeout, target);
+		return new TimeoutException(
+			String.format("Request could not be admitted within %d seconds (concurrency limit reached).", timeout)
+		);
+	}
+
+	/**
+	 * Permits held by an admitted request. They are released exactly once: by
+	 * the task when it terminates, or by the caller when the task is cancelled
+	 * before it started.
+	 */
+	private static class Admission {
+
+		private final Semaphore globalSemaphore;
+		private final Semaphore hostSemaphore;
+		private final AtomicStats stats;
+		private final AtomicBoolean claimed = new AtomicBoolean(false);
+
+		Admission(final Semaphore globalSemaphore, final Semaphore hostSemaphore, final AtomicStats stats) {
+			this.globalSemaphore = globalSemaphore;
+			this.hostSemaphore = hostSemaphore;
+			this.stats = stats;
+		}
+
+		/**
+		 * Called by the task before running the request.
+		 *
+		 * @return {@code true} if the task now owns the permits, {@code false} if the request was cancelled
+		 */
+		boolean start() {
+			return claimed.compareAndSet(false, true);
+		}
+
+		/**
+		 * Called by the caller when it gives up on the request. Releases the permits
+		 * only if the task did not start, otherwise the task releases them when it terminates.
+		 */
+		void cancel() {
+			if (claimed.compareAndSet(false, true)) {
+				release();
+			}
+		}
+
+		/**
+		 * Give the permits back and update the active gauges.
+		 */
+		void release() {
+			globalSemaphore.release();
+			if (hostSemaphore != null) {
+				hostSemaphore.release();
+			}
+			ACTIVE_COUNT.decrementAndGet();
+			if (stats != null) {
+				stats.active.decrementAndGet();
+			}
 		}
 	}
 
@@ -204,6 +447,24 @@ public class ThreadHelper {
 		return STATS_MAP.computeIfAbsent(key, _ -> new AtomicStats());
 	}
 
+	/**
+	 * Returns the number of requests currently running, all hosts included.
+	 *
+	 * @return the number of active requests
+	 */
+	public static long getActiveCount() {
+		return ACTIVE_COUNT.get();
+	}
+
+	/**
+	 * Returns the number of requests currently waiting for admission, all hosts included.
+	 *
+	 * @return the number of queued requests
+	 */
+	public static long getQueuedCount() {
+		return QUEUED_COUNT.get();
+	}
+
 	/**
 	 * Returns a snapshot of the execution statistics for a given hostname,
 	 * grouped by operation type.
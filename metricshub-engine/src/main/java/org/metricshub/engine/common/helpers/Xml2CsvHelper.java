@@ -0,0 +1,318 @@
+package org.metricshub.engine.common.helpers;
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub Engine
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2025 MetricsHub
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Helper class converting an XML document to a table with a StAX pull parser, emitting the rows of the records one by
+ * one without building the DOM of the document.
+ * <p>
+ * The result is the same as the XFlat conversion: for each record element at the record tag, one line per element at
+ * the properties path in the record, made of the values of the properties, or one line per record when all the
+ * properties are attributes of the record.
+ * </p>
+ * <p>
+ * Only the conversions whose result is unambiguous are handled: a record tag made of element names, properties that
+ * are attributes of the record (<code>&gt;attribute</code>) or of the elements at a single path in the record
+ * (<code>element/subElement&gt;attribute</code>), with a single element at each level of this path but the last, and
+ * with every requested attribute present. Any other conversion returns an empty {@link Optional}, and must be done by
+ * XFlat.
+ * </p>
+ */
+public class Xml2CsvHelper {
+
+	private static final XMLInputFactory XML_INPUT_FACTORY = createXmlInputFactory();
+
+	/**
+	 * Element and attribute names, without any character XFlat could interpret as a path or a wildcard.
+	 */
+	private static final Pattern NAME_PATTERN = Pattern.compile("[^/>;*\\[\\]\\s]+");
+
+	private Xml2CsvHelper() {}
+
+	/**
+	 * @return A factory of StAX readers that do not process any DTD or external entity.
+	 */
+	private static XMLInputFactory createXmlInputFactory() {
+		final XMLInputFactory factory = XMLInputFactory.newFactory();
+		factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+		factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+		return factory;
+	}
+
+	/**
+	 * Converts the records of the given XML document to a table.
+	 *
+	 * @param xml        The XML document.
+	 * @param properties The paths of the properties to retrieve separated by a semicolon, attributes being preceded by
+	 *                   a superior character: '&gt;'.
+	 * @param recordTag  The path of the record elements, e.g. <code>/rootTag/tag2</code>.
+	 * @return The rows of the table, or an empty {@link Optional} if the conversion is not handled or the document is
+	 *         not valid XML.
+	 */
+	public static Optional<List<List<String>>> parse(final String xml, final String properties, final String recordTag) {
+		final Layout layout = Layout.of(properties, recordTag);
+		if (xml == null || layout == null) {
+			return Optional.empty();
+		}
+
+		XMLStreamReader reader = null;
+		try {
+			reader = XML_INPUT_FACTORY.createXMLStreamReader(new StringReader(xml));
+			final List<List<String>> table = layout.parse(reader);
+			return table == null || table.isEmpty() ? Optional.empty() : Optional.of(table);
+		} catch (XMLStreamException e) {
+			return Optional.empty();
+		} finally {
+			close(reader);
+		}
+	}
+
+	/**
+	 * Closes the given reader, ignoring any error.
+	 *
+	 * @param reader The reader, may be <code>null</code>.
+	 */
+	private static void close(final XMLStreamReader reader) {
+		if (reader != null) {
+			try {
+				reader.close();
+			} catch (XMLStreamException e) {
+				// Nothing to release after a parsing error
+			}
+		}
+	}
+
+	/**
+	 * @return The qualified name of the current element.
+	 */
+	private static String elementName(final XMLStreamReader reader) {
+		final String prefix = reader.getPrefix();
+		return prefix == null || prefix.isEmpty() ? reader.getLocalName() : prefix + ":" + reader.getLocalName();
+	}
+
+	/**
+	 * @return The value of the given attribute of the current element, or <code>null</code> if the element has no such
+	 *         attribute.
+	 */
+	private static String attributeValue(final XMLStreamReader reader, final String name) {
+		for (int i = 0; i < reader.getAttributeCount(); i++) {
+			final String prefix = reader.getAttributePrefix(i);
+			final String localName = reader.getAttributeLocalName(i);
+			if (name.equals(prefix == null || prefix.isEmpty() ? localName : prefix + ":" + localName)) {
+				return reader.getAttributeValue(i);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * The path of the records and of the elements holding the properties.
+	 *
+	 * @param recordPath   The element names from the root to the records.
+	 * @param elementPath  The element names from a record to the elements holding the properties, or
+	 *                     <code>null</code> if all the properties are attributes of the records.
+	 * @param attributes   The name of the attribute of each property.
+	 * @param onRecord     Whether each property is an attribute of the record, or of the elements at the element path.
+	 */
+	private record Layout(String[] recordPath, String[] elementPath, String[] attributes, boolean[] onRecord) {
+		/**
+		 * Creates the layout of the given conversion.
+		 *
+		 * @param properties The paths of the properties separated by a semicolon.
+		 * @param recordTag  The path of the record elements.
+		 * @return The layout, or <code>null</code> if the conversion is not handled.
+		 */
+		static Layout of(final String properties, final String recordTag) {
+			if (properties == null || recordTag == null || !recordTag.startsWith("/")) {
+				return null;
+			}
+
+			final String[] recordPath = recordTag.substring(1).split("/", -1);
+			if (!allNames(recordPath)) {
+				return null;
+			}
+
+			final String[] propertyPaths = properties.split(";", -1);
+			final String[] attributes = new String[propertyPaths.length];
+			final boolean[] onRecord = new boolean[propertyPaths.length];
+			String elementPath = null;
+			for (int i = 0; i < propertyPaths.length; i++) {
+				final int attributeIndex = propertyPaths[i].indexOf('>');
+				if (attributeIndex < 0) {
+					return null;
+				}
+
+				attributes[i] = propertyPaths[i].substring(attributeIndex + 1);
+				final String path = propertyPaths[i].substring(0, attributeIndex);
+				onRecord[i] = path.isEmpty();
+				if (!NAME_PATTERN.matcher(attributes[i]).matches()) {
+					return null;
+				}
+				if (!onRecord[i]) {
+					if (elementPath != null && !elementPath.equals(path)) {
+						return null;
+					}
+					elementPath = path;
+				}
+			}
+
+			if (elementPath == null) {
+				return new Layout(recordPath, null, attributes, onRecord);
+			}
+			final String[] elementNames = elementPath.split("/", -1);
+			return allNames(elementNames) ? new Layout(recordPath, elementNames, attributes, onRecord) : null;
+		}
+
+		/**
+		 * @return <code>true</code> if all the given strings are element names.
+		 */
+		private static boolean allNames(final String[] names) {
+			for (final String name : names) {
+				if (!NAME_PATTERN.matcher(name).matches()) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		/**
+		 * Reads the whole document and emits the rows of the records.
+		 *
+		 * @param reader The StAX reader, at the start of the document.
+		 * @return The rows, or <code>null</code> if the document is not handled.
+		 * @throws XMLStreamException If the document is not valid XML.
+		 */
+		List<List<String>> parse(final XMLStreamReader reader) throws XMLStreamException {
+			final List<List<String>> table = new ArrayList<>();
+
+			// Depth of the current element, and number of its ancestors (itself included) matching the record path,
+			// or the element path within the current record
+			int depth = 0;
+			int recordMatch = 0;
+			int elementMatch = 0;
+
+			// Values of the record attributes of the current record, null outside of a record
+			String[] recordValues = null;
+			int recordRows = 0;
+			final int[] elementCounts = elementPath == null ? null : new int[elementPath.length];
+
+			while (reader.hasNext()) {
+				final int event = reader.next();
+				if (event == XMLStreamConstants.DTD || event == XMLStreamConstants.ENTITY_REFERENCE) {
+					return null;
+				} else if (event == XMLStreamConstants.START_ELEMENT) {
+					depth++;
+					final String name = elementName(reader);
+					if (recordValues == null) {
+						if (recordMatch == depth - 1 && depth <= recordPath.length && name.equals(recordPath[depth - 1])) {
+							recordMatch = depth;
+							if (depth == recordPath.length) {
+								recordValues = readAttributes(reader, true);
+								if (recordValues == null) {
+									return null;
+								}
+								recordRows = 0;
+								elementMatch = 0;
+								if (elementCounts != null) {
+									Arrays.fill(elementCounts, 0);
+								}
+							}
+						}
+					} else if (elementPath != null) {
+						final int level = depth - recordPath.length;
+						if (elementMatch == level - 1 && level <= elementPath.length && name.equals(elementPath[level - 1])) {
+							elementMatch = level;
+							if (level < elementPath.length) {
+								// Repeated intermediate elements are not handled
+								if (++elementCounts[level - 1] > 1) {
+									return null;
+								}
+							} else {
+								final String[] elementValues = readAttributes(reader, false);
+								if (elementValues == null) {
+									return null;
+								}
+								final List<String> row = new ArrayList<>(attributes.length);
+								for (int i = 0; i < attributes.length; i++) {
+									row.add(onRecord[i] ? recordValues[i] : elementValues[i]);
+								}
+								table.add(row);
+								recordRows++;
+							}
+						}
+					}
+				} else if (event == XMLStreamConstants.END_ELEMENT) {
+					if (recordValues != null && depth == recordPath.length) {
+						if (elementPath == null) {
+							table.add(List.of(recordValues));
+						} else if (recordRows == 0) {
+							return null;
+						}
+						recordValues = null;
+					}
+					if (recordValues != null && elementMatch == depth - recordPath.length) {
+						elementMatch--;
+					}
+					if (recordMatch == depth) {
+						recordMatch--;
+					}
+					depth--;
+				}
+			}
+
+			return table;
+		}
+
+		/**
+		 * Reads the requested attributes of the current element.
+		 *
+		 * @param reader   The StAX reader, at the start of the element.
+		 * @param onRecord <code>true</code> to read the attributes of the record, <code>false</code> to read the
+		 *                 attributes of the element holding the properties.
+		 * @return The values of the attributes, indexed like the properties, or <code>null</code> if an attribute is
+		 *         missing.
+		 */
+		private String[] readAttributes(final XMLStreamReader reader, final boolean onRecord) {
+			final String[] values = new String[attributes.length];
+			for (int i = 0; i < attributes.length; i++) {
+				if (this.onRecord[i] == onRecord) {
+					values[i] = attributeValue(reader, attributes[i]);
+					if (values[i] == null) {
+						return null;
+					}
+				}
+			}
+			return values;
+		}
+	}
+}
@@ -112,18 +112,23 @@ public class ConnectorStore implements Serializable {
 	}
 
 	/**
-	 * Creates and returns a new instance of ConnectorStore, initialized with a copy of the current connectors.
+	 * Creates and returns a new instance of ConnectorStore, initialized with the current connectors.
 	 *
-	 * This method is useful for creating a snapshot of the current state of the ConnectorStore used for each resource.
-	 * Changes made to the new ConnectorStore will not affect the original one.
+	 * This method is useful for creating the ConnectorStore used for each resource. The connectors of the current
+	 * store are not copied: the new store layers a small overlay on top of them, and the connectors added to the new
+	 * store (e.g. the configured connector or the connectors resolved with variables) only go to this overlay.
+	 * Changes made to the new ConnectorStore will not affect the original one, which must no longer be modified.
 	 *
 	 * @return A new ConnectorStore instance with the same connectors as the current store.
 	 */
 	public ConnectorStore newConnectorStore() {
 		final ConnectorStore newConnectorStore = new ConnectorStore();
-		final Map<String, Connector> originalConnectors = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
-		originalConnectors.putAll(store);
-		newConnectorStore.setStore(originalConnectors);
+		// A store created from a resource store shares the same base, with a copy of the overlay
+		newConnectorStore.setStore(
+			store instanceof LayeredConnectorMap layeredConnectorMap
+				? layeredConnectorMap.newLayer()
+				: new LayeredConnectorMap(store)
+		);
 		newConnectorStore.setRawConnectorStore(rawConnectorStore);
 		newConnectorStore.setConnectorsWithVariables(connectorsWithVariables);
 		return newConnectorStore;
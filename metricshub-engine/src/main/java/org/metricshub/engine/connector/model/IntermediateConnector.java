@@ -53,6 +53,11 @@ public class IntermediateConnector {
 	 */
 	private static final String CONNECTOR_VARIABLE_PATTERN = "${var::";
 
+	/**
+	 * The YAML mapper reading the raw connectors, shared as building a mapper is costly and reading is thread-safe
+	 */
+	private static final ObjectMapper YAML_MAPPER = JsonHelper.buildYamlMapper();
+
 	/**
 	 * The Id of the Intermediate Connector
 	 */
@@ -78,14 +83,13 @@ public class IntermediateConnector {
 	 */
 	public IntermediateConnector(final String connectorId, final RawConnector rawConnector) {
 		this.connectorId = connectorId;
-		final ObjectMapper mapper = JsonHelper.buildYamlMapper();
 		final Map<Integer, EmbeddedFile> connectorEmbeddedFiles = rawConnector.getEmbeddedFiles();
 		if (connectorEmbeddedFiles != null) {
 			this.embeddedFiles.putAll(connectorEmbeddedFiles);
 		}
 
 		try {
-			this.connectorNode = mapper.readTree(rawConnector.getByteConnector());
+			this.connectorNode = YAML_MAPPER.readTree(rawConnector.getByteConnector());
 		} catch (IOException e) {
 			log.error("Error while reading Raw Connector {} from Raw Connector Store.", connectorId);
 			log.debug("Exception: ", e);
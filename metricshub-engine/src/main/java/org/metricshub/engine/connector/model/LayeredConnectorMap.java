@@ -0,0 +1,228 @@
+package org.metricshub.engine.connector.model;
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub Engine
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2025 MetricsHub
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import lombok.NonNull;
+
+/**
+ * Copy-on-write view of connectors made of a shared base map and a small overlay.
+ * <p>
+ * The base map holds the connectors of the global {@link ConnectorStore} and is never modified through this view.
+ * Connectors added through this view go to the overlay and shadow the base connectors with the same identifier.
+ * Lookups check the overlay first, then fall through to the base. Identifiers are case-insensitive and the
+ * iteration follows their case-insensitive order, like the {@link TreeMap} of a regular connector store.
+ * </p>
+ */
+class LayeredConnectorMap extends AbstractMap<String, Connector> implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * The shared connectors, read only
+	 */
+	private final SortedMap<String, Connector> base;
+
+	/**
+	 * The connectors specific to this view
+	 */
+	private final TreeMap<String, Connector> overlay;
+
+	/**
+	 * Create a view over the given base connectors with an empty overlay.
+	 *
+	 * @param base The shared connectors. Copied once if not sorted case-insensitively.
+	 */
+	LayeredConnectorMap(@NonNull final Map<String, Connector> base) {
+		this(toCaseInsensitiveSortedMap(base), new TreeMap<>(String.CASE_INSENSITIVE_ORDER));
+	}
+
+	/**
+	 * Create a view over the given base connectors and overlay.
+	 *
+	 * @param base    The shared connectors, sorted case-insensitively.
+	 * @param overlay The connectors specific to this view, sorted case-insensitively.
+	 */
+	private LayeredConnectorMap(final SortedMap<String, Connector> base, final TreeMap<String, Connector> overlay) {
+		this.base = base;
+		this.overlay = overlay;
+	}
+
+	/**
+	 * Create a new view sharing the same base and holding a copy of the overlay of this view.
+	 *
+	 * @return A new {@link LayeredConnectorMap} instance.
+	 */
+	LayeredConnectorMap newLayer() {
+		return new LayeredConnectorMap(base, new TreeMap<>(overlay));
+	}
+
+	/**
+	 * @return The number of connectors held by the overlay.
+	 */
+	int overlaySize() {
+		return overlay.size();
+	}
+
+	@Override
+	public Connector get(final Object key) {
+		final Connector connector = overlay.get(key);
+		return connector != null ? connector : base.get(key);
+	}
+
+	@Override
+	public boolean containsKey(final Object key) {
+		return overlay.containsKey(key) || base.containsKey(key);
+	}
+
+	@Override
+	public Connector put(final String key, final Connector value) {
+		final Connector previous = get(key);
+		overlay.put(key, value);
+		return previous;
+	}
+
+	@Override
+	public Connector remove(final Object key) {
+		if (base.containsKey(key)) {
+			throw new UnsupportedOperationException("Cannot remove the shared connector " + key + ".");
+		}
+		return overlay.remove(key);
+	}
+
+	@Override
+	public int size() {
+		int size = base.size();
+		for (String key : overlay.keySet()) {
+			if (!base.containsKey(key)) {
+				size++;
+			}
+		}
+		return size;
+	}
+
+	@Override
+	public Set<Entry<String, Connector>> entrySet() {
+		return new AbstractSet<>() {
+			@Override
+			public Iterator<Entry<String, Connector>> iterator() {
+				return new MergingIterator(base.entrySet().iterator(), overlay.entrySet().iterator());
+			}
+
+			@Override
+			public int size() {
+				return LayeredConnectorMap.this.size();
+			}
+		};
+	}
+
+	/**
+	 * Return the given connectors as a map sorted case-insensitively, copying them only if needed.
+	 *
+	 * @param connectors The connectors.
+	 * @return A {@link SortedMap} using the {@link String#CASE_INSENSITIVE_ORDER}.
+	 */
+	private static SortedMap<String, Connector> toCaseInsensitiveSortedMap(final Map<String, Connector> connectors) {
+		if (
+			connectors instanceof SortedMap<String, Connector> sortedMap &&
+			sortedMap.comparator() == String.CASE_INSENSITIVE_ORDER
+		) {
+			return sortedMap;
+		}
+		final TreeMap<String, Connector> copy = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+		copy.putAll(connectors);
+		return copy;
+	}
+
+	/**
+	 * Iterates over the base and overlay entries in the case-insensitive order of their keys, an overlay entry
+	 * replacing the base entry with the same key. The returned entries are immutable.
+	 */
+	private static class MergingIterator implements Iterator<Entry<String, Connector>> {
+
+		private final Iterator<Entry<String, Connector>> baseIterator;
+		private final Iterator<Entry<String, Connector>> overlayIterator;
+		private Entry<String, Connector> nextBase;
+		private Entry<String, Connector> nextOverlay;
+
+		MergingIterator(
+			final Iterator<Entry<String, Connector>> baseIterator,
+			final Iterator<Entry<String, Connector>> overlayIterator
+		) {
+			this.baseIterator = baseIterator;
+			this.overlayIterator = overlayIterator;
+			nextBase = advance(baseIterator);
+			nextOverlay = advance(overlayIterator);
+		}
+
+		@Override
+		public boolean hasNext() {
+			return nextBase != null || nextOverlay != null;
+		}
+
+		@Override
+		public Entry<String, Connector> next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+
+			final int comparison;
+			if (nextBase == null) {
+				comparison = 1;
+			} else if (nextOverlay == null) {
+				comparison = -1;
+			} else {
+				comparison = String.CASE_INSENSITIVE_ORDER.compare(nextBase.getKey(), nextOverlay.getKey());
+			}
+
+			final Entry<String, Connector> next;
+			if (comparison < 0) {
+				next = nextBase;
+				nextBase = advance(baseIterator);
+			} else {
+				next = nextOverlay;
+				nextOverlay = advance(overlayIterator);
+				// The overlay shadows the base connector with the same key
+				if (comparison == 0) {
+					nextBase = advance(baseIterator);
+				}
+			}
+
+			return new SimpleImmutableEntry<>(next);
+		}
+
+		/**
+		 * @return The next entry of the given iterator, or <code>null</code> if there is none.
+		 */
+		private static Entry<String, Connector> advance(final Iterator<Entry<String, Connector>> iterator) {
+			return iterator.hasNext() ? iterator.next() : null;
+		}
+	}
+}
@@ -31,13 +31,17 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import lombok.AccessLevel;
 import lombok.Data;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.NonNull;
+import lombok.Setter;
+import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 import org.metricshub.engine.common.helpers.JsonHelper;
 import org.metricshub.engine.connector.parser.RawConnectorLibraryParser;
+import org.metricshub.engine.connector.parser.ResolvedConnectorCache;
 
 /**
  * Manages the storage and retrieval of {@link RawConnector} instances.
@@ -60,6 +64,14 @@ public class RawConnectorStore implements Serializable {
 	 */
 	private Set<NamedType> subtypes = new HashSet<>();
 
+	/**
+	 * Connectors resolved from the raw connectors with variables, shared by all the resources using this store
+	 */
+	@Getter(AccessLevel.NONE)
+	@Setter(AccessLevel.NONE)
+	@ToString.Exclude
+	private transient ResolvedConnectorCache resolvedConnectorCache;
+
 	/**
 	 * Constructs a {@link RawConnectorStore} by loading and deserializing all connector
 	 * found in the given directory path.
@@ -96,6 +108,20 @@ public class RawConnectorStore implements Serializable {
 	 */
 	public void addMany(@NonNull final Map<String, RawConnector> rawConnectors) {
 		store.putAll(rawConnectors);
+		getResolvedConnectorCache().clear();
+	}
+
+	/**
+	 * Returns the cache of the connectors resolved from the raw connectors of this store, creating it on first use
+	 * (the cache is not serialized).
+	 *
+	 * @return The {@link ResolvedConnectorCache} of this store.
+	 */
+	public synchronized ResolvedConnectorCache getResolvedConnectorCache() {
+		if (resolvedConnectorCache == null) {
+			resolvedConnectorCache = new ResolvedConnectorCache();
+		}
+		return resolvedConnectorCache;
 	}
 
 	/**
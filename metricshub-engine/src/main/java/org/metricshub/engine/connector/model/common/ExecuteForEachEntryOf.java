@@ -70,23 +70,44 @@ public class ExecuteForEachEntryOf implements Serializable {
 	@JsonSetter(nulls = SKIP)
 	private Integer sleep;
 
+	/**
+	 * The maximum number of entries processed concurrently. Entries are processed one after another when not set.
+	 */
+	@JsonDeserialize(using = PositiveIntegerDeserializer.class)
+	@JsonSetter(nulls = SKIP)
+	private Integer maxParallelEntries;
+
 	/**
 	 * Constructs an instance of {@link ExecuteForEachEntryOf}.
 	 *
-	 * @param source       The source for executing the operation for each entry.
-	 * @param concatMethod The method used to concatenate entries.
-	 * @param sleep        The sleep integer in ms.
+	 * @param source             The source for executing the operation for each entry.
+	 * @param concatMethod       The method used to concatenate entries.
+	 * @param sleep              The minimum delay in ms between the start of two entry requests.
+	 * @param maxParallelEntries The maximum number of entries processed concurrently.
 	 */
 	@Builder
 	@JsonCreator
 	public ExecuteForEachEntryOf(
 		@JsonProperty(value = "source", required = true) @NonNull String source,
 		@JsonProperty("concatMethod") IEntryConcatMethod concatMethod,
-		@JsonProperty(value = "sleep", required = false) Integer sleep
+		@JsonProperty(value = "sleep", required = false) Integer sleep,
+		@JsonProperty(value = "maxParallelEntries", required = false) Integer maxParallelEntries
 	) {
 		this.source = source;
 		this.concatMethod = concatMethod == null ? EntryConcatMethod.LIST : concatMethod;
 		this.sleep = sleep;
+		this.maxParallelEntries = maxParallelEntries;
+	}
+
+	/**
+	 * Constructs an instance of {@link ExecuteForEachEntryOf} processing the entries one after another.
+	 *
+	 * @param source       The source for executing the operation for each entry.
+	 * @param concatMethod The method used to concatenate entries.
+	 * @param sleep        The minimum delay in ms between the start of two entry requests.
+	 */
+	public ExecuteForEachEntryOf(@NonNull String source, IEntryConcatMethod concatMethod, Integer sleep) {
+		this(source, concatMethod, sleep, null);
 	}
 
 	/**
@@ -95,7 +116,12 @@ public class ExecuteForEachEntryOf implements Serializable {
 	 * @return A new instance of {@link ExecuteForEachEntryOf} with the same source and concatenation method.
 	 */
 	public ExecuteForEachEntryOf copy() {
-		return ExecuteForEachEntryOf.builder().source(source).concatMethod(concatMethod.copy()).sleep(sleep).build();
+		return ExecuteForEachEntryOf.builder()
+			.source(source)
+			.concatMethod(concatMethod.copy())
+			.sleep(sleep)
+			.maxParallelEntries(maxParallelEntries)
+			.build();
 	}
 
 	@Override
@@ -105,6 +131,7 @@ public class ExecuteForEachEntryOf implements Serializable {
 		addNonNull(stringJoiner, "- executeForEachEntryOf=", source);
 		addNonNull(stringJoiner, "- concatMethod=", concatMethod != null ? concatMethod.getDescription() : EMPTY);
 		addNonNull(stringJoiner, "- sleep=", sleep);
+		addNonNull(stringJoiner, "- maxParallelEntries=", maxParallelEntries);
 
 		return stringJoiner.toString();
 	}
@@ -218,4 +218,13 @@ public abstract class Source implements Serializable {
 	public Integer getSleepExecuteForEachEntryOf() {
 		return executeForEachEntryOf != null ? executeForEachEntryOf.getSleep() : null;
 	}
+
+	/**
+	 * Get the maximum number of entries processed concurrently for the executeForEachEntryOf
+	 *
+	 * @return Integer value
+	 */
+	public Integer getMaxParallelEntriesExecuteForEachEntryOf() {
+		return executeForEachEntryOf != null ? executeForEachEntryOf.getMaxParallelEntries() : null;
+	}
 }
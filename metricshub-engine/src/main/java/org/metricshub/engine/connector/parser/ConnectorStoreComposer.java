@@ -25,6 +25,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -133,27 +134,26 @@ public class ConnectorStoreComposer {
 		final List<String> connectorsWithVariables = new ArrayList<>();
 
 		if (rawConnectorStore != null) {
+			// Register the post-deserialization support once, the mapper is then shared by the parallel parsing
+			PostDeserializeHelper.addPostDeserializeSupport(deserializer.getMapper());
+
 			// For each Raw Connector, search for variables in the JsonNode or the Embedded Files.
-			rawConnectorStore
+			// The connectors are parsed in parallel, then collected in the order of the raw connector store.
+			final List<StaticConnector> staticConnectors = rawConnectorStore
 				.getStore()
-				.forEach((connectorId, rawConnector) -> {
-					final IntermediateConnector intermediateConnector = new IntermediateConnector(connectorId, rawConnector);
-
-					// If the connector contains variables, do not parse it in this phase.
-					// This is due to the absence of additional connectors configuration.
-					// If processed, this may cause parsing errors.
-					if (intermediateConnector.hasVariables()) {
-						connectorsWithVariables.add(connectorId);
-					} else {
-						try {
-							// Add all the resulting connectors in the connector store
-							connectorStore.addOne(connectorId, parseConnector(intermediateConnector));
-						} catch (IOException e) {
-							log.error(DESERIALIZATION_ERROR_MESSAGE, connectorId);
-							log.debug(EXCEPTION_MESSAGE, e);
-						}
-					}
-				});
+				.entrySet()
+				.parallelStream()
+				.map(entry -> parseStaticConnector(entry.getKey(), entry.getValue()))
+				.toList();
+
+			staticConnectors.forEach(staticConnector -> {
+				if (staticConnector.hasVariables()) {
+					connectorsWithVariables.add(staticConnector.connectorId());
+				} else if (staticConnector.connector() != null) {
+					// Add all the resulting connectors in the connector store
+					connectorStore.addOne(staticConnector.connectorId(), staticConnector.connector());
+				}
+			});
 
 			connectorStore.setRawConnectorStore(rawConnectorStore);
 			connectorStore.addConnectorsWithVariables(connectorsWithVariables);
@@ -162,6 +162,42 @@ public class ConnectorStoreComposer {
 		return connectorStore;
 	}
 
+	/**
+	 * Parse the given raw connector unless it contains variables.
+	 *
+	 * @param connectorId  The identifier of the connector.
+	 * @param rawConnector The raw connector to parse.
+	 * @return The {@link StaticConnector} holding the parsed connector, without connector if it has variables or
+	 *         cannot be deserialized.
+	 */
+	private StaticConnector parseStaticConnector(final String connectorId, final RawConnector rawConnector) {
+		final IntermediateConnector intermediateConnector = new IntermediateConnector(connectorId, rawConnector);
+
+		// If the connector contains variables, do not parse it in this phase.
+		// This is due to the absence of additional connectors configuration.
+		// If processed, this may cause parsing errors.
+		if (intermediateConnector.hasVariables()) {
+			return new StaticConnector(connectorId, true, null);
+		}
+
+		try {
+			return new StaticConnector(connectorId, false, deserializeConnector(intermediateConnector));
+		} catch (IOException e) {
+			log.error(DESERIALIZATION_ERROR_MESSAGE, connectorId);
+			log.debug(EXCEPTION_MESSAGE, e);
+			return new StaticConnector(connectorId, false, null);
+		}
+	}
+
+	/**
+	 * The outcome of the static parsing of a raw connector.
+	 *
+	 * @param connectorId  The identifier of the connector.
+	 * @param hasVariables Whether the connector contains variables and must be parsed once they are resolved.
+	 * @param connector    The parsed connector, {@code null} if it has variables or cannot be deserialized.
+	 */
+	private record StaticConnector(String connectorId, boolean hasVariables, Connector connector) {}
+
 	/**
 	 * Resolves all variables found in connectors and their embedded files within a {@link ConnectorStore}.
 	 * <p>
@@ -192,9 +228,7 @@ public class ConnectorStoreComposer {
 		// For each Raw Connector, process variables
 		connectorsWithVariables.forEach((String connectorId, RawConnector rawConnector) ->
 			// Put all the resulting connectors inside the output object.
-			connectorsParsingResult
-				.getCustomConnectorsMap()
-				.putAll((processConnector(new IntermediateConnector(connectorId, rawConnector))))
+			connectorsParsingResult.getCustomConnectorsMap().putAll(processConnector(connectorId, rawConnector))
 		);
 
 		return connectorsParsingResult;
@@ -202,46 +236,81 @@ public class ConnectorStoreComposer {
 
 	/**
 	 * Processes a single connector by resolving its variables and converting it into one or more concrete connectors.
+	 * <p>
+	 * Resolved connectors are cached in the {@link ResolvedConnectorCache} of the raw connector store, so that
+	 * resources configured with the same variables share the same connector instances.
+	 * </p>
 	 *
-	 * @param intermediateConnector The connector to process.
+	 * @param connectorId  The identifier of the raw connector to process.
+	 * @param rawConnector The raw connector to process.
 	 * @return A map of resolved connector IDs to their corresponding {@link Connector} instances.
 	 */
-	private Map<String, Connector> processConnector(final IntermediateConnector intermediateConnector) {
-		// Store all the connectors that emerged from the current one in a map.
-		final List<IntermediateConnector> processedConnectors = processVariables(intermediateConnector);
+	private Map<String, Connector> processConnector(final String connectorId, final RawConnector rawConnector) {
+		final ResolvedConnectorCache resolvedConnectorCache = rawConnectorStore.getResolvedConnectorCache();
+
+		// The parsed raw connector, deep copied for each connector to resolve
+		final IntermediateConnector template = resolvedConnectorCache.getTemplate(connectorId, () ->
+			new IntermediateConnector(connectorId, rawConnector)
+		);
 
 		final Map<String, Connector> connectors = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
-		processedConnectors.forEach((IntermediateConnector processedIntermediateConnector) -> {
-			final String connectorId = processedIntermediateConnector.getConnectorId();
-			try {
-				connectors.put(connectorId, parseConnector(processedIntermediateConnector));
-			} catch (IOException e) {
-				log.error(DESERIALIZATION_ERROR_MESSAGE, connectorId);
-				log.debug(EXCEPTION_MESSAGE + e);
+		processVariables(template).forEach((String resolvedConnectorId, Map<String, String> connectorVariables) -> {
+			final Connector connector = resolvedConnectorCache.getConnector(
+				connectorId,
+				resolvedConnectorId,
+				connectorVariables,
+				() -> resolveConnector(template, resolvedConnectorId, connectorVariables)
+			);
+			if (connector != null) {
+				connectors.put(resolvedConnectorId, connector);
 			}
 		});
 		return connectors;
 	}
 
 	/**
-	 * Resolves all variable configurations for a connector and returns a list of fully processed {@link IntermediateConnector} instances.
+	 * Resolves the variables of a copy of the given connector and parses it.
+	 *
+	 * @param template           The connector with variables, left unchanged.
+	 * @param connectorId        The identifier of the resolved connector.
+	 * @param connectorVariables The variables to replace in the connector and its embedded files.
+	 * @return The resolved {@link Connector}, or {@code null} if it cannot be deserialized.
+	 */
+	private Connector resolveConnector(
+		final IntermediateConnector template,
+		final String connectorId,
+		final Map<String, String> connectorVariables
+	) {
+		final IntermediateConnector intermediateConnector = template.getDeepCopy(connectorId);
+		replaceVariables(intermediateConnector, connectorVariables);
+		try {
+			return parseConnector(intermediateConnector);
+		} catch (IOException e) {
+			log.error(DESERIALIZATION_ERROR_MESSAGE, connectorId);
+			log.debug(EXCEPTION_MESSAGE + e);
+			return null;
+		}
+	}
+
+	/**
+	 * Resolves all variable configurations for a connector and returns the variables of each connector to generate.
 	 * <p>
 	 * It always generates a default connector using its default variables and original ID.
 	 * If an additional connector is configured with the same ID, it will override the default during integration.
 	 *</p>
 	 *
 	 * @param intermediateConnector The base connector containing variables to resolve.
-	 * @return A list of {@link IntermediateConnector} instances, including the default and all configured variants.
+	 * @return The variables to apply, keyed by the ID of the connector to generate, starting with the default one.
 	 */
-	private List<IntermediateConnector> processVariables(final IntermediateConnector intermediateConnector) {
+	private Map<String, Map<String, String>> processVariables(final IntermediateConnector intermediateConnector) {
 		// Retrieve the connectorId from the intermediate connector
 		final String connectorId = intermediateConnector.getConnectorId();
 
 		// Retrieve the connector JsonNode from the intermediate connector
 		final JsonNode connectorNode = intermediateConnector.getConnectorNode();
 
-		// List containing resulting JsonNodes
-		final List<IntermediateConnector> processedConnectors = new ArrayList<>();
+		// Variables of each resulting connector
+		final Map<String, Map<String, String>> processedVariables = new LinkedHashMap<>();
 
 		// Filter additional connectors configs to keep only those for the current connector
 		final Map<String, AdditionalConnector> connectorConfigurations = filterAdditionalConnectors(connectorId);
@@ -253,21 +322,15 @@ public class ConnectorStoreComposer {
 		// Thus, in case of forcing connector using [+connectorId] without configuring it with
 		// AdditionalConnectors, it will work!
 		// If a connector with the same name is configured, it will override this one.
-		final IntermediateConnector connectorWithDefaultVariables = intermediateConnector.getDeepCopy(connectorId);
-		replaceVariables(connectorWithDefaultVariables, defaultVariables);
-		processedConnectors.add(connectorWithDefaultVariables);
+		processedVariables.put(connectorId, defaultVariables);
 
 		// Apply user-defined configurations if they exist
 		if (!connectorConfigurations.isEmpty()) {
-			// For each configuration, we create a new custom connector and a new variables
-			// map to be used in the connector update.
+			// For each configuration, we create a new variables map to be used in the connector update.
 			for (final Entry<String, AdditionalConnector> connectorConfigurationEntry : connectorConfigurations.entrySet()) {
 				// Retrieve the additional connector id.
 				final String additionalConnectorId = connectorConfigurationEntry.getKey();
 
-				// Make a deep copy of the intermediate connector for each configuration with the user specified connector id.
-				final IntermediateConnector newIntermediateConnector = intermediateConnector.getDeepCopy(additionalConnectorId);
-
 				// Retrieve the additional connector configuration
 				final AdditionalConnector additionalConnectorValue = connectorConfigurationEntry.getValue();
 
@@ -282,11 +345,8 @@ public class ConnectorStoreComposer {
 					connectorVariables.putAll(configuredVariables);
 				}
 
-				// Replace the connector and embedded files variables by the obtained variables values.
-				replaceVariables(newIntermediateConnector, connectorVariables);
-
-				// Add the new intermediate connector to the processed connectors set.
-				processedConnectors.add(newIntermediateConnector);
+				// Register the variables of the new custom connector.
+				processedVariables.put(additionalConnectorId, connectorVariables);
 
 				// Add the connector to the host connectors set.
 				connectorsParsingResult
@@ -294,7 +354,7 @@ public class ConnectorStoreComposer {
 					.add(additionalConnectorValue.isForce() ? "+" + additionalConnectorId : additionalConnectorId);
 			}
 		}
-		return processedConnectors;
+		return processedVariables;
 	}
 
 	/**
@@ -440,6 +500,18 @@ public class ConnectorStoreComposer {
 		// adding post-deserialization support to the deserializer {@link ObjectMapper}
 		PostDeserializeHelper.addPostDeserializeSupport(deserializer.getMapper());
 
+		return deserializeConnector(intermediateConnector);
+	}
+
+	/**
+	 * Deserializes the given {@link IntermediateConnector} with a mapper already supporting the post-deserialization,
+	 * then runs the update chain. Safe to call concurrently as long as the update chain is stateless.
+	 *
+	 * @param intermediateConnector The connector to deserialize.
+	 * @return A fully populated {@link Connector} instance.
+	 * @throws IOException If an error occurs during deserialization.
+	 */
+	private Connector deserializeConnector(final IntermediateConnector intermediateConnector) throws IOException {
 		// POST-Processing
 		final Connector connector = deserializer.deserialize(intermediateConnector.getConnectorNode());
 
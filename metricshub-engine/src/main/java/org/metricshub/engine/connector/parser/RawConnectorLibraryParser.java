@@ -24,11 +24,14 @@ package org.metricshub.engine.connector.parser;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 import lombok.extern.slf4j.Slf4j;
@@ -53,67 +56,32 @@ public class RawConnectorLibraryParser {
 	 * This inner class allows to visit the files contained within the Yaml
 	 * directory
 	 */
-	private class ConnectorFileVisitor extends SimpleFileVisitor<Path> {
+	private static class ConnectorFileVisitor extends SimpleFileVisitor<Path> {
 
 		/**
-		 * Case-insensitive map of connector IDs to their {@link RawConnector} definitions.
+		 * The YAML files in the order they have been visited.
 		 */
-		private final Map<String, RawConnector> connectorsMap = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+		private final List<Path> yamlFiles = new ArrayList<>();
 
 		/**
-		 * Returns the map of connector IDs and their {@link RawConnector} instances.
+		 * Returns the YAML files in the order they have been visited.
 		 *
-		 * @return case-insensitive map of connectors
+		 * @return list of YAML file paths
 		 */
-		public Map<String, RawConnector> getConnectorsMap() {
-			return connectorsMap;
+		public List<Path> getYamlFiles() {
+			return yamlFiles;
 		}
 
 		@Override
-		public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
-			final String filename = file.getFileName().toString();
-
+		public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
 			// Skip this path if it is a directory or not a YAML file
-			if (Files.isDirectory(file) || !isYamlFile(file.toFile().getName())) {
-				return FileVisitResult.CONTINUE;
-			}
-
-			final JsonNode connectorNode = OBJECT_MAPPER.readTree(file.toFile());
-			if (!isConnector(connectorNode)) {
-				return FileVisitResult.CONTINUE;
-			}
-			final ConnectorParser connectorParser = ConnectorParser.withNodeProcessorAndUpdateChain(file.getParent());
-
-			try {
-				final RawConnector connector = connectorParser.parseRaw(file.toFile());
-				connectorsMap.put(filename.substring(0, filename.lastIndexOf('.')), connector);
-			} catch (Exception e) {
-				log.error(CONNECTOR_PARSING_ERROR, filename, e.getMessage());
-				log.debug("Exception: ", e);
+			if (!Files.isDirectory(file) && isYamlFile(file.toFile().getName())) {
+				yamlFiles.add(file);
 			}
 
 			return FileVisitResult.CONTINUE;
 		}
 
-		/**
-		 * Whether the JsonNode is a final Connector. It means that this JsonNode
-		 * defines the displayName section. Checks whether the JsonNode is a final
-		 * Connector. It means that this JsonNode defines the displayName section.
-		 *
-		 * @param connector JsonNode that contains connector's data.
-		 * @return {@code true} if the {@link JsonNode} is a final connector, otherwise
-		 *         {@code false}.
-		 */
-		private boolean isConnector(final JsonNode connector) {
-			final JsonNode connectorNode = connector.get("connector");
-			if (connectorNode != null && !connectorNode.isNull()) {
-				final JsonNode displayName = connectorNode.get("displayName");
-				return displayName != null && !displayName.isNull();
-			}
-
-			return false;
-		}
-
 		/**
 		 * Checks whether the connector is a YAML file or not.
 		 *
@@ -126,6 +94,48 @@ public class RawConnectorLibraryParser {
 		}
 	}
 
+	/**
+	 * Parse the given YAML file into a {@link RawConnector} if it defines a final connector.
+	 *
+	 * @param file The YAML file.
+	 * @return The {@link RawConnector}, or {@code null} if the file is not a connector or cannot be parsed.
+	 * @throws IOException If the file cannot be read.
+	 */
+	private static RawConnector parseRawConnector(final Path file) throws IOException {
+		final JsonNode connectorNode = OBJECT_MAPPER.readTree(file.toFile());
+		if (!isConnector(connectorNode)) {
+			return null;
+		}
+		final ConnectorParser connectorParser = ConnectorParser.withNodeProcessorAndUpdateChain(file.getParent());
+
+		try {
+			return connectorParser.parseRaw(file.toFile());
+		} catch (Exception e) {
+			log.error(CONNECTOR_PARSING_ERROR, file.getFileName(), e.getMessage());
+			log.debug("Exception: ", e);
+			return null;
+		}
+	}
+
+	/**
+	 * Whether the JsonNode is a final Connector. It means that this JsonNode
+	 * defines the displayName section. Checks whether the JsonNode is a final
+	 * Connector. It means that this JsonNode defines the displayName section.
+	 *
+	 * @param connector JsonNode that contains connector's data.
+	 * @return {@code true} if the {@link JsonNode} is a final connector, otherwise
+	 *         {@code false}.
+	 */
+	private static boolean isConnector(final JsonNode connector) {
+		final JsonNode connectorNode = connector.get("connector");
+		if (connectorNode != null && !connectorNode.isNull()) {
+			final JsonNode displayName = connectorNode.get("displayName");
+			return displayName != null && !displayName.isNull();
+		}
+
+		return false;
+	}
+
 	/**
 	 * Parses connectors from all YAML files in the given directory.
 	 *
@@ -137,7 +147,36 @@ public class RawConnectorLibraryParser {
 		final long startTime = System.currentTimeMillis();
 		final ConnectorFileVisitor fileVisitor = new ConnectorFileVisitor();
 		Files.walkFileTree(yamlParentDirectory, fileVisitor);
+
+		// Parse the connectors in parallel
+		final List<Path> yamlFiles = fileVisitor.getYamlFiles();
+		final List<RawConnector> rawConnectors;
+		try {
+			rawConnectors = yamlFiles
+				.parallelStream()
+				.map(file -> {
+					try {
+						return parseRawConnector(file);
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				})
+				.toList();
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+
+		// Collect the connectors in the order of the visit, so that the result does not depend on the parsing order
+		final Map<String, RawConnector> connectorsMap = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+		for (int index = 0; index < yamlFiles.size(); index++) {
+			final RawConnector rawConnector = rawConnectors.get(index);
+			if (rawConnector != null) {
+				final String filename = yamlFiles.get(index).getFileName().toString();
+				connectorsMap.put(filename.substring(0, filename.lastIndexOf('.')), rawConnector);
+			}
+		}
+
 		log.info("Connectors parsing duration: {} seconds", (System.currentTimeMillis() - startTime) / 1000);
-		return fileVisitor.getConnectorsMap();
+		return connectorsMap;
 	}
 }
@@ -0,0 +1,110 @@
+package org.metricshub.engine.connector.parser;
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub Engine
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2025 MetricsHub
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.metricshub.engine.connector.model.Connector;
+import org.metricshub.engine.connector.model.IntermediateConnector;
+import org.metricshub.engine.connector.model.RawConnectorStore;
+
+/**
+ * Caches the connectors resolved from raw connectors with variables, so that resources configured with the same
+ * variables share the same {@link Connector} instances instead of parsing the connector again.
+ * <p>
+ * A resolved connector is identified by the raw connector it comes from, the identifier it is given and the
+ * normalized map of variables used to resolve it. The cache belongs to a {@link RawConnectorStore} and must be
+ * cleared whenever the raw connectors change.
+ * </p>
+ * <p>
+ * The cached connectors are shared between resources and must not be modified.
+ * </p>
+ */
+public class ResolvedConnectorCache {
+
+	/**
+	 * The parsed raw connectors with variables, used as templates for the resolution. Keyed by raw connector id.
+	 */
+	private final Map<String, IntermediateConnector> templates = new ConcurrentHashMap<>();
+
+	/**
+	 * The resolved connectors
+	 */
+	private final Map<ResolvedConnectorKey, Connector> connectors = new ConcurrentHashMap<>();
+
+	/**
+	 * Returns the parsed template of the given raw connector, creating it on first use.<br>
+	 * The template is shared and must be deep copied before any modification.
+	 *
+	 * @param rawConnectorId The identifier of the raw connector.
+	 * @param factory        Parses the raw connector into an {@link IntermediateConnector}.
+	 * @return The {@link IntermediateConnector} template.
+	 */
+	public IntermediateConnector getTemplate(final String rawConnectorId, final Supplier<IntermediateConnector> factory) {
+		return templates.computeIfAbsent(rawConnectorId, _ -> factory.get());
+	}
+
+	/**
+	 * Returns the connector resolved from the given raw connector with the given identifier and variables, resolving
+	 * it on first use. Failed resolutions (<code>null</code> results) are not cached.
+	 *
+	 * @param rawConnectorId The identifier of the raw connector the connector is resolved from.
+	 * @param connectorId    The identifier of the resolved connector.
+	 * @param variables      The variables used to resolve the connector.
+	 * @param resolver       Resolves the connector when it is not cached yet.
+	 * @return The resolved {@link Connector}, or <code>null</code> if it cannot be resolved.
+	 */
+	public Connector getConnector(
+		final String rawConnectorId,
+		final String connectorId,
+		final Map<String, String> variables,
+		final Supplier<Connector> resolver
+	) {
+		final ResolvedConnectorKey key = new ResolvedConnectorKey(rawConnectorId, connectorId, Map.copyOf(variables));
+		return connectors.computeIfAbsent(key, _ -> resolver.get());
+	}
+
+	/**
+	 * @return The number of cached resolved connectors.
+	 */
+	public int size() {
+		return connectors.size();
+	}
+
+	/**
+	 * Removes all the cached templates and resolved connectors.
+	 */
+	public void clear() {
+		templates.clear();
+		connectors.clear();
+	}
+
+	/**
+	 * Identifies a resolved connector.
+	 *
+	 * @param rawConnectorId The identifier of the raw connector.
+	 * @param connectorId    The identifier of the resolved connector.
+	 * @param variables      The variables used to resolve the connector, as an immutable copy.
+	 */
+	private record ResolvedConnectorKey(String rawConnectorId, String connectorId, Map<String, String> variables) {}
+}
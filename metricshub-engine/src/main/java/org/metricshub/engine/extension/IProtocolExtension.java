@@ -176,4 +176,19 @@ public interface IProtocolExtension {
 	 * @param telemetryManager The telemetry manager of the completed session.
 	 */
 	default void onRecordingSessionEnd(TelemetryManager telemetryManager) {}
+
+	/**
+	 * Returns a cheap fingerprint of the host, such as its system identifier, OS version and boot time.
+	 *
+	 * <p>The detection strategy reuses the previous connector detection results while the fingerprints
+	 * of the host are unchanged. The fingerprint must therefore change whenever the host is rebooted,
+	 * upgraded or replaced. Extensions that cannot compute such a value rely on this default behavior
+	 * returning an empty result, which never prevents the detection.
+	 *
+	 * @param telemetryManager The telemetry manager of the host.
+	 * @return The fingerprint of the host, or an empty result if it cannot be computed.
+	 */
+	default Optional<String> getDetectionFingerprint(TelemetryManager telemetryManager) {
+		return Optional.empty();
+	}
 }
@@ -22,7 +22,6 @@ package org.metricshub.engine.strategy;
  */
 
 import static org.metricshub.engine.common.helpers.MetricsHubConstants.MAX_CONSECUTIVE_DETECTION_FAILURES;
-import static org.metricshub.engine.common.helpers.MetricsHubConstants.MAX_THREADS_COUNT;
 import static org.metricshub.engine.common.helpers.MetricsHubConstants.MONITOR_JOBS_PRIORITY;
 import static org.metricshub.engine.common.helpers.MetricsHubConstants.OTHER_MONITOR_JOB_TYPES;
 import static org.metricshub.engine.common.helpers.MetricsHubConstants.THREAD_TIMEOUT;
@@ -33,9 +32,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
@@ -171,35 +167,25 @@ public abstract class AbstractAllAtOnceStrategy extends AbstractStrategy {
 		if (isSequential) {
 			otherMonitorJobs.entrySet().forEach(entry -> processMonitorJob(currentConnector, hostname, entry));
 		} else {
-			// Execute monitor jobs in parallel
-			// Create a thread pool with a fixed number of threads
-			final ExecutorService threadsPool = Executors.newFixedThreadPool(
-				Math.max(1, Math.min(MAX_THREADS_COUNT, otherMonitorJobs.size()))
-			);
-
-			otherMonitorJobs
+			// Execute monitor jobs in parallel on the shared monitor job executor
+			final List<Runnable> jobs = otherMonitorJobs
 				.entrySet()
-				.forEach(entry -> threadsPool.execute(() -> processMonitorJob(currentConnector, hostname, entry)));
-
-			// Two-phase shutdown: first graceful, then forced
-			threadsPool.shutdown();
+				.stream()
+				.<Runnable>map(entry -> () -> processMonitorJob(currentConnector, hostname, entry))
+				.toList();
 
 			try {
-				// Blocks until all tasks have completed execution after a shutdown request
-				if (!threadsPool.awaitTermination(THREAD_TIMEOUT, TimeUnit.SECONDS)) {
+				// Blocks until all the jobs have completed, pending and running jobs are cancelled on timeout
+				if (!getMonitorJobExecutor().runAll(hostname, jobs, THREAD_TIMEOUT)) {
 					log.warn(
-						"Hostname {} - Thread pool did not terminate within {} seconds. Forcing shutdown.",
+						"Hostname {} - Monitor jobs did not complete within {} seconds. Cancelled the remaining jobs.",
 						hostname,
 						THREAD_TIMEOUT
 					);
-					threadsPool.shutdownNow();
 				}
-			} catch (Exception e) {
-				threadsPool.shutdownNow();
-				if (e instanceof InterruptedException) {
-					Thread.currentThread().interrupt();
-				}
-				log.debug("Hostname {} - Waiting for threads' termination aborted with an error.", hostname, e);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				log.debug("Hostname {} - Waiting for monitor jobs' completion aborted with an error.", hostname, e);
 			}
 		}
 		// Run AfterAllStrategy that executes afterAll sources
@@ -261,7 +247,7 @@ public abstract class AbstractAllAtOnceStrategy extends AbstractStrategy {
 			.build();
 
 		// Create the sources and the computes for a connector
-		processSourcesAndComputes(orderedSources.getSources(), jobInfo);
+		processSourcesAndComputes(orderedSources, jobInfo);
 
 		// Create the monitors
 		final Mapping mapping = monitorTask.getMapping();
@@ -347,24 +333,24 @@ public abstract class AbstractAllAtOnceStrategy extends AbstractStrategy {
 			connectorId
 		);
 
+		// Init the mapping processor, shared by all the rows of the mapping
+		final MappingProcessor mappingProcessor = MappingProcessor.builder()
+			.telemetryManager(telemetryManager)
+			.mapping(mapping)
+			.jobInfo(
+				JobInfo.builder()
+					.connectorId(connectorId)
+					.hostname(hostname)
+					.monitorType(monitorType)
+					.jobName(getJobName())
+					.build()
+			)
+			.collectTime(strategyTime)
+			.build();
+
 		for (int i = 0; i < table.size(); i++) {
 			final List<String> row = table.get(i);
-			// Init mapping processor
-			final MappingProcessor mappingProcessor = MappingProcessor.builder()
-				.telemetryManager(telemetryManager)
-				.mapping(mapping)
-				.jobInfo(
-					JobInfo.builder()
-						.connectorId(connectorId)
-						.hostname(hostname)
-						.monitorType(monitorType)
-						.jobName(getJobName())
-						.build()
-				)
-				.collectTime(strategyTime)
-				.row(row)
-				.indexCounter(i + 1)
-				.build();
+			mappingProcessor.moveToRow(row, i + 1);
 
 			// Use the mapping processor to extract attributes and resource
 			final Map<String, String> noContextAttributeInterpretedValues =
@@ -495,6 +481,9 @@ public abstract class AbstractAllAtOnceStrategy extends AbstractStrategy {
 
 		// Collect per-host request metrics (completed/timeout by operation type)
 		collectRequestMetrics(hostname);
+
+		// Collect per-host monitor job metrics (executed jobs and queue wait time)
+		collectMonitorJobMetrics(hostname);
 	}
 
 	/**
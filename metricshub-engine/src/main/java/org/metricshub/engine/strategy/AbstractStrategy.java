@@ -26,6 +26,7 @@ import static org.metricshub.engine.common.helpers.MetricsHubConstants.LOG_COMPU
 import static org.metricshub.engine.common.helpers.MetricsHubConstants.MAX_CONSECUTIVE_DETECTION_FAILURES;
 import static org.metricshub.engine.common.helpers.MetricsHubConstants.STATE_SET_METRIC_FAILED;
 import static org.metricshub.engine.common.helpers.MetricsHubConstants.STATE_SET_METRIC_OK;
+import static org.metricshub.engine.common.helpers.MetricsHubConstants.THREAD_TIMEOUT;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -56,6 +57,7 @@ import org.metricshub.engine.strategy.detection.ConnectorSelection;
 import org.metricshub.engine.strategy.detection.ConnectorTestResult;
 import org.metricshub.engine.strategy.detection.CriterionTestResult;
 import org.metricshub.engine.strategy.source.ISourceProcessor;
+import org.metricshub.engine.strategy.source.OrderedSources;
 import org.metricshub.engine.strategy.source.SourceProcessor;
 import org.metricshub.engine.strategy.source.SourceTable;
 import org.metricshub.engine.strategy.source.SourceUpdaterProcessor;
@@ -106,6 +108,79 @@ public abstract class AbstractStrategy implements IStrategy {
 	 */
 	public static final String CONNECTOR_ID_FORMAT = "%s_%s";
 
+	/**
+	 * Execute the given ordered sources level by level then for each source table apply all the attached computes.
+	 * The sources of the same dependency level are executed concurrently.
+	 *
+	 * @param orderedSources The {@link OrderedSources} we wish to execute
+	 * @param jobInfo        Information about the job such as hostname, monitorType, job name and connectorName.
+	 */
+	protected void processSourcesAndComputes(final OrderedSources orderedSources, final JobInfo jobInfo) {
+		processSourcesAndComputes(orderedSources, null, jobInfo);
+	}
+
+	/**
+	 * Execute the given ordered sources level by level then for each source table apply all the attached computes.
+	 * The sources of the same dependency level are executed concurrently on the {@link MonitorJobExecutor} and the
+	 * next level only starts once all of them have produced their source tables. When a level does not complete
+	 * in time, the remaining levels are not executed. Sources marked with
+	 * <code>forceSerialization</code> are still serialized per connector.
+	 * When the host is configured in sequential mode, the sources are executed one after another.
+	 *
+	 * @param orderedSources The {@link OrderedSources} we wish to execute
+	 * @param attributes     Key-value pairs of the monitor's attributes used in the mono instance processing
+	 * @param jobInfo        Information about the job such as hostname, monitorType, job name and connectorName.
+	 */
+	protected void processSourcesAndComputes(
+		final OrderedSources orderedSources,
+		final Map<String, String> attributes,
+		final JobInfo jobInfo
+	) {
+		final List<List<Source>> sourceLevels = orderedSources.getSourceLevels();
+
+		// Nothing to run concurrently, keep the plain sequential execution
+		if (
+			telemetryManager.getHostConfiguration().isSequential() ||
+			sourceLevels.stream().allMatch(sourceLevel -> sourceLevel.size() < 2)
+		) {
+			processSourcesAndComputes(orderedSources.getSources(), attributes, jobInfo);
+			return;
+		}
+
+		final String hostname = jobInfo.getHostname();
+
+		for (final List<Source> sourceLevel : sourceLevels) {
+			if (sourceLevel.size() < 2) {
+				processSourcesAndComputes(sourceLevel, attributes, jobInfo);
+				continue;
+			}
+
+			final List<Runnable> jobs = sourceLevel
+				.stream()
+				.<Runnable>map(source -> () -> processSourceAndComputes(source, attributes, jobInfo))
+				.toList();
+
+			try {
+				// Blocks until all the sources of this level have completed.
+				// The next levels depend on the source tables of this one, so they are skipped on timeout
+				if (!getMonitorJobExecutor().runAll(hostname, jobs, THREAD_TIMEOUT)) {
+					log.warn(
+						"Hostname {} - Sources of connector {} with monitor {} did not complete within {} seconds. Skipping the dependent sources.",
+						hostname,
+						jobInfo.getConnectorId(),
+						jobInfo.getMonitorType(),
+						THREAD_TIMEOUT
+					);
+					return;
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				log.debug("Hostname {} - Waiting for sources' completion aborted with an error.", hostname, e);
+				return;
+			}
+		}
+	}
+
 	/**
 	 * Execute each source in the given list of sources then for each source table apply all the attached computes.
 	 * When the {@link SourceTable} is ready it is added to {@link TelemetryManager}
@@ -147,107 +222,142 @@ public abstract class AbstractStrategy implements IStrategy {
 		// Loop over all the sources and accept the SourceProcessor which is going to
 		// process the source
 		for (final Source source : sources) {
-			final String sourceKey = source.getKey();
-
-			logBeginOperation(SOURCE, source, sourceKey, connectorId, hostname);
-
-			final SourceTable previousSourceTable = telemetryManager
-				.getHostProperties()
-				.getConnectorNamespace(connectorId)
-				.getSourceTable(sourceKey);
-
-			// Execute the source and retry the operation
-			// in case the source fails but the previous source table didn't fail
-			SourceTable sourceTable = RetryOperation.<SourceTable>builder()
-				.withDefaultValue(SourceTable.empty())
-				.withMaxRetries(1)
-				.withWaitStrategy(telemetryManager.getHostConfiguration().getRetryDelay())
-				.withDescription(String.format("%s [%s]", SOURCE, sourceKey))
-				.withHostname(hostname)
-				.build()
-				.run(() -> runSource(connectorId, attributes, source, previousSourceTable));
-
-			final boolean isNullSourceTable = sourceTable == null;
-			if (isNullSourceTable || sourceTable.isEmpty()) {
-				log.warn(
-					"Hostname {} - Received {} source table for Source key {} - Connector {} - Monitor {}. The source table is set to empty.",
-					hostname,
-					isNullSourceTable ? "null" : "empty",
-					sourceKey,
-					connectorId,
-					monitorType
-				);
-				// This ensures that the internal table (List<List<String>>) is not null and rawData integrity is maintained
-				sourceTable = SourceTable.builder()
-					.rawData(sourceTable != null ? sourceTable.getRawData() : null)
-					.table(new ArrayList<>())
-					.build();
-			}
+			processSourceAndComputes(source, attributes, jobInfo);
+		}
+	}
 
-			// log the source table
-			logSourceTable(
-				resolveSourceTableLoggingProxy(source),
-				SOURCE,
-				source.getClass().getSimpleName(),
+	/**
+	 * Execute the given source then apply all the attached computes on its source table.
+	 * When the {@link SourceTable} is ready it is added to {@link TelemetryManager}
+	 *
+	 * @param source     The {@link Source} we wish to execute
+	 * @param attributes Key-value pairs of the monitor's attributes used in the mono instance processing
+	 * @param jobInfo    Information about the job such as hostname, monitorType, job name and connectorName.
+	 */
+	private void processSourceAndComputes(
+		final Source source,
+		final Map<String, String> attributes,
+		final JobInfo jobInfo
+	) {
+		final String connectorId = jobInfo.getConnectorId();
+		final String monitorType = jobInfo.getMonitorType();
+		final String hostname = jobInfo.getHostname();
+		final String sourceKey = source.getKey();
+
+		logBeginOperation(SOURCE, source, sourceKey, connectorId, hostname);
+
+		final SourceTable previousSourceTable = telemetryManager
+			.getHostProperties()
+			.getConnectorNamespace(connectorId)
+			.getSourceTable(sourceKey);
+
+		// Execute the source and retry the operation
+		// in case the source fails but the previous source table didn't fail
+		SourceTable sourceTable = RetryOperation.<SourceTable>builder()
+			.withDefaultValue(SourceTable.empty())
+			.withMaxRetries(1)
+			.withWaitStrategy(telemetryManager.getHostConfiguration().getRetryDelay())
+			.withDescription(String.format("%s [%s]", SOURCE, sourceKey))
+			.withHostname(hostname)
+			.build()
+			.run(() -> runSource(connectorId, attributes, source, previousSourceTable));
+
+		final boolean isNullSourceTable = sourceTable == null;
+		if (isNullSourceTable || sourceTable.isEmpty()) {
+			log.warn(
+				"Hostname {} - Received {} source table for Source key {} - Connector {} - Monitor {}. The source table is set to empty.",
+				hostname,
+				isNullSourceTable ? "null" : "empty",
 				sourceKey,
 				connectorId,
-				sourceTable,
-				hostname
+				monitorType
 			);
+			// This ensures that the internal table (List<List<String>>) is not null and rawData integrity is maintained
+			sourceTable = SourceTable.builder()
+				.rawData(sourceTable != null ? sourceTable.getRawData() : null)
+				.table(new ArrayList<>())
+				.build();
+		}
 
-			final List<Compute> computes = source.getComputes();
+		// log the source table
+		logSourceTable(
+			resolveSourceTableLoggingProxy(source),
+			SOURCE,
+			source.getClass().getSimpleName(),
+			sourceKey,
+			connectorId,
+			sourceTable,
+			hostname
+		);
 
-			// Add the source table and stop if no compute is found
-			if (computes == null || computes.isEmpty()) {
-				telemetryManager.getHostProperties().getConnectorNamespace(connectorId).addSourceTable(sourceKey, sourceTable);
-				continue;
-			}
+		final List<Compute> computes = source.getComputes();
 
-			final ComputeProcessor computeProcessor = ComputeProcessor.builder()
-				.sourceKey(sourceKey)
-				.sourceTable(sourceTable)
-				.connectorId(connectorId)
-				.hostname(hostname)
-				.clientsExecutor(clientsExecutor)
-				.telemetryManager(telemetryManager)
-				.build();
+		// Add the source table and stop if no compute is found
+		if (computes == null || computes.isEmpty()) {
+			telemetryManager.getHostProperties().getConnectorNamespace(connectorId).addSourceTable(sourceKey, sourceTable);
+			return;
+		}
 
-			final ComputeUpdaterProcessor computeUpdaterProcessor = ComputeUpdaterProcessor.builder()
-				.computeProcessor(computeProcessor)
-				.attributes(attributes)
-				.connectorId(connectorId)
-				.telemetryManager(telemetryManager)
-				.build();
+		final ComputeProcessor computeProcessor = ComputeProcessor.builder()
+			.sourceKey(sourceKey)
+			.sourceTable(sourceTable)
+			.connectorId(connectorId)
+			.hostname(hostname)
+			.clientsExecutor(clientsExecutor)
+			.telemetryManager(telemetryManager)
+			.build();
 
-			// Loop over the computes to process each compute
-			for (int index = 0; index < computes.size(); index++) {
-				final Compute compute = computes.get(index);
-				computeProcessor.setIndex(index);
+		final ComputeUpdaterProcessor computeUpdaterProcessor = ComputeUpdaterProcessor.builder()
+			.computeProcessor(computeProcessor)
+			.attributes(attributes)
+			.connectorId(connectorId)
+			.telemetryManager(telemetryManager)
+			.build();
 
-				final String computeKey = String.format(LOG_COMPUTE_KEY_SUFFIX_TEMPLATE, sourceKey, index);
+		// Loop over the computes to process each compute
+		int index = 0;
+		while (index < computes.size()) {
+			// Consecutive row-local computes are processed together in a single pass over the table
+			int end = index + 1;
+			if (ComputeProcessor.isRowLocal(computes.get(index))) {
+				while (end < computes.size() && ComputeProcessor.isRowLocal(computes.get(end))) {
+					end++;
+				}
+			}
 
-				logBeginOperation(COMPUTE, compute, computeKey, connectorId, hostname);
+			computeProcessor.setIndex(index);
 
-				// process the compute
-				compute.accept(computeUpdaterProcessor);
+			for (int i = index; i < end; i++) {
+				final String computeKey = String.format(LOG_COMPUTE_KEY_SUFFIX_TEMPLATE, sourceKey, i);
+				logBeginOperation(COMPUTE, computes.get(i), computeKey, connectorId, hostname);
+			}
 
-				// log the updated source table
-				logSourceTable(
-					DEFAULT_SOURCE_TABLE_LOGGING_PROXY,
-					COMPUTE,
-					compute.getClass().getSimpleName(),
-					computeKey,
-					connectorId,
-					computeProcessor.getSourceTable(),
-					hostname
-				);
+			// process the compute(s)
+			if (end - index == 1) {
+				computes.get(index).accept(computeUpdaterProcessor);
+			} else {
+				computeUpdaterProcessor.processRowLocal(computes.subList(index, end));
 			}
 
-			telemetryManager
-				.getHostProperties()
-				.getConnectorNamespace(connectorId)
-				.addSourceTable(sourceKey, computeProcessor.getSourceTable());
+			// log the updated source table
+			final Compute lastCompute = computes.get(end - 1);
+			logSourceTable(
+				DEFAULT_SOURCE_TABLE_LOGGING_PROXY,
+				COMPUTE,
+				lastCompute.getClass().getSimpleName(),
+				String.format(LOG_COMPUTE_KEY_SUFFIX_TEMPLATE, sourceKey, end - 1),
+				connectorId,
+				computeProcessor.getSourceTable(),
+				hostname
+			);
+
+			index = end;
 		}
+
+		telemetryManager
+			.getHostProperties()
+			.getConnectorNamespace(connectorId)
+			.addSourceTable(sourceKey, computeProcessor.getSourceTable());
 	}
 
 	/**
@@ -293,6 +403,7 @@ public abstract class AbstractStrategy implements IStrategy {
 					.telemetryManager(telemetryManager)
 					.attributes(attributes)
 					.extensionManager(extensionManager)
+					.monitorJobExecutor(getMonitorJobExecutor())
 					.build()
 			);
 
@@ -775,8 +886,9 @@ public abstract class AbstractStrategy implements IStrategy {
 	}
 
 	/**
-	 * Collects per-host request metrics (completed and timeout counts, broken down
-	 * by operation type) on the endpoint host monitor, if self-monitoring is enabled.
+	 * Collects per-host request metrics (completed and timeout counts, active and
+	 * queued gauges, broken down by operation type) on the endpoint host monitor,
+	 * if self-monitoring is enabled.
 	 *
 	 * @param hostname The resource hostname.
 	 */
@@ -811,6 +923,71 @@ public abstract class AbstractStrategy implements IStrategy {
 				(double) stats.getTimeout(),
 				strategyTime
 			);
+			metricFactory.collectNumberMetric(
+				endpointHostMonitor,
+				String.format("metricshub.host.requests.active{operation_type=\"%s\"}", operationType),
+				(double) stats.getActive(),
+				strategyTime
+			);
+			metricFactory.collectNumberMetric(
+				endpointHostMonitor,
+				String.format("metricshub.host.requests.queued{operation_type=\"%s\"}", operationType),
+				(double) stats.getQueued(),
+				strategyTime
+			);
 		}
 	}
+
+	/**
+	 * Collects the per-host monitor job metrics (number of executed jobs, cumulated
+	 * queue wait time and number of queued jobs) on the endpoint host monitor, if
+	 * self-monitoring is enabled.
+	 *
+	 * @param hostname The resource hostname.
+	 */
+	protected void collectMonitorJobMetrics(final String hostname) {
+		if (!telemetryManager.getHostConfiguration().isEnableSelfMonitoring()) {
+			return;
+		}
+		final MonitorJobExecutor.Stats stats = getMonitorJobExecutor().getStats(hostname);
+		if (stats == null) {
+			return;
+		}
+		final Monitor endpointHostMonitor = telemetryManager.getEndpointHostMonitor();
+		if (endpointHostMonitor == null) {
+			return;
+		}
+		final MetricFactory metricFactory = new MetricFactory(
+			telemetryManager.getHostname(),
+			telemetryManager.getConnectorStore()
+		);
+		metricFactory.collectNumberMetric(
+			endpointHostMonitor,
+			"metricshub.host.jobs",
+			(double) stats.getExecuted(),
+			strategyTime
+		);
+		metricFactory.collectNumberMetric(
+			endpointHostMonitor,
+			"metricshub.host.jobs.queue_wait_time",
+			stats.getQueueWaitTime(),
+			strategyTime
+		);
+		metricFactory.collectNumberMetric(
+			endpointHostMonitor,
+			"metricshub.host.jobs.queued",
+			(double) stats.getQueued(),
+			strategyTime
+		);
+	}
+
+	/**
+	 * Get the {@link MonitorJobExecutor} running the parallel jobs of this strategy.
+	 *
+	 * @return the executor carried by the {@link ClientsExecutor}, or the engine-wide default one
+	 */
+	protected MonitorJobExecutor getMonitorJobExecutor() {
+		final MonitorJobExecutor monitorJobExecutor = clientsExecutor.getMonitorJobExecutor();
+		return monitorJobExecutor != null ? monitorJobExecutor : MonitorJobExecutor.getDefault();
+	}
 }
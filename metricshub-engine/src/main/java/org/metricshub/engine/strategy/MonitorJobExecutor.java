@@ -0,0 +1,533 @@
+package org.metricshub.engine.strategy;
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub Engine
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2025 MetricsHub
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.metricshub.engine.common.helpers.MetricsHubConstants;
+
+/**
+ * Long-lived executor running the monitor jobs, the connector detections and the
+ * other parallel units of work of the strategies.
+ * <p>
+ * Jobs run on virtual threads and the number of jobs running at the same time is
+ * bounded by {@code maxConcurrentJobs}. Each resource (hostname) has its own FIFO
+ * lane and the lanes are served in a round-robin fashion, one job per turn, so a
+ * resource submitting hundreds of jobs cannot starve the other resources.
+ * </p>
+ * <p>
+ * A caller that is itself running on this executor (nested submission) helps
+ * executing its own jobs instead of just waiting for them, so nested
+ * submissions never dead-lock when all the slots are taken.
+ * </p>
+ * <p>
+ * The time each job spends waiting in its lane is tracked per resource and
+ * reported through {@link #getStats(String)}. A lane with no pending or running
+ * job for more than 10 minutes is removed, with its statistics, so that the
+ * resources no longer monitored do not keep a lane.
+ * </p>
+ */
+@Slf4j
+public class MonitorJobExecutor implements AutoCloseable {
+
+	/**
+	 * Engine-wide default instance, used when no executor is supplied (CLI, tests, etc.).
+	 */
+	private static final MonitorJobExecutor DEFAULT = new MonitorJobExecutor(
+		MetricsHubConstants.DEFAULT_MAX_CONCURRENT_MONITOR_JOBS
+	);
+
+	/**
+	 * Default time after which a lane with no pending or running job is removed: 10 minutes, longer than the
+	 * collect and discovery periods of a monitored resource.
+	 */
+	static final long DEFAULT_IDLE_LANE_TIMEOUT_NANOS = TimeUnit.MINUTES.toNanos(10);
+
+	/**
+	 * The executor the current thread is a worker of, if any.
+	 */
+	private static final ThreadLocal<MonitorJobExecutor> CURRENT_EXECUTOR = new ThreadLocal<>();
+
+	private final int maxConcurrentJobs;
+
+	private final ExecutorService workers;
+
+	private final long idleLaneTimeoutNanos;
+
+	private final Map<String, Lane> lanes = new ConcurrentHashMap<>();
+
+	/**
+	 * Time of the next removal of the idle lanes, as a {@link System#nanoTime()} value.
+	 */
+	private final AtomicLong nextIdleLanePruning;
+
+	/**
+	 * Lanes having pending jobs, in the order they will be served. Guarded by {@code this}.
+	 */
+	private final Deque<Lane> readyLanes = new ArrayDeque<>();
+
+	/**
+	 * Number of jobs currently running. Guarded by {@code this}.
+	 */
+	private int runningJobs;
+
+	/**
+	 * Immutable per-resource statistics snapshot.
+	 */
+	@Getter
+	@Builder
+	@AllArgsConstructor
+	public static class Stats {
+
+		/**
+		 * Number of jobs started since the resource submitted its first job, or since its lane was last removed.
+		 */
+		private final long executed;
+
+		/**
+		 * Cumulated time spent by the started jobs waiting for a slot, in seconds.
+		 */
+		private final double queueWaitTime;
+
+		/**
+		 * Number of jobs currently waiting for a slot.
+		 */
+		private final long queued;
+	}
+
+	/**
+	 * Create a new {@link MonitorJobExecutor}.
+	 *
+	 * @param maxConcurrentJobs The maximum number of jobs running at the same time, all resources included.
+	 * @throws IllegalArgumentException if {@code maxConcurrentJobs} is lower than 1
+	 */
+	public MonitorJobExecutor(final int maxConcurrentJobs) {
+		this(maxConcurrentJobs, DEFAULT_IDLE_LANE_TIMEOUT_NANOS);
+	}
+
+	/**
+	 * Create a new {@link MonitorJobExecutor}.
+	 *
+	 * @param maxConcurrentJobs    The maximum number of jobs running at the same time, all resources included.
+	 * @param idleLaneTimeoutNanos The time after which a lane with no pending or running job is removed, in nanoseconds.
+	 * @throws IllegalArgumentException if {@code maxConcurrentJobs} is lower than 1
+	 */
+	MonitorJobExecutor(final int maxConcurrentJobs, final long idleLaneTimeoutNanos) {
+		if (maxConcurrentJobs < 1) {
+			throw new IllegalArgumentException(
+				"Invalid maximum number of concurrent monitor jobs: " + maxConcurrentJobs + ". It must be greater than 0."
+			);
+		}
+		this.maxConcurrentJobs = maxConcurrentJobs;
+		this.idleLaneTimeoutNanos = idleLaneTimeoutNanos;
+		this.nextIdleLanePruning = new AtomicLong(System.nanoTime() + idleLaneTimeoutNanos);
+		this.workers = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("metricshub-job-", 1).factory());
+	}
+
+	/**
+	 * Get the engine-wide default {@link MonitorJobExecutor}.
+	 *
+	 * @return the default {@link MonitorJobExecutor} instance
+	 */
+	public static MonitorJobExecutor getDefault() {
+		return DEFAULT;
+	}
+
+	/**
+	 * Run the given jobs for the given resource and wait for their completion.
+	 * <p>
+	 * If the jobs are not all completed within the given timeout, the pending
+	 * jobs are discarded and the running ones are interrupted.
+	 * </p>
+	 *
+	 * @param resourceKey The key of the resource (hostname) the jobs belong to. Used for fairness and statistics.
+	 * @param jobs        The jobs to run.
+	 * @param timeout     The maximum time to wait for the jobs, in seconds.
+	 * @return {@code true} if all the jobs completed in time, {@code false} otherwise
+	 * @throws InterruptedException if the current thread was interrupted while waiting
+	 */
+	public boolean runAll(final String resourceKey, final List<? extends Runnable> jobs, final long timeout)
+		throws InterruptedException {
+		return submitAndWait(resourceKey, jobs, TimeUnit.SECONDS.toNanos(timeout));
+	}
+
+	/**
+	 * Run the given jobs for the given resource and wait for their completion, with no time limit.
+	 * <p>
+	 * If the current thread is interrupted while waiting, the pending jobs are
+	 * discarded and the running ones are interrupted.
+	 * </p>
+	 *
+	 * @param resourceKey The key of the resource (hostname) the jobs belong to. Used for fairness and statistics.
+	 * @param jobs        The jobs to run.
+	 * @throws InterruptedException if the current thread was interrupted while waiting
+	 */
+	public void runAll(final String resourceKey, final List<? extends Runnable> jobs) throws InterruptedException {
+		// Long.MAX_VALUE nanoseconds is about 292 years, the wait is never cut short
+		submitAndWait(resourceKey, jobs, Long.MAX_VALUE);
+	}
+
+	/**
+	 * Enqueue the given jobs in the lane of the given resource and wait for their completion.
+	 *
+	 * @param resourceKey  The key of the resource (hostname) the jobs belong to.
+	 * @param jobs         The jobs to run.
+	 * @param timeoutNanos The maximum time to wait for the jobs, in nanoseconds.
+	 * @return {@code true} if all the jobs completed in time, {@code false} otherwise
+	 * @throws InterruptedException if the current thread was interrupted while waiting
+	 */
+	private boolean submitAndWait(final String resourceKey, final List<? extends Runnable> jobs, final long timeoutNanos)
+		throws InterruptedException {
+		if (jobs.isEmpty()) {
+			return true;
+		}
+
+		// Compared by difference, so Long.MAX_VALUE does not overflow
+		final long deadline = System.nanoTime() + timeoutNanos;
+
+		pruneIdleLanes();
+
+		// The jobs are counted on the lane atomically with its lookup, so an idle lane is never
+		// removed between the lookup and the enqueue
+		final Lane lane = lanes.compute(resourceKey, (key, existing) -> {
+			final Lane current = existing != null ? existing : new Lane(key);
+			current.outstanding.addAndGet(jobs.size());
+			return current;
+		});
+		final CountDownLatch remaining = new CountDownLatch(jobs.size());
+		final List<Job> batch = new ArrayList<>(jobs.size());
+		for (final Runnable runnable : jobs) {
+			batch.add(new Job(runnable, lane, remaining));
+		}
+
+		enqueue(lane, batch);
+
+		// A worker waiting for nested jobs would hold a slot without doing anything,
+		// so it runs the jobs that have not been picked up yet by itself until the deadline
+		if (CURRENT_EXECUTOR.get() == this) {
+			for (final Job job : batch) {
+				if (System.nanoTime() - deadline >= 0) {
+					break;
+				}
+				if (job.claim()) {
+					lane.queued.decrementAndGet();
+					job.run();
+				}
+			}
+		}
+
+		try {
+			if (remaining.await(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+				return true;
+			}
+		} catch (InterruptedException e) {
+			cancel(batch);
+			throw e;
+		}
+
+		cancel(batch);
+		return false;
+	}
+
+	/**
+	 * Remove the lanes with no pending or running job for longer than the idle lane timeout. The lanes are checked at
+	 * most once per timeout.
+	 */
+	private void pruneIdleLanes() {
+		final long now = System.nanoTime();
+		final long next = nextIdleLanePruning.get();
+		if (now - next < 0 || !nextIdleLanePruning.compareAndSet(next, now + idleLaneTimeoutNanos)) {
+			return;
+		}
+
+		for (final String resourceKey : lanes.keySet()) {
+			lanes.computeIfPresent(resourceKey, (key, lane) -> lane.isIdle(now, idleLaneTimeoutNanos) ? null : lane);
+		}
+	}
+
+	/**
+	 * Get a snapshot of the statistics of the given resource.
+	 *
+	 * @param resourceKey The key of the resource (hostname).
+	 * @return a {@link Stats} snapshot, {@code null} if no job has been submitted for this resource or if its lane has
+	 *         been removed after being idle
+	 */
+	public Stats getStats(final String resourceKey) {
+		final Lane lane = lanes.get(resourceKey);
+		return lane != null ? lane.snapshot() : null;
+	}
+
+	/**
+	 * Stop the executor: pending jobs are discarded and running jobs are interrupted.
+	 * The default instance cannot be closed.
+	 */
+	@Override
+	public void close() {
+		if (this == DEFAULT) {
+			return;
+		}
+		final List<Job> discarded = new ArrayList<>();
+		synchronized (this) {
+			readyLanes.forEach(lane -> {
+				discarded.addAll(lane.pending);
+				lane.pending.clear();
+				lane.ready = false;
+			});
+			readyLanes.clear();
+		}
+		cancel(discarded);
+		workers.shutdownNow();
+	}
+
+	/**
+	 * Add the given jobs to the lane of their resource and start as many jobs as possible.
+	 *
+	 * @param lane  The lane of the resource.
+	 * @param batch The jobs to add.
+	 */
+	private void enqueue(final Lane lane, final List<Job> batch) {
+		synchronized (this) {
+			lane.pending.addAll(batch);
+			lane.queued.addAndGet(batch.size());
+			if (!lane.ready) {
+				lane.ready = true;
+				readyLanes.addLast(lane);
+			}
+		}
+		dispatch();
+	}
+
+	/**
+	 * Start pending jobs while there are free slots, serving the lanes in a round-robin fashion.
+	 */
+	private void dispatch() {
+		final List<Job> toStart = new ArrayList<>();
+		synchronized (this) {
+			while (runningJobs < maxConcurrentJobs && !readyLanes.isEmpty()) {
+				final Lane lane = readyLanes.pollFirst();
+				final Job job = lane.pending.pollFirst();
+				if (lane.pending.isEmpty()) {
+					lane.ready = false;
+				} else {
+					// Back to the end of the line, the other resources go first
+					readyLanes.addLast(lane);
+				}
+
+				// Jobs already run by their caller or cancelled are simply dropped
+				if (job != null && job.claim()) {
+					lane.queued.decrementAndGet();
+					runningJobs++;
+					toStart.add(job);
+				}
+			}
+		}
+
+		for (final Job job : toStart) {
+			try {
+				workers.execute(() -> runOnWorker(job));
+			} catch (RejectedExecutionException e) {
+				log.debug("Resource {} - Monitor job executor is shut down. Discarding job.", job.lane.resourceKey);
+				job.done();
+				release();
+			}
+		}
+	}
+
+	/**
+	 * Run the given job on the current worker thread, then give the slot back.
+	 *
+	 * @param job The job to run.
+	 */
+	private void runOnWorker(final Job job) {
+		CURRENT_EXECUTOR.set(this);
+		try {
+			job.run();
+		} finally {
+			CURRENT_EXECUTOR.remove();
+			release();
+		}
+	}
+
+	/**
+	 * Give a slot back and start the next pending jobs.
+	 */
+	private void release() {
+		synchronized (this) {
+			runningJobs--;
+		}
+		dispatch();
+	}
+
+	/**
+	 * Discard the jobs of the given batch that have not started yet and interrupt the running ones.
+	 *
+	 * @param batch The jobs to cancel.
+	 */
+	private static void cancel(final List<Job> batch) {
+		for (final Job job : batch) {
+			if (job.claim()) {
+				job.lane.queued.decrementAndGet();
+				job.done();
+			} else {
+				job.interrupt();
+			}
+		}
+	}
+
+	/**
+	 * FIFO queue of the jobs of a resource, with its statistics.
+	 */
+	private static class Lane {
+
+		private final String resourceKey;
+
+		/**
+		 * Pending jobs. Guarded by the enclosing {@link MonitorJobExecutor}.
+		 */
+		private final Deque<Job> pending = new ArrayDeque<>();
+
+		/**
+		 * Whether this lane is in the ready lanes. Guarded by the enclosing {@link MonitorJobExecutor}.
+		 */
+		private boolean ready;
+
+		private final AtomicLong queued = new AtomicLong();
+		private final AtomicLong executed = new AtomicLong();
+		private final AtomicLong queueWaitNanos = new AtomicLong();
+
+		/**
+		 * Number of jobs submitted and not done yet, pending or running.
+		 */
+		private final AtomicLong outstanding = new AtomicLong();
+
+		/**
+		 * Time the last outstanding job was done, as a {@link System#nanoTime()} value.
+		 */
+		private volatile long idleSince = System.nanoTime();
+
+		Lane(final String resourceKey) {
+			this.resourceKey = resourceKey;
+		}
+
+		/**
+		 * @return {@code true} if this lane has had no pending or running job for at least the given timeout
+		 */
+		boolean isIdle(final long now, final long timeoutNanos) {
+			return outstanding.get() == 0 && now - idleSince >= timeoutNanos;
+		}
+
+		/**
+		 * Count a job of this lane as done.
+		 */
+		void jobDone() {
+			if (outstanding.decrementAndGet() == 0) {
+				idleSince = System.nanoTime();
+			}
+		}
+
+		Stats snapshot() {
+			return Stats.builder()
+				.executed(executed.get())
+				.queueWaitTime(queueWaitNanos.get() / 1_000_000_000.0)
+				.queued(queued.get())
+				.build();
+		}
+	}
+
+	/**
+	 * A job submitted to the executor. A job is claimed exactly once: by a worker,
+	 * by the caller helping with its own jobs, or by the cancellation.
+	 */
+	private static class Job {
+
+		private final Runnable runnable;
+		private final Lane lane;
+		private final CountDownLatch remaining;
+		private final long enqueuedAt = System.nanoTime();
+		private final AtomicBoolean claimed = new AtomicBoolean();
+		private volatile Thread runner;
+
+		Job(final Runnable runnable, final Lane lane, final CountDownLatch remaining) {
+			this.runnable = runnable;
+			this.lane = lane;
+			this.remaining = remaining;
+		}
+
+		/**
+		 * @return {@code true} if the caller now owns this job, {@code false} if it was already claimed
+		 */
+		boolean claim() {
+			return claimed.compareAndSet(false, true);
+		}
+
+		/**
+		 * Run the job on the current thread and count it down.
+		 */
+		void run() {
+			lane.queueWaitNanos.addAndGet(System.nanoTime() - enqueuedAt);
+			lane.executed.incrementAndGet();
+			runner = Thread.currentThread();
+			try {
+				runnable.run();
+			} catch (Exception e) {
+				log.error("Resource {} - Monitor job failed with an unexpected error: {}", lane.resourceKey, e.getMessage());
+				log.debug("Resource {} - Monitor job exception: ", lane.resourceKey, e);
+			} finally {
+				runner = null;
+				done();
+			}
+		}
+
+		/**
+		 * Interrupt the thread running this job, if it is still running.
+		 */
+		void interrupt() {
+			final Thread thread = runner;
+			if (thread != null) {
+				thread.interrupt();
+			}
+		}
+
+		/**
+		 * Mark this job as done.
+		 */
+		void done() {
+			lane.jobDone();
+			remaining.countDown();
+		}
+	}
+}
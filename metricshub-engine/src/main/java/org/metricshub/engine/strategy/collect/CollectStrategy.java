@@ -22,7 +22,6 @@ package org.metricshub.engine.strategy.collect;
  */
 
 import static org.metricshub.engine.common.helpers.MetricsHubConstants.MAX_CONSECUTIVE_DETECTION_FAILURES;
-import static org.metricshub.engine.common.helpers.MetricsHubConstants.MAX_THREADS_COUNT;
 import static org.metricshub.engine.common.helpers.MetricsHubConstants.MONITOR_ATTRIBUTE_CONNECTOR_ID;
 import static org.metricshub.engine.common.helpers.MetricsHubConstants.MONITOR_JOBS_PRIORITY;
 import static org.metricshub.engine.common.helpers.MetricsHubConstants.OTHER_MONITOR_JOB_TYPES;
@@ -34,9 +33,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
@@ -184,35 +180,25 @@ public class CollectStrategy extends AbstractStrategy {
 		if (isSequential) {
 			otherMonitorJobs.entrySet().forEach(entry -> processMonitorJob(currentConnector, hostname, entry));
 		} else {
-			// Execute monitor jobs in parallel
-			// Create a thread pool with a fixed number of threads
-			final ExecutorService threadsPool = Executors.newFixedThreadPool(
-				Math.max(1, Math.min(MAX_THREADS_COUNT, otherMonitorJobs.size()))
-			);
-
-			otherMonitorJobs
+			// Execute monitor jobs in parallel on the shared monitor job executor
+			final List<Runnable> jobs = otherMonitorJobs
 				.entrySet()
-				.forEach(entry -> threadsPool.execute(() -> processMonitorJob(currentConnector, hostname, entry)));
-
-			// Two-phase shutdown: first graceful, then forced
-			threadsPool.shutdown();
+				.stream()
+				.<Runnable>map(entry -> () -> processMonitorJob(currentConnector, hostname, entry))
+				.toList();
 
 			try {
-				// Blocks until all tasks have completed execution after a shutdown request
-				if (!threadsPool.awaitTermination(THREAD_TIMEOUT, TimeUnit.SECONDS)) {
+				// Blocks until all the jobs have completed, pending and running jobs are cancelled on timeout
+				if (!getMonitorJobExecutor().runAll(hostname, jobs, THREAD_TIMEOUT)) {
 					log.warn(
-						"Hostname {} - Collect thread pool did not terminate within {} seconds. Forcing shutdown.",
+						"Hostname {} - Collect monitor jobs did not complete within {} seconds. Cancelled the remaining jobs.",
 						hostname,
 						THREAD_TIMEOUT
 					);
-					threadsPool.shutdownNow();
 				}
-			} catch (Exception e) {
-				threadsPool.shutdownNow();
-				if (e instanceof InterruptedException) {
-					Thread.currentThread().interrupt();
-				}
-				log.debug("Hostname {} - Waiting for threads' termination aborted with an error.", hostname, e);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				log.debug("Hostname {} - Waiting for monitor jobs' completion aborted with an error.", hostname, e);
 			}
 		}
 		// Run AfterAllStrategy that executes afterAll sources
@@ -273,7 +259,7 @@ public class CollectStrategy extends AbstractStrategy {
 				}
 
 				// Create the sources and the computes for a connector
-				processSourcesAndComputes(orderedSources.getSources(), jobInfo);
+				processSourcesAndComputes(orderedSources, jobInfo);
 
 				// Retrieve monitor job keys
 				final Set<String> monitorJobKeys = monitorJob.getValue().getKeys();
@@ -290,7 +276,7 @@ public class CollectStrategy extends AbstractStrategy {
 							currentConnector.getCompiledFilename().equals(monitor.getAttribute(MONITOR_ATTRIBUTE_CONNECTOR_ID))
 						)
 						.forEach(monitor -> {
-							processSourcesAndComputes(orderedSources.getSources(), monitor.getAttributes(), jobInfo);
+							processSourcesAndComputes(orderedSources, monitor.getAttributes(), jobInfo);
 							processMonitors(monitorType, collect.getMapping(), currentConnector, hostname, monitor);
 						});
 				}
@@ -407,37 +393,36 @@ public class CollectStrategy extends AbstractStrategy {
 		// Otherwise, (in case of multi-instance processing), we loop over all the source table rows
 		final int rowCountLimit = maybeMonitor.isEmpty() ? table.size() : 1;
 
-		final Map<String, Monitor> sameTypeMonitors = telemetryManager.findMonitorsByType(monitorType);
+		// The identifying attribute keys of the monitors to look up in multi-instance mode
+		final List<String> identifyingKeys = attributeKeys == null ? null : List.copyOf(attributeKeys);
+
+		// Init the mapping processor, shared by all the rows of the mapping
+		final MappingProcessor mappingProcessor = MappingProcessor.builder()
+			.telemetryManager(telemetryManager)
+			.mapping(mapping)
+			.jobInfo(
+				JobInfo.builder()
+					.connectorId(connectorId)
+					.hostname(hostname)
+					.monitorType(monitorType)
+					.jobName(JOB_NAME)
+					.build()
+			)
+			.collectTime(strategyTime)
+			.build();
 
 		// Loop over the source table rows
 		for (int i = 0; i < rowCountLimit; i++) {
-			final List<String> row = table.get(i);
-
-			// Init mapping processor
-			final MappingProcessor mappingProcessor = MappingProcessor.builder()
-				.telemetryManager(telemetryManager)
-				.mapping(mapping)
-				.jobInfo(
-					JobInfo.builder()
-						.connectorId(connectorId)
-						.hostname(hostname)
-						.monitorType(monitorType)
-						.jobName(JOB_NAME)
-						.build()
-				)
-				.collectTime(strategyTime)
-				.row(row)
-				.indexCounter(i + 1)
-				.build();
+			mappingProcessor.moveToRow(table.get(i), i + 1);
 
 			// In case of multi-instance, maybeMonitor is empty. So, we try to find it by type, connector id and attribute keys
 			maybeMonitor
 				.or(() ->
-					findMonitor(
+					telemetryManager.findMonitorByIdentity(
+						monitorType,
 						connectorId,
-						sameTypeMonitors,
-						mappingProcessor.interpretNonContextMappingAttributes(),
-						attributeKeys
+						identifyingKeys,
+						mappingProcessor.interpretNonContextMappingAttributes()
 					)
 				)
 				.ifPresent(monitor -> {
@@ -465,71 +450,6 @@ public class CollectStrategy extends AbstractStrategy {
 		}
 	}
 
-	/**
-	 * Find monitor by attributes keys and connector identifier
-	 *
-	 * @param connectorId               Unique connector identifier used to find the monitor
-	 * @param sameTypeMonitors          {@link Monitor} instances having the same type
-	 * @param collectedAttributeValues  The collected attributes during the current cycle
-	 * @param attributeKeys             The attribute keys used to find the monitor
-	 * @return {@link Optional} instance containing the monitor
-	 */
-	private Optional<Monitor> findMonitor(
-		final String connectorId,
-		final Map<String, Monitor> sameTypeMonitors,
-		final Map<String, String> collectedAttributeValues,
-		final Set<String> attributeKeys
-	) {
-		return sameTypeMonitors
-			.values()
-			.stream()
-			.filter(
-				monitor ->
-					matchMonitorAttributes(monitor, collectedAttributeValues, attributeKeys) &&
-					connectorId.equals(monitor.getAttribute(MONITOR_ATTRIBUTE_CONNECTOR_ID))
-			)
-			.findFirst();
-	}
-
-	/**
-	 * Checks if the attribute values of the given monitor match the collected attribute values.
-	 *
-	 * @param monitor                  The monitor instance we wish to verify its attributes
-	 * @param collectedAttributeValues The collected attribute values
-	 * @param attributeKeys            The attribute keys defined by the monitor job
-	 * @return <code>true</code> if the monitor's attribute values identified by
-	 *         the <em>attributeKeys</em> match the current collected attribute
-	 *         values otherwise <code>false</code>
-	 */
-	private boolean matchMonitorAttributes(
-		final Monitor monitor,
-		final Map<String, String> collectedAttributeValues,
-		final Set<String> attributeKeys
-	) {
-		return attributeKeys
-			.stream()
-			.allMatch(key -> {
-				// Get the existing monitor attribute value that should be set at the discovery
-				final String monitorAttributeValue = monitor.getAttribute(key);
-
-				// The absence of the value prevents us from progressing any further
-				if (monitorAttributeValue == null) {
-					return false;
-				}
-
-				// Get the collected attribute value
-				final String collectedAttributeValue = collectedAttributeValues.get(key);
-
-				// The absence of the value prevents us from progressing any further
-				if (collectedAttributeValue == null) {
-					return false;
-				}
-
-				// Compares the existing monitor attribute value to the collected attribute value
-				return monitorAttributeValue.equals(collectedAttributeValue);
-			});
-	}
-
 	/**
 	 *  This method is the main collection step method
 	 */
@@ -578,5 +498,8 @@ public class CollectStrategy extends AbstractStrategy {
 
 		// Collect per-host request metrics (completed/timeout by operation type)
 		collectRequestMetrics(hostname);
+
+		// Collect per-host monitor job metrics (executed jobs and queue wait time)
+		collectMonitorJobMetrics(hostname);
 	}
 }
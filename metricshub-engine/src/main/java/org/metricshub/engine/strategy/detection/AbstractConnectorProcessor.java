@@ -22,7 +22,6 @@ package org.metricshub.engine.strategy.detection;
  */
 
 import static org.metricshub.engine.common.helpers.MetricsHubConstants.HOSTNAME_EXCEPTION_MESSAGE;
-import static org.metricshub.engine.common.helpers.MetricsHubConstants.MAX_THREADS_COUNT;
 import static org.metricshub.engine.common.helpers.MetricsHubConstants.THREAD_TIMEOUT;
 
 import java.util.ArrayList;
@@ -30,9 +29,6 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -50,6 +46,7 @@ import org.metricshub.engine.connector.model.monitor.MonitorJob;
 import org.metricshub.engine.connector.model.monitor.SimpleMonitorJob;
 import org.metricshub.engine.connector.model.monitor.StandardMonitorJob;
 import org.metricshub.engine.extension.ExtensionManager;
+import org.metricshub.engine.strategy.MonitorJobExecutor;
 import org.metricshub.engine.strategy.utils.ForceSerializationHelper;
 import org.metricshub.engine.telemetry.TelemetryManager;
 
@@ -141,35 +138,23 @@ public abstract class AbstractConnectorProcessor {
 			connectorTestResults
 		);
 
-		final List<Connector> connectorList = connectors.collect(Collectors.toList());
-		final ExecutorService threadsPool = Executors.newFixedThreadPool(
-			Math.max(1, Math.min(MAX_THREADS_COUNT, connectorList.size()))
-		);
-
-		connectorList.forEach(connector ->
-			threadsPool.execute(() ->
-				connectorTestResultsSynchronized.add(runConnectorDetectionCriteria(connector, hostname))
+		final List<Runnable> jobs = connectors
+			.<Runnable>map(connector ->
+				() -> connectorTestResultsSynchronized.add(runConnectorDetectionCriteria(connector, hostname))
 			)
-		);
-
-		// Two-phase shutdown: first graceful, then forced
-		threadsPool.shutdown();
+			.toList();
 
 		try {
-			// Blocks until all tasks have completed execution after a shutdown request
-			if (!threadsPool.awaitTermination(THREAD_TIMEOUT, TimeUnit.SECONDS)) {
+			// Blocks until all the detections have completed, pending and running ones are cancelled on timeout
+			if (!getMonitorJobExecutor().runAll(hostname, jobs, THREAD_TIMEOUT)) {
 				log.warn(
-					"Hostname {} - Detection thread pool did not terminate within {} seconds. Forcing shutdown.",
+					"Hostname {} - Connector detections did not complete within {} seconds. Cancelled the remaining detections.",
 					hostname,
 					THREAD_TIMEOUT
 				);
-				threadsPool.shutdownNow();
-			}
-		} catch (Exception e) {
-			threadsPool.shutdownNow();
-			if (e instanceof InterruptedException) {
-				Thread.currentThread().interrupt();
 			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
 			log.error("Hostname {} - Exception encountered while running connectors simultaneously.", hostname);
 			log.debug(HOSTNAME_EXCEPTION_MESSAGE, hostname, e);
 		}
@@ -177,6 +162,16 @@ public abstract class AbstractConnectorProcessor {
 		return connectorTestResults;
 	}
 
+	/**
+	 * Get the {@link MonitorJobExecutor} running the connector detections in parallel.
+	 *
+	 * @return the executor carried by the {@link ClientsExecutor}, or the engine-wide default one
+	 */
+	private MonitorJobExecutor getMonitorJobExecutor() {
+		final MonitorJobExecutor monitorJobExecutor = clientsExecutor.getMonitorJobExecutor();
+		return monitorJobExecutor != null ? monitorJobExecutor : MonitorJobExecutor.getDefault();
+	}
+
 	/**
 	 * Update the given {@link Set} of supersedes connectors
 	 *
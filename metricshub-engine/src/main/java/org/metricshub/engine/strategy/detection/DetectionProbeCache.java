@@ -0,0 +1,154 @@
+package org.metricshub.engine.strategy.detection;
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub Engine
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2025 MetricsHub
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Detection-scoped memoization of the probes sent to a resource while testing the connectors criteria.
+ * <p>
+ * Many connectors test the same SNMP OID (or the same query) during the automatic detection. While a
+ * detection run is open, each distinct probe, identified by a normalized key built by the criterion
+ * processor (protocol, hostname, OID, query, namespace...), hits the resource once and the other
+ * connectors reuse its outcome, including a failure such as a timeout. Concurrent callers asking for
+ * the same probe wait for the first one instead of sending a duplicate request.
+ * </p>
+ * Outside a detection run the probes are executed directly.
+ */
+public class DetectionProbeCache {
+
+	/**
+	 * A request sent to the resource whose outcome can be shared.
+	 *
+	 * @param <T> The type of the probe result.
+	 */
+	@FunctionalInterface
+	public interface Probe<T> {
+		/**
+		 * Execute the request.
+		 *
+		 * @return The result of the request.
+		 * @throws Exception when the request fails.
+		 */
+		T execute() throws Exception; // NOSONAR
+	}
+
+	private volatile Map<List<Object>, CompletableFuture<Object>> results;
+
+	/**
+	 * Open a new detection run: the probes executed until {@link #close()} is called are memoized.
+	 */
+	public void open() {
+		results = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Close the current detection run and release the memoized results.
+	 */
+	public void close() {
+		results = null;
+	}
+
+	/**
+	 * @return whether a detection run is open.
+	 */
+	public boolean isOpen() {
+		return results != null;
+	}
+
+	/**
+	 * Return the outcome of the probe identified by the given key, executing the probe only if no
+	 * caller has executed it yet during the current detection run.
+	 *
+	 * @param key   The normalized key of the probe. E.g. {@code List.of("snmp-get", hostname, oid)}.
+	 * @param probe The request to execute when its outcome is not known yet.
+	 * @param <T>   The type of the probe result.
+	 * @return The result of the probe.
+	 * @throws Exception the exception thrown by the probe, possibly by another caller.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T get(final List<Object> key, final Probe<T> probe) throws Exception { // NOSONAR
+		final Map<List<Object>, CompletableFuture<Object>> current = results;
+		if (current == null) {
+			return probe.execute();
+		}
+
+		final CompletableFuture<Object> created = new CompletableFuture<>();
+		final CompletableFuture<Object> existing = current.putIfAbsent(key, created);
+		if (existing == null) {
+			return (T) execute(current, key, created, probe);
+		}
+
+		try {
+			return (T) existing.get();
+		} catch (ExecutionException e) {
+			// The probe of the first caller has been interrupted, this outcome is not shared
+			if (e.getCause() instanceof InterruptedException) {
+				return get(key, probe);
+			}
+			if (e.getCause() instanceof Exception cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Execute the probe and publish its outcome to the other callers.
+	 *
+	 * @param current The results of the current detection run.
+	 * @param key     The normalized key of the probe.
+	 * @param created The future holding the outcome of the probe.
+	 * @param probe   The request to execute.
+	 * @return The result of the probe.
+	 * @throws Exception the exception thrown by the probe.
+	 */
+	private static Object execute(
+		final Map<List<Object>, CompletableFuture<Object>> current,
+		final List<Object> key,
+		final CompletableFuture<Object> created,
+		final Probe<?> probe
+	) throws Exception { // NOSONAR
+		try {
+			final Object result = probe.execute();
+			created.complete(result);
+			return result;
+		} catch (InterruptedException e) {
+			// Forget the interrupted probe so that the next caller executes it again
+			current.remove(key, created);
+			created.completeExceptionally(e);
+			throw e;
+		} catch (Exception e) {
+			created.completeExceptionally(e);
+			throw e;
+		} finally {
+			if (!created.isDone()) {
+				current.remove(key, created);
+				created.completeExceptionally(new IllegalStateException("Probe " + key + " failed."));
+			}
+		}
+	}
+}
@@ -0,0 +1,89 @@
+package org.metricshub.engine.strategy.detection;
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub Engine
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2025 MetricsHub
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.metricshub.engine.connector.model.ConnectorStore;
+import org.metricshub.engine.strategy.detection.ConnectorStagingManager.StagedConnectorIdentifiers;
+
+/**
+ * The outcome of the last full detection of a host, along with the fingerprint of the host and the
+ * detection inputs at that time.
+ * <p>
+ * While the host fingerprint and the detection inputs are unchanged, the connector test results are
+ * reused instead of testing the criteria of every candidate connector again. A full detection is
+ * still performed once the snapshot is older than {@link #MAX_AGE}, so that a connector that
+ * failed because of a transient error is eventually detected.
+ * </p>
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class DetectionSnapshot {
+
+	/**
+	 * Maximum age of a snapshot in milliseconds
+	 */
+	public static final long MAX_AGE = TimeUnit.HOURS.toMillis(24);
+
+	private String fingerprint;
+	private ConnectorStore connectorStore;
+	private StagedConnectorIdentifiers stagedConnectorIdentifiers;
+	private String configuredConnectorId;
+	private List<ConnectorTestResult> connectorTestResults;
+	private long detectionTime;
+
+	/**
+	 * Whether the connector test results of this snapshot can be reused for the given detection.
+	 *
+	 * @param fingerprint                The current fingerprint of the host.
+	 * @param connectorStore             The current connector store, which must be the store of the snapshot connectors.
+	 * @param stagedConnectorIdentifiers The connectors staged for the detection.
+	 * @param configuredConnectorId      The identifier of the connector configured for the host.
+	 * @param strategyTime               The time of the detection.
+	 * @return {@code true} if the detection can be skipped, otherwise {@code false}.
+	 */
+	public boolean isReusable(
+		final String fingerprint,
+		final ConnectorStore connectorStore,
+		final StagedConnectorIdentifiers stagedConnectorIdentifiers,
+		final String configuredConnectorId,
+		final long strategyTime
+	) {
+		return (
+			fingerprint != null &&
+			fingerprint.equals(this.fingerprint) &&
+			connectorStore == this.connectorStore &&
+			Objects.equals(stagedConnectorIdentifiers, this.stagedConnectorIdentifiers) &&
+			Objects.equals(configuredConnectorId, this.configuredConnectorId) &&
+			strategyTime >= detectionTime &&
+			strategyTime - detectionTime < MAX_AGE
+		);
+	}
+}
@@ -31,6 +31,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.Builder;
@@ -135,32 +136,35 @@ public class DetectionStrategy extends AbstractStrategy {
 			hostConfiguration.getConnectors()
 		);
 
-		// Initialize the connector test results
-		final List<ConnectorTestResult> connectorTestResults = new ArrayList<>();
-
-		// Process forced connectors
-		if (stagedConnectorIdentifiers.isForcedStaging()) {
-			connectorTestResults.addAll(
-				new ConnectorSelection(
-					telemetryManager,
-					clientsExecutor,
-					stagedConnectorIdentifiers.getForcedConnectorIds(),
-					extensionManager,
-					true
-				).run()
-			);
-		}
-
-		// Process automatic detection if connectors are staged for automatic detection.
-		// If a custom connector has been created then the automatic detection is skipped.
-		if (stagedConnectorIdentifiers.isAutoDetectionStaged() && configuredConnectorId == null) {
-			connectorTestResults.addAll(
-				new AutomaticDetection(
-					telemetryManager,
-					clientsExecutor,
-					stagedConnectorIdentifiers.getAutoDetectionConnectorIds(),
-					extensionManager
-				).run()
+		// Reuse the results of the last detection if the host has not changed since then
+		final String fingerprint = computeDetectionFingerprint();
+		final DetectionSnapshot lastDetection = hostProperties.getLastDetection();
+		final List<ConnectorTestResult> connectorTestResults;
+		if (
+			lastDetection != null &&
+			lastDetection.isReusable(
+				fingerprint,
+				telemetryManager.getConnectorStore(),
+				stagedConnectorIdentifiers,
+				configuredConnectorId,
+				strategyTime
+			)
+		) {
+			log.info("Hostname {} - Host fingerprint unchanged. Reusing the results of the last detection.", hostname);
+			connectorTestResults = new ArrayList<>(lastDetection.getConnectorTestResults());
+		} else {
+			connectorTestResults = detectConnectors(stagedConnectorIdentifiers, configuredConnectorId);
+			hostProperties.setLastDetection(
+				fingerprint == null
+					? null
+					: DetectionSnapshot.builder()
+						.fingerprint(fingerprint)
+						.connectorStore(telemetryManager.getConnectorStore())
+						.stagedConnectorIdentifiers(stagedConnectorIdentifiers)
+						.configuredConnectorId(configuredConnectorId)
+						.connectorTestResults(List.copyOf(connectorTestResults))
+						.detectionTime(strategyTime)
+						.build()
 			);
 		}
 
@@ -180,6 +184,77 @@ public class DetectionStrategy extends AbstractStrategy {
 
 		// Collect per-host request metrics (completed/timeout by operation type)
 		collectRequestMetrics(hostname);
+
+		// Collect per-host monitor job metrics (executed jobs and queue wait time)
+		collectMonitorJobMetrics(hostname);
+	}
+
+	/**
+	 * Test the staged connectors against the host.
+	 *
+	 * @param stagedConnectorIdentifiers The connectors staged for forced inclusion and automatic detection.
+	 * @param configuredConnectorId      The identifier of the connector configured for the host, if any.
+	 * @return The list of {@link ConnectorTestResult}.
+	 */
+	List<ConnectorTestResult> detectConnectors(
+		final StagedConnectorIdentifiers stagedConnectorIdentifiers,
+		final String configuredConnectorId
+	) {
+		final List<ConnectorTestResult> connectorTestResults = new ArrayList<>();
+
+		// The connectors share the outcome of identical probes until the end of the connectors detection
+		final DetectionProbeCache detectionProbeCache = telemetryManager.getDetectionProbeCache();
+		detectionProbeCache.open();
+		try {
+			// Process forced connectors
+			if (stagedConnectorIdentifiers.isForcedStaging()) {
+				connectorTestResults.addAll(
+					new ConnectorSelection(
+						telemetryManager,
+						clientsExecutor,
+						stagedConnectorIdentifiers.getForcedConnectorIds(),
+						extensionManager,
+						true
+					).run()
+				);
+			}
+
+			// Process automatic detection if connectors are staged for automatic detection.
+			// If a custom connector has been created then the automatic detection is skipped.
+			if (stagedConnectorIdentifiers.isAutoDetectionStaged() && configuredConnectorId == null) {
+				connectorTestResults.addAll(
+					new AutomaticDetection(
+						telemetryManager,
+						clientsExecutor,
+						stagedConnectorIdentifiers.getAutoDetectionConnectorIds(),
+						extensionManager
+					).run()
+				);
+			}
+		} finally {
+			detectionProbeCache.close();
+		}
+
+		return connectorTestResults;
+	}
+
+	/**
+	 * Compute the fingerprint of the host from the protocol extensions configured for this host.
+	 *
+	 * @return The fingerprints of the extensions able to compute one, or {@code null} if none of them can.
+	 */
+	String computeDetectionFingerprint() {
+		final String fingerprint = extensionManager
+			.findProtocolCheckExtensions(telemetryManager)
+			.stream()
+			.map(extension ->
+				extension.getDetectionFingerprint(telemetryManager).map(value -> extension.getIdentifier() + "=" + value)
+			)
+			.flatMap(Optional::stream)
+			.sorted()
+			.collect(Collectors.joining("\n"));
+
+		return fingerprint.isEmpty() ? null : fingerprint;
 	}
 
 	/**
@@ -42,6 +42,10 @@ import org.metricshub.engine.connector.model.monitor.task.source.Source;
 /**
  * The OrderedSources class is responsible for building a list of ordered sources based on either the
  * execution order or the source dependency tree. It includes methods for ordering and validating the sources.
+ * <br>
+ * The sources are also grouped by dependency level: the sources of one level only depend on the sources of the
+ * previous levels and can therefore be executed concurrently. When the order comes from the connector's execution
+ * order, or when no order is available, each source makes up its own level.
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 @AllArgsConstructor
@@ -53,6 +57,10 @@ public class OrderedSources {
 	@Default
 	private List<Source> sources = new ArrayList<>();
 
+	@Getter
+	@Default
+	private List<List<Source>> sourceLevels = new ArrayList<>();
+
 	/**
 	 * The OrderedSourcesBuilder class extends the generated builder for additional methods related to
 	 * building the list of ordered sources.
@@ -80,22 +88,44 @@ public class OrderedSources {
 			if (sources == null || sources.isEmpty()) {
 				this.sources$value = new ArrayList<>();
 				this.sources$set = true;
+				this.sourceLevels$value = new ArrayList<>();
+				this.sourceLevels$set = true;
 				return this;
 			}
 
 			if (executionOrder != null && !executionOrder.isEmpty()) {
-				return orderSources(sources, executionOrder, "execution order", jobInfo);
+				orderSources(sources, executionOrder, "execution order", jobInfo);
+				return sequentialLevels();
 			} else if (sourceDepTree != null && !sourceDepTree.isEmpty()) {
-				return orderSources(
+				orderSources(
 					sources,
 					sourceDepTree.stream().flatMap(Collection::stream).collect(Collectors.toList()), // NOSONAR
 					"dependency tree",
 					jobInfo
 				);
+
+				// The order is validated, each source of the tree is defined exactly once
+				this.sourceLevels$value = sourceDepTree
+					.stream()
+					.map(level -> level.stream().map(sources::get).collect(Collectors.toList())) // NOSONAR
+					.collect(Collectors.toList()); // NOSONAR
+				this.sourceLevels$set = true;
+				return this;
 			}
 
 			this.sources$value = sources.values().stream().collect(Collectors.toList()); // NOSONAR
 			this.sources$set = true;
+			return sequentialLevels();
+		}
+
+		/**
+		 * Put each of the ordered sources in its own level so that the sources are executed one after another.
+		 *
+		 * @return this {@link OrderedSourcesBuilder}
+		 */
+		private OrderedSourcesBuilder sequentialLevels() {
+			this.sourceLevels$value = this.sources$value.stream().map(List::of).collect(Collectors.toList()); // NOSONAR
+			this.sourceLevels$set = true;
 			return this;
 		}
 
@@ -24,6 +24,7 @@ package org.metricshub.engine.strategy.source;
 import static org.metricshub.engine.common.helpers.MetricsHubConstants.EMPTY;
 import static org.metricshub.engine.common.helpers.MetricsHubConstants.NEW_LINE;
 import static org.metricshub.engine.common.helpers.MetricsHubConstants.SOURCE_REF_PATTERN;
+import static org.metricshub.engine.common.helpers.MetricsHubConstants.TABLE_SEP;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -32,18 +33,26 @@ import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Builder.Default;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.NonNull;
+import lombok.Setter;
+import lombok.ToString;
 import org.metricshub.engine.common.helpers.MetricsHubConstants;
 import org.metricshub.engine.telemetry.TelemetryManager;
 
 /**
  * The {@code SourceTable} class represents a table of data obtained from monitor sources.
  * It includes methods for transforming the table to and from CSV format and performing other related operations.
+ * <br>
+ * Once the table has been updated through {@link #invalidateRawData()}, the table becomes the authoritative
+ * representation and the raw CSV data is only rebuilt from it when it is requested.
  */
 @Data
 @AllArgsConstructor
@@ -61,6 +70,48 @@ public class SourceTable {
 
 	private String rawData;
 
+	/**
+	 * Whether the raw data is out of date and must be rebuilt from the table on the next read.
+	 */
+	@Getter(AccessLevel.NONE)
+	@Setter(AccessLevel.NONE)
+	@EqualsAndHashCode.Exclude
+	@ToString.Exclude
+	private volatile boolean rawDataOutdated;
+
+	/**
+	 * Get the raw data of this source table. If the table has been updated since the raw data was last set, the raw
+	 * data is rebuilt from the table using the {@link MetricsHubConstants#TABLE_SEP} separator.
+	 *
+	 * @return {@link String} value
+	 */
+	public String getRawData() {
+		if (rawDataOutdated) {
+			rawData = tableToCsv(table, TABLE_SEP, false);
+			rawDataOutdated = false;
+		}
+		return rawData;
+	}
+
+	/**
+	 * Set the raw data of this source table. The given value becomes the current raw data.
+	 *
+	 * @param rawData The raw data
+	 */
+	public void setRawData(final String rawData) {
+		this.rawData = rawData;
+		rawDataOutdated = false;
+	}
+
+	/**
+	 * Mark the table as the authoritative representation of this source table. The raw data is no longer kept in
+	 * sync eagerly, it is rebuilt from the table the next time {@link #getRawData()} is called.
+	 */
+	public void invalidateRawData() {
+		rawData = null;
+		rawDataOutdated = true;
+	}
+
 	/**
 	 * Transform the {@link List} table to a {@link String} representation
 	 * [[a1,b1,c2],[a1,b1,c1]]
@@ -188,7 +239,8 @@ public class SourceTable {
 	 * @return boolean value
 	 */
 	public boolean isEmpty() {
-		return (rawData == null || rawData.isEmpty()) && (table == null || table.isEmpty());
+		// An outdated raw data is built from the table, checking the table is enough
+		return (rawDataOutdated || rawData == null || rawData.isEmpty()) && (table == null || table.isEmpty());
 	}
 
 	/**
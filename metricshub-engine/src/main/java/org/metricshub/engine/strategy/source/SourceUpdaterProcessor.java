@@ -28,9 +28,13 @@ import static org.metricshub.engine.common.helpers.MetricsHubConstants.SEMICOLON
 import static org.metricshub.engine.common.helpers.MetricsHubConstants.SOURCE_REF_PATTERN;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -64,6 +68,7 @@ import org.metricshub.engine.connector.model.monitor.task.source.TableUnionSourc
 import org.metricshub.engine.connector.model.monitor.task.source.WbemSource;
 import org.metricshub.engine.connector.model.monitor.task.source.WmiSource;
 import org.metricshub.engine.extension.ExtensionManager;
+import org.metricshub.engine.strategy.MonitorJobExecutor;
 import org.metricshub.engine.strategy.utils.PslUtils;
 import org.metricshub.engine.telemetry.TelemetryManager;
 
@@ -96,6 +101,26 @@ public class SourceUpdaterProcessor implements ISourceProcessor {
 	private String connectorId;
 	private Map<String, String> attributes;
 	private ExtensionManager extensionManager;
+	private MonitorJobExecutor monitorJobExecutor;
+
+	/**
+	 * Constructs a {@link SourceUpdaterProcessor} running the parallel entries on the default {@link MonitorJobExecutor}.
+	 *
+	 * @param sourceProcessor  The processor executing the updated sources.
+	 * @param telemetryManager The telemetry manager of the host.
+	 * @param connectorId      The identifier of the connector defining the sources.
+	 * @param attributes       The attributes of the monitor used in the mono instance processing.
+	 * @param extensionManager The extension manager.
+	 */
+	public SourceUpdaterProcessor(
+		final ISourceProcessor sourceProcessor,
+		final TelemetryManager telemetryManager,
+		final String connectorId,
+		final Map<String, String> attributes,
+		final ExtensionManager extensionManager
+	) {
+		this(sourceProcessor, telemetryManager, connectorId, attributes, extensionManager, null);
+	}
 
 	@Override
 	public SourceTable process(final HttpSource httpSource) {
@@ -572,50 +597,166 @@ public class SourceUpdaterProcessor implements ISourceProcessor {
 			return SourceTable.empty();
 		}
 
-		final SourceTable result = SourceTable.builder().rawData(EMPTY).build();
-
-		final Integer sleep = source.getSleepExecuteForEachEntryOf();
+		final List<List<String>> rows = maybeSourceTable.get().getTable().stream().filter(Objects::nonNull).toList();
+		final SourceTable[] entryResults = new SourceTable[rows.size()];
+		final EntryRateLimiter rateLimiter = new EntryRateLimiter(source.getSleepExecuteForEachEntryOf());
+		final int parallelism = getEntryParallelism(source, rows.size());
 
-		for (List<String> row : maybeSourceTable.get().getTable()) {
-			if (row == null) {
-				continue;
+		if (parallelism < 2) {
+			for (int index = 0; index < rows.size(); index++) {
+				entryResults[index] = processEntry(source, rows.get(index), rateLimiter);
 			}
-
-			final Source copy = source.copy();
+		} else {
+			// Each job processes the next pending entry until all the entries are processed
+			final AtomicInteger nextEntry = new AtomicInteger();
+			final Runnable job = () -> {
+				int index;
+				while (!Thread.currentThread().isInterrupted() && (index = nextEntry.getAndIncrement()) < rows.size()) {
+					entryResults[index] = processEntry(source, rows.get(index), rateLimiter);
+				}
+			};
 
 			try {
-				copy.update(dataValue -> replaceDynamicEntry(dataValue, row));
-			} catch (NumberFormatException e) {
-				log.warn("Hostname {} - The dynamic key from Source is incorrectly formatted : {}.", hostname, copy);
-				continue;
+				// Blocks until all the entries have been processed. Like the sequential processing, the wait has no time
+				// limit: each entry request is already bounded by the timeout of its protocol.
+				getEntryJobExecutor().runAll(hostname, Collections.nCopies(parallelism, job));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				log.error(
+					"Hostname {} - Thread interrupted while waiting for the 'execute for each entry' requests of source {}.",
+					hostname,
+					source.getKey()
+				);
+				// The interrupted jobs may still be writing their results: the source fails instead of returning a
+				// partial table
+				return SourceTable.empty();
 			}
+		}
 
-			copy.update(value ->
-				replaceResourceAttributeReferences(value, telemetryManager.getHostConfiguration().getAttributes())
-			);
-			copy.update(dataValue -> replaceAttributeReferences(dataValue, attributes));
-
-			copy.update(value -> replaceProtocolPropertyReferences(value));
-
-			copy.update(value -> replaceSourceReference(value, copy));
-
-			concatEntryResult(source, result, row, copy.accept(sourceProcessor));
-			if (sleep != null && sleep != 0) {
-				try {
-					Thread.sleep(sleep);
-				} catch (InterruptedException e) {
-					log.error(
-						"Hostname {} - Thread interrupted during sleep between two 'execute for each entry' requests.",
-						hostname
-					);
-					Thread.currentThread().interrupt();
-				}
+		// Concatenate the entry results in the order of the entries
+		final SourceTable result = SourceTable.builder().rawData(EMPTY).build();
+		for (int index = 0; index < rows.size(); index++) {
+			if (entryResults[index] != null) {
+				concatEntryResult(source, result, rows.get(index), entryResults[index]);
 			}
 		}
 
 		return result;
 	}
 
+	/**
+	 * Process the given {@link Source} for a single entry of the executeForEachEntryOf source table.
+	 *
+	 * @param source      The {@link Source} we wish to process
+	 * @param row         The entry used to replace the dynamic parts of the source
+	 * @param rateLimiter The rate limiter spacing out the entry requests
+	 * @return {@link SourceTable} result of the entry, or {@code null} if the entry cannot be processed
+	 */
+	private SourceTable processEntry(final Source source, final List<String> row, final EntryRateLimiter rateLimiter) {
+		final String hostname = telemetryManager.getHostname();
+		final Source copy = source.copy();
+
+		try {
+			copy.update(dataValue -> replaceDynamicEntry(dataValue, row));
+		} catch (NumberFormatException e) {
+			log.warn("Hostname {} - The dynamic key from Source is incorrectly formatted : {}.", hostname, copy);
+			return null;
+		}
+
+		copy.update(value ->
+			replaceResourceAttributeReferences(value, telemetryManager.getHostConfiguration().getAttributes())
+		);
+		copy.update(dataValue -> replaceAttributeReferences(dataValue, attributes));
+
+		copy.update(value -> replaceProtocolPropertyReferences(value));
+
+		copy.update(value -> replaceSourceReference(value, copy));
+
+		try {
+			rateLimiter.acquire();
+		} catch (InterruptedException e) {
+			log.error(
+				"Hostname {} - Thread interrupted during sleep between two 'execute for each entry' requests.",
+				hostname
+			);
+			Thread.currentThread().interrupt();
+			return null;
+		}
+
+		return copy.accept(sourceProcessor);
+	}
+
+	/**
+	 * Get the number of entries of the given source that can be processed concurrently.
+	 * The entries are processed one after another when the host is sequential or the source is serialized.
+	 *
+	 * @param source     The {@link Source} we wish to process
+	 * @param entryCount The number of entries
+	 * @return the number of entries processed concurrently
+	 */
+	private int getEntryParallelism(final Source source, final int entryCount) {
+		final Integer maxParallelEntries = source.getMaxParallelEntriesExecuteForEachEntryOf();
+		if (
+			maxParallelEntries == null ||
+			source.isForceSerialization() ||
+			telemetryManager.getHostConfiguration().isSequential()
+		) {
+			return 1;
+		}
+		return Math.min(maxParallelEntries, entryCount);
+	}
+
+	/**
+	 * Get the {@link MonitorJobExecutor} running the entries in parallel.
+	 *
+	 * @return the configured executor, or the engine-wide default one
+	 */
+	private MonitorJobExecutor getEntryJobExecutor() {
+		return monitorJobExecutor != null ? monitorJobExecutor : MonitorJobExecutor.getDefault();
+	}
+
+	/**
+	 * Spaces out the start of the entry requests by a minimum delay, whether the entries are processed one after
+	 * another or concurrently. The time spent by a request counts towards the delay before the next one.
+	 */
+	static class EntryRateLimiter {
+
+		private final long intervalNanos;
+		private long nextStart;
+
+		/**
+		 * Constructs a rate limiter for the given delay.
+		 *
+		 * @param interval The minimum delay in ms between the start of two requests, {@code null} or 0 for no limit
+		 */
+		EntryRateLimiter(final Integer interval) {
+			this.intervalNanos = interval != null ? TimeUnit.MILLISECONDS.toNanos(interval) : 0;
+			this.nextStart = System.nanoTime();
+		}
+
+		/**
+		 * Wait until the next request is allowed to start.
+		 *
+		 * @throws InterruptedException if the current thread is interrupted while waiting
+		 */
+		void acquire() throws InterruptedException {
+			if (intervalNanos <= 0) {
+				return;
+			}
+
+			final long start;
+			synchronized (this) {
+				start = Math.max(nextStart, System.nanoTime());
+				nextStart = start + intervalNanos;
+			}
+
+			final long wait = start - System.nanoTime();
+			if (wait > 0) {
+				TimeUnit.NANOSECONDS.sleep(wait);
+			}
+		}
+	}
+
 	/**
 	 * Replace the dynamic parts of the key by the right column from the row.
 	 *
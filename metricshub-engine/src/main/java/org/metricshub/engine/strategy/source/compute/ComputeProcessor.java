@@ -51,6 +51,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.regex.Matcher;
@@ -135,6 +136,23 @@ public class ComputeProcessor implements IComputeProcessor {
 
 	private static final Pattern NUMBER_PATTERN = Pattern.compile("\\d+");
 
+	/**
+	 * The computes transforming each row independently of the other rows of the table.
+	 */
+	private static final Set<Class<? extends Compute>> ROW_LOCAL_COMPUTES = Set.of(
+		Add.class,
+		Append.class,
+		Divide.class,
+		DuplicateColumn.class,
+		ExcludeMatchingLines.class,
+		KeepOnlyMatchingLines.class,
+		Multiply.class,
+		Prepend.class,
+		Replace.class,
+		Subtract.class,
+		Translate.class
+	);
+
 	private static final Function<ComputeValue, String> GET_VALUE_FROM_ROW = computeValue -> {
 		if (computeValue.getColumnIndex() < computeValue.getRow().size()) {
 			return computeValue.getRow().get(computeValue.getColumnIndex());
@@ -250,7 +268,7 @@ public class ComputeProcessor implements IComputeProcessor {
 		}
 
 		sourceTable.setTable(resultTable);
-		sourceTable.setRawData(SourceTable.tableToCsv(sourceTable.getTable(), TABLE_SEP, false));
+		sourceTable.invalidateRawData();
 	}
 
 	@Override
@@ -309,15 +327,25 @@ public class ComputeProcessor implements IComputeProcessor {
 			}
 		}
 
-		sourceTable.setRawData(SourceTable.tableToCsv(sourceTable.getTable(), TABLE_SEP, false));
+		sourceTable.invalidateRawData();
 	}
 
 	@Override
 	@WithSpan("Compute Add Exec")
 	public void process(@SpanAttribute("compute.definition") final Add add) {
+		applyRowOperator(addOperator(add));
+	}
+
+	/**
+	 * Build the row operator performing the {@link Add} compute.
+	 *
+	 * @param add {@link Add} instance
+	 * @return the {@link RowOperator} or <code>null</code> if the table remains unchanged
+	 */
+	private RowOperator addOperator(final Add add) {
 		if (add == null) {
 			log.warn("Hostname {} - Compute Operation (Add) is null, the table remains unchanged.", hostname);
-			return;
+			return null;
 		}
 
 		Integer columnIndex = add.getColumn();
@@ -329,7 +357,7 @@ public class ComputeProcessor implements IComputeProcessor {
 				hostname,
 				add
 			);
-			return;
+			return null;
 		}
 
 		if (columnIndex < 1) {
@@ -337,10 +365,10 @@ public class ComputeProcessor implements IComputeProcessor {
 				"Hostname {} - The index of the column to add cannot be < 1, the addition computation cannot be performed.",
 				hostname
 			);
-			return;
+			return null;
 		}
 
-		performMathematicalOperation(add, columnIndex, operand2);
+		return mathOperator(add, columnIndex, operand2);
 	}
 
 	@Override
@@ -502,7 +530,7 @@ public class ComputeProcessor implements IComputeProcessor {
 					columnIndex
 				);
 			});
-		sourceTable.setRawData(SourceTable.tableToCsv(sourceTable.getTable(), TABLE_SEP, false));
+		sourceTable.invalidateRawData();
 	}
 
 	/**
@@ -526,7 +554,7 @@ public class ComputeProcessor implements IComputeProcessor {
 					columnIndex
 				);
 			});
-		sourceTable.setRawData(SourceTable.tableToCsv(sourceTable.getTable(), TABLE_SEP, false));
+		sourceTable.invalidateRawData();
 	}
 
 	/**
@@ -598,15 +626,25 @@ public class ComputeProcessor implements IComputeProcessor {
 			}
 		}
 
-		sourceTable.setRawData(SourceTable.tableToCsv(sourceTable.getTable(), TABLE_SEP, false));
+		sourceTable.invalidateRawData();
 	}
 
 	@Override
 	@WithSpan("Compute Divide Exec")
 	public void process(@SpanAttribute("compute.definition") final Divide divide) {
+		applyRowOperator(divideOperator(divide));
+	}
+
+	/**
+	 * Build the row operator performing the {@link Divide} compute.
+	 *
+	 * @param divide {@link Divide} instance
+	 * @return the {@link RowOperator} or <code>null</code> if the table remains unchanged
+	 */
+	private RowOperator divideOperator(final Divide divide) {
 		if (divide == null) {
 			log.warn("Hostname {} - Compute Operation (Divide) is null, the table remains unchanged.", hostname);
-			return;
+			return null;
 		}
 
 		if (divide.getColumn() == null || divide.getValue() == null) {
@@ -615,7 +653,7 @@ public class ComputeProcessor implements IComputeProcessor {
 				hostname,
 				divide
 			);
-			return;
+			return null;
 		}
 
 		Integer columnIndex = divide.getColumn();
@@ -626,10 +664,10 @@ public class ComputeProcessor implements IComputeProcessor {
 				"Hostname {} - The index of the column to divide cannot be < 1, the division computation cannot be performed.",
 				hostname
 			);
-			return;
+			return null;
 		}
 
-		performMathematicalOperation(divide, columnIndex, divideBy);
+		return mathOperator(divide, columnIndex, divideBy);
 	}
 
 	/**
@@ -639,9 +677,19 @@ public class ComputeProcessor implements IComputeProcessor {
 	@Override
 	@WithSpan("Compute DuplicateColumn Exec")
 	public void process(@SpanAttribute("compute.definition") final DuplicateColumn duplicateColumn) {
+		applyRowOperator(duplicateColumnOperator(duplicateColumn));
+	}
+
+	/**
+	 * Build the row operator performing the {@link DuplicateColumn} compute.
+	 *
+	 * @param duplicateColumn {@link DuplicateColumn} instance
+	 * @return the {@link RowOperator} or <code>null</code> if the table remains unchanged
+	 */
+	private RowOperator duplicateColumnOperator(final DuplicateColumn duplicateColumn) {
 		if (duplicateColumn == null) {
 			log.warn("Hostname {} - Duplicate Column object is null, the table remains unchanged.", hostname);
-			return;
+			return null;
 		}
 
 		if (duplicateColumn.getColumn() == null || duplicateColumn.getColumn() == 0) {
@@ -649,18 +697,18 @@ public class ComputeProcessor implements IComputeProcessor {
 				"Hostname {} - The column index in DuplicateColumn cannot be null or 0, the table remains unchanged.",
 				hostname
 			);
-			return;
+			return null;
 		}
 
 		// for each list in the list, duplicate the column of the given index
-		int columnIndex = duplicateColumn.getColumn() - 1;
+		final int columnIndex = duplicateColumn.getColumn() - 1;
 
-		for (List<String> elementList : sourceTable.getTable()) {
-			if (columnIndex >= 0 && columnIndex < elementList.size()) {
-				elementList.add(columnIndex, elementList.get(columnIndex));
+		return (row, downstream) -> {
+			if (columnIndex >= 0 && columnIndex < row.size()) {
+				row.add(columnIndex, row.get(columnIndex));
 			}
-		}
-		sourceTable.setRawData(SourceTable.tableToCsv(sourceTable.getTable(), TABLE_SEP, false));
+			downstream.accept(row);
+		};
 	}
 
 	@Override
@@ -710,7 +758,7 @@ public class ComputeProcessor implements IComputeProcessor {
 			}
 		}
 
-		sourceTable.setRawData(SourceTable.tableToCsv(sourceTable.getTable(), TABLE_SEP, false));
+		sourceTable.invalidateRawData();
 	}
 
 	@Override
@@ -730,37 +778,54 @@ public class ComputeProcessor implements IComputeProcessor {
 	 */
 	private void processAbstractMatchingLines(final AbstractMatchingLines abstractMatchingLines) {
 		if (isConsistentMatchingLinesInfo(abstractMatchingLines)) {
-			final int columnIndex = abstractMatchingLines.getColumn() - 1;
-			final String abstractMatchingLinesValueList = abstractMatchingLines.getValueList();
-			Set<String> valueSet = null;
+			applyRowOperator(matchingLinesOperator(abstractMatchingLines));
+		}
+	}
 
-			if (abstractMatchingLinesValueList != null) {
-				valueSet = buildCaseInsensitiveValueSet(abstractMatchingLinesValueList);
-			}
+	/**
+	 * Build the row operator keeping or removing lines according to the definition of the given
+	 * {@link AbstractMatchingLines}.
+	 *
+	 * @param abstractMatchingLines	The {@link AbstractMatchingLines}
+	 *                              describing the rules
+	 *                              regarding which lines should be kept or removed in/from the {@link SourceTable}.
+	 * @return the {@link RowOperator} or <code>null</code> if the table remains unchanged
+	 */
+	private RowOperator matchingLinesOperator(final AbstractMatchingLines abstractMatchingLines) {
+		if (
+			abstractMatchingLines == null ||
+			abstractMatchingLines.getColumn() == null ||
+			abstractMatchingLines.getColumn() <= 0
+		) {
+			return null;
+		}
 
-			final String pslRegexp = abstractMatchingLines.getRegExp();
+		final int columnIndex = abstractMatchingLines.getColumn() - 1;
+		final String abstractMatchingLinesValueList = abstractMatchingLines.getValueList();
+		Set<String> valueSet = null;
 
-			final Predicate<String> pslPredicate =
-				pslRegexp != null && !pslRegexp.isEmpty() ? getPredicate(pslRegexp, abstractMatchingLines) : null;
+		if (abstractMatchingLinesValueList != null) {
+			valueSet = buildCaseInsensitiveValueSet(abstractMatchingLinesValueList);
+		}
 
-			final Predicate<String> valuePredicate =
-				valueSet != null && !valueSet.isEmpty() ? getPredicate(valueSet, abstractMatchingLines) : null;
+		final String pslRegexp = abstractMatchingLines.getRegExp();
 
-			// If there are both a regex and a valueList, both are applied, one after the other.
-			final List<List<String>> filteredTable = sourceTable
-				.getTable()
-				.stream()
-				.filter(
-					line ->
-						columnIndex < line.size() &&
-						(pslPredicate == null || pslPredicate.test(line.get(columnIndex))) &&
-						(valuePredicate == null || valuePredicate.test(line.get(columnIndex)))
-				)
-				.collect(Collectors.toList());
+		final Predicate<String> pslPredicate =
+			pslRegexp != null && !pslRegexp.isEmpty() ? getPredicate(pslRegexp, abstractMatchingLines) : null;
 
-			sourceTable.setTable(filteredTable);
-			sourceTable.setRawData(SourceTable.tableToCsv(sourceTable.getTable(), TABLE_SEP, false));
-		}
+		final Predicate<String> valuePredicate =
+			valueSet != null && !valueSet.isEmpty() ? getPredicate(valueSet, abstractMatchingLines) : null;
+
+		// If there are both a regex and a valueList, both are applied, one after the other.
+		return (row, downstream) -> {
+			if (
+				columnIndex < row.size() &&
+				(pslPredicate == null || pslPredicate.test(row.get(columnIndex))) &&
+				(valuePredicate == null || valuePredicate.test(row.get(columnIndex)))
+			) {
+				downstream.accept(row);
+			}
+		};
 	}
 
 	/**
@@ -912,7 +977,7 @@ public class ComputeProcessor implements IComputeProcessor {
 		}
 
 		sourceTable.setTable(resultTable);
-		sourceTable.setRawData(SourceTable.tableToCsv(sourceTable.getTable(), TABLE_SEP, false));
+		sourceTable.invalidateRawData();
 	}
 
 	@Override
@@ -966,7 +1031,7 @@ public class ComputeProcessor implements IComputeProcessor {
 				}
 			}
 		}
-		sourceTable.setRawData(SourceTable.tableToCsv(sourceTable.getTable(), TABLE_SEP, false));
+		sourceTable.invalidateRawData();
 	}
 
 	/**
@@ -993,16 +1058,16 @@ public class ComputeProcessor implements IComputeProcessor {
 		try {
 			final List<String> jsonToCsvProperties = SourceTable.lineToList(properties, SEMICOLON);
 
-			final String json2csvResult = clientsExecutor.executeJson2Csv(
+			final SourceTable json2csvResult = clientsExecutor.executeJson2CsvTable(
 				sourceTable.getRawData(),
 				json2csv.getEntryKey(),
 				jsonToCsvProperties,
 				json2csv.getSeparator()
 			);
 
-			if (json2csvResult != null && !json2csvResult.isEmpty()) {
-				sourceTable.setRawData(json2csvResult);
-				sourceTable.setTable(SourceTable.csvToTable(json2csvResult, json2csv.getSeparator()));
+			if (json2csvResult != null && !json2csvResult.getTable().isEmpty()) {
+				sourceTable.setTable(json2csvResult.getTable());
+				sourceTable.invalidateRawData();
 			}
 		} catch (Exception e) {
 			logComputeError(
@@ -1112,7 +1177,7 @@ public class ComputeProcessor implements IComputeProcessor {
 		}
 
 		sourceTable.setTable(resultTable);
-		sourceTable.setRawData(SourceTable.tableToCsv(sourceTable.getTable(), TABLE_SEP, false));
+		sourceTable.invalidateRawData();
 	}
 
 	/**
@@ -1134,9 +1199,19 @@ public class ComputeProcessor implements IComputeProcessor {
 	@Override
 	@WithSpan("Compute Multiply Exec")
 	public void process(@SpanAttribute("compute.definition") final Multiply multiply) {
+		applyRowOperator(multiplyOperator(multiply));
+	}
+
+	/**
+	 * Build the row operator performing the {@link Multiply} compute.
+	 *
+	 * @param multiply {@link Multiply} instance
+	 * @return the {@link RowOperator} or <code>null</code> if the table remains unchanged
+	 */
+	private RowOperator multiplyOperator(final Multiply multiply) {
 		if (multiply == null) {
 			log.warn("Hostname {} - Compute Operation (Multiply) is null, the table remains unchanged.", hostname);
-			return;
+			return null;
 		}
 
 		Integer columnIndex = multiply.getColumn();
@@ -1148,7 +1223,7 @@ public class ComputeProcessor implements IComputeProcessor {
 				hostname,
 				multiply
 			);
-			return;
+			return null;
 		}
 
 		if (columnIndex < 1) {
@@ -1156,10 +1231,10 @@ public class ComputeProcessor implements IComputeProcessor {
 				"Hostname {} - The index of the column to multiply cannot be < 1, the multiplication computation cannot be performed.",
 				hostname
 			);
-			return;
+			return null;
 		}
 
-		performMathematicalOperation(multiply, columnIndex, operand2);
+		return mathOperator(multiply, columnIndex, operand2);
 	}
 
 	/**
@@ -1244,7 +1319,7 @@ public class ComputeProcessor implements IComputeProcessor {
 				line.set(columnIndex, columnResult);
 			}
 		}
-		sourceTable.setRawData(SourceTable.tableToCsv(sourceTable.getTable(), TABLE_SEP, false));
+		sourceTable.invalidateRawData();
 	}
 
 	/**
@@ -1255,9 +1330,19 @@ public class ComputeProcessor implements IComputeProcessor {
 	@Override
 	@WithSpan("Compute Replace Exec")
 	public void process(@SpanAttribute("compute.definition") final Replace replace) {
+		applyRowOperator(replaceOperator(replace));
+	}
+
+	/**
+	 * Build the row operator performing the {@link Replace} compute.
+	 *
+	 * @param replace {@link Replace} instance
+	 * @return the {@link RowOperator} or <code>null</code> if the table remains unchanged
+	 */
+	private RowOperator replaceOperator(final Replace replace) {
 		if (replace == null) {
 			log.warn("Hostname {} - Compute Operation (Replace) is null, the table remains unchanged.", hostname);
-			return;
+			return null;
 		}
 
 		final Integer columnToReplace = replace.getColumn();
@@ -1270,7 +1355,7 @@ public class ComputeProcessor implements IComputeProcessor {
 				hostname,
 				replace
 			);
-			return;
+			return null;
 		}
 
 		if (columnToReplace < 1) {
@@ -1278,67 +1363,39 @@ public class ComputeProcessor implements IComputeProcessor {
 				"Hostname {} - The index of the column to replace cannot be < 1, the replacement computation cannot be performed.",
 				hostname
 			);
-			return;
+			return null;
 		}
 
 		final int columnIndex = columnToReplace - 1;
 
 		// If replacement is like "$n", we replace the strToReplace by the content of the column n.
-		if (COLUMN_PATTERN.matcher(replacement).matches()) {
-			final int replacementColumnIndex = getColumnIndex(replacement);
-
-			if (!sourceTable.getTable().isEmpty()) {
-				// If strToReplace is like "$n", the strToReplace is actually the content of the column n.
-				if (COLUMN_PATTERN.matcher(strToReplace).matches()) {
-					final int strToReplaceColumnIndex = getColumnIndex(strToReplace);
-					sourceTable
-						.getTable()
-						.forEach(line -> {
-							if (validateSizeAndIndices(line.size(), columnIndex, replacementColumnIndex, strToReplaceColumnIndex)) {
-								line.set(
-									columnIndex,
-									line.get(columnIndex).replace(line.get(strToReplaceColumnIndex), line.get(replacementColumnIndex))
-								);
-							}
-						});
-				} else {
-					sourceTable
-						.getTable()
-						.forEach(line -> {
-							if (validateSizeAndIndices(line.size(), columnIndex, replacementColumnIndex)) {
-								line.set(columnIndex, line.get(columnIndex).replace(strToReplace, line.get(replacementColumnIndex)));
-							}
-						});
-				}
-			}
-		} else {
-			// If strToReplace is like "$n", the strToReplace is actually the content of the column n.
-			if (COLUMN_PATTERN.matcher(strToReplace).matches()) {
-				final int strToReplaceColumnIndex = getColumnIndex(strToReplace);
-				if (!sourceTable.getTable().isEmpty()) {
-					sourceTable
-						.getTable()
-						.forEach(line -> {
-							if (validateSizeAndIndices(line.size(), columnIndex, strToReplaceColumnIndex)) {
-								line.set(columnIndex, line.get(columnIndex).replace(line.get(strToReplaceColumnIndex), replacement));
-							}
-						});
-				}
-			} else {
-				sourceTable
-					.getTable()
-					.forEach(line -> {
-						if (validateSizeAndIndices(line.size(), columnIndex)) {
-							line.set(columnIndex, line.get(columnIndex).replace(strToReplace, replacement));
-						}
-					});
+		final boolean isReplacementColumn = COLUMN_PATTERN.matcher(replacement).matches();
+		final int replacementColumnIndex = isReplacementColumn ? getColumnIndex(replacement) : -1;
+
+		// If strToReplace is like "$n", the strToReplace is actually the content of the column n.
+		final boolean isStrToReplaceColumn = COLUMN_PATTERN.matcher(strToReplace).matches();
+		final int strToReplaceColumnIndex = isStrToReplaceColumn ? getColumnIndex(strToReplace) : -1;
+
+		return (row, downstream) -> {
+			if (
+				validateSizeAndIndices(row.size(), columnIndex) &&
+				(!isReplacementColumn || validateSizeAndIndices(row.size(), replacementColumnIndex)) &&
+				(!isStrToReplaceColumn || validateSizeAndIndices(row.size(), strToReplaceColumnIndex))
+			) {
+				row.set(
+					columnIndex,
+					row
+						.get(columnIndex)
+						.replace(
+							isStrToReplaceColumn ? row.get(strToReplaceColumnIndex) : strToReplace,
+							isReplacementColumn ? row.get(replacementColumnIndex) : replacement
+						)
+				);
 			}
-		}
 
-		sourceTable.setTable(
-			SourceTable.csvToTable(SourceTable.tableToCsv(sourceTable.getTable(), TABLE_SEP, false), TABLE_SEP)
-		);
-		sourceTable.setRawData(SourceTable.tableToCsv(sourceTable.getTable(), TABLE_SEP, false));
+			// Serialize and deserialize in case the new value contains a ';' so that a new column is created
+			reserializeRow(row, downstream);
+		};
 	}
 
 	/**
@@ -1366,9 +1423,19 @@ public class ComputeProcessor implements IComputeProcessor {
 	@Override
 	@WithSpan("Compute Subtract Exec")
 	public void process(@SpanAttribute("compute.definition") final Subtract subtract) {
+		applyRowOperator(subtractOperator(subtract));
+	}
+
+	/**
+	 * Build the row operator performing the {@link Subtract} compute.
+	 *
+	 * @param subtract {@link Subtract} instance
+	 * @return the {@link RowOperator} or <code>null</code> if the table remains unchanged
+	 */
+	private RowOperator subtractOperator(final Subtract subtract) {
 		if (subtract == null) {
 			log.warn("Hostname {} - Compute Operation (Subtract) is null, the table remains unchanged.", hostname);
-			return;
+			return null;
 		}
 
 		Integer columnIndex = subtract.getColumn();
@@ -1380,7 +1447,7 @@ public class ComputeProcessor implements IComputeProcessor {
 				hostname,
 				subtract
 			);
-			return;
+			return null;
 		}
 
 		if (columnIndex < 1) {
@@ -1388,10 +1455,10 @@ public class ComputeProcessor implements IComputeProcessor {
 				"Hostname {} - The index of the column to add cannot be < 1, the addition computation cannot be performed.",
 				hostname
 			);
-			return;
+			return null;
 		}
 
-		performMathematicalOperation(subtract, columnIndex, operand2);
+		return mathOperator(subtract, columnIndex, operand2);
 	}
 
 	@Override
@@ -1500,7 +1567,7 @@ public class ComputeProcessor implements IComputeProcessor {
 				log.warn("Hostname {} - Cannot perform substring on row {} on column index {}", hostname, row, columnIndex);
 			});
 
-		sourceTable.setRawData(SourceTable.tableToCsv(sourceTable.getTable(), TABLE_SEP, false));
+		sourceTable.invalidateRawData();
 	}
 
 	/**
@@ -1555,67 +1622,118 @@ public class ComputeProcessor implements IComputeProcessor {
 	@Override
 	@WithSpan("Compute Translate Exec")
 	public void process(@SpanAttribute("compute.definition") final Translate translate) {
+		final Map<String, String> translations = findTranslations(translate);
+		if (translations == null) {
+			return;
+		}
+
+		boolean needSerialization = false;
+
+		for (List<String> line : sourceTable.getTable()) {
+			needSerialization = translateLine(translate, translations, line) || needSerialization;
+		}
+
+		if (needSerialization) {
+			sourceTable.setTable(
+				SourceTable.csvToTable(SourceTable.tableToCsv(sourceTable.getTable(), TABLE_SEP, false), TABLE_SEP)
+			);
+		}
+
+		sourceTable.invalidateRawData();
+	}
+
+	/**
+	 * Find the translations of the given {@link Translate} compute after checking its arguments.
+	 *
+	 * @param translate {@link Translate} instance
+	 * @return the translation map or <code>null</code> if the translate computation cannot be performed
+	 */
+	private Map<String, String> findTranslations(final Translate translate) {
 		if (translate == null) {
 			log.warn(
 				"Hostname {} - The Source (Translate) to visit is null, the translate computation cannot be performed.",
 				hostname
 			);
-			return;
+			return null;
 		}
 
 		final ITranslationTable translationTable = translate.getTranslationTable();
 		if (translationTable == null) {
 			log.warn("Hostname {} - Translation Table is null, the translate computation cannot be performed.", hostname);
-			return;
+			return null;
 		}
 
 		final Map<String, String> translations = findTranslations(translationTable);
 
 		if (translations == null) {
 			log.warn("Hostname {} - The Translation Map is null, the translate computation cannot be performed.", hostname);
-			return;
+			return null;
 		}
 
-		int columnIndex = translate.getColumn() - 1;
-		if (columnIndex < 0) {
+		if (translate.getColumn() - 1 < 0) {
 			log.warn(
 				"Hostname {} - The index of the column to translate cannot be < 1, the translate computation cannot be performed.",
 				hostname
 			);
-			return;
+			return null;
 		}
 
-		boolean needSerialization = false;
+		return translations;
+	}
 
-		final String defaultTranslation = translations.get(DEFAULT);
+	/**
+	 * Translate the value of the given line.
+	 *
+	 * @param translate    {@link Translate} instance
+	 * @param translations The translation map of the compute
+	 * @param line         The line to update
+	 * @return <code>true</code> if the new value contains the table separator and the table must be serialized again
+	 */
+	private boolean translateLine(
+		final Translate translate,
+		final Map<String, String> translations,
+		final List<String> line
+	) {
+		final int columnIndex = translate.getColumn() - 1;
+		if (columnIndex >= line.size()) {
+			return false;
+		}
 
-		for (List<String> line : sourceTable.getTable()) {
-			if (columnIndex < line.size()) {
-				final String valueToBeReplaced = line.get(columnIndex).toLowerCase();
-				final String newValue = translations.getOrDefault(valueToBeReplaced, defaultTranslation);
+		final String valueToBeReplaced = line.get(columnIndex).toLowerCase();
+		final String newValue = translations.getOrDefault(valueToBeReplaced, translations.get(DEFAULT));
 
-				if (newValue != null) {
-					line.set(columnIndex, newValue);
-
-					needSerialization = needSerialization || newValue.contains(TABLE_SEP);
-				} else {
-					log.warn(
-						"Hostname {} - The Translation Map {} does not contain the following value {} or default.",
-						hostname,
-						translationTable,
-						valueToBeReplaced
-					);
-				}
-			}
+		if (newValue == null) {
+			log.warn(
+				"Hostname {} - The Translation Map {} does not contain the following value {} or default.",
+				hostname,
+				translate.getTranslationTable(),
+				valueToBeReplaced
+			);
+			return false;
 		}
 
-		if (needSerialization) {
-			sourceTable.setTable(
-				SourceTable.csvToTable(SourceTable.tableToCsv(sourceTable.getTable(), TABLE_SEP, false), TABLE_SEP)
-			);
+		line.set(columnIndex, newValue);
+
+		return newValue.contains(TABLE_SEP);
+	}
+
+	/**
+	 * Build the row operator performing the {@link Translate} compute. A translation adding columns requires the
+	 * whole table to be serialized again, such a compute cannot be applied row by row.
+	 *
+	 * @param translate {@link Translate} instance
+	 * @return the {@link RowOperator} or <code>null</code> if the table remains unchanged
+	 */
+	private RowOperator translateOperator(final Translate translate) {
+		final Map<String, String> translations = findTranslations(translate);
+		if (translations == null) {
+			return null;
 		}
 
-		sourceTable.setRawData(SourceTable.tableToCsv(sourceTable.getTable(), TABLE_SEP, false));
+		return (row, downstream) -> {
+			translateLine(translate, translations, row);
+			downstream.accept(row);
+		};
 	}
 
 	/**
@@ -1639,7 +1757,7 @@ public class ComputeProcessor implements IComputeProcessor {
 
 			if (xmlResult != null && !xmlResult.isEmpty()) {
 				sourceTable.setTable(xmlResult);
-				sourceTable.setRawData(SourceTable.tableToCsv(sourceTable.getTable(), TABLE_SEP, false));
+				sourceTable.invalidateRawData();
 			}
 		} catch (Exception e) {
 			logComputeError(
@@ -1653,20 +1771,17 @@ public class ComputeProcessor implements IComputeProcessor {
 	}
 
 	/**
-	 * Perform a mathematical computation (add, subtract, multiply or divide) on a given column in the sourceTable
-	 * Check if the operand2 is a reference to a column or a raw value
+	 * Build the row operator performing a mathematical computation (add, subtract, multiply or divide) on a given
+	 * column in the sourceTable. Check if the operand2 is a reference to a column or a raw value
 	 * @param computeOperation The compute operation must be one of : Add, Subtract, Multiply, Divide.
 	 * @param column           Column to be changed
 	 * @param operand2         Can be a reference to another column or a raw value
+	 * @return the {@link RowOperator} or <code>null</code> if the table remains unchanged
 	 */
-	private void performMathematicalOperation(
-		final Compute computeOperation,
-		final Integer column,
-		final String operand2
-	) {
+	private RowOperator mathOperator(final Compute computeOperation, final Integer column, final String operand2) {
 		if (!MATH_FUNCTIONS_MAP.containsKey(computeOperation.getClass())) {
 			log.warn("Hostname {} - The compute operation must be one of : Add, Subtract, Multiply, Divide.", hostname);
-			return;
+			return null;
 		}
 
 		Integer columnIndex = column - 1;
@@ -1682,7 +1797,7 @@ public class ComputeProcessor implements IComputeProcessor {
 						hostname,
 						computeOperation.getClass()
 					);
-					return;
+					return null;
 				}
 			} catch (NumberFormatException e) {
 				log.warn(
@@ -1692,35 +1807,19 @@ public class ComputeProcessor implements IComputeProcessor {
 					computeOperation
 				);
 				log.debug("Hostname {} - Stack trace:", hostname, e);
-				return;
+				return null;
 			}
 		} else if (!NumberHelper.isNumeric(operand2)) {
 			log.warn("Hostname {} - operand2 is not a number: {}, the table remains unchanged.", hostname, operand2);
-			return;
+			return null;
 		}
 
-		performMathComputeOnTable(computeOperation, columnIndex, operand2, operandByIndex);
-	}
-
-	/**
-	 * Execute the computational operation (Add, Subtract, Divide or Multiply) on each row of the tableSource.
-	 *
-	 * @param computeOperation The {@link Compute} operation that should be performed.
-	 * @param columnIndex      The index of the column on which the operation should be performed.
-	 * @param operand2         The second operand of the operation.
-	 * @param operand2Index    The column holding the value of the second operand in the {@link SourceTable}.
-	 */
-	private void performMathComputeOnTable(
-		final Compute computeOperation,
-		final Integer columnIndex,
-		final String operand2,
-		final int operand2Index
-	) {
-		for (List<String> line : sourceTable.getTable()) {
-			performMathComputeOnLine(computeOperation, columnIndex, operand2, operand2Index, line);
-		}
+		final int operand2Index = operandByIndex;
 
-		sourceTable.setRawData(SourceTable.tableToCsv(sourceTable.getTable(), TABLE_SEP, false));
+		return (row, downstream) -> {
+			performMathComputeOnLine(computeOperation, columnIndex, operand2, operand2Index, row);
+			downstream.accept(row);
+		};
 	}
 
 	/**
@@ -1816,37 +1915,72 @@ public class ComputeProcessor implements IComputeProcessor {
 			!sourceTable.getTable().isEmpty();
 
 		if (firstChecks) {
-			// Case 1 : concatenation with an exiting column
-			if (abstractConcat.getColumn() <= sourceTable.getTable().get(0).size()) {
-				int columnIndex = abstractConcat.getColumn() - 1;
-				String concatString = abstractConcat.getValue();
-
-				// If abstractConcat.getValue() is like "$n",
-				// we concat the column n instead of abstractConcat.getString()
-				Matcher matcher = COLUMN_PATTERN.matcher(concatString);
-				if (matcher.matches()) {
-					int concatColumnIndex = Integer.parseInt(matcher.group(1)) - 1;
-					sourceTable.getTable().forEach(line -> concatColumns(line, columnIndex, concatColumnIndex, abstractConcat));
-				} else {
-					sourceTable.getTable().forEach(line -> concatString(line, columnIndex, abstractConcat));
-
-					// Serialize and deserialize
-					// in case the String to concat contains a ';'
-					// so that a new column is created.
-					if (concatString.contains(TABLE_SEP)) {
-						sourceTable.setTable(
-							SourceTable.csvToTable(SourceTable.tableToCsv(sourceTable.getTable(), TABLE_SEP, false), TABLE_SEP)
-						);
+			applyRowOperator(concatOperator(abstractConcat));
+		}
+	}
+
+	/**
+	 * Build the row operator performing the Prepend and Append computes.<br>
+	 * Like on the whole table, the first row decides whether an existing column is concatenated
+	 * or a new column is added.
+	 *
+	 * @param abstractConcat {@link AbstractConcat} instance
+	 * @return the {@link RowOperator} or <code>null</code> if the table remains unchanged
+	 */
+	private RowOperator concatOperator(final AbstractConcat abstractConcat) {
+		if (
+			abstractConcat == null ||
+			abstractConcat.getValue() == null ||
+			abstractConcat.getColumn() == null ||
+			abstractConcat.getColumn() <= 0
+		) {
+			return null;
+		}
+
+		final int column = abstractConcat.getColumn();
+		final int columnIndex = column - 1;
+		final String concatString = abstractConcat.getValue();
+
+		// If abstractConcat.getValue() is like "$n",
+		// we concat the column n instead of abstractConcat.getString()
+		final Matcher matcher = COLUMN_PATTERN.matcher(concatString);
+		final boolean isConcatColumn = matcher.matches();
+		final int concatColumnIndex = isConcatColumn ? Integer.parseInt(matcher.group(1)) - 1 : -1;
+
+		return new RowOperator() {
+			private int firstRowSize = -1;
+
+			@Override
+			public void apply(final List<String> row, final Consumer<List<String>> downstream) {
+				if (firstRowSize == -1) {
+					firstRowSize = row.size();
+				}
+
+				// Case 1 : concatenation with an exiting column
+				if (column <= firstRowSize) {
+					if (isConcatColumn) {
+						concatColumns(row, columnIndex, concatColumnIndex, abstractConcat);
+					} else {
+						concatString(row, columnIndex, abstractConcat);
+
+						// Serialize and deserialize
+						// in case the String to concat contains a ';'
+						// so that a new column is created.
+						if (concatString.contains(TABLE_SEP)) {
+							reserializeRow(row, downstream);
+							return;
+						}
 					}
+				} else if (column == firstRowSize + 1) {
+					// Case 2 : concatenation with non existing column
+
+					// add at the end of the list (or at the beginning if the list is empty)
+					row.add(concatString);
 				}
-			} else if (abstractConcat.getColumn() == sourceTable.getTable().get(0).size() + 1) {
-				// Case 2 : concatenation with non existing column
 
-				// add at the end of the list (or at the beginning if the list is empty)
-				sourceTable.getTable().forEach(line -> line.add(abstractConcat.getValue()));
+				downstream.accept(row);
 			}
-			sourceTable.setRawData(SourceTable.tableToCsv(sourceTable.getTable(), TABLE_SEP, false));
-		}
+		};
 	}
 
 	/**
@@ -1946,4 +2080,131 @@ public class ComputeProcessor implements IComputeProcessor {
 
 		return ((TranslationTable) translation).getTranslations();
 	}
+
+	/**
+	 * Whether the given compute transforms each row independently of the other rows of the table.
+	 * Consecutive row-local computes can be processed together through {@link #processRowLocal(List)}.
+	 *
+	 * @param compute The compute to check
+	 * @return boolean value
+	 */
+	public static boolean isRowLocal(final Compute compute) {
+		return compute != null && ROW_LOCAL_COMPUTES.contains(compute.getClass());
+	}
+
+	/**
+	 * Process the given computes in a single pass over the table: each row is streamed through the chain of row
+	 * operators built from the computes. A compute that cannot be applied row by row acts as a barrier, it is
+	 * processed on the whole table between the operators preceding and following it.
+	 *
+	 * @param computes The computes to process, in order
+	 */
+	@Override
+	@WithSpan("Compute RowLocal Exec")
+	public void processRowLocal(final List<Compute> computes) {
+		final List<RowOperator> operators = new ArrayList<>();
+
+		for (final Compute compute : computes) {
+			if (!isRowLocal(compute) || requiresTableSerialization(compute)) {
+				applyRowOperators(operators);
+				operators.clear();
+				compute.accept(this);
+				continue;
+			}
+
+			final RowOperator operator = toRowOperator(compute);
+			if (operator != null) {
+				operators.add(operator);
+			}
+		}
+
+		applyRowOperators(operators);
+	}
+
+	/**
+	 * Build the row operator of the given row-local compute.
+	 *
+	 * @param compute The row-local compute
+	 * @return the {@link RowOperator} or <code>null</code> if the table remains unchanged
+	 */
+	private RowOperator toRowOperator(final Compute compute) {
+		return switch (compute) {
+			case Add add -> addOperator(add);
+			case Subtract subtract -> subtractOperator(subtract);
+			case Multiply multiply -> multiplyOperator(multiply);
+			case Divide divide -> divideOperator(divide);
+			case DuplicateColumn duplicateColumn -> duplicateColumnOperator(duplicateColumn);
+			case AbstractMatchingLines abstractMatchingLines -> matchingLinesOperator(abstractMatchingLines);
+			case AbstractConcat abstractConcat -> concatOperator(abstractConcat);
+			case Replace replace -> replaceOperator(replace);
+			case Translate translate -> translateOperator(translate);
+			default -> null;
+		};
+	}
+
+	/**
+	 * Whether the given compute may add columns to some rows only, in which case the whole table must be
+	 * serialized again and the compute cannot be applied row by row.
+	 *
+	 * @param compute The row-local compute
+	 * @return boolean value
+	 */
+	private boolean requiresTableSerialization(final Compute compute) {
+		if (compute instanceof Translate translate && translate.getTranslationTable() != null) {
+			final Map<String, String> translations = findTranslations(translate.getTranslationTable());
+			return (
+				translations != null &&
+				translations.values().stream().anyMatch(value -> value != null && value.contains(TABLE_SEP))
+			);
+		}
+		return false;
+	}
+
+	/**
+	 * Apply the given row operator on each row of the table.
+	 *
+	 * @param operator The {@link RowOperator}, <code>null</code> leaves the table unchanged
+	 */
+	private void applyRowOperator(final RowOperator operator) {
+		if (operator != null) {
+			applyRowOperators(List.of(operator));
+		}
+	}
+
+	/**
+	 * Stream each row of the table through the chain of the given row operators and replace the table with the
+	 * resulting rows.
+	 *
+	 * @param operators The {@link RowOperator} instances, in order
+	 */
+	private void applyRowOperators(final List<RowOperator> operators) {
+		if (operators.isEmpty()) {
+			return;
+		}
+
+		// Chain the operators from the last one, which feeds the result table
+		final List<List<String>> resultTable = new ArrayList<>(sourceTable.getTable().size());
+		Consumer<List<String>> pipeline = resultTable::add;
+		for (int i = operators.size() - 1; i >= 0; i--) {
+			final RowOperator operator = operators.get(i);
+			final Consumer<List<String>> downstream = pipeline;
+			pipeline = row -> operator.apply(row, downstream);
+		}
+
+		sourceTable.getTable().forEach(pipeline);
+
+		sourceTable.setTable(resultTable);
+		sourceTable.invalidateRawData();
+	}
+
+	/**
+	 * Serialize the given row to CSV then parse it again, so that a value containing the table separator is split
+	 * into several columns. Forwards nothing when the row is empty.
+	 *
+	 * @param row        The row to serialize again
+	 * @param downstream The consumer receiving the resulting rows
+	 */
+	private static void reserializeRow(final List<String> row, final Consumer<List<String>> downstream) {
+		SourceTable.csvToTable(SourceTable.lineToCsv(row, TABLE_SEP, false), TABLE_SEP).forEach(downstream);
+	}
 }
@@ -21,6 +21,7 @@ package org.metricshub.engine.strategy.source.compute;
  * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
  */
 
+import java.util.List;
 import java.util.Map;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -193,13 +194,28 @@ public class ComputeUpdaterProcessor implements IComputeProcessor {
 		processCompute(xml2csv);
 	}
 
+	@Override
+	public void processRowLocal(final List<Compute> computes) {
+		computeProcessor.processRowLocal(computes.stream().map(this::prepareCompute).toList());
+	}
+
 	/**
-	 * Copy the given compute, replace device id when running mono-instance collects, replace
-	 * source reference and finally call the compute visitor
+	 * Prepare the given compute then call the compute visitor
 	 *
 	 * @param origin original compute instance
 	 */
 	private void processCompute(final Compute origin) {
+		prepareCompute(origin).accept(computeProcessor);
+	}
+
+	/**
+	 * Copy the given compute, replace device id when running mono-instance collects and replace
+	 * source reference
+	 *
+	 * @param origin original compute instance
+	 * @return the updated copy of the compute
+	 */
+	private Compute prepareCompute(final Compute origin) {
 		// Deep copy
 		final Compute copy = origin.copy();
 
@@ -217,8 +233,7 @@ public class ComputeUpdaterProcessor implements IComputeProcessor {
 		// Replace source reference
 		copy.update(value -> replaceSourceReference(value, copy));
 
-		// Call the next compute visitor
-		copy.accept(computeProcessor);
+		return copy;
 	}
 
 	/**
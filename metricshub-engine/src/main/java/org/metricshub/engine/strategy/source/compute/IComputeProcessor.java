@@ -21,11 +21,13 @@ package org.metricshub.engine.strategy.source.compute;
  * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
  */
 
+import java.util.List;
 import org.metricshub.engine.connector.model.monitor.task.source.compute.Add;
 import org.metricshub.engine.connector.model.monitor.task.source.compute.And;
 import org.metricshub.engine.connector.model.monitor.task.source.compute.Append;
 import org.metricshub.engine.connector.model.monitor.task.source.compute.ArrayTranslate;
 import org.metricshub.engine.connector.model.monitor.task.source.compute.Awk;
+import org.metricshub.engine.connector.model.monitor.task.source.compute.Compute;
 import org.metricshub.engine.connector.model.monitor.task.source.compute.Convert;
 import org.metricshub.engine.connector.model.monitor.task.source.compute.Decode;
 import org.metricshub.engine.connector.model.monitor.task.source.compute.Divide;
@@ -221,4 +223,14 @@ public interface IComputeProcessor {
 	 * @param xml2Csv The Xml2Csv compute operation to be processed.
 	 */
 	void process(Xml2Csv xml2Csv);
+
+	/**
+	 * Processes a sequence of consecutive row-local compute operations on the source data.
+	 * By default, each compute operation is processed on its own, in order.
+	 *
+	 * @param computes The row-local compute operations to be processed, see {@link ComputeProcessor#isRowLocal(Compute)}.
+	 */
+	default void processRowLocal(final List<Compute> computes) {
+		computes.forEach(compute -> compute.accept(this));
+	}
 }
@@ -0,0 +1,41 @@
+package org.metricshub.engine.strategy.source.compute;
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub Engine
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2025 MetricsHub
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A row-local step of a compute pipeline. Each row of the source table is pushed through the operator which forwards
+ * zero (filtered out), one or several rows to the next step.<br>
+ * Consecutive row-local computes are fused into a chain of operators so that the source table is traversed only once.
+ */
+@FunctionalInterface
+public interface RowOperator {
+	/**
+	 * Process the given row and forward the resulting rows to the downstream consumer.
+	 *
+	 * @param row        The row to process, it may be updated in place
+	 * @param downstream The consumer receiving the resulting rows
+	 */
+	void apply(List<String> row, Consumer<List<String>> downstream);
+}
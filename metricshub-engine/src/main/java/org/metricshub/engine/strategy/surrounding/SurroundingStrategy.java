@@ -117,7 +117,7 @@ public abstract class SurroundingStrategy extends AbstractStrategy {
 			.build();
 
 		// Process the ordered sources along with computes, based on the constructed job information.
-		processSourcesAndComputes(orderedSources.getSources(), jobInfo);
+		processSourcesAndComputes(orderedSources, jobInfo);
 
 		final long jobEndTime = System.currentTimeMillis();
 		// Set the job duration metric in the host monitor
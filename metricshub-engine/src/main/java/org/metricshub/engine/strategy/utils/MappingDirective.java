@@ -0,0 +1,93 @@
+package org.metricshub.engine.strategy.utils;
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub Engine
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2025 MetricsHub
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import static org.metricshub.engine.common.helpers.MetricsHubConstants.COLUMN_PATTERN;
+import static org.metricshub.engine.common.helpers.MetricsHubConstants.COLUMN_REFERENCE_PATTERN;
+
+import java.util.regex.Pattern;
+
+/**
+ * The directives a mapping value can express (column extraction, AWK script, conversion functions, etc.).
+ * <br>
+ * The constants are declared in order of precedence: the first directive matching a value wins, and
+ * {@link #CONSTANT} is used when no other directive matches.
+ */
+public enum MappingDirective {
+	COLUMN_EXTRACTION(COLUMN_PATTERN),
+	AWK_SCRIPT(Pattern.compile("\\$\\{awk::.+\\}")),
+	MEGABIT_2_BIT(Pattern.compile("megabit2bit\\((.+)\\)", Pattern.CASE_INSENSITIVE)),
+	MEGABIT_2_BYTE(Pattern.compile("megabit2byte\\((.+)\\)", Pattern.CASE_INSENSITIVE)),
+	PERCENT_2_RATIO(Pattern.compile("percent2ratio\\((.+)\\)", Pattern.CASE_INSENSITIVE)),
+	MEGAHERTZ_2_HERTZ(Pattern.compile("megahertz2hertz\\((.+)\\)", Pattern.CASE_INSENSITIVE)),
+	MEBIBYTE_2_BYTE(Pattern.compile("mebibyte2byte\\((.+)\\)", Pattern.CASE_INSENSITIVE)),
+	MILLIVOLT_2_VOLT(Pattern.compile("millivolt2volt\\((.+)\\)", Pattern.CASE_INSENSITIVE)),
+	BOOLEAN(Pattern.compile("boolean\\((.+)\\)", Pattern.CASE_INSENSITIVE)),
+	LEGACY_LED_STATUS(Pattern.compile("legacyledstatus\\((.+)\\)", Pattern.CASE_INSENSITIVE)),
+	LEGACY_INTRUSION_STATUS(Pattern.compile("legacyintrusionstatus\\((.+)\\)", Pattern.CASE_INSENSITIVE)),
+	LEGACY_PREDICTED_FAILURE(Pattern.compile("legacypredictedfailure\\((.+)\\)", Pattern.CASE_INSENSITIVE)),
+	LEGACY_NEEDS_CLEANING(Pattern.compile("legacyneedscleaning\\((.+)\\)", Pattern.CASE_INSENSITIVE)),
+	LEGACY_LINK_STATUS(Pattern.compile("legacylinkstatus\\((.+)\\)", Pattern.CASE_INSENSITIVE)),
+	LEGACY_FULL_DUPLEX(Pattern.compile("legacyfullduplex\\((.+)\\)", Pattern.CASE_INSENSITIVE)),
+	LOOKUP(Pattern.compile("lookup\\((.+)\\)", Pattern.CASE_INSENSITIVE)),
+	COMPUTE_POWER_SHARE_RATIO(Pattern.compile("computepowershareratio\\((.+)\\)", Pattern.CASE_INSENSITIVE)),
+	LEGACY_POWER_SUPPLY_UTILIZATION(Pattern.compile("legacypowersupplyutilization\\((.+)\\)", Pattern.CASE_INSENSITIVE)),
+	FAKE_COUNTER(Pattern.compile("fakecounter\\((.+)\\)", Pattern.CASE_INSENSITIVE)),
+	ACCUMULATE(Pattern.compile("accumulate\\((.+)\\)", Pattern.CASE_INSENSITIVE)),
+	RATE(Pattern.compile("rate\\((.+)\\)", Pattern.CASE_INSENSITIVE)),
+	COLUMN_REFERENCE(COLUMN_REFERENCE_PATTERN),
+	INDEX_REFERENCE(Pattern.compile("$index", Pattern.LITERAL)),
+	CONSTANT(null);
+
+	private static final MappingDirective[] DIRECTIVES = values();
+
+	private final Pattern pattern;
+
+	MappingDirective(final Pattern pattern) {
+		this.pattern = pattern;
+	}
+
+	/**
+	 * Whether the given value expresses this directive.
+	 *
+	 * @param value The mapping value to check.
+	 * @return {@code true} if the value matches this directive. {@link #CONSTANT} matches any value.
+	 */
+	public boolean matches(final String value) {
+		return pattern == null || pattern.matcher(value).find();
+	}
+
+	/**
+	 * Find the directive expressed by the given mapping value.
+	 *
+	 * @param value The mapping value to classify.
+	 * @return The first {@link MappingDirective} matching the value, {@link #CONSTANT} if none matches.
+	 */
+	public static MappingDirective of(final String value) {
+		for (MappingDirective directive : DIRECTIVES) {
+			if (directive.matches(value)) {
+				return directive;
+			}
+		}
+		return CONSTANT;
+	}
+}
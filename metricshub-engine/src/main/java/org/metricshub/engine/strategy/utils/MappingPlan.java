@@ -0,0 +1,236 @@
+package org.metricshub.engine.strategy.utils;
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub Engine
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2025 MetricsHub
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import static org.metricshub.engine.common.helpers.MetricsHubConstants.SOURCE_REF_PATTERN;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.metricshub.engine.connector.model.monitor.task.Mapping;
+
+/**
+ * The compiled form of a {@link Mapping}: each attribute, metric, conditional collection and legacy text parameter
+ * value is classified once into a {@link MappingDirective}, so that interpreting a row no longer needs to run the
+ * directive patterns on every value.
+ * <br>
+ * Values referencing a source (<code>${source::...}</code>) are only known once the source has been executed,
+ * therefore their directive is resolved when the row is interpreted.
+ * <br>
+ * The plans are cached by {@link #of(Mapping)}, keyed by the identity of the mapping, so that all the rows interpreted
+ * with the same mapping share its plan. The cache does not keep the mappings alive.
+ */
+@Getter
+public class MappingPlan {
+
+	/**
+	 * The compiled plans, keyed by the identity of their mapping.
+	 */
+	private static final Map<MappingKey, MappingPlan> PLANS = new ConcurrentHashMap<>();
+
+	/**
+	 * The keys of the mappings which have been garbage collected, to remove from {@link #PLANS}.
+	 */
+	private static final ReferenceQueue<Mapping> RELEASED_MAPPINGS = new ReferenceQueue<>();
+
+	private final List<Expression> attributes;
+	private final List<Expression> metrics;
+	private final List<Expression> conditionalCollection;
+	private final List<Expression> legacyTextParameters;
+
+	/**
+	 * The compiled key-value maps, used to detect a mapping whose maps have been replaced.
+	 */
+	@Getter(AccessLevel.NONE)
+	private final List<Map<String, String>> compiledMaps;
+
+	/**
+	 * Compile the given mapping.
+	 *
+	 * @param mapping The {@link Mapping} to compile.
+	 */
+	public MappingPlan(final Mapping mapping) {
+		this.compiledMaps = mapsOf(mapping);
+		this.attributes = compile(mapping.getAttributes());
+		this.metrics = compile(mapping.getMetrics());
+		this.conditionalCollection = compile(mapping.getConditionalCollection());
+		this.legacyTextParameters = compile(mapping.getLegacyTextParameters());
+	}
+
+	/**
+	 * Get the compiled form of the given mapping, compiling it on first use. The plan is compiled again if the key-value
+	 * maps of the mapping have been replaced.
+	 *
+	 * @param mapping The {@link Mapping} to compile.
+	 * @return The {@link MappingPlan} of the mapping.
+	 */
+	public static MappingPlan of(final Mapping mapping) {
+		expungeReleasedMappings();
+
+		final MappingPlan plan = PLANS.get(new MappingKey(mapping, null));
+		if (plan != null && plan.isCompiledFrom(mapping)) {
+			return plan;
+		}
+
+		final MappingPlan newPlan = new MappingPlan(mapping);
+		PLANS.put(new MappingKey(mapping, RELEASED_MAPPINGS), newPlan);
+		return newPlan;
+	}
+
+	/**
+	 * Remove the plans of the mappings which have been garbage collected.
+	 */
+	private static void expungeReleasedMappings() {
+		Reference<? extends Mapping> released;
+		while ((released = RELEASED_MAPPINGS.poll()) != null) {
+			PLANS.remove(released);
+		}
+	}
+
+	/**
+	 * Whether this plan has been compiled from the current key-value maps of the given mapping.
+	 *
+	 * @param other The {@link Mapping} to check.
+	 * @return {@code true} if the mapping still holds the maps this plan has been compiled from.
+	 */
+	public boolean isCompiledFrom(final Mapping other) {
+		final List<Map<String, String>> otherMaps = mapsOf(other);
+		for (int i = 0; i < compiledMaps.size(); i++) {
+			if (compiledMaps.get(i) != otherMaps.get(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Get the key-value maps of the given mapping.
+	 *
+	 * @param mapping The {@link Mapping} instance.
+	 * @return The attributes, metrics, conditional collection and legacy text parameters maps, in this order.
+	 */
+	private static List<Map<String, String>> mapsOf(final Mapping mapping) {
+		return Arrays.asList(
+			mapping.getAttributes(),
+			mapping.getMetrics(),
+			mapping.getConditionalCollection(),
+			mapping.getLegacyTextParameters()
+		);
+	}
+
+	/**
+	 * Classify each value of the given key-value pairs.
+	 *
+	 * @param keyValuePairs Pairs of key values (for example: attribute key and attribute value).
+	 * @return The list of compiled {@link Expression} instances, in the order of the key-value pairs.
+	 */
+	static List<Expression> compile(final Map<String, String> keyValuePairs) {
+		if (keyValuePairs == null || keyValuePairs.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		final List<Expression> expressions = new ArrayList<>(keyValuePairs.size());
+		keyValuePairs.forEach((key, value) -> {
+			if (value != null) {
+				expressions.add(new Expression(key, value, compile(value)));
+			}
+		});
+
+		return Collections.unmodifiableList(expressions);
+	}
+
+	/**
+	 * Classify the given value.
+	 *
+	 * @param value The mapping value.
+	 * @return The {@link MappingDirective} of the value, or {@code null} when the value references a source.
+	 */
+	private static MappingDirective compile(final String value) {
+		if (SOURCE_REF_PATTERN.matcher(value).find()) {
+			return null;
+		}
+		return MappingDirective.of(value);
+	}
+
+	/**
+	 * A weak reference to a {@link Mapping}, equal to the references to the same mapping instance. The mapping
+	 * equality cannot be used as its key-value maps are mutable.
+	 */
+	private static final class MappingKey extends WeakReference<Mapping> {
+
+		private final int hash;
+
+		/**
+		 * Create a key for the given mapping.
+		 *
+		 * @param mapping The {@link Mapping} instance.
+		 * @param queue   The queue notified once the mapping is garbage collected, {@code null} for a lookup key.
+		 */
+		private MappingKey(final Mapping mapping, final ReferenceQueue<Mapping> queue) {
+			super(mapping, queue);
+			this.hash = System.identityHashCode(mapping);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(final Object other) {
+			if (this == other) {
+				return true;
+			}
+			if (!(other instanceof MappingKey otherKey)) {
+				return false;
+			}
+			final Mapping mapping = get();
+			return mapping != null && mapping == otherKey.get();
+		}
+	}
+
+	/**
+	 * A compiled mapping value.
+	 *
+	 * @param key       Unique key of the attribute or metric.
+	 * @param value     The value as defined in the connector.
+	 * @param directive The directive expressed by the value, {@code null} if it depends on a source reference.
+	 */
+	public record Expression(String key, String value, MappingDirective directive) {
+		/**
+		 * Whether the value references a source and must be resolved for each interpretation.
+		 *
+		 * @return {@code true} if the value contains a source reference.
+		 */
+		public boolean hasSourceReference() {
+			return directive == null;
+		}
+	}
+}
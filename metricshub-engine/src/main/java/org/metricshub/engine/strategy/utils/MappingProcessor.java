@@ -33,8 +33,6 @@ import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.regex.MatchResult;
 import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Stream;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Builder.Default;
@@ -82,72 +80,6 @@ public class MappingProcessor {
 	private static final String TRUE = "true";
 	private static final String INVALID_VALUE = "Hostname {} - Value {} is invalid for {}.";
 
-	private static final Pattern MEBIBYTE_2_BYTE_PATTERN = Pattern.compile(
-		"mebibyte2byte\\((.+)\\)",
-		Pattern.CASE_INSENSITIVE
-	);
-	private static final Pattern MEGABIT_2_BYTE_PATTERN = Pattern.compile(
-		"megabit2byte\\((.+)\\)",
-		Pattern.CASE_INSENSITIVE
-	);
-	private static final Pattern MEGABIT_2_BIT_PATTERN = Pattern.compile(
-		"megabit2bit\\((.+)\\)",
-		Pattern.CASE_INSENSITIVE
-	);
-	private static final Pattern MEGAHERTZ_2_HERTZ_PATTERN = Pattern.compile(
-		"megahertz2hertz\\((.+)\\)",
-		Pattern.CASE_INSENSITIVE
-	);
-	private static final Pattern MILLIVOLT_2_VOLT_PATTERN = Pattern.compile(
-		"millivolt2volt\\((.+)\\)",
-		Pattern.CASE_INSENSITIVE
-	);
-	private static final Pattern PERCENT_2_RATIO_PATTERN = Pattern.compile(
-		"percent2ratio\\((.+)\\)",
-		Pattern.CASE_INSENSITIVE
-	);
-	private static final Pattern LEGACY_FULL_DUPLEX_PATTERN = Pattern.compile(
-		"legacyfullduplex\\((.+)\\)",
-		Pattern.CASE_INSENSITIVE
-	);
-	private static final Pattern LEGACY_LINK_STATUS_PATTERN = Pattern.compile(
-		"legacylinkstatus\\((.+)\\)",
-		Pattern.CASE_INSENSITIVE
-	);
-	private static final Pattern LEGACY_PREDICTED_FAILURE_PATTERN = Pattern.compile(
-		"legacypredictedfailure\\((.+)\\)",
-		Pattern.CASE_INSENSITIVE
-	);
-	private static final Pattern LEGACY_NEEDS_CLEANING_PATTERN = Pattern.compile(
-		"legacyneedscleaning\\((.+)\\)",
-		Pattern.CASE_INSENSITIVE
-	);
-	private static final Pattern LEGACY_INTRUSION_STATUS_PATTERN = Pattern.compile(
-		"legacyintrusionstatus\\((.+)\\)",
-		Pattern.CASE_INSENSITIVE
-	);
-	private static final Pattern LEGACY_POWER_SUPPLY_UTILIZATION_PATTERN = Pattern.compile(
-		"legacypowersupplyutilization\\((.+)\\)",
-		Pattern.CASE_INSENSITIVE
-	);
-	private static final Pattern LEGACY_LED_STATUS_PATTERN = Pattern.compile(
-		"legacyledstatus\\((.+)\\)",
-		Pattern.CASE_INSENSITIVE
-	);
-	private static final Pattern LOOKUP_PATTERN = Pattern.compile("lookup\\((.+)\\)", Pattern.CASE_INSENSITIVE);
-	private static final Pattern BOOLEAN_PATTERN = Pattern.compile("boolean\\((.+)\\)", Pattern.CASE_INSENSITIVE);
-	private static final Pattern FAKE_COUNTER_PATTERN = Pattern.compile(
-		"fakecounter\\((.+)\\)",
-		Pattern.CASE_INSENSITIVE
-	);
-	private static final Pattern ACCUMULATE_PATTERN = Pattern.compile("accumulate\\((.+)\\)", Pattern.CASE_INSENSITIVE);
-	private static final Pattern RATE_PATTERN = Pattern.compile("rate\\((.+)\\)", Pattern.CASE_INSENSITIVE);
-	private static final Pattern COMPUTE_POWER_SHARE_RATIO_PATTERN = Pattern.compile(
-		"computepowershareratio\\((.+)\\)",
-		Pattern.CASE_INSENSITIVE
-	);
-	private static final Pattern AWK_SCRIPT_PATTERN = Pattern.compile("\\$\\{awk::.+\\}");
-
 	private TelemetryManager telemetryManager;
 	private Mapping mapping;
 	private String id;
@@ -159,12 +91,25 @@ public class MappingProcessor {
 	@Default
 	private Map<String, BiFunction<KeyValuePair, Monitor, String>> computationFunctions = new HashMap<>();
 
+	/**
+	 * Move this processor to the given source table row, so that a single processor interprets all the rows of
+	 * a mapping. The context computations left over from the previous row are discarded.
+	 *
+	 * @param row          The source table row to interpret
+	 * @param indexCounter The 1-based index of the row, replacing <code>$index</code> in the mapping values
+	 */
+	public void moveToRow(final List<String> row, final int indexCounter) {
+		this.row = row;
+		this.indexCounter = indexCounter;
+		computationFunctions.clear();
+	}
+
 	/**
 	 * This method interprets non context mapping attributes
 	 * @return Map&lt;String, String&gt;
 	 */
 	public Map<String, String> interpretNonContextMappingAttributes() {
-		return interpretNonContextMapping(mapping.getAttributes());
+		return interpretNonContextMapping(MappingPlan.of(mapping).getAttributes());
 	}
 
 	/**
@@ -172,7 +117,7 @@ public class MappingProcessor {
 	 * @return Map&lt;String, String&gt;
 	 */
 	public Map<String, String> interpretNonContextMappingMetrics() {
-		return interpretNonContextMapping(mapping.getMetrics());
+		return interpretNonContextMapping(MappingPlan.of(mapping).getMetrics());
 	}
 
 	/**
@@ -180,7 +125,7 @@ public class MappingProcessor {
 	 * @return Map&lt;String, String&gt;
 	 */
 	public Map<String, String> interpretNonContextMappingConditionalCollection() {
-		return interpretNonContextMapping(mapping.getConditionalCollection());
+		return interpretNonContextMapping(MappingPlan.of(mapping).getConditionalCollection());
 	}
 
 	/**
@@ -188,7 +133,7 @@ public class MappingProcessor {
 	 * @return Map&lt;String, String&gt;
 	 */
 	public Map<String, String> interpretNonContextMappingLegacyTextParameters() {
-		return interpretNonContextMapping(mapping.getLegacyTextParameters());
+		return interpretNonContextMapping(MappingPlan.of(mapping).getLegacyTextParameters());
 	}
 
 	/**
@@ -198,25 +143,38 @@ public class MappingProcessor {
 	 * @return Map&lt;String, String&gt;
 	 */
 	public Map<String, String> interpretNonContextMapping(final Map<String, String> keyValuePairs) {
-		// NOSONAR on cognitive complexity of 16
-		if (keyValuePairs == null) {
-			return Collections.emptyMap();
-		}
+		return interpretNonContextMapping(MappingPlan.compile(keyValuePairs));
+	}
 
+	/**
+	 * This method interprets the compiled non context mapping expressions against the current row.
+	 * Expressions referencing a source are resolved and classified here, the others have been classified once
+	 * when the mapping has been compiled.
+	 *
+	 * @param expressions The compiled expressions of the mapping (for example: attribute key and attribute value)
+	 * @return Map&lt;String, String&gt;
+	 */
+	private Map<String, String> interpretNonContextMapping(final List<MappingPlan.Expression> expressions) {
 		final Map<String, String> result = new HashMap<>();
 
-		keyValuePairs.forEach((key, value) -> {
-			// Replace source reference content in the given value
-			final String updatedValue = SourceUpdaterProcessor.replaceSourceReferenceContent(
-				value,
-				telemetryManager,
-				jobInfo.getConnectorId(),
-				"mapping",
-				key
-			);
+		for (MappingPlan.Expression expression : expressions) {
+			final String key = expression.key();
 
-			processKeyValue(key, updatedValue, result);
-		});
+			if (expression.hasSourceReference()) {
+				// Replace source reference content in the given value
+				final String updatedValue = SourceUpdaterProcessor.replaceSourceReferenceContent(
+					expression.value(),
+					telemetryManager,
+					jobInfo.getConnectorId(),
+					"mapping",
+					key
+				);
+
+				processKeyValue(key, updatedValue, MappingDirective.of(updatedValue), result);
+			} else {
+				processKeyValue(key, expression.value(), expression.directive(), result);
+			}
+		}
 
 		return result;
 	}
@@ -226,61 +184,43 @@ public class MappingProcessor {
 	 *
 	 * @param key		Unique key of the attribute or metric
 	 * @param value		Value directive we wish to process
+	 * @param directive	The directive expressed by the value
 	 * @param result	Key-value map in which we append the interpreted value
 	 */
-	private void processKeyValue(final String key, final String value, final Map<String, String> result) {
-		if (value == null) {
-			return;
-		}
-
-		if (isColumnExtraction(value)) {
-			result.put(key, extractColumnValue(value, key));
-		} else if (isAwkScript(value)) {
-			result.put(key, evalAwkExpression(value, key));
-		} else if (isMegaBit2Bit(value)) {
-			result.put(key, megaBit2bit(value, key));
-		} else if (isMegaBit2Byte(value)) {
-			result.put(key, megaBit2Byte(value, key));
-		} else if (isPercentToRatioFunction(value)) {
-			result.put(key, percent2Ratio(value, key));
-		} else if (isMegaHertz2HertzFunction(value)) {
-			result.put(key, megaHertz2Hertz(value, key));
-		} else if (isMebiByte2ByteFunction(value)) {
-			result.put(key, mebiByte2Byte(value, key));
-		} else if (isMilliVolt2VoltFunction(value)) {
-			result.put(key, milliVolt2Volt(value, key));
-		} else if (isBooleanFunction(value)) {
-			result.put(key, booleanFunction(value, key));
-		} else if (isLegacyLedStatusFunction(value)) {
-			computationFunctions.put(key, this::legacyLedStatus);
-		} else if (isLegacyIntrusionStatusFunction(value)) {
-			result.put(key, legacyIntrusionStatus(value, key));
-		} else if (isLegacyPredictedFailureFunction(value)) {
-			result.put(key, legacyPredictedFailure(value, key));
-		} else if (islegacyNeedsCleaningFunction(value)) {
-			result.put(key, legacyNeedsCleaning(value, key));
-		} else if (isLegacyLinkStatusFunction(value)) {
-			result.put(key, legacyLinkStatusFunction(value, key));
-		} else if (isLegacyFullDuplex(value)) {
-			result.put(key, legacyFullDuplex(value, key));
-		} else if (isLookupFunction(value)) {
-			result.put(key, lookup(value, key));
-		} else if (isComputePowerShareRatioFunction(value)) {
-			result.put(String.format("__%s.raw_power_share", key), computePowerShareRatio(value, key));
-		} else if (isLegacyPowerSupplyUtilization(value)) {
-			computationFunctions.put(key, this::legacyPowerSupplyUtilization);
-		} else if (isFakeCounterFunction(value)) {
-			computationFunctions.put(key, this::fakeCounter);
-		} else if (isAccumulateFunction(value)) {
-			computationFunctions.put(key, this::accumulate);
-		} else if (isRateFunction(value)) {
-			computationFunctions.put(key, this::rate);
-		} else if (containsColumnReferences(value)) {
-			result.put(key, replaceColumnReferences(value, key));
-		} else if (value.contains("$index")) {
-			result.put(key, replaceIndexReferences(value));
-		} else {
-			result.put(key, value);
+	private void processKeyValue(
+		final String key,
+		final String value,
+		final MappingDirective directive,
+		final Map<String, String> result
+	) {
+		switch (directive) {
+			case COLUMN_EXTRACTION -> result.put(key, extractColumnValue(value, key));
+			case AWK_SCRIPT -> result.put(key, evalAwkExpression(value, key));
+			case MEGABIT_2_BIT -> result.put(key, megaBit2bit(value, key));
+			case MEGABIT_2_BYTE -> result.put(key, megaBit2Byte(value, key));
+			case PERCENT_2_RATIO -> result.put(key, percent2Ratio(value, key));
+			case MEGAHERTZ_2_HERTZ -> result.put(key, megaHertz2Hertz(value, key));
+			case MEBIBYTE_2_BYTE -> result.put(key, mebiByte2Byte(value, key));
+			case MILLIVOLT_2_VOLT -> result.put(key, milliVolt2Volt(value, key));
+			case BOOLEAN -> result.put(key, booleanFunction(value, key));
+			case LEGACY_LED_STATUS -> computationFunctions.put(key, this::legacyLedStatus);
+			case LEGACY_INTRUSION_STATUS -> result.put(key, legacyIntrusionStatus(value, key));
+			case LEGACY_PREDICTED_FAILURE -> result.put(key, legacyPredictedFailure(value, key));
+			case LEGACY_NEEDS_CLEANING -> result.put(key, legacyNeedsCleaning(value, key));
+			case LEGACY_LINK_STATUS -> result.put(key, legacyLinkStatusFunction(value, key));
+			case LEGACY_FULL_DUPLEX -> result.put(key, legacyFullDuplex(value, key));
+			case LOOKUP -> result.put(key, lookup(value, key));
+			case COMPUTE_POWER_SHARE_RATIO -> result.put(
+				String.format("__%s.raw_power_share", key),
+				computePowerShareRatio(value, key)
+			);
+			case LEGACY_POWER_SUPPLY_UTILIZATION -> computationFunctions.put(key, this::legacyPowerSupplyUtilization);
+			case FAKE_COUNTER -> computationFunctions.put(key, this::fakeCounter);
+			case ACCUMULATE -> computationFunctions.put(key, this::accumulate);
+			case RATE -> computationFunctions.put(key, this::rate);
+			case COLUMN_REFERENCE -> result.put(key, replaceColumnReferences(value, key));
+			case INDEX_REFERENCE -> result.put(key, replaceIndexReferences(value));
+			default -> result.put(key, value);
 		}
 	}
 
@@ -358,12 +298,9 @@ public class MappingProcessor {
 			return null;
 		}
 
-		final Stream<Monitor> monitors = typedMonitors
-			.values()
-			.stream()
-			.filter(monitor -> lookupAttributeValue.equals(monitor.getAttributes().get(lookupAttributeKey)));
-
-		final Monitor monitor = monitors.findFirst().orElse(null);
+		final Monitor monitor = telemetryManager
+			.findMonitorByAttribute(monitorType, lookupAttributeKey, lookupAttributeValue)
+			.orElse(null);
 
 		if (monitor == null) {
 			log.error(
@@ -568,27 +505,6 @@ public class MappingProcessor {
 		}
 	}
 
-	/**
-	 * Checks to see if the value contains a fakeCounter function "fakeCounter()"
-	 *
-	 * @param value		Value to be parsed
-	 * @return 			Returns true if the function is found
-	 */
-
-	private boolean isFakeCounterFunction(String value) {
-		return FAKE_COUNTER_PATTERN.matcher(value).find();
-	}
-
-	/**
-	 * Checks to see if the value contains an accumulate function "accumulate()"
-	 *
-	 * @param value		Value to be parsed
-	 * @return 			Returns true if the function is found
-	 */
-	private boolean isAccumulateFunction(String value) {
-		return ACCUMULATE_PATTERN.matcher(value).find();
-	}
-
 	/**
 	 * Accumulate delta values into a counter. On each collect cycle, the current delta value
 	 * is added to the previous counter value. If no previous value exists, the current delta
@@ -633,36 +549,6 @@ public class MappingProcessor {
 		return counter.toString();
 	}
 
-	/**
-	 * Checks to see if the value contains a legacyPowerSupplyUtilization function "legacyPowerSupplyUtilization()"
-	 *
-	 * @param value		Value to be parsed
-	 * @return 			Returns true if the function is found
-	 */
-	private boolean isLegacyPowerSupplyUtilization(String value) {
-		return LEGACY_POWER_SUPPLY_UTILIZATION_PATTERN.matcher(value).find();
-	}
-
-	/**
-	 * Checks to see if the value contains a lookup function "lookup()"
-	 *
-	 * @param value		Value to be parsed
-	 * @return 			Returns true if the function is found
-	 */
-	private boolean isLookupFunction(String value) {
-		return LOOKUP_PATTERN.matcher(value).find();
-	}
-
-	/**
-	 * Checks to see if the value contains a rate function "rate()"
-	 *
-	 * @param value		Value to be parsed
-	 * @return 			Returns true if the function is found
-	 */
-	private boolean isRateFunction(String value) {
-		return RATE_PATTERN.matcher(value).find();
-	}
-
 	/**
 	 * Converts megabit values to bit values
 	 *
@@ -699,26 +585,6 @@ public class MappingProcessor {
 		return EMPTY;
 	}
 
-	/**
-	 * Checks to see if the value contains a megabit2byte function "megabit2byte()"
-	 *
-	 * @param value  Value to be parsed
-	 * @return       Returns true if the function is found
-	 */
-	private boolean isMegaBit2Byte(String value) {
-		return MEGABIT_2_BYTE_PATTERN.matcher(value).find();
-	}
-
-	/**
-	 * Checks to see if the value contains a megabit2bit function "megabit2bit()"
-	 *
-	 * @param value		Value to be parsed
-	 * @return 			Returns true if the function is found
-	 */
-	private boolean isMegaBit2Bit(String value) {
-		return MEGABIT_2_BIT_PATTERN.matcher(value).find();
-	}
-
 	/**
 	 * Converts legacyfullduplex status into a current status
 	 *
@@ -745,16 +611,6 @@ public class MappingProcessor {
 		return null;
 	}
 
-	/**
-	 * Checks to see if the value contains a legacyfullduplex function "legacyfullduplex()"
-	 *
-	 * @param value		Value to be parsed
-	 * @return 			Returns true if the function is found
-	 */
-	private boolean isLegacyFullDuplex(String value) {
-		return LEGACY_FULL_DUPLEX_PATTERN.matcher(value).find();
-	}
-
 	/**
 	 * Converts legacylinkstatus status into a current status
 	 *
@@ -781,16 +637,6 @@ public class MappingProcessor {
 		return null;
 	}
 
-	/**
-	 * Checks to see if the value contains a legacylinkstatus function "legacylinkstatus()"
-	 *
-	 * @param value		Value to be parsed
-	 * @return 			Returns true if the function is found
-	 */
-	private boolean isLegacyLinkStatusFunction(String value) {
-		return LEGACY_LINK_STATUS_PATTERN.matcher(value).find();
-	}
-
 	/**
 	 * Creates a metric for this monitor with the power share value
 	 *
@@ -818,16 +664,6 @@ public class MappingProcessor {
 		return maybeRawPowerRatioValue.get().toString();
 	}
 
-	/**
-	 * Checks to see if the value contains a computePowerShareRatio function "computePowerShareRatio()"
-	 *
-	 * @param value		Value to be parsed
-	 * @return 			Returns true if the function is found
-	 */
-	private boolean isComputePowerShareRatioFunction(String value) {
-		return COMPUTE_POWER_SHARE_RATIO_PATTERN.matcher(value).find();
-	}
-
 	/**
 	 * Converts legacyneedscleaning status into a current status
 	 *
@@ -854,16 +690,6 @@ public class MappingProcessor {
 		return null;
 	}
 
-	/**
-	 * Checks to see if the value contains a legacyneedscleaning function "legacyneedscleaning()"
-	 *
-	 * @param value		Value to be parsed
-	 * @return 			Returns true if the function is found
-	 */
-	private boolean islegacyNeedsCleaningFunction(String value) {
-		return LEGACY_NEEDS_CLEANING_PATTERN.matcher(value).find();
-	}
-
 	/**
 	 * Converts legacyneedscleaning status into a current status
 	 *
@@ -890,16 +716,6 @@ public class MappingProcessor {
 		return null;
 	}
 
-	/**
-	 * Checks to see if the value contains a legacypredictedfailure function "legacypredictedfailure()"
-	 *
-	 * @param value		Value to be parsed
-	 * @return 			Returns true if the function is found
-	 */
-	private boolean isLegacyPredictedFailureFunction(String value) {
-		return LEGACY_PREDICTED_FAILURE_PATTERN.matcher(value).find();
-	}
-
 	/**
 	 * Converts legacyintrusionstatus status into a current status
 	 *
@@ -926,16 +742,6 @@ public class MappingProcessor {
 		return null;
 	}
 
-	/**
-	 * Checks to see if the value contains a legacyintrusionstatus function "legacyintrusionstatus()"
-	 *
-	 * @param value		Value to be parsed
-	 * @return 			Returns true if the function is found
-	 */
-	private boolean isLegacyIntrusionStatusFunction(String value) {
-		return LEGACY_INTRUSION_STATUS_PATTERN.matcher(value).find();
-	}
-
 	/**
 	 * Converts legacyLedStatus status into a current status
 	 * @param keyValuePair key/value pair
@@ -966,16 +772,6 @@ public class MappingProcessor {
 		return status != null ? status.toLowerCase() : EMPTY;
 	}
 
-	/**
-	 * Checks to see if the value contains a legacyledstatus function "legacyledstatus()"
-	 *
-	 * @param value		Value to be parsed
-	 * @return 			Returns true if the function is found
-	 */
-	private boolean isLegacyLedStatusFunction(String value) {
-		return LEGACY_LED_STATUS_PATTERN.matcher(value).find();
-	}
-
 	/**
 	 * Converts a boolean status into a current status
 	 *
@@ -999,16 +795,6 @@ public class MappingProcessor {
 		return ZERO;
 	}
 
-	/**
-	 * Checks to see if the value contains a boolean function "boolean()"
-	 *
-	 * @param value		Value to be parsed
-	 * @return 			Returns true if the function is found
-	 */
-	private boolean isBooleanFunction(String value) {
-		return BOOLEAN_PATTERN.matcher(value).find();
-	}
-
 	/**
 	 * Converts megabyte values to byte values
 	 *
@@ -1027,16 +813,6 @@ public class MappingProcessor {
 		return EMPTY;
 	}
 
-	/**
-	 * Checks to see if the value contains a mebibyte2byte function "mebibyte2byte()"
-	 *
-	 * @param value		Value to be parsed
-	 * @return 			Returns true if the function is found
-	 */
-	private boolean isMebiByte2ByteFunction(String value) {
-		return MEBIBYTE_2_BYTE_PATTERN.matcher(value).find();
-	}
-
 	/**
 	 * Converts millivolt values to volt values
 	 *
@@ -1055,16 +831,6 @@ public class MappingProcessor {
 		return EMPTY;
 	}
 
-	/**
-	 * Checks to see if the value contains a millivolt2volt function "millivolt2volt()"
-	 *
-	 * @param value Value to be parsed
-	 * @return Returns true if the function is found
-	 */
-	private boolean isMilliVolt2VoltFunction(String value) {
-		return MILLIVOLT_2_VOLT_PATTERN.matcher(value).find();
-	}
-
 	/**
 	 * Converts megahertz values to hertz values
 	 *
@@ -1083,16 +849,6 @@ public class MappingProcessor {
 		return EMPTY;
 	}
 
-	/**
-	 * Checks to see if the value contains a megahertz2hertz function "megahertz2hertz()"
-	 *
-	 * @param value		Value to be parsed
-	 * @return 			Returns true if the function is found
-	 */
-	private boolean isMegaHertz2HertzFunction(String value) {
-		return MEGAHERTZ_2_HERTZ_PATTERN.matcher(value).find();
-	}
-
 	/**
 	 * Converts percent values to ratio values
 	 *
@@ -1111,16 +867,6 @@ public class MappingProcessor {
 		return EMPTY;
 	}
 
-	/**
-	 * Checks to see if the value contains a percent2ration function "percent2ration()"
-	 *
-	 * @param value		Value to be parsed
-	 * @return 			Returns true if the function is found
-	 */
-	private boolean isPercentToRatioFunction(String value) {
-		return PERCENT_2_RATIO_PATTERN.matcher(value).find();
-	}
-
 	/**
 	 * Evaluate an Awk expression
 	 *
@@ -1284,16 +1030,6 @@ public class MappingProcessor {
 		return EMPTY;
 	}
 
-	/**
-	 * Whether the given value defines an AWK script.
-	 *
-	 * @param value The character sequence to be matched.
-	 * @return true if, the subsequence of the input sequence matches the AWK script pattern. Otherwise false.
-	 */
-	private boolean isAwkScript(final String value) {
-		return AWK_SCRIPT_PATTERN.matcher(value).find();
-	}
-
 	/**
 	 * Checks whether the input string represents a column directive (e.g: $1, $2, etc ...).
 	 *
@@ -1304,16 +1040,6 @@ public class MappingProcessor {
 		return getStringRegexMatcher(value).find();
 	}
 
-	/**
-	 * Checks whether the input string contains a column reference directive.
-	 *
-	 * @param value The character sequence to be matched.
-	 * @return true if, the subsequence of the input sequence matches the column reference pattern. Otherwise false.
-	 */
-	private boolean containsColumnReferences(final String value) {
-		return getColumnReferenceMatcher(value).find();
-	}
-
 	/**
 	 * Creates the matcher of the column pattern on the given string value.
 	 *
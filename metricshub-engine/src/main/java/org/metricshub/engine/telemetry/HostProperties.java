@@ -32,6 +32,8 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.NonNull;
+import lombok.ToString;
+import org.metricshub.engine.strategy.detection.DetectionSnapshot;
 
 /**
  * Represents properties related to a host, including information about IPMI, WMI, WBEM, and connector namespaces.
@@ -61,6 +63,10 @@ public class HostProperties {
 	@Default
 	private Map<String, ConnectorNamespace> connectorNamespaces = new ConcurrentHashMap<>();
 
+	@EqualsAndHashCode.Exclude
+	@ToString.Exclude
+	private DetectionSnapshot lastDetection;
+
 	/**
 	 * Get the connector namespace defined for the given connector identifier
 	 *
@@ -21,15 +21,11 @@ package org.metricshub.engine.telemetry;
  * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
  */
 
-import static org.metricshub.engine.common.helpers.MetricsHubConstants.COMMA;
-import static org.metricshub.engine.common.helpers.MetricsHubConstants.EMPTY;
 import static org.metricshub.engine.common.helpers.MetricsHubConstants.MONITOR_ATTRIBUTE_CONNECTOR_ID;
 import static org.metricshub.engine.common.helpers.MetricsHubConstants.MONITOR_ATTRIBUTE_ID;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import lombok.Data;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
@@ -42,6 +38,7 @@ import org.metricshub.engine.connector.model.metric.StateSet;
 import org.metricshub.engine.connector.model.monitor.AbstractMonitorJob;
 import org.metricshub.engine.connector.model.monitor.MonitorJob;
 import org.metricshub.engine.telemetry.metric.AbstractMetric;
+import org.metricshub.engine.telemetry.metric.MetricKey;
 import org.metricshub.engine.telemetry.metric.NumberMetric;
 import org.metricshub.engine.telemetry.metric.StateSetMetric;
 
@@ -52,8 +49,6 @@ import org.metricshub.engine.telemetry.metric.StateSetMetric;
 @Data
 public class MetricFactory {
 
-	private static final Pattern METRIC_ATTRIBUTES_PATTERN = Pattern.compile("\\{(.*?)\\}");
-
 	private String hostname;
 	private ConnectorStore connectorStore;
 
@@ -145,29 +140,8 @@ public class MetricFactory {
 	 * @return a Map with attributes names as keys and attributes values as values
 	 */
 	public static Map<String, String> extractAttributesFromMetricName(final String metricName) {
-		// Create a map to store the extracted attributes
-		final Map<String, String> attributes = new HashMap<>();
-
-		// Create a Matcher object
-		final Matcher matcher = METRIC_ATTRIBUTES_PATTERN.matcher(metricName);
-
-		if (matcher.find()) {
-			final String attributeMap = matcher.group(1);
-
-			// Split the attribute map into key-value pairs
-			final String[] keyValuePairs = attributeMap.split(COMMA);
-
-			// Iterate through the key-value pairs
-			for (String pair : keyValuePairs) {
-				final String[] parts = pair.trim().split("=");
-				if (parts.length == 2) {
-					// Set the key-value pair and remove the double quotes from the value
-					attributes.put(parts[0], parts[1].replace("\"", EMPTY));
-				}
-			}
-		}
-
-		return attributes;
+		// The metric key is parsed once, the returned map is a copy the caller can modify
+		return new HashMap<>(MetricKey.of(metricName).getAttributes());
 	}
 
 	/**
@@ -404,11 +378,7 @@ public class MetricFactory {
 	 * @return metric name without attributes
 	 */
 	public static final String extractName(final String name) {
-		final int openBracketPosition = name.indexOf("{");
-		if (openBracketPosition >= 0) {
-			return name.substring(0, openBracketPosition);
-		}
-		return name;
+		return MetricKey.of(name).getBaseName();
 	}
 
 	/**
@@ -0,0 +1,113 @@
+package org.metricshub.engine.telemetry;
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub Engine
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2025 MetricsHub
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.metricshub.engine.telemetry.metric.AbstractMetric;
+import org.metricshub.engine.telemetry.metric.MetricKey;
+
+/**
+ * Index of the metrics of a monitor by base name, e.g. <code>hw.power</code> for the
+ * <code>hw.power{hw.type="fan"}</code> metric.
+ * <br>
+ * The index is built on demand and dropped when a new metric is added. It is also rebuilt when the metrics map has been
+ * replaced or resized without going through the {@link Monitor}.
+ */
+class MetricNameIndex {
+
+	private volatile Snapshot snapshot;
+
+	/**
+	 * Find the metrics having the given base name.
+	 *
+	 * @param metrics  The metrics of the monitor, keyed by metric name.
+	 * @param baseName The metric name without attributes.
+	 * @return The list of metrics having the given base name, empty if no metric matches.
+	 */
+	List<AbstractMetric> find(final Map<String, AbstractMetric> metrics, final String baseName) {
+		Snapshot current = snapshot;
+		if (current == null || !current.isBuiltFrom(metrics)) {
+			current = Snapshot.build(metrics);
+			snapshot = current;
+		}
+
+		final List<String> metricNames = current.metricNames().get(baseName);
+		if (metricNames == null) {
+			return Collections.emptyList();
+		}
+
+		final List<AbstractMetric> result = new ArrayList<>(metricNames.size());
+		for (String metricName : metricNames) {
+			final AbstractMetric metric = metrics.get(metricName);
+			if (metric != null) {
+				result.add(metric);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Drop the index, it will be built again on the next lookup.
+	 */
+	void invalidate() {
+		snapshot = null;
+	}
+
+	/**
+	 * The metric names grouped by base name.
+	 *
+	 * @param source      The metrics map this index has been built from.
+	 * @param size        The number of metrics in the source map when this index has been built.
+	 * @param metricNames The keys of the metrics map per base name.
+	 */
+	private record Snapshot(Map<String, AbstractMetric> source, int size, Map<String, List<String>> metricNames) {
+		/**
+		 * Build the index of the given metrics.
+		 *
+		 * @param metrics The metrics keyed by metric name.
+		 * @return A new {@link Snapshot}.
+		 */
+		private static Snapshot build(final Map<String, AbstractMetric> metrics) {
+			final Map<String, List<String>> metricNames = new HashMap<>();
+			metrics.forEach((metricName, metric) -> {
+				// The metric carries its own name, fall back on the map key if it is not set
+				final String name = metric != null && metric.getName() != null ? metric.getName() : metricName;
+				metricNames.computeIfAbsent(MetricKey.of(name).getBaseName(), _ -> new ArrayList<>()).add(metricName);
+			});
+			return new Snapshot(metrics, metrics.size(), metricNames);
+		}
+
+		/**
+		 * Whether this index has been built from the given metrics.
+		 *
+		 * @param metrics The current metrics of the monitor.
+		 * @return {@code true} if the metrics map is the same and has not been resized since.
+		 */
+		private boolean isBuiltFrom(final Map<String, AbstractMetric> metrics) {
+			return source == metrics && size == metrics.size();
+		}
+	}
+}
@@ -21,6 +21,7 @@ package org.metricshub.engine.telemetry;
  * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
  */
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -29,13 +30,16 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Builder.Default;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.NonNull;
+import lombok.ToString;
 import org.metricshub.engine.alert.AlertRule;
 import org.metricshub.engine.common.helpers.KnownMonitorType;
 import org.metricshub.engine.common.helpers.MetricsHubConstants;
@@ -76,6 +80,12 @@ public class Monitor {
 	@Default
 	private Set<String> identifyingAttributeKeys = new HashSet<>(MetricsHubConstants.DEFAULT_KEYS);
 
+	@JsonIgnore
+	@Getter(AccessLevel.NONE)
+	@EqualsAndHashCode.Exclude
+	@ToString.Exclude
+	private final MetricNameIndex metricNameIndex = new MetricNameIndex();
+
 	/**
 	 * Gets a metric of the specified type by name.
 	 *
@@ -105,7 +115,20 @@ public class Monitor {
 	 * @param metric     The metric instance to add
 	 */
 	public void addMetric(final String metricName, final AbstractMetric metric) {
-		metrics.put(metricName, metric);
+		if (metrics.put(metricName, metric) == null) {
+			metricNameIndex.invalidate();
+		}
+	}
+
+	/**
+	 * Get the metrics having the given base name, whatever their attributes.
+	 * E.g. <code>hw.power{hw.type="fan"}</code> for the <code>hw.power</code> base name.
+	 *
+	 * @param baseName The metric name without attributes
+	 * @return The list of {@link AbstractMetric} instances having the given base name
+	 */
+	public List<AbstractMetric> getMetricsByBaseName(final String baseName) {
+		return metricNameIndex.find(metrics, baseName);
 	}
 
 	/**
@@ -140,6 +140,7 @@ public class MonitorFactory {
 
 		if (foundMonitor != null) {
 			foundMonitor.setAttributes(attributes);
+			telemetryManager.invalidateMonitorIndex(monitorType);
 			foundMonitor.setType(monitorType);
 			foundMonitor.setDiscoveryTime(discoveryTime);
 
@@ -0,0 +1,221 @@
+package org.metricshub.engine.telemetry;
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub Engine
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2025 MetricsHub
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import static org.metricshub.engine.common.helpers.MetricsHubConstants.MONITOR_ATTRIBUTE_CONNECTOR_ID;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Index of the monitors by monitor type, connector identifier and the values of a list of attributes, used to find a
+ * monitor by identity or by attribute value without scanning all the monitors of a type.
+ * <br>
+ * The index of a monitor type is built lazily on the first lookup and dropped whenever a monitor of this type is added
+ * or rediscovered. It is also rebuilt when the monitors of the type have been replaced or resized without going through
+ * the {@link TelemetryManager}, and a miss is confirmed by scanning the monitors as their attributes may have been
+ * updated out of the index, so that a lookup never misses a monitor that a linear scan would have found.
+ */
+class MonitorIndex {
+
+	/**
+	 * Indexes per monitor type, then per connector identifier and attribute keys
+	 */
+	private final Map<String, Map<IndexKey, TypeIndex>> indexes = new ConcurrentHashMap<>();
+
+	/**
+	 * Find the first monitor matching the given attribute values.
+	 *
+	 * @param monitorType      The type of the monitor.
+	 * @param sameTypeMonitors The current monitors of this type, keyed by monitor identifier.
+	 * @param connectorId      The identifier of the connector which discovered the monitor, {@code null} for any.
+	 * @param attributeKeys    The attribute keys to match, e.g. the identifying attribute keys.
+	 * @param attributeValues  The attribute values to match.
+	 * @return The matching {@link Monitor} or {@code null} if no monitor matches.
+	 */
+	Monitor find(
+		final String monitorType,
+		final Map<String, Monitor> sameTypeMonitors,
+		final String connectorId,
+		final List<String> attributeKeys,
+		final Map<String, String> attributeValues
+	) {
+		final List<String> values = valuesOf(attributeKeys, attributeValues::get);
+		if (values == null) {
+			return null;
+		}
+
+		final IndexKey indexKey = new IndexKey(connectorId, attributeKeys);
+		final Map<IndexKey, TypeIndex> typeIndexes = indexes.computeIfAbsent(monitorType, _ -> new ConcurrentHashMap<>());
+
+		TypeIndex typeIndex = typeIndexes.get(indexKey);
+		if (typeIndex == null || !typeIndex.isBuiltFrom(sameTypeMonitors)) {
+			typeIndex = TypeIndex.build(sameTypeMonitors, indexKey);
+			typeIndexes.put(indexKey, typeIndex);
+		}
+
+		Monitor monitor = typeIndex.monitors().get(values);
+
+		// The monitor may have been updated out of the index, make sure it still has the same identity
+		if (monitor != null && !indexKey.isIndexed(monitor, values)) {
+			typeIndex = TypeIndex.build(sameTypeMonitors, indexKey);
+			typeIndexes.put(indexKey, typeIndex);
+			monitor = typeIndex.monitors().get(values);
+		}
+
+		// The attributes of a monitor may have been updated out of the index, confirm the miss with a scan
+		if (monitor == null) {
+			monitor = scan(sameTypeMonitors.values(), indexKey, values);
+			if (monitor != null) {
+				typeIndexes.put(indexKey, TypeIndex.build(sameTypeMonitors, indexKey));
+			}
+		}
+
+		return monitor;
+	}
+
+	/**
+	 * Find the first monitor having the given attribute values without using the index.
+	 *
+	 * @param candidates The monitors to scan.
+	 * @param indexKey   The connector identifier and attribute keys to match.
+	 * @param values     The attribute values to match.
+	 * @return The matching {@link Monitor} or {@code null} if no monitor matches.
+	 */
+	private static Monitor scan(
+		final Collection<Monitor> candidates,
+		final IndexKey indexKey,
+		final List<String> values
+	) {
+		for (Monitor candidate : candidates) {
+			if (indexKey.isIndexed(candidate, values)) {
+				return candidate;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Drop the indexes of the given monitor type.
+	 *
+	 * @param monitorType The type of the monitors that have been added or updated.
+	 */
+	void invalidate(final String monitorType) {
+		indexes.remove(monitorType);
+	}
+
+	/**
+	 * Get the values of the given attribute keys.
+	 *
+	 * @param attributeKeys The attribute keys.
+	 * @param getter        The function returning the value of an attribute.
+	 * @return The list of values in the order of the keys, {@code null} if one of the values is missing.
+	 */
+	private static List<String> valuesOf(final List<String> attributeKeys, final Function<String, String> getter) {
+		final List<String> values = new ArrayList<>(attributeKeys.size());
+		for (String key : attributeKeys) {
+			final String value = getter.apply(key);
+			if (value == null) {
+				return null;
+			}
+			values.add(value);
+		}
+		return values;
+	}
+
+	/**
+	 * Identifies an index within a monitor type.
+	 *
+	 * @param connectorId   The identifier of the connector which discovered the monitors, {@code null} for any.
+	 * @param attributeKeys The indexed attribute keys.
+	 */
+	private record IndexKey(String connectorId, List<String> attributeKeys) {
+		/**
+		 * Get the values the given monitor is indexed with.
+		 *
+		 * @param monitor The monitor to index.
+		 * @return The attribute values, {@code null} if the monitor is not part of this index.
+		 */
+		private List<String> valuesOf(final Monitor monitor) {
+			if (connectorId != null && !connectorId.equals(monitor.getAttribute(MONITOR_ATTRIBUTE_CONNECTOR_ID))) {
+				return null;
+			}
+			return MonitorIndex.valuesOf(attributeKeys, monitor::getAttribute);
+		}
+
+		/**
+		 * Whether the given monitor still has the attribute values it has been indexed with.
+		 *
+		 * @param monitor The indexed monitor.
+		 * @param values  The attribute values the monitor is indexed with.
+		 * @return {@code true} if the monitor can be returned for the given values.
+		 */
+		private boolean isIndexed(final Monitor monitor, final List<String> values) {
+			return values.equals(valuesOf(monitor));
+		}
+	}
+
+	/**
+	 * The monitors of a type keyed by the values of their indexed attributes.
+	 *
+	 * @param source   The monitors map this index has been built from.
+	 * @param size     The number of monitors in the source map when this index has been built.
+	 * @param monitors The indexed monitors.
+	 */
+	private record TypeIndex(Map<String, Monitor> source, int size, Map<List<String>, Monitor> monitors) {
+		/**
+		 * Build the index of the given monitors.
+		 *
+		 * @param sameTypeMonitors The monitors of the same type.
+		 * @param indexKey         The connector identifier and attribute keys of the index.
+		 * @return A new {@link TypeIndex}.
+		 */
+		private static TypeIndex build(final Map<String, Monitor> sameTypeMonitors, final IndexKey indexKey) {
+			final Collection<Monitor> candidates = sameTypeMonitors.values();
+			final Map<List<String>, Monitor> monitors = new HashMap<>();
+			for (Monitor monitor : candidates) {
+				final List<String> values = indexKey.valuesOf(monitor);
+				if (values != null) {
+					// Keep the first monitor, like a linear scan would do
+					monitors.putIfAbsent(values, monitor);
+				}
+			}
+			return new TypeIndex(sameTypeMonitors, sameTypeMonitors.size(), monitors);
+		}
+
+		/**
+		 * Whether this index has been built from the given monitors.
+		 *
+		 * @param sameTypeMonitors The current monitors of the type.
+		 * @return {@code true} if the monitors map is the same and has not been resized since.
+		 */
+		private boolean isBuiltFrom(final Map<String, Monitor> sameTypeMonitors) {
+			return source == sameTypeMonitors && size == sameTypeMonitors.size();
+		}
+
+	}
+}
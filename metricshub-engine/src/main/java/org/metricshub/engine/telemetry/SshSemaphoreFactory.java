@@ -30,7 +30,10 @@ import java.util.concurrent.Semaphore;
  */
 public class SshSemaphoreFactory {
 
-	private static final int MAX_PERMITS = 8;
+	/**
+	 * Maximum number of SSH commands running at the same time on a host.
+	 */
+	public static final int MAX_PERMITS = 8;
 
 	private static final SshSemaphoreFactory INSTANCE = new SshSemaphoreFactory();
 
@@ -33,15 +33,20 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Builder.Default;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.NonNull;
+import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 import org.metricshub.engine.common.helpers.JsonHelper;
 import org.metricshub.engine.common.helpers.MetricsHubConstants;
@@ -51,6 +56,7 @@ import org.metricshub.engine.connector.model.ConnectorStore;
 import org.metricshub.engine.connector.model.common.EmbeddedFile;
 import org.metricshub.engine.strategy.ContextExecutor;
 import org.metricshub.engine.strategy.IStrategy;
+import org.metricshub.engine.strategy.detection.DetectionProbeCache;
 
 /**
  * The `TelemetryManager` class manages telemetry-related operations, monitors, and strategies.
@@ -74,6 +80,20 @@ public class TelemetryManager {
 	private Long strategyTime;
 	private String recordOutputDirectory;
 
+	@Getter(AccessLevel.NONE)
+	@EqualsAndHashCode.Exclude
+	@ToString.Exclude
+	private final MonitorIndex monitorIndex = new MonitorIndex();
+
+	@EqualsAndHashCode.Exclude
+	@ToString.Exclude
+	private final DetectionProbeCache detectionProbeCache = new DetectionProbeCache();
+
+	@Getter(AccessLevel.NONE)
+	@EqualsAndHashCode.Exclude
+	@ToString.Exclude
+	private final Map<Class<?>, Object> extensionStates = new ConcurrentHashMap<>();
+
 	/**
 	 * Executes the given {@link IStrategy} instances.
 	 *
@@ -223,10 +243,81 @@ public class TelemetryManager {
 	) {
 		synchronized (monitors) {
 			monitors.computeIfAbsent(monitorType, _ -> new HashMap<>()).put(id, monitor);
+			monitorIndex.invalidate(monitorType);
 			return monitor;
 		}
 	}
 
+	/**
+	 * Find a monitor using its connector identifier and the values of its identifying attributes.
+	 * <br>
+	 * The monitors are looked up through a lazily built identity index. A miss is confirmed by scanning the monitors,
+	 * as an identifying attribute may have been updated out of the discovery.
+	 *
+	 * @param monitorType     The type of the monitor
+	 * @param connectorId     The identifier of the connector which discovered the monitor
+	 * @param attributeKeys   The identifying attribute keys
+	 * @param attributeValues The attribute values the monitor must have for the given keys
+	 * @return {@link Optional} instance containing the monitor
+	 */
+	public Optional<Monitor> findMonitorByIdentity(
+		final String monitorType,
+		final String connectorId,
+		final List<String> attributeKeys,
+		final Map<String, String> attributeValues
+	) {
+		final Map<String, Monitor> sameTypeMonitors = findMonitorsByType(monitorType);
+		if (sameTypeMonitors == null) {
+			return Optional.empty();
+		}
+
+		return Optional.ofNullable(
+			monitorIndex.find(monitorType, sameTypeMonitors, connectorId, attributeKeys, attributeValues)
+		);
+	}
+
+	/**
+	 * Find the first monitor of the given type having the given attribute value.
+	 * <br>
+	 * The monitors are looked up through a lazily built attribute index. A miss is confirmed by scanning the monitors,
+	 * as an attribute may have been updated out of the discovery.
+	 *
+	 * @param monitorType    The type of the monitor
+	 * @param attributeKey   The attribute key. E.g. id
+	 * @param attributeValue The expected attribute value
+	 * @return {@link Optional} instance containing the monitor
+	 */
+	public Optional<Monitor> findMonitorByAttribute(
+		final String monitorType,
+		final String attributeKey,
+		final String attributeValue
+	) {
+		final Map<String, Monitor> sameTypeMonitors = findMonitorsByType(monitorType);
+		if (sameTypeMonitors == null || attributeValue == null) {
+			return Optional.empty();
+		}
+
+		return Optional.ofNullable(
+			monitorIndex.find(
+				monitorType,
+				sameTypeMonitors,
+				null,
+				List.of(attributeKey),
+				Map.of(attributeKey, attributeValue)
+			)
+		);
+	}
+
+	/**
+	 * Notify that the identifying attributes of the monitors of the given type may have changed,
+	 * e.g. when existing monitors are updated by the discovery.
+	 *
+	 * @param monitorType The type of the updated monitors
+	 */
+	public void invalidateMonitorIndex(final String monitorType) {
+		monitorIndex.invalidate(monitorType);
+	}
+
 	/**
 	 * Return the root host monitor instance
 	 *
@@ -263,18 +354,13 @@ public class TelemetryManager {
 		final String hwParentType = monitor.getAttribute("hw.parent.type");
 
 		if (hwParentType != null && hwParentId != null) {
-			Optional<Map<String, Monitor>> sameTypeMonitors = Optional.ofNullable(findMonitorsByType(hwParentType));
-			if (sameTypeMonitors.isPresent()) {
-				final Optional<Monitor> parentMonitor = sameTypeMonitors
-					.get()
-					.entrySet()
-					.stream()
-					.filter(entry -> hwParentId.equals(entry.getValue().getAttribute(MetricsHubConstants.MONITOR_ATTRIBUTE_ID)))
-					.map(Map.Entry::getValue)
-					.findFirst();
-				if (parentMonitor.isPresent()) {
-					return parentMonitor.get();
-				}
+			final Optional<Monitor> parentMonitor = findMonitorByAttribute(
+				hwParentType,
+				MetricsHubConstants.MONITOR_ATTRIBUTE_ID,
+				hwParentId
+			);
+			if (parentMonitor.isPresent()) {
+				return parentMonitor.get();
 			}
 		}
 		log.warn("Monitor {} does not have a parent on Host {}", monitor.getId(), getHostname());
@@ -343,4 +429,18 @@ public class TelemetryManager {
 	public Map<Integer, EmbeddedFile> getEmbeddedFiles(final String connectorId) {
 		return connectorStore.getStore().get(connectorId).getEmbeddedFiles();
 	}
+
+	/**
+	 * Returns the state that an extension keeps for this host, creating it on first use.<br>
+	 * The state lives as long as this {@link TelemetryManager} and is identified by its type, so that an extension
+	 * can reuse expensive resources (e.g. an embedded database) from one collect to the next.
+	 *
+	 * @param <T>     The type of the state.
+	 * @param type    The class of the state, used as key.
+	 * @param factory Creates the state when it does not exist yet.
+	 * @return The state of the given type.
+	 */
+	public <T> T getExtensionState(@NonNull final Class<T> type, @NonNull final Supplier<T> factory) {
+		return type.cast(extensionStates.computeIfAbsent(type, _ -> factory.get()));
+	}
 }
@@ -0,0 +1,136 @@
+package org.metricshub.engine.telemetry.metric;
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub Engine
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2025 MetricsHub
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import static org.metricshub.engine.common.helpers.MetricsHubConstants.COMMA;
+import static org.metricshub.engine.common.helpers.MetricsHubConstants.EMPTY;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+
+/**
+ * The parsed form of a metric name such as <code>hw.power{hw.type="fan"}</code>: the base name
+ * (<code>hw.power</code>) and the sorted attributes (<code>hw.type=fan</code>).
+ * <br>
+ * Metric keys are immutable and interned: {@link #of(String)} parses a given metric name once and returns the same
+ * instance afterwards, so that the metric names are no longer parsed on each collect.
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@EqualsAndHashCode(cacheStrategy = EqualsAndHashCode.CacheStrategy.LAZY)
+public class MetricKey {
+
+	private static final Pattern METRIC_ATTRIBUTES_PATTERN = Pattern.compile("\\{(.*?)\\}");
+
+	/**
+	 * Maximum number of interned metric keys. Beyond this limit, metric names are parsed on each call.
+	 */
+	private static final int MAX_INTERNED_KEYS = 100_000;
+
+	private static final Map<String, MetricKey> INTERNED_KEYS = new ConcurrentHashMap<>();
+
+	/**
+	 * The metric name as defined in the connector, e.g. <code>hw.power{hw.type="fan"}</code>
+	 */
+	@EqualsAndHashCode.Exclude
+	String name;
+
+	/**
+	 * The metric name without attributes, e.g. <code>hw.power</code>
+	 */
+	String baseName;
+
+	/**
+	 * The metric attributes sorted by key, e.g. <code>hw.type=fan</code>
+	 */
+	Map<String, String> attributes;
+
+	/**
+	 * Get the interned {@link MetricKey} of the given metric name.
+	 *
+	 * @param name The metric name with or without attributes.
+	 * @return The {@link MetricKey} instance.
+	 */
+	public static MetricKey of(final String name) {
+		final MetricKey key = INTERNED_KEYS.get(name);
+		if (key != null) {
+			return key;
+		}
+
+		if (INTERNED_KEYS.size() >= MAX_INTERNED_KEYS) {
+			return parse(name);
+		}
+
+		return INTERNED_KEYS.computeIfAbsent(name, MetricKey::parse);
+	}
+
+	/**
+	 * Parse the given metric name.
+	 *
+	 * @param name The metric name with or without attributes.
+	 * @return A new {@link MetricKey} instance.
+	 */
+	static MetricKey parse(final String name) {
+		final int openBracketPosition = name.indexOf("{");
+		final String baseName = openBracketPosition >= 0 ? name.substring(0, openBracketPosition) : name;
+
+		return new MetricKey(name, baseName, Collections.unmodifiableMap(parseAttributes(name)));
+	}
+
+	/**
+	 * Extract the attributes from the given metric name.
+	 *
+	 * @param name The metric name.
+	 * @return A sorted map with attributes names as keys and attributes values as values.
+	 */
+	private static Map<String, String> parseAttributes(final String name) {
+		final Map<String, String> attributes = new TreeMap<>();
+
+		final Matcher matcher = METRIC_ATTRIBUTES_PATTERN.matcher(name);
+
+		if (matcher.find()) {
+			final String attributeMap = matcher.group(1);
+
+			// Split the attribute map into key-value pairs
+			final String[] keyValuePairs = attributeMap.split(COMMA);
+
+			// Iterate through the key-value pairs
+			for (String pair : keyValuePairs) {
+				final String[] parts = pair.trim().split("=");
+				if (parts.length == 2) {
+					// Set the key-value pair and remove the double quotes from the value
+					attributes.put(parts[0], parts[1].replace("\"", EMPTY));
+				}
+			}
+		}
+
+		return attributes;
+	}
+}
@@ -0,0 +1,182 @@
+package org.metricshub.engine.common.helpers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.metricshub.engine.strategy.source.SourceTable;
+import org.metricshub.jflat.JFlat;
+
+class Json2CsvHelperTest {
+
+	private static final String JSON =
+		"""
+		{
+			"total": 2,
+			"data": {
+				"monitors": [
+					{ "id": "disk-1", "size": 100, "failed": false, "parameters": { "present": [1, 2] } },
+					{ "failed": true, "id": "disk\\u002d2", "size": -200, "extendedType": null }
+				]
+			},
+			"other": [ {}, [] ]
+		}
+		""";
+
+	/**
+	 * Property names of the random entries, <code>missing</code> is never set.
+	 */
+	private static final List<String> RANDOM_PROPERTIES = List.of("id", "name", "size", "enabled", "missing");
+
+	@Test
+	void testConvert() {
+		assertEquals(
+			Optional.of(
+				List.of(
+					List.of("/data/monitors[0]", "disk-1", "100", "false"),
+					List.of("/data/monitors[1]", "disk-2", "-200", "true")
+				)
+			),
+			Json2CsvHelper.convert(JSON, "/data/monitors", List.of("id", "size", "failed"), ";")
+		);
+
+		// Missing properties give empty values
+		assertEquals(
+			Optional.of(List.of(List.of("/data/monitors[0]", "", "false"), List.of("/data/monitors[1]", "", "true"))),
+			Json2CsvHelper.convert(JSON, "/data/monitors", List.of("name", "failed"), ";")
+		);
+	}
+
+	@Test
+	void testConvertSameAsJFlat() throws Exception {
+		final String json = ResourceHelper.getResourceAsString(
+			"/test-files/compute/json2Csv/json2CsvSample.json",
+			Json2CsvHelperTest.class
+		);
+		final List<String> properties = List.of("id", "name", "monitorType", "hostId", "discoveryTime", "missing");
+
+		final Optional<List<List<String>>> result = Json2CsvHelper.convert(json, "/monitors", properties, ";");
+		assertTrue(result.isPresent());
+		assertEquals(jflat(json, "/monitors", properties, ";"), result.get());
+	}
+
+	@Test
+	void testConvertRandomSameAsJFlat() throws Exception {
+		final Random random = new Random(42);
+		for (int i = 0; i < 200; i++) {
+			final String entryKey = random.nextBoolean() ? "/entries" : "/data/entries";
+			final String json = randomJson(random, entryKey);
+			final List<String> properties = new ArrayList<>(RANDOM_PROPERTIES);
+			properties.removeIf(property -> random.nextInt(3) == 0);
+			if (properties.isEmpty()) {
+				properties.add("id");
+			}
+
+			final Optional<List<List<String>>> result = Json2CsvHelper.convert(json, entryKey, properties, ";");
+			assertTrue(result.isPresent(), json);
+			assertEquals(jflat(json, entryKey, properties, ";"), result.get(), json);
+		}
+	}
+
+	@Test
+	void testConvertNotHandled() {
+		// Entry keys with wildcards, indexes or pointing to the root
+		assertTrue(Json2CsvHelper.convert(JSON, "/", List.of("id"), ";").isEmpty());
+		assertTrue(Json2CsvHelper.convert(JSON, "/data/*", List.of("id"), ";").isEmpty());
+		assertTrue(Json2CsvHelper.convert(JSON, "/data/monitors[0]", List.of("id"), ";").isEmpty());
+
+		// Nested, null or non-scalar properties
+		assertTrue(Json2CsvHelper.convert(JSON, "/data/monitors", List.of("parameters/present"), ";").isEmpty());
+		assertTrue(Json2CsvHelper.convert(JSON, "/data/monitors", List.of("extendedType"), ";").isEmpty());
+		assertTrue(Json2CsvHelper.convert(JSON, "/data/monitors", List.of("parameters"), ";").isEmpty());
+
+		// Entries that are not objects or empty objects, or no entries
+		assertTrue(Json2CsvHelper.convert(JSON, "/other", List.of("id"), ";").isEmpty());
+		assertTrue(Json2CsvHelper.convert("{\"monitors\":[{\"id\":1},{}]}", "/monitors", List.of("id"), ";").isEmpty());
+		assertTrue(Json2CsvHelper.convert("{\"monitors\":[]}", "/monitors", List.of("id"), ";").isEmpty());
+
+		// Values containing the separator, or separators split as regular expressions
+		assertTrue(Json2CsvHelper.convert(JSON, "/data/monitors", List.of("id"), "-").isEmpty());
+		assertTrue(Json2CsvHelper.convert(JSON, "/data/monitors", List.of("id"), "|").isEmpty());
+
+		// Invalid JSON, duplicate members or trailing content
+		assertTrue(Json2CsvHelper.convert("{\"monitors\":[{\"id\":1}]", "/monitors", List.of("id"), ";").isEmpty());
+		assertTrue(
+			Json2CsvHelper.convert("{\"monitors\":[{\"id\":1,\"id\":2}]}", "/monitors", List.of("id"), ";").isEmpty()
+		);
+		assertTrue(Json2CsvHelper.convert("{\"monitors\":[{\"id\":1}]} {}", "/monitors", List.of("id"), ";").isEmpty());
+	}
+
+	/**
+	 * @return The rows of the CSV produced by JFlat.
+	 */
+	private static List<List<String>> jflat(
+		final String json,
+		final String entryKey,
+		final List<String> properties,
+		final String separator
+	) throws Exception {
+		final JFlat jsonFlat = new JFlat(json);
+		jsonFlat.parse();
+		return SourceTable.csvToTable(
+			jsonFlat.toCSV(entryKey, properties.toArray(new String[0]), separator).toString(),
+			separator
+		);
+	}
+
+	/**
+	 * @return A JSON document with an array of objects at the given entry key, whose members are the
+	 *         {@link #RANDOM_PROPERTIES} (except <code>missing</code>) set at random, and nested objects and arrays that
+	 *         are not retrieved.
+	 */
+	private static String randomJson(final Random random, final String entryKey) {
+		final StringBuilder entries = new StringBuilder();
+		final int count = 1 + random.nextInt(8);
+		for (int i = 0; i < count; i++) {
+			final List<String> members = new ArrayList<>();
+			if (random.nextInt(4) > 0) {
+				members.add("\"id\":\"" + randomText(random) + "\"");
+			}
+			if (random.nextInt(4) > 0) {
+				members.add("\"name\":\"" + randomText(random) + "\"");
+			}
+			if (random.nextInt(4) > 0) {
+				members.add("\"size\":" + (random.nextInt(2_000_001) - 1_000_000));
+			}
+			if (random.nextInt(4) > 0) {
+				members.add("\"enabled\":" + random.nextBoolean());
+			}
+			if (random.nextBoolean()) {
+				members.add("\"parameters\":{\"id\":\"" + randomText(random) + "\",\"values\":[1,2]}");
+			}
+			if (members.isEmpty()) {
+				members.add("\"values\":[]");
+			}
+			Collections.shuffle(members, random);
+			entries.append(i > 0 ? "," : "").append('{').append(String.join(",", members)).append('}');
+		}
+
+		final String array = "[" + entries + "]";
+		return "/entries".equals(entryKey)
+			? "{\"total\":" + count + ",\"entries\":" + array + "}"
+			: "{\"data\":{\"other\":[{},[]],\"entries\":" + array + "}}";
+	}
+
+	/**
+	 * @return A random text made of letters, digits, dashes and dots.
+	 */
+	private static String randomText(final Random random) {
+		final String characters = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789-.";
+		final StringBuilder text = new StringBuilder();
+		final int length = 1 + random.nextInt(12);
+		for (int i = 0; i < length; i++) {
+			text.append(characters.charAt(random.nextInt(characters.length())));
+		}
+		return text.toString();
+	}
+}
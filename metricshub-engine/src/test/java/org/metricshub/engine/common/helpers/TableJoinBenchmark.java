@@ -0,0 +1,82 @@
+package org.metricshub.engine.common.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.metricshub.tablejoin.TableJoin;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares {@link TableJoinHelper#join} with {@link TableJoin#join} on tables of 10,000 lines, like the joins
+ * between large SNMP or WBEM tables.
+ * <p>
+ * Run with <code>mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=org.metricshub.engine.common.helpers.TableJoinBenchmark</code> from the engine module.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TableJoinBenchmark {
+
+	@Param({ "10000" })
+	public int size;
+
+	@Param({ "true", "false" })
+	public boolean caseInsensitive;
+
+	private List<List<String>> leftTable;
+	private List<List<String>> rightTable;
+	private final List<String> defaultRightLine = List.of("", "", "");
+
+	@Setup
+	public void setUp() {
+		leftTable = new ArrayList<>(size);
+		rightTable = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			leftTable.add(List.of("disk" + i, "1.3.6.1.4.1.232.3.2.5.1.1." + i, "OK"));
+
+			// One right line out of 10 matches no left line, one out of 10 only matches case-insensitively,
+			// duplicating the key of another right line
+			final String key;
+			if (i % 10 == 0) {
+				key = "disk" + (size + i);
+			} else if (i % 10 == 5) {
+				key = "DISK" + (i - 1);
+			} else {
+				key = "disk" + i;
+			}
+			rightTable.add(List.of("controller" + i, key, String.valueOf(i * 100)));
+		}
+	}
+
+	@Benchmark
+	public List<List<String>> tableJoin() {
+		return TableJoin.join(leftTable, rightTable, 1, 2, defaultRightLine, false, caseInsensitive);
+	}
+
+	@Benchmark
+	public List<List<String>> hashJoin() {
+		return TableJoinHelper.join(leftTable, rightTable, 1, 2, defaultRightLine, false, caseInsensitive);
+	}
+
+	public static void main(final String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(TableJoinBenchmark.class.getSimpleName()).build()).run();
+	}
+}
@@ -0,0 +1,117 @@
+package org.metricshub.engine.common.helpers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.metricshub.tablejoin.TableJoin;
+
+class TableJoinHelperTest {
+
+	private static final List<List<String>> LEFT_TABLE = List.of(
+		List.of("a", "left1"),
+		List.of("B", "left2"),
+		List.of("c", "left3"),
+		List.of("a", "left4")
+	);
+
+	private static final List<List<String>> RIGHT_TABLE = List.of(
+		List.of("right1", "A"),
+		List.of("right2", "b"),
+		List.of("right3", "a"),
+		List.of("right4", "d")
+	);
+
+	@Test
+	void testJoin() {
+		// Case-sensitive, without default right line
+		assertEquals(
+			List.of(List.of("a", "left1", "right3", "a"), List.of("a", "left4", "right3", "a")),
+			TableJoinHelper.join(LEFT_TABLE, RIGHT_TABLE, 1, 2, new ArrayList<>(), false, false)
+		);
+
+		// Case-insensitive, duplicate keys in the right table
+		assertEquals(
+			List.of(
+				List.of("a", "left1", "right1", "A"),
+				List.of("a", "left1", "right3", "a"),
+				List.of("B", "left2", "right2", "b"),
+				List.of("a", "left4", "right1", "A"),
+				List.of("a", "left4", "right3", "a")
+			),
+			TableJoinHelper.join(LEFT_TABLE, RIGHT_TABLE, 1, 2, null, false, true)
+		);
+
+		// Default right line for the left lines without match
+		assertEquals(
+			List.of(
+				List.of("a", "left1", "right3", "a"),
+				List.of("B", "left2", "none", ""),
+				List.of("c", "left3", "none", ""),
+				List.of("a", "left4", "right3", "a")
+			),
+			TableJoinHelper.join(LEFT_TABLE, RIGHT_TABLE, 1, 2, List.of("none", ""), false, false)
+		);
+	}
+
+	@Test
+	void testJoinSameAsTableJoin() {
+		final Random random = new Random(42);
+		final List<List<String>> leftTable = randomTable(random, 200);
+		final List<List<String>> rightTable = randomTable(random, 200);
+
+		for (final List<String> defaultRightLine : Arrays.asList(null, new ArrayList<String>(), List.of("x", "y"))) {
+			for (final boolean caseInsensitive : new boolean[] { false, true }) {
+				assertEquals(
+					TableJoin.join(leftTable, rightTable, 1, 2, defaultRightLine, false, caseInsensitive),
+					TableJoinHelper.join(leftTable, rightTable, 1, 2, defaultRightLine, false, caseInsensitive)
+				);
+			}
+		}
+
+		// WBEM keys and lines without key are delegated to TableJoin
+		assertEquals(
+			TableJoin.join(leftTable, rightTable, 1, 2, null, true, true),
+			TableJoinHelper.join(leftTable, rightTable, 1, 2, null, true, true)
+		);
+		final List<List<String>> shortLines = List.of(List.of("a"), List.of("b", "c"));
+		assertEquals(
+			TableJoin.join(shortLines, rightTable, 2, 2, null, false, true),
+			TableJoinHelper.join(shortLines, rightTable, 2, 2, null, false, true)
+		);
+	}
+
+	@Test
+	void testNormalizeKey() {
+		assertEquals("abc", TableJoinHelper.normalizeKey("abc", false));
+		assertNotEquals(TableJoinHelper.normalizeKey("ABC", false), TableJoinHelper.normalizeKey("abc", false));
+		assertEquals(TableJoinHelper.normalizeKey("ABC", true), TableJoinHelper.normalizeKey("abc", true));
+
+		// Same matching as String.equalsIgnoreCase, even where toLowerCase() would differ
+		assertEquals(TableJoinHelper.normalizeKey("İ", true), TableJoinHelper.normalizeKey("i", true));
+		assertEquals(
+			"İ".equalsIgnoreCase("ı"),
+			TableJoinHelper.normalizeKey("İ", true).equals(TableJoinHelper.normalizeKey("ı", true))
+		);
+	}
+
+	/**
+	 * Creates a table of 2 columns with keys like "key12" or "KEY12" in both columns, so that there are duplicate
+	 * keys and keys only matching case-insensitively.
+	 */
+	private static List<List<String>> randomTable(final Random random, final int size) {
+		final List<List<String>> table = new ArrayList<>();
+		for (int i = 0; i < size; i++) {
+			table.add(List.of(randomKey(random, size), randomKey(random, size)));
+		}
+		return table;
+	}
+
+	private static String randomKey(final Random random, final int size) {
+		return (random.nextBoolean() ? "key" : "KEY") + random.nextInt(size);
+	}
+}
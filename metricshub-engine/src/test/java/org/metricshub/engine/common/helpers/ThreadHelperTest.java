@@ -6,14 +6,26 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
 /**
- * Tests for {@link ThreadHelper} with per-request executor and timeout management.
+ * Tests for {@link ThreadHelper} with the shared request executor, concurrency limits and timeout management.
  */
 class ThreadHelperTest {
 
+	@AfterEach
+	void resetConcurrencyLimits() {
+		ThreadHelper.configureConcurrencyLimits(
+			MetricsHubConstants.DEFAULT_MAX_CONCURRENT_REQUESTS,
+			MetricsHubConstants.DEFAULT_MAX_CONCURRENT_REQUESTS_PER_HOST
+		);
+	}
+
 	@Test
 	void testExecuteReturnsResult() throws Exception {
 		final String result = ThreadHelper.execute(() -> "hello", 5);
@@ -102,4 +114,120 @@ class ThreadHelperTest {
 		assertEquals(1, stats.get("wbem").getCompleted());
 		assertEquals(0, stats.get("snmp").getTimeout());
 	}
+
+	@Test
+	void testConfigureConcurrencyLimitsRejectsInvalidValues() {
+		assertThrows(IllegalArgumentException.class, () -> ThreadHelper.configureConcurrencyLimits(0, 1));
+		assertThrows(IllegalArgumentException.class, () -> ThreadHelper.configureConcurrencyLimits(1, 0));
+	}
+
+	@Test
+	void testPerHostLimitQueuesAndTimesOutAdmission() throws Exception {
+		ThreadHelper.configureConcurrencyLimits(10, 1);
+		final String hostname = "host-per-host-limit-test";
+		final CountDownLatch running = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+
+		final CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> {
+			try {
+				return ThreadHelper.execute(
+					() -> {
+						running.countDown();
+						release.await();
+						return "first";
+					},
+					10,
+					hostname,
+					"snmp"
+				);
+			} catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		});
+		assertTrue(running.await(5, TimeUnit.SECONDS));
+		assertEquals(1, ThreadHelper.getStats(hostname).get("snmp").getActive());
+
+		// The single slot of the host is taken, the second request cannot be admitted
+		assertThrows(TimeoutException.class, () -> ThreadHelper.execute(() -> "second", 1, hostname, "snmp"));
+
+		// Other hosts are not affected by the limit
+		assertEquals("other", ThreadHelper.execute(() -> "other", 5, "host-per-host-limit-other", "snmp"));
+
+		release.countDown();
+		assertEquals("first", first.get(5, TimeUnit.SECONDS));
+
+		final ThreadHelper.Stats stats = ThreadHelper.getStats(hostname).get("snmp");
+		assertEquals(1, stats.getCompleted());
+		assertEquals(1, stats.getTimeout());
+		assertEquals(0, stats.getActive());
+		assertEquals(0, stats.getQueued());
+		assertEquals("third", ThreadHelper.execute(() -> "third", 5, hostname, "snmp"));
+	}
+
+	@Test
+	void testAdmissionWaitIsChargedAgainstTheTimeout() throws Exception {
+		ThreadHelper.configureConcurrencyLimits(10, 1);
+		final String hostname = "host-deadline-test";
+		final CountDownLatch running = new CountDownLatch(1);
+
+		// The first request holds the single slot of the host for one second
+		final CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> {
+			try {
+				return ThreadHelper.execute(
+					() -> {
+						running.countDown();
+						Thread.sleep(1_000);
+						return "first";
+					},
+					10,
+					hostname,
+					"snmp"
+				);
+			} catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		});
+		assertTrue(running.await(5, TimeUnit.SECONDS));
+
+		// The second request would complete within its 2 seconds once admitted, but the second spent waiting
+		// for the slot leaves it too little time
+		final long start = System.nanoTime();
+		assertThrows(TimeoutException.class, () ->
+			ThreadHelper.execute(
+				() -> {
+					Thread.sleep(1_500);
+					return "second";
+				},
+				2,
+				hostname,
+				"snmp"
+			)
+		);
+		assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(3));
+
+		assertEquals("first", first.get(5, TimeUnit.SECONDS));
+		assertEquals(1, ThreadHelper.getStats(hostname).get("snmp").getTimeout());
+	}
+
+	@Test
+	void testTimedOutTaskReleasesItsSlot() throws Exception {
+		ThreadHelper.configureConcurrencyLimits(10, 1);
+		final String hostname = "host-release-test";
+
+		assertThrows(TimeoutException.class, () ->
+			ThreadHelper.execute(
+				() -> {
+					Thread.sleep(10_000);
+					return "never";
+				},
+				1,
+				hostname,
+				"wbem"
+			)
+		);
+
+		// The cancelled task is interrupted and gives its slot back
+		assertEquals("next", ThreadHelper.execute(() -> "next", 5, hostname, "wbem"));
+		assertEquals(0, ThreadHelper.getStats(hostname).get("wbem").getActive());
+	}
 }
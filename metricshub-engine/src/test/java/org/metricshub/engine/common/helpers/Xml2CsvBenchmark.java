@@ -0,0 +1,92 @@
+package org.metricshub.engine.common.helpers;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.metricshub.xflat.XFlat;
+import org.metricshub.xflat.exceptions.XFlatException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares {@link Xml2CsvHelper#parse} with {@link XFlat#parseXml} on a document of about 50 MB, like the responses of
+ * XML APIs listing the components of large storage systems. The GC profiler reports the memory allocated by each
+ * conversion (<code>gc.alloc.rate.norm</code>).
+ * <p>
+ * Run with <code>mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=org.metricshub.engine.common.helpers.Xml2CsvBenchmark</code> from the engine module.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = { "-Xmx4g" })
+public class Xml2CsvBenchmark {
+
+	private static final String PROPERTIES =
+		">classId;outConfigs/storageDisk>dn;outConfigs/storageDisk>serial;outConfigs/storageDisk>model;" +
+		"outConfigs/storageDisk>operState";
+
+	private static final String RECORD_TAG = "/configResolveClass";
+
+	/**
+	 * Number of disks in the document, about 400 bytes each.
+	 */
+	@Param({ "125000" })
+	public int size;
+
+	private String xml;
+
+	@Setup
+	public void setUp() {
+		final StringBuilder builder = new StringBuilder(size * 400 + 200);
+		builder.append("<configResolveClass cookie=\"1628614471\" response=\"yes\" classId=\"storageDisk\">\n");
+		builder.append("\t<outConfigs>\n");
+		for (int i = 0; i < size; i++) {
+			builder
+				.append("\t\t<storageDisk dn=\"sys/rack-unit-1/board/storage-SAS-SLOT-HBA/disk-")
+				.append(i)
+				.append("\" id=\"")
+				.append(i)
+				.append("\" model=\"ST900MM0168\" operState=\"operable\" operability=\"operable\"")
+				.append(" presence=\"equipped\" serial=\"S40")
+				.append(i)
+				.append("\" vendor=\"SEAGATE\" size=\"858306\" blockSize=\"512\" numberOfBlocks=\"1758174768\"")
+				.append(" connectionProtocol=\"SAS\" deviceType=\"HDD\" linkSpeed=\"12-gbps\" thermal=\"ok\"/>\n");
+		}
+		builder.append("\t</outConfigs>\n");
+		builder.append("</configResolveClass>\n");
+		xml = builder.toString();
+	}
+
+	@Benchmark
+	public List<List<String>> xFlat() throws XFlatException {
+		return XFlat.parseXml(xml, PROPERTIES, RECORD_TAG);
+	}
+
+	@Benchmark
+	public List<List<String>> streaming() {
+		return Xml2CsvHelper.parse(xml, PROPERTIES, RECORD_TAG).orElseThrow();
+	}
+
+	public static void main(final String[] args) throws RunnerException {
+		new Runner(
+			new OptionsBuilder().include(Xml2CsvBenchmark.class.getSimpleName()).addProfiler(GCProfiler.class).build()
+		)
+			.run();
+	}
+}
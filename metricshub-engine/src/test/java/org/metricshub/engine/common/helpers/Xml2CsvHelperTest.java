@@ -0,0 +1,71 @@
+package org.metricshub.engine.common.helpers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.metricshub.xflat.XFlat;
+import org.metricshub.xflat.exceptions.XFlatException;
+
+class Xml2CsvHelperTest {
+
+	private static final String FAN_PROPERTIES =
+		">classId;outConfigs/equipmentFan>dn;outConfigs/equipmentFan>model;outConfigs/equipmentFan>operState";
+
+	@Test
+	void testParseSameAsXFlat() throws XFlatException {
+		final String xml = ResourceHelper.getResourceAsString(
+			"/test-files/compute/xml2Csv/xml2Csv.xml",
+			Xml2CsvHelperTest.class
+		);
+
+		final Optional<List<List<String>>> result = Xml2CsvHelper.parse(xml, FAN_PROPERTIES, "/configResolveClass");
+		assertTrue(result.isPresent());
+		assertEquals(28, result.get().size());
+		assertEquals(
+			List.of("equipmentFan", "sys/switch-A/fan-module-1-1/fan-1", "N10-FAN1", "operable"),
+			result.get().get(0)
+		);
+		assertEquals(XFlat.parseXml(xml, FAN_PROPERTIES, "/configResolveClass"), result.get());
+
+		// Attributes of the record only
+		assertEquals(
+			Optional.of(List.of(List.of("equipmentFan", "yes"))),
+			Xml2CsvHelper.parse(xml, ">classId;>response", "/configResolveClass")
+		);
+	}
+
+	@Test
+	void testParse() {
+		assertEquals(
+			Optional.of(List.of(List.of("1", "2"), List.of("1", "3"), List.of("&4", "5"))),
+			Xml2CsvHelper.parse(
+				"<a><b x='1'><c y='2'/><c y='3'/><d><c y='9'/></d></b><b x='&amp;4'><c y='5'/></b><e><b x='6'/></e></a>",
+				">x;c>y",
+				"/a/b"
+			)
+		);
+	}
+
+	@Test
+	void testParseNotHandled() {
+		// Text content, several element paths, wildcards
+		assertTrue(Xml2CsvHelper.parse("<a><b><c>1</c></b></a>", "c", "/a/b").isEmpty());
+		assertTrue(Xml2CsvHelper.parse("<a><b><c y='1'/><d y='2'/></b></a>", "c>y;d>y", "/a/b").isEmpty());
+		assertTrue(Xml2CsvHelper.parse("<a><b><c y='1'/></b></a>", "*>y", "/a/b").isEmpty());
+
+		// Missing attributes, records without element, repeated intermediate elements
+		assertTrue(Xml2CsvHelper.parse("<a><b x='1'><c/></b></a>", ">x;c>y", "/a/b").isEmpty());
+		assertTrue(Xml2CsvHelper.parse("<a><b x='1'><c y='2'/></b><b x='3'/></a>", ">x;c>y", "/a/b").isEmpty());
+		assertTrue(
+			Xml2CsvHelper.parse("<a><b><c><d y='1'/></c><c><d y='2'/></c></b></a>", "c/d>y", "/a/b").isEmpty()
+		);
+
+		// No record, DTD, invalid XML
+		assertTrue(Xml2CsvHelper.parse("<a><c x='1'/></a>", ">x", "/a/b").isEmpty());
+		assertTrue(Xml2CsvHelper.parse("<!DOCTYPE a [<!ENTITY e 'x'>]><a><b x='&e;'/></a>", ">x", "/a/b").isEmpty());
+		assertTrue(Xml2CsvHelper.parse("<a><b x='1'/></a><a/>", ">x", "/a/b").isEmpty());
+	}
+}
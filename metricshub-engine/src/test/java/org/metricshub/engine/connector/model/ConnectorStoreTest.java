@@ -0,0 +1,80 @@
+package org.metricshub.engine.connector.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class ConnectorStoreTest {
+
+	@Test
+	void testNewConnectorStore() {
+		final Connector linux = new Connector();
+		final Connector windows = new Connector();
+		final ConnectorStore globalStore = new ConnectorStore();
+		globalStore.addOne("Linux", linux);
+		globalStore.addOne("Windows", windows);
+
+		final ConnectorStore resourceStore = globalStore.newConnectorStore();
+		final LayeredConnectorMap resourceConnectors = assertInstanceOf(
+			LayeredConnectorMap.class,
+			resourceStore.getStore()
+		);
+
+		// Lookups fall through to the global store, case-insensitively
+		assertSame(linux, resourceStore.getStore().get("linux"));
+		assertTrue(resourceStore.getStore().containsKey("WINDOWS"));
+		assertEquals(0, resourceConnectors.overlaySize());
+		assertEquals(globalStore.getStore(), resourceStore.getStore());
+
+		// Connectors added to the resource store only go to its overlay
+		final Connector custom = new Connector();
+		final Connector customLinux = new Connector();
+		resourceStore.addMany(Map.of("Custom", custom, "LINUX", customLinux));
+
+		assertEquals(2, resourceConnectors.overlaySize());
+		assertEquals(3, resourceStore.getStore().size());
+		assertSame(customLinux, resourceStore.getStore().get("Linux"));
+		assertSame(custom, resourceStore.getStore().get("custom"));
+		assertEquals(List.of("Custom", "LINUX", "Windows"), List.copyOf(resourceStore.getStore().keySet()));
+		assertEquals(List.of(custom, customLinux, windows), List.copyOf(resourceStore.getStore().values()));
+
+		// The global store is left unchanged
+		assertEquals(2, globalStore.getStore().size());
+		assertSame(linux, globalStore.getStore().get("Linux"));
+		assertNull(globalStore.getStore().get("Custom"));
+
+		// Shared connectors cannot be removed from the resource store
+		assertThrows(UnsupportedOperationException.class, () -> resourceStore.getStore().remove("Windows"));
+		assertSame(custom, resourceStore.getStore().remove("Custom"));
+		assertFalse(resourceStore.getStore().containsKey("Custom"));
+	}
+
+	@Test
+	void testNewConnectorStoreFromResourceStore() {
+		final Connector linux = new Connector();
+		final ConnectorStore globalStore = new ConnectorStore();
+		globalStore.addOne("Linux", linux);
+
+		final ConnectorStore resourceStore = globalStore.newConnectorStore();
+		final Connector custom = new Connector();
+		resourceStore.addOne("Custom", custom);
+
+		// The new store shares the base and copies the overlay
+		final ConnectorStore copy = resourceStore.newConnectorStore();
+		copy.addOne("Other", new Connector());
+
+		assertSame(linux, copy.getStore().get("Linux"));
+		assertSame(custom, copy.getStore().get("Custom"));
+		assertEquals(3, copy.getStore().size());
+		assertEquals(2, resourceStore.getStore().size());
+		assertEquals(2, ((LayeredConnectorMap) copy.getStore()).overlaySize());
+	}
+}
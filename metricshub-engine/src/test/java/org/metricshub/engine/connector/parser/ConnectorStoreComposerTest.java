@@ -1,6 +1,8 @@
 package org.metricshub.engine.connector.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Path;
@@ -73,6 +75,21 @@ class ConnectorStoreComposerTest {
 		assertTrue(connectorsWithVariables.containsAll(List.of("ConnectorVariables", "EmbeddedConnectorVariables")));
 	}
 
+	@Test
+	void testGenerateStaticConnectorStoreOrder() {
+		initComposer(null);
+
+		// The connectors are parsed in parallel but collected in the order of the raw connector store
+		for (int i = 0; i < 5; i++) {
+			final ConnectorStore connectorStore = composer.generateStaticConnectorStore();
+			assertEquals(List.of("NoConnectorVariables"), List.copyOf(connectorStore.getStore().keySet()));
+			assertEquals(
+				List.of("ConnectorVariables", "EmbeddedConnectorVariables"),
+				connectorStore.getConnectorsWithVariables()
+			);
+		}
+	}
+
 	@Test
 	void testResolveConnectorStoreVariables() {
 		final AdditionalConnector linuxProcessGeneric = AdditionalConnector.builder().uses("ConnectorVariables").build();
@@ -198,6 +215,74 @@ class ConnectorStoreComposerTest {
 		);
 	}
 
+	@Test
+	void testResolveConnectorStoreVariablesSharedAcrossResources() {
+		final Path yamlTestPath = Paths.get("src", "test", "resources", "connectorStoreComposer");
+		final RawConnectorStore rawConnectorStore = new RawConnectorStore(yamlTestPath);
+
+		final ConnectorStore store = ConnectorStoreComposer.builder()
+			.withRawConnectorStore(rawConnectorStore)
+			.withUpdateChain(ConnectorParser.createUpdateChain())
+			.withDeserializer(new ConnectorDeserializer(JsonHelper.buildYamlMapper()))
+			.build()
+			.generateStaticConnectorStore();
+
+		final Map<String, Connector> firstResource = resolveConnectors(
+			rawConnectorStore,
+			store,
+			Map.of("matchName", "MetricsHub")
+		);
+		final Map<String, Connector> secondResource = resolveConnectors(
+			rawConnectorStore,
+			store,
+			Map.of("matchName", "MetricsHub")
+		);
+		final Map<String, Connector> thirdResource = resolveConnectors(
+			rawConnectorStore,
+			store,
+			Map.of("matchName", "Agent")
+		);
+
+		// Same variables, same connector instances
+		assertSame(firstResource.get("LinuxProcess"), secondResource.get("LinuxProcess"));
+		assertSame(firstResource.get("ConnectorVariables"), secondResource.get("ConnectorVariables"));
+
+		// Other variables, other connector
+		assertNotSame(firstResource.get("LinuxProcess"), thirdResource.get("LinuxProcess"));
+		final List<Compute> computes = getLinuxProcessComputes(thirdResource.get("LinuxProcess"));
+		assertEquals("Agent", ((AbstractMatchingLines) computes.get(1)).getRegExp());
+
+		// Default connectors (x2), LinuxProcess with MetricsHub and with Agent
+		assertEquals(4, rawConnectorStore.getResolvedConnectorCache().size());
+
+		// Changing the raw connectors invalidates the cache
+		rawConnectorStore.addMany(Map.of());
+		assertEquals(0, rawConnectorStore.getResolvedConnectorCache().size());
+	}
+
+	/**
+	 * Resolve the connectors with variables for a resource configuring a LinuxProcess connector with the given variables.
+	 */
+	private static Map<String, Connector> resolveConnectors(
+		final RawConnectorStore rawConnectorStore,
+		final ConnectorStore store,
+		final Map<String, String> variables
+	) {
+		final AdditionalConnector linuxProcess = AdditionalConnector.builder()
+			.uses("ConnectorVariables")
+			.variables(variables)
+			.build();
+
+		return ConnectorStoreComposer.builder()
+			.withRawConnectorStore(rawConnectorStore)
+			.withUpdateChain(ConnectorParser.createUpdateChain())
+			.withDeserializer(new ConnectorDeserializer(JsonHelper.buildYamlMapper()))
+			.withAdditionalConnectors(Map.of("LinuxProcess", linuxProcess))
+			.build()
+			.resolveConnectorStoreVariables(store)
+			.getCustomConnectorsMap();
+	}
+
 	private List<Compute> getLinuxProcessComputes(final Connector connector) {
 		return ((SimpleMonitorJob) connector.getMonitors().get("process")).getSimple()
 			.getSources()
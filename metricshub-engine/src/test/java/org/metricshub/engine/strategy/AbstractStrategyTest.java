@@ -6,6 +6,12 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
 import static org.metricshub.engine.constants.Constants.CONNECTOR;
 import static org.metricshub.engine.constants.Constants.HOST;
 import static org.metricshub.engine.constants.Constants.HOST_ID;
@@ -16,25 +22,40 @@ import static org.metricshub.engine.strategy.AbstractStrategy.CONNECTOR_ID_FORMA
 
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Test;
 import org.metricshub.engine.client.ClientsExecutor;
+import org.metricshub.engine.common.JobInfo;
 import org.metricshub.engine.common.helpers.KnownMonitorType;
 import org.metricshub.engine.configuration.HostConfiguration;
 import org.metricshub.engine.connector.model.Connector;
 import org.metricshub.engine.connector.model.monitor.MonitorJob;
 import org.metricshub.engine.connector.model.monitor.SimpleMonitorJob;
 import org.metricshub.engine.connector.model.monitor.task.Simple;
+import org.metricshub.engine.connector.model.monitor.task.source.HttpSource;
+import org.metricshub.engine.connector.model.monitor.task.source.TableUnionSource;
 import org.metricshub.engine.extension.ExtensionManager;
+import org.metricshub.engine.extension.IProtocolExtension;
 import org.metricshub.engine.extension.TestConfiguration;
 import org.metricshub.engine.strategy.collect.CollectStrategy;
 import org.metricshub.engine.strategy.simple.SimpleStrategy;
+import org.metricshub.engine.strategy.source.OrderedSources;
+import org.metricshub.engine.strategy.source.SourceTable;
 import org.metricshub.engine.strategy.surrounding.BeforeAllStrategy;
+import org.metricshub.engine.telemetry.ConnectorNamespace;
 import org.metricshub.engine.telemetry.Monitor;
 import org.metricshub.engine.telemetry.TelemetryManager;
 
 class AbstractStrategyTest {
 
+	private static final String SOURCE_1_KEY = "${source::monitors.cpu.collect.sources.source1}";
+	private static final String SOURCE_2_KEY = "${source::monitors.cpu.collect.sources.source2}";
+	private static final String UNION_KEY = "${source::monitors.cpu.collect.sources.union}";
+
 	@Test
 	void testSetJobDurationMetricWithMonitorTypeNoConfiguration() {
 		// The job duration metrics are not configured in metricshub.yaml
@@ -323,4 +344,124 @@ class AbstractStrategyTest {
 		);
 		assertEquals("Unknown strategy job name: unknown", exception.getMessage());
 	}
+
+	/**
+	 * Create a telemetry manager whose host runs the sources of a level concurrently through the given extension.
+	 *
+	 * @param protocolExtension The extension processing the HTTP sources
+	 * @return a new {@link TelemetryManager}
+	 */
+	private static TelemetryManager createConcurrentTelemetryManager(final IProtocolExtension protocolExtension) {
+		final TestConfiguration testConfiguration = TestConfiguration.builder().build();
+		doReturn(true).when(protocolExtension).isValidConfiguration(testConfiguration);
+		doReturn(Set.of(HttpSource.class)).when(protocolExtension).getSupportedSources();
+
+		return TelemetryManager.builder()
+			.hostConfiguration(
+				HostConfiguration.builder()
+					.hostId(HOST_ID)
+					.hostname(HOST_NAME)
+					.sequential(false)
+					.configurations(Map.of(TestConfiguration.class, testConfiguration))
+					.build()
+			)
+			.build();
+	}
+
+	/**
+	 * Two HTTP sources on the first level and a union of their tables on the second level.
+	 *
+	 * @return the {@link OrderedSources} of the test job
+	 */
+	private static OrderedSources createTwoLevelSources() {
+		return OrderedSources.builder()
+			.sources(
+				Map.of(
+					"source1",
+					HttpSource.builder().url("/source1").key(SOURCE_1_KEY).build(),
+					"source2",
+					HttpSource.builder().url("/source2").key(SOURCE_2_KEY).build(),
+					"union",
+					TableUnionSource.builder().tables(List.of(SOURCE_1_KEY, SOURCE_2_KEY)).key(UNION_KEY).build()
+				),
+				List.of(),
+				List.of(Set.of("source1", "source2"), Set.of("union")),
+				JobInfo.builder().hostname(HOST_NAME).connectorId(TEST_CONNECTOR_ID).build()
+			)
+			.build();
+	}
+
+	@Test
+	void testProcessSourcesAndComputesConcurrentLevel() throws Exception {
+		final IProtocolExtension protocolExtension = mock(IProtocolExtension.class);
+		final TelemetryManager telemetryManager = createConcurrentTelemetryManager(protocolExtension);
+
+		// Both sources of the first level can only complete if they are processed concurrently
+		final CyclicBarrier concurrentSources = new CyclicBarrier(2);
+		doAnswer(invocation -> {
+			concurrentSources.await(5, TimeUnit.SECONDS);
+			return SourceTable.builder().table(List.of(List.of(invocation.<HttpSource>getArgument(0).getUrl()))).build();
+		})
+			.when(protocolExtension)
+			.processSource(any(HttpSource.class), anyString(), any(TelemetryManager.class));
+
+		try (MonitorJobExecutor monitorJobExecutor = new MonitorJobExecutor(4)) {
+			final ClientsExecutor clientsExecutor = new ClientsExecutor(telemetryManager);
+			clientsExecutor.setMonitorJobExecutor(monitorJobExecutor);
+
+			final CollectStrategy collectStrategy = CollectStrategy.builder()
+				.telemetryManager(telemetryManager)
+				.strategyTime(new Date().getTime())
+				.clientsExecutor(clientsExecutor)
+				.extensionManager(ExtensionManager.builder().withProtocolExtensions(List.of(protocolExtension)).build())
+				.build();
+
+			collectStrategy.processSourcesAndComputes(
+				createTwoLevelSources(),
+				JobInfo.builder().hostname(HOST_NAME).connectorId(TEST_CONNECTOR_ID).monitorType("cpu").build()
+			);
+		}
+
+		final ConnectorNamespace connectorNamespace = telemetryManager
+			.getHostProperties()
+			.getConnectorNamespace(TEST_CONNECTOR_ID);
+		assertEquals(List.of(List.of("/source1")), connectorNamespace.getSourceTable(SOURCE_1_KEY).getTable());
+		assertEquals(List.of(List.of("/source2")), connectorNamespace.getSourceTable(SOURCE_2_KEY).getTable());
+
+		// The union of the second level sees the tables of the first level, in the order of its table list
+		assertEquals(
+			List.of(List.of("/source1"), List.of("/source2")),
+			connectorNamespace.getSourceTable(UNION_KEY).getTable()
+		);
+	}
+
+	@Test
+	void testProcessSourcesAndComputesLevelTimeout() throws Exception {
+		final IProtocolExtension protocolExtension = mock(IProtocolExtension.class);
+		final TelemetryManager telemetryManager = createConcurrentTelemetryManager(protocolExtension);
+
+		// The first level does not complete in time
+		final MonitorJobExecutor monitorJobExecutor = mock(MonitorJobExecutor.class);
+		doReturn(false).when(monitorJobExecutor).runAll(anyString(), any(), anyLong());
+
+		final ClientsExecutor clientsExecutor = new ClientsExecutor(telemetryManager);
+		clientsExecutor.setMonitorJobExecutor(monitorJobExecutor);
+
+		final CollectStrategy collectStrategy = CollectStrategy.builder()
+			.telemetryManager(telemetryManager)
+			.strategyTime(new Date().getTime())
+			.clientsExecutor(clientsExecutor)
+			.extensionManager(ExtensionManager.builder().withProtocolExtensions(List.of(protocolExtension)).build())
+			.build();
+
+		collectStrategy.processSourcesAndComputes(
+			createTwoLevelSources(),
+			JobInfo.builder().hostname(HOST_NAME).connectorId(TEST_CONNECTOR_ID).monitorType("cpu").build()
+		);
+
+		// The dependent union is not executed on top of incomplete tables
+		assertNull(
+			telemetryManager.getHostProperties().getConnectorNamespace(TEST_CONNECTOR_ID).getSourceTable(UNION_KEY)
+		);
+	}
 }
@@ -0,0 +1,256 @@
+package org.metricshub.engine.strategy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class MonitorJobExecutorTest {
+
+	@Test
+	void testInvalidMaxConcurrentJobs() {
+		assertThrows(IllegalArgumentException.class, () -> new MonitorJobExecutor(0));
+	}
+
+	@Test
+	void testRunAll() throws Exception {
+		try (MonitorJobExecutor executor = new MonitorJobExecutor(4)) {
+			final AtomicInteger counter = new AtomicInteger();
+			final List<Runnable> jobs = new ArrayList<>();
+			for (int i = 0; i < 20; i++) {
+				jobs.add(counter::incrementAndGet);
+			}
+
+			assertTrue(executor.runAll("host", jobs, 10));
+			assertEquals(20, counter.get());
+
+			final MonitorJobExecutor.Stats stats = executor.getStats("host");
+			assertNotNull(stats);
+			assertEquals(20, stats.getExecuted());
+			assertEquals(0, stats.getQueued());
+			assertTrue(stats.getQueueWaitTime() >= 0);
+			assertNull(executor.getStats("unknown-host"));
+		}
+	}
+
+	@Test
+	void testFailingJobDoesNotBreakTheBatch() throws Exception {
+		try (MonitorJobExecutor executor = new MonitorJobExecutor(2)) {
+			final AtomicInteger counter = new AtomicInteger();
+			final List<Runnable> jobs = List.of(
+				() -> {
+					throw new IllegalStateException("failure");
+				},
+				counter::incrementAndGet
+			);
+
+			assertTrue(executor.runAll("host", jobs, 10));
+			assertEquals(1, counter.get());
+		}
+	}
+
+	@Test
+	void testRoundRobinAcrossResources() throws Exception {
+		try (MonitorJobExecutor executor = new MonitorJobExecutor(1)) {
+			final CountDownLatch blockerStarted = new CountDownLatch(1);
+			final CountDownLatch releaseBlocker = new CountDownLatch(1);
+			final List<String> order = Collections.synchronizedList(new ArrayList<>());
+
+			// Host A takes the only slot and queues three more jobs
+			final List<Runnable> hostAJobs = new ArrayList<>();
+			hostAJobs.add(() -> {
+				blockerStarted.countDown();
+				try {
+					releaseBlocker.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+			for (int i = 0; i < 3; i++) {
+				hostAJobs.add(() -> order.add("A"));
+			}
+			final CompletableFuture<Boolean> hostA = CompletableFuture.supplyAsync(() -> runAll(executor, "A", hostAJobs));
+			assertTrue(blockerStarted.await(5, TimeUnit.SECONDS));
+
+			// Host B arrives later with a single job
+			final CompletableFuture<Boolean> hostB = CompletableFuture.supplyAsync(() ->
+				runAll(executor, "B", List.of(() -> order.add("B")))
+			);
+			while (executor.getStats("B") == null || executor.getStats("B").getQueued() == 0) {
+				Thread.onSpinWait();
+			}
+
+			releaseBlocker.countDown();
+			assertTrue(hostA.get(5, TimeUnit.SECONDS));
+			assertTrue(hostB.get(5, TimeUnit.SECONDS));
+
+			// Host B does not wait for all the jobs of host A
+			assertEquals(List.of("A", "B", "A", "A"), order);
+		}
+	}
+
+	@Test
+	void testTimeoutCancelsRemainingJobs() throws Exception {
+		try (MonitorJobExecutor executor = new MonitorJobExecutor(1)) {
+			final AtomicBoolean interrupted = new AtomicBoolean();
+			final AtomicBoolean secondJobRan = new AtomicBoolean();
+			final List<Runnable> jobs = List.of(
+				() -> {
+					try {
+						Thread.sleep(10_000);
+					} catch (InterruptedException e) {
+						interrupted.set(true);
+					}
+				},
+				() -> secondJobRan.set(true)
+			);
+
+			assertFalse(executor.runAll("host", jobs, 1));
+
+			// The executor is usable again once the interrupted job has returned
+			assertTrue(executor.runAll("host", List.of(() -> {}), 5));
+			assertTrue(interrupted.get());
+			assertFalse(secondJobRan.get());
+		}
+	}
+
+	@Test
+	void testRunAllWithoutTimeout() throws Exception {
+		try (MonitorJobExecutor executor = new MonitorJobExecutor(1)) {
+			final AtomicInteger counter = new AtomicInteger();
+			final Runnable increment = counter::incrementAndGet;
+			executor.runAll("host", Collections.nCopies(5, increment));
+			assertEquals(5, counter.get());
+
+			// Interrupting the caller cancels the jobs
+			final CountDownLatch started = new CountDownLatch(1);
+			final AtomicBoolean jobInterrupted = new AtomicBoolean();
+			final AtomicBoolean callerInterrupted = new AtomicBoolean();
+			final Runnable sleeper = () -> {
+				started.countDown();
+				try {
+					Thread.sleep(10_000);
+				} catch (InterruptedException e) {
+					jobInterrupted.set(true);
+				}
+			};
+			final Thread caller = Thread.ofVirtual().start(() -> {
+				try {
+					executor.runAll("host", List.of(sleeper, increment));
+				} catch (InterruptedException e) {
+					callerInterrupted.set(true);
+				}
+			});
+
+			assertTrue(started.await(5, TimeUnit.SECONDS));
+			caller.interrupt();
+			caller.join(5_000);
+			assertTrue(callerInterrupted.get());
+
+			// The executor is usable again once the interrupted job has returned
+			assertTrue(executor.runAll("host", List.of(() -> {}), 5));
+			assertTrue(jobInterrupted.get());
+			assertEquals(5, counter.get());
+		}
+	}
+
+	@Test
+	void testNestedSubmissionDoesNotDeadlock() throws Exception {
+		try (MonitorJobExecutor executor = new MonitorJobExecutor(1)) {
+			final AtomicInteger counter = new AtomicInteger();
+			final Runnable outer = () -> {
+				final List<Runnable> nested = List.of(counter::incrementAndGet, counter::incrementAndGet);
+				assertTrue(runAll(executor, "host", nested));
+			};
+
+			assertTrue(executor.runAll("host", List.of(outer), 5));
+			assertEquals(2, counter.get());
+		}
+	}
+
+	@Test
+	void testNestedSubmissionStopsAtTimeout() throws Exception {
+		try (MonitorJobExecutor executor = new MonitorJobExecutor(1)) {
+			final AtomicBoolean nestedCompleted = new AtomicBoolean(true);
+			final AtomicBoolean secondJobRan = new AtomicBoolean();
+			final Runnable slowJob = () -> {
+				try {
+					Thread.sleep(1_500);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			};
+			final Runnable outer = () -> {
+				try {
+					nestedCompleted.set(executor.runAll("host", List.of(slowJob, () -> secondJobRan.set(true)), 1));
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			};
+
+			assertTrue(executor.runAll("host", List.of(outer), 5));
+
+			// The worker runs the nested jobs by itself and stops claiming them once the timeout has elapsed
+			assertFalse(nestedCompleted.get());
+			assertFalse(secondJobRan.get());
+		}
+	}
+
+	@Test
+	void testIdleLanesArePruned() throws Exception {
+		try (MonitorJobExecutor executor = new MonitorJobExecutor(2, 0)) {
+			final CountDownLatch releaseBlocker = new CountDownLatch(1);
+			final CountDownLatch blockerStarted = new CountDownLatch(1);
+			final Runnable blocker = () -> {
+				blockerStarted.countDown();
+				try {
+					releaseBlocker.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			};
+
+			assertTrue(executor.runAll("A", List.of(() -> {}), 5));
+			assertNotNull(executor.getStats("A"));
+
+			// Host B has a running job, its lane is kept while the idle lane of host A is removed
+			final CompletableFuture<Boolean> hostB = CompletableFuture.supplyAsync(() ->
+				runAll(executor, "B", List.of(blocker))
+			);
+			assertTrue(blockerStarted.await(5, TimeUnit.SECONDS));
+			assertTrue(executor.runAll("C", List.of(() -> {}), 5));
+			assertNull(executor.getStats("A"));
+			assertNotNull(executor.getStats("B"));
+
+			releaseBlocker.countDown();
+			assertTrue(hostB.get(5, TimeUnit.SECONDS));
+			assertTrue(executor.runAll("C", List.of(() -> {}), 5));
+			assertNull(executor.getStats("B"));
+			assertEquals(1, executor.getStats("C").getExecuted());
+		}
+	}
+
+	/**
+	 * Run the given jobs, converting the interruption into an unchecked exception.
+	 */
+	private static boolean runAll(final MonitorJobExecutor executor, final String resource, final List<Runnable> jobs) {
+		try {
+			return executor.runAll(resource, jobs, 5);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+}
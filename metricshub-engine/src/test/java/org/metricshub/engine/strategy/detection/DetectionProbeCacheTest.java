@@ -0,0 +1,117 @@
+package org.metricshub.engine.strategy.detection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class DetectionProbeCacheTest {
+
+	private static final List<Object> KEY = List.of("snmp-get", "hostname", "1.3.6.1.2.1.1.1.0");
+
+	@Test
+	void testClosedCacheExecutesEveryProbe() throws Exception {
+		final DetectionProbeCache cache = new DetectionProbeCache();
+		final AtomicInteger counter = new AtomicInteger();
+
+		assertFalse(cache.isOpen());
+		assertEquals(1, cache.get(KEY, counter::incrementAndGet));
+		assertEquals(2, cache.get(KEY, counter::incrementAndGet));
+	}
+
+	@Test
+	void testOpenCacheExecutesEachProbeOnce() throws Exception {
+		final DetectionProbeCache cache = new DetectionProbeCache();
+		final AtomicInteger counter = new AtomicInteger();
+
+		cache.open();
+		assertTrue(cache.isOpen());
+		assertEquals(1, cache.get(KEY, counter::incrementAndGet));
+		assertEquals(1, cache.get(List.of("snmp-get", "hostname", "1.3.6.1.2.1.1.1.0"), counter::incrementAndGet));
+		assertEquals(2, cache.get(List.of("snmp-get", "hostname", "1.3.6.1.2.1.1.2.0"), counter::incrementAndGet));
+
+		// A new detection run probes the resource again
+		cache.close();
+		cache.open();
+		assertEquals(3, cache.get(KEY, counter::incrementAndGet));
+	}
+
+	@Test
+	void testFailureIsShared() {
+		final DetectionProbeCache cache = new DetectionProbeCache();
+		final AtomicInteger counter = new AtomicInteger();
+		final TimeoutException timeout = new TimeoutException("timeout");
+
+		cache.open();
+		final DetectionProbeCache.Probe<String> probe = () -> {
+			counter.incrementAndGet();
+			throw timeout;
+		};
+		assertSame(timeout, assertThrows(TimeoutException.class, () -> cache.get(KEY, probe)));
+		assertSame(timeout, assertThrows(TimeoutException.class, () -> cache.get(KEY, probe)));
+		assertEquals(1, counter.get());
+	}
+
+	@Test
+	void testInterruptedProbeIsNotShared() throws Exception {
+		final DetectionProbeCache cache = new DetectionProbeCache();
+
+		cache.open();
+		assertThrows(
+			InterruptedException.class,
+			() ->
+				cache.get(
+					KEY,
+					() -> {
+						throw new InterruptedException();
+					}
+				)
+		);
+		assertEquals("value", cache.get(KEY, () -> "value"));
+	}
+
+	@Test
+	void testConcurrentCallersWaitForTheFirstProbe() throws Exception {
+		final DetectionProbeCache cache = new DetectionProbeCache();
+		final AtomicInteger counter = new AtomicInteger();
+		final CountDownLatch probeStarted = new CountDownLatch(1);
+		final CountDownLatch releaseProbe = new CountDownLatch(1);
+
+		cache.open();
+		final CompletableFuture<Integer> first = CompletableFuture.supplyAsync(() ->
+			get(cache, () -> {
+				probeStarted.countDown();
+				releaseProbe.await();
+				return counter.incrementAndGet();
+			})
+		);
+		assertTrue(probeStarted.await(5, TimeUnit.SECONDS));
+
+		final CompletableFuture<Integer> second = CompletableFuture.supplyAsync(() -> get(cache, counter::incrementAndGet));
+		releaseProbe.countDown();
+
+		assertEquals(1, first.get(5, TimeUnit.SECONDS));
+		assertEquals(1, second.get(5, TimeUnit.SECONDS));
+		assertEquals(1, counter.get());
+	}
+
+	/**
+	 * Get the result of the given probe, converting the exception into an unchecked exception.
+	 */
+	private static Integer get(final DetectionProbeCache cache, final DetectionProbeCache.Probe<Integer> probe) {
+		try {
+			return cache.get(KEY, probe);
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,57 @@
+package org.metricshub.engine.strategy.detection;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.metricshub.engine.connector.model.ConnectorStore;
+import org.metricshub.engine.strategy.detection.ConnectorStagingManager.StagedConnectorIdentifiers;
+
+class DetectionSnapshotTest {
+
+	private static final String FINGERPRINT = "snmp=1.3.6.1.4.1.232|HP-UX|2920000";
+	private static final long DETECTION_TIME = 1_700_000_000_000L;
+
+	@Test
+	void testIsReusable() {
+		final ConnectorStore connectorStore = new ConnectorStore();
+		final DetectionSnapshot snapshot = DetectionSnapshot.builder()
+			.fingerprint(FINGERPRINT)
+			.connectorStore(connectorStore)
+			.stagedConnectorIdentifiers(staged("connector1"))
+			.connectorTestResults(List.of())
+			.detectionTime(DETECTION_TIME)
+			.build();
+
+		assertTrue(snapshot.isReusable(FINGERPRINT, connectorStore, staged("connector1"), null, DETECTION_TIME + 1));
+
+		// The host has changed or its fingerprint is unknown
+		assertFalse(snapshot.isReusable("snmp=other", connectorStore, staged("connector1"), null, DETECTION_TIME + 1));
+		assertFalse(snapshot.isReusable(null, connectorStore, staged("connector1"), null, DETECTION_TIME + 1));
+
+		// The detection inputs have changed
+		assertFalse(snapshot.isReusable(FINGERPRINT, new ConnectorStore(), staged("connector1"), null, DETECTION_TIME + 1));
+		assertFalse(snapshot.isReusable(FINGERPRINT, connectorStore, staged("connector2"), null, DETECTION_TIME + 1));
+		assertFalse(snapshot.isReusable(FINGERPRINT, connectorStore, staged("connector1"), "custom", DETECTION_TIME + 1));
+
+		// The snapshot has expired
+		assertFalse(
+			snapshot.isReusable(
+				FINGERPRINT,
+				connectorStore,
+				staged("connector1"),
+				null,
+				DETECTION_TIME + DetectionSnapshot.MAX_AGE
+			)
+		);
+	}
+
+	/**
+	 * Stage the given connector for automatic detection.
+	 */
+	private static StagedConnectorIdentifiers staged(final String connectorId) {
+		return new StagedConnectorIdentifiers(Set.of(connectorId), Set.of());
+	}
+}
@@ -73,6 +73,46 @@ class OrderedSourcesTest {
 		assertEquals(List.of(SOURCE1, SOURCE2, SOURCE3), result);
 	}
 
+	@Test
+	void testExecutionOrderRunsSourcesSequentially() {
+		final Map<String, Source> sources = new LinkedHashMap<>();
+		sources.put(SOURCE_NAME_3, SOURCE3);
+		sources.put(SOURCE_NAME_2, SOURCE2);
+		sources.put(SOURCE_NAME_1, SOURCE1);
+
+		final List<Set<String>> sourceDepTree = List.of(
+			new LinkedHashSet<>(Arrays.asList(SOURCE_NAME_1, SOURCE_NAME_2)),
+			Set.of(SOURCE_NAME_3)
+		);
+
+		final List<List<Source>> result = OrderedSources.builder()
+			.sources(sources, List.of(SOURCE_NAME_1, SOURCE_NAME_2, SOURCE_NAME_3), sourceDepTree, JOB_INFO)
+			.build()
+			.getSourceLevels();
+
+		assertEquals(List.of(List.of(SOURCE1), List.of(SOURCE2), List.of(SOURCE3)), result);
+	}
+
+	@Test
+	void testSourceLevelsThroughSourceDepTree() {
+		final Map<String, Source> sources = new LinkedHashMap<>();
+		sources.put(SOURCE_NAME_3, SOURCE3);
+		sources.put(SOURCE_NAME_2, SOURCE2);
+		sources.put(SOURCE_NAME_1, SOURCE1);
+
+		final List<Set<String>> sourceDepTree = List.of(
+			new LinkedHashSet<>(Arrays.asList(SOURCE_NAME_1, SOURCE_NAME_2)),
+			Set.of(SOURCE_NAME_3)
+		);
+
+		final List<List<Source>> result = OrderedSources.builder()
+			.sources(sources, EMPTY_EXECUTION_ORDER, sourceDepTree, JOB_INFO)
+			.build()
+			.getSourceLevels();
+
+		assertEquals(List.of(List.of(SOURCE1, SOURCE2), List.of(SOURCE3)), result);
+	}
+
 	@Test
 	void testOrderThrowsExceptionOnSourceNameNotFound() {
 		final Map<String, Source> sources = new LinkedHashMap<>();
@@ -165,5 +205,10 @@ class OrderedSourcesTest {
 			.getSources();
 
 		assertEquals(List.of(SOURCE1, SOURCE2, SOURCE3), result2);
+
+		assertEquals(
+			List.of(List.of(SOURCE1), List.of(SOURCE2), List.of(SOURCE3)),
+			OrderedSources.builder().sources(sources, EMPTY_EXECUTION_ORDER, null, JOB_INFO).build().getSourceLevels()
+		);
 	}
 }
@@ -1,10 +1,12 @@
 package org.metricshub.engine.strategy.source;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.metricshub.engine.common.helpers.MetricsHubConstants.TABLE_SEP;
 import static org.metricshub.engine.constants.Constants.MY_CONNECTOR_1_NAME;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -80,4 +82,37 @@ class SourceTableTest {
 	void testLineToCsvReplacesSeparatorWhenEnabled() {
 		assertEquals("a,b;c;", SourceTable.lineToCsv(List.of("a;b", "c"), TABLE_SEP, true));
 	}
+
+	@Test
+	void testInvalidateRawDataRebuildsRawDataOnDemand() {
+		final SourceTable sourceTable = SourceTable.builder()
+			.table(new ArrayList<>(List.of(List.of("a", "b"))))
+			.rawData("a;b;")
+			.build();
+
+		sourceTable.getTable().add(List.of("c", "d"));
+		sourceTable.invalidateRawData();
+
+		assertFalse(sourceTable.isEmpty());
+		assertEquals("a;b;\nc;d;", sourceTable.getRawData());
+		assertEquals(
+			SourceTable.builder().table(List.of(List.of("a", "b"), List.of("c", "d"))).rawData("a;b;\nc;d;").build(),
+			sourceTable
+		);
+
+		// Setting the raw data makes it authoritative again
+		sourceTable.invalidateRawData();
+		sourceTable.setRawData("raw");
+		assertEquals("raw", sourceTable.getRawData());
+	}
+
+	@Test
+	void testInvalidateRawDataOnEmptyTable() {
+		final SourceTable sourceTable = SourceTable.builder().rawData("a;b;").build();
+
+		sourceTable.invalidateRawData();
+
+		assertTrue(sourceTable.isEmpty());
+		assertEquals("", sourceTable.getRawData());
+	}
 }
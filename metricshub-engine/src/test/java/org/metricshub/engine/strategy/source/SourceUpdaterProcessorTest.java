@@ -2,6 +2,7 @@ package org.metricshub.engine.strategy.source;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.metricshub.engine.common.helpers.MetricsHubConstants.MONITOR_ATTRIBUTE_ID;
 import static org.metricshub.engine.constants.Constants.EMPTY;
 import static org.metricshub.engine.constants.Constants.ENCLOSURE_COLLECT_SOURCE_1;
@@ -26,6 +27,7 @@ import static org.metricshub.engine.constants.Constants.VALUE_VAL1;
 import static org.metricshub.engine.constants.Constants.VALUE_VAL2;
 import static org.metricshub.engine.constants.Constants.VALUE_VAL3;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 
 import java.util.ArrayList;
@@ -34,6 +36,8 @@ import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.metricshub.engine.common.helpers.MetricsHubConstants;
@@ -58,6 +62,7 @@ import org.metricshub.engine.connector.model.monitor.task.source.WmiSource;
 import org.metricshub.engine.extension.ExtensionManager;
 import org.metricshub.engine.extension.IProtocolExtension;
 import org.metricshub.engine.extension.TestConfiguration;
+import org.metricshub.engine.strategy.MonitorJobExecutor;
 import org.metricshub.engine.telemetry.HostProperties;
 import org.metricshub.engine.telemetry.TelemetryManager;
 import org.mockito.Mock;
@@ -255,6 +260,73 @@ class SourceUpdaterProcessorTest {
 		assertEquals(400, httpSource.getSleepExecuteForEachEntryOf());
 	}
 
+	@Test
+	void testProcessHttpSourceExecuteForEachEntryInParallel() throws Exception {
+		final HostConfiguration hostConfiguration = HostConfiguration.builder()
+			.hostname(LOCALHOST)
+			.hostId(LOCALHOST)
+			.hostType(DeviceKind.LINUX)
+			.configurations(Collections.singletonMap(TestConfiguration.class, TestConfiguration.builder().build()))
+			.build();
+		final TelemetryManager telemetryManager = TelemetryManager.builder().hostConfiguration(hostConfiguration).build();
+		telemetryManager
+			.getHostProperties()
+			.getConnectorNamespace(MY_CONNECTOR_1_NAME)
+			.addSourceTable(
+				ENCLOSURE_COLLECT_SOURCE_1,
+				SourceTable.builder()
+					.table(List.of(List.of("vm1"), List.of("vm2"), List.of("vm3"), List.of("vm4")))
+					.build()
+			);
+
+		final HttpSource httpSource = HttpSource.builder().url("/vms/$1").build();
+		httpSource.setExecuteForEachEntryOf(
+			ExecuteForEachEntryOf.builder().source(ENCLOSURE_COLLECT_SOURCE_1).maxParallelEntries(2).build()
+		);
+
+		// The first two entries can only complete if they are processed concurrently,
+		// the first entry completes after the second one
+		final CountDownLatch concurrentEntries = new CountDownLatch(2);
+		doAnswer(invocation -> {
+			final String url = invocation.<HttpSource>getArgument(0).getUrl();
+			concurrentEntries.countDown();
+			assertTrue(concurrentEntries.await(5, TimeUnit.SECONDS));
+			if (url.endsWith("vm1")) {
+				Thread.sleep(100);
+			}
+			return SourceTable.builder().rawData(url).build();
+		})
+			.when(sourceProcessor)
+			.process(any(HttpSource.class));
+
+		try (MonitorJobExecutor monitorJobExecutor = new MonitorJobExecutor(4)) {
+			final SourceTable result = new SourceUpdaterProcessor(
+				sourceProcessor,
+				telemetryManager,
+				MY_CONNECTOR_1_NAME,
+				Map.of(),
+				extensionManager,
+				monitorJobExecutor
+			).process(httpSource);
+
+			// The entry results are concatenated in the order of the entries
+			assertEquals("/vms/vm1\n/vms/vm2\n/vms/vm3\n/vms/vm4", result.getRawData());
+		}
+	}
+
+	@Test
+	void testEntryRateLimiter() throws Exception {
+		final SourceUpdaterProcessor.EntryRateLimiter rateLimiter = new SourceUpdaterProcessor.EntryRateLimiter(50);
+		final long start = System.nanoTime();
+
+		// The first request starts immediately, the next ones are spaced out
+		for (int i = 0; i < 3; i++) {
+			rateLimiter.acquire();
+		}
+
+		assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(100));
+	}
+
 	@Test
 	void testProcessSNMPGetSource() {
 		final TestConfiguration snmpConfiguration = TestConfiguration.builder().build();
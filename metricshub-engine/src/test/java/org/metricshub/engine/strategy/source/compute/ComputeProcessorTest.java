@@ -42,6 +42,7 @@ import org.metricshub.engine.connector.model.monitor.task.source.compute.And;
 import org.metricshub.engine.connector.model.monitor.task.source.compute.Append;
 import org.metricshub.engine.connector.model.monitor.task.source.compute.ArrayTranslate;
 import org.metricshub.engine.connector.model.monitor.task.source.compute.Awk;
+import org.metricshub.engine.connector.model.monitor.task.source.compute.Compute;
 import org.metricshub.engine.connector.model.monitor.task.source.compute.Convert;
 import org.metricshub.engine.connector.model.monitor.task.source.compute.Decode;
 import org.metricshub.engine.connector.model.monitor.task.source.compute.Divide;
@@ -1315,9 +1316,18 @@ class ComputeProcessorTest {
 
 		computeProcessor.process(jsonToCsv);
 
+		assertEquals(
+			List.of(
+				List.of("/monitors[0]", "enclosure-1", "enclosure-1", "ENCLOSURE", "hostId"),
+				List.of("/monitors[1]", "enclosure-2", "enclosure-2", "ENCLOSURE", "hostId")
+			),
+			sourceTable.getTable()
+		);
+
+		// The raw data is built from the rows when it is read
 		final String expectedRawDataResult =
 			"/monitors[0];enclosure-1;enclosure-1;ENCLOSURE;hostId;\n" +
-			"/monitors[1];enclosure-2;enclosure-2;ENCLOSURE;hostId;\n";
+			"/monitors[1];enclosure-2;enclosure-2;ENCLOSURE;hostId;";
 		assertEquals(expectedRawDataResult, sourceTable.getRawData());
 	}
 
@@ -3165,6 +3175,75 @@ class ComputeProcessorTest {
 		assertEquals(table, sourceTable.getTable());
 	}
 
+	@Test
+	void testIsRowLocal() {
+		assertTrue(ComputeProcessor.isRowLocal(Add.builder().column(1).value("1").build()));
+		assertTrue(ComputeProcessor.isRowLocal(KeepOnlyMatchingLines.builder().column(1).valueList("a").build()));
+		assertFalse(ComputeProcessor.isRowLocal(Awk.builder().script("{ print $0 }").build()));
+		assertFalse(ComputeProcessor.isRowLocal(KeepColumns.builder().columnNumbers("1").build()));
+		assertFalse(ComputeProcessor.isRowLocal(null));
+	}
+
+	@Test
+	void testProcessRowLocal() {
+		final List<Compute> computes = List.of(
+			ExcludeMatchingLines.builder().column(1).valueList("2").build(),
+			Multiply.builder().column(3).value("2").build(),
+			Append.builder().column(2).value(";x").build(),
+			DuplicateColumn.builder().column(1).build(),
+			Replace.builder().column(3).existingValue("a").newValue("$1").build(),
+			Translate.builder()
+				.column(4)
+				.translationTable(TranslationTable.builder().translations(Map.of("x", "y")).build())
+				.build()
+		);
+
+		// Process the computes one after another
+		sourceTable.setTable(rowLocalTable());
+		computes.forEach(compute -> compute.accept(computeProcessor));
+		final List<List<String>> expected = List.of(
+			List.of("1", "1", "1", "y", "20.0"),
+			List.of("3", "3", "c", "y", "60.0")
+		);
+		assertEquals(expected, sourceTable.getTable());
+
+		// Process the computes in a single pass
+		sourceTable.setTable(rowLocalTable());
+		computeProcessor.processRowLocal(computes);
+		assertEquals(expected, sourceTable.getTable());
+		assertEquals("1;1;1;y;20.0;\n3;3;c;y;60.0;", sourceTable.getRawData());
+	}
+
+	@Test
+	void testProcessRowLocalWithTranslationAddingColumns() {
+		final List<Compute> computes = List.of(
+			Translate.builder()
+				.column(2)
+				.translationTable(TranslationTable.builder().translations(Map.of("a", "x;y")).build())
+				.build(),
+			Append.builder().column(3).value("0").build()
+		);
+
+		// The translation adds a column to the first row only, the table is serialized again as a whole
+		sourceTable.setTable(rowLocalTable());
+		computeProcessor.processRowLocal(computes);
+		assertEquals(
+			List.of(List.of("1", "x", "y0", "10"), List.of("2", "b", "200"), List.of("3", "c", "300")),
+			sourceTable.getTable()
+		);
+	}
+
+	/**
+	 * Creates a mutable three-row table used to check the row-local computes.
+	 */
+	private static List<List<String>> rowLocalTable() {
+		final List<List<String>> table = new ArrayList<>();
+		table.add(new ArrayList<>(List.of("1", "a", "10")));
+		table.add(new ArrayList<>(List.of("2", "b", "20")));
+		table.add(new ArrayList<>(List.of("3", "c", "30")));
+		return table;
+	}
+
 	@Test
 	void testValidateSizeAndIndices() {
 		assertTrue(
@@ -0,0 +1,85 @@
+package org.metricshub.engine.strategy.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.junit.jupiter.api.Test;
+import org.metricshub.engine.connector.model.monitor.task.Mapping;
+
+class MappingPlanTest {
+
+	@Test
+	void testDirectiveOf() {
+		assertEquals(MappingDirective.COLUMN_EXTRACTION, MappingDirective.of(" $1 "));
+		assertEquals(MappingDirective.AWK_SCRIPT, MappingDirective.of("${awk::sprintf(\"%s\", $1)}"));
+		assertEquals(MappingDirective.MEGABIT_2_BIT, MappingDirective.of("megabit2bit($1)"));
+		assertEquals(MappingDirective.MEGABIT_2_BYTE, MappingDirective.of("MegaBit2Byte($1)"));
+		assertEquals(MappingDirective.LEGACY_LED_STATUS, MappingDirective.of("legacyLedStatus($1,$2,$3)"));
+		assertEquals(MappingDirective.LOOKUP, MappingDirective.of("lookup(\"disk\", \"id\", \"name\", $1)"));
+		assertEquals(MappingDirective.FAKE_COUNTER, MappingDirective.of("fakeCounter($2)"));
+		assertEquals(MappingDirective.RATE, MappingDirective.of("rate($3)"));
+		assertEquals(MappingDirective.COLUMN_REFERENCE, MappingDirective.of("disk $1 ($2)"));
+		assertEquals(MappingDirective.INDEX_REFERENCE, MappingDirective.of("disk $index"));
+		assertEquals(MappingDirective.CONSTANT, MappingDirective.of("disk"));
+		assertEquals(MappingDirective.CONSTANT, MappingDirective.of("$$1"));
+	}
+
+	@Test
+	void testDirectivePrecedence() {
+		// The AWK script is checked before the functions it may contain
+		assertEquals(MappingDirective.AWK_SCRIPT, MappingDirective.of("${awk::rate($1)}"));
+		// Nested functions are classified by the function checked first
+		assertEquals(MappingDirective.BOOLEAN, MappingDirective.of("boolean(lookup(\"disk\", \"id\", \"name\", $1))"));
+		assertEquals(MappingDirective.FAKE_COUNTER, MappingDirective.of("fakeCounter(rate($1))"));
+	}
+
+	@Test
+	void testCompile() {
+		final Map<String, String> metrics = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+		metrics.put("hw.energy", "fakeCounter($2)");
+		metrics.put("hw.status", "${source::monitors.disk.collect.sources.source(1)}");
+		metrics.put("hw.temperature", "$3");
+
+		final List<MappingPlan.Expression> expressions = MappingPlan.compile(metrics);
+
+		assertEquals(
+			List.of(
+				new MappingPlan.Expression("hw.energy", "fakeCounter($2)", MappingDirective.FAKE_COUNTER),
+				new MappingPlan.Expression("hw.status", "${source::monitors.disk.collect.sources.source(1)}", null),
+				new MappingPlan.Expression("hw.temperature", "$3", MappingDirective.COLUMN_EXTRACTION)
+			),
+			expressions
+		);
+		assertTrue(expressions.get(1).hasSourceReference());
+		assertEquals(List.of(), MappingPlan.compile(null));
+	}
+
+	@Test
+	void testPlanIsCachedByMapping() {
+		final Mapping mapping = Mapping.builder().attributes(new TreeMap<>(Map.of("id", "$1"))).build();
+
+		final MappingPlan plan = MappingPlan.of(mapping);
+		assertSame(plan, MappingPlan.of(mapping));
+		assertEquals(
+			List.of(new MappingPlan.Expression("id", "$1", MappingDirective.COLUMN_EXTRACTION)),
+			plan.getAttributes()
+		);
+
+		// Replacing a map of the mapping compiles the plan again
+		mapping.setAttributes(new TreeMap<>(Map.of("id", "disk $index")));
+		final MappingPlan newPlan = MappingPlan.of(mapping);
+		assertNotSame(plan, newPlan);
+		assertEquals(MappingDirective.INDEX_REFERENCE, newPlan.getAttributes().get(0).directive());
+		assertSame(newPlan, MappingPlan.of(mapping));
+
+		// Equal mappings are different instances, each with its own plan
+		final Mapping other = Mapping.builder().attributes(new TreeMap<>(Map.of("id", "disk $index"))).build();
+		assertEquals(other, mapping);
+		assertNotSame(newPlan, MappingPlan.of(other));
+	}
+}
@@ -0,0 +1,93 @@
+package org.metricshub.engine.strategy.utils;
+
+import static org.metricshub.engine.constants.Constants.MY_CONNECTOR_1_NAME;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import org.metricshub.engine.common.JobInfo;
+import org.metricshub.engine.configuration.HostConfiguration;
+import org.metricshub.engine.connector.model.monitor.task.Mapping;
+import org.metricshub.engine.telemetry.TelemetryManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the per-row cost of interpreting a mapping when each value is classified on every row (as the mapping
+ * processor used to do) with the evaluation of the compiled {@link MappingPlan} shared by all the rows.
+ * <p>
+ * Run with <code>mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=org.metricshub.engine.strategy.utils.MappingProcessorBenchmark</code> from the engine module.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class MappingProcessorBenchmark {
+
+	private Mapping mapping;
+	private MappingProcessor mappingProcessor;
+
+	@Setup
+	public void setUp() {
+		final TelemetryManager telemetryManager = new TelemetryManager();
+		telemetryManager.setHostConfiguration(HostConfiguration.builder().hostname("hostname").build());
+
+		final Map<String, String> attributes = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+		attributes.put("id", "$1");
+		attributes.put("name", "disk $2 ($1)");
+		attributes.put("vendor", "$3");
+		attributes.put("serial_number", "$4");
+		attributes.put("hw.parent.type", "enclosure");
+		attributes.put("hw.parent.id", "$5");
+		attributes.put("info", "$index");
+
+		final Map<String, String> metrics = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+		metrics.put("hw.status{hw.type=\"disk\"}", "$6");
+		metrics.put("hw.temperature", "$7");
+		metrics.put("hw.size", "mebibyte2byte($8)");
+		metrics.put("hw.network.bandwidth.limit", "megabit2byte($9)");
+		metrics.put("hw.errors", "$10");
+
+		mapping = Mapping.builder().attributes(attributes).metrics(metrics).build();
+
+		mappingProcessor = MappingProcessor.builder()
+			.jobInfo(JobInfo.builder().connectorId(MY_CONNECTOR_1_NAME).hostname("hostname").build())
+			.telemetryManager(telemetryManager)
+			.mapping(mapping)
+			.row(List.of("1", "Disk", "Vendor", "SN", "enc", "OK", "40", "1024", "1000", "0"))
+			.build();
+	}
+
+	@Benchmark
+	public void perRowClassification(final Blackhole blackhole) {
+		blackhole.consume(mappingProcessor.interpretNonContextMapping(mapping.getAttributes()));
+		blackhole.consume(mappingProcessor.interpretNonContextMapping(mapping.getMetrics()));
+	}
+
+	@Benchmark
+	public void compiledPlan(final Blackhole blackhole) {
+		blackhole.consume(mappingProcessor.interpretNonContextMappingAttributes());
+		blackhole.consume(mappingProcessor.interpretNonContextMappingMetrics());
+	}
+
+	public static void main(final String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(MappingProcessorBenchmark.class.getSimpleName()).build()).run();
+	}
+}
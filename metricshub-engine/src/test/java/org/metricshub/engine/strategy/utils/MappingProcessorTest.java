@@ -271,6 +271,37 @@ class MappingProcessorTest {
 		assertEquals("1", result.get("__display_id"));
 	}
 
+	@Test
+	void testMoveToRow() {
+		final MappingProcessor mappingProcessor = MappingProcessor.builder()
+			.jobInfo(JobInfo.builder().connectorId(MY_CONNECTOR_1_NAME).build())
+			.telemetryManager(new TelemetryManager())
+			.mapping(
+				Mapping.builder()
+					.source(HARDCODED_SOURCE)
+					.attributes(Map.of("id", "$1", "__display_id", "$index"))
+					.metrics(Map.of("hw.enclosure.power", "rate($2)"))
+					.build()
+			)
+			.build();
+
+		// The same processor interprets each row with its own index
+		mappingProcessor.moveToRow(List.of("enclosure1", "1000"), 1);
+		assertEquals(
+			Map.of("id", "enclosure1", "__display_id", "1"),
+			mappingProcessor.interpretNonContextMappingAttributes()
+		);
+		mappingProcessor.interpretNonContextMappingMetrics();
+
+		// The rate computation of the first row is discarded when moving to the next row
+		mappingProcessor.moveToRow(List.of("enclosure2", "2000"), 2);
+		assertEquals(
+			Map.of("id", "enclosure2", "__display_id", "2"),
+			mappingProcessor.interpretNonContextMappingAttributes()
+		);
+		assertEquals(Map.of(), mappingProcessor.interpretContextMappingMetrics(Monitor.builder().build()));
+	}
+
 	@Test
 	void testInterpretNonContextMappingAwk() {
 		final TelemetryManager telemetryManager = new TelemetryManager();
@@ -2,9 +2,12 @@ package org.metricshub.engine.telemetry;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import org.junit.jupiter.api.Test;
+import org.metricshub.engine.telemetry.metric.NumberMetric;
 
 class MonitorTest {
 
@@ -31,4 +34,29 @@ class MonitorTest {
 			assertEquals("1_", monitor.formatIdentifyingAttributes());
 		}
 	}
+
+	@Test
+	void testGetMetricsByBaseName() {
+		final Monitor monitor = Monitor.builder().build();
+		assertEquals(List.of(), monitor.getMetricsByBaseName("hw.power"));
+
+		final NumberMetric fanPower = NumberMetric.builder().name("hw.power{hw.type=\"fan\"}").value(1.0).build();
+		final NumberMetric diskPower = NumberMetric.builder().name("hw.power{hw.type=\"disk\"}").value(2.0).build();
+		final NumberMetric energy = NumberMetric.builder().name("hw.energy").value(3.0).build();
+		monitor.addMetric(fanPower.getName(), fanPower);
+		monitor.addMetric(energy.getName(), energy);
+
+		assertEquals(List.of(fanPower), monitor.getMetricsByBaseName("hw.power"));
+		assertEquals(List.of(energy), monitor.getMetricsByBaseName("hw.energy"));
+		assertEquals(List.of(), monitor.getMetricsByBaseName("hw.power{hw.type=\"fan\"}"));
+
+		// New metrics are indexed
+		monitor.addMetric(diskPower.getName(), diskPower);
+		assertEquals(Set.of(fanPower, diskPower), Set.copyOf(monitor.getMetricsByBaseName("hw.power")));
+
+		// Metrics replaced through the map are indexed too
+		monitor.setMetrics(new HashMap<>(Map.of(energy.getName(), energy)));
+		assertEquals(List.of(), monitor.getMetricsByBaseName("hw.power"));
+		assertEquals(List.of(energy), monitor.getMetricsByBaseName("hw.energy"));
+	}
 }
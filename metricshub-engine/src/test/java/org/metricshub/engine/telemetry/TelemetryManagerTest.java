@@ -2,6 +2,8 @@ package org.metricshub.engine.telemetry;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.metricshub.engine.common.helpers.KnownMonitorType.CONNECTOR;
 import static org.metricshub.engine.common.helpers.KnownMonitorType.DISK_CONTROLLER;
 import static org.metricshub.engine.common.helpers.KnownMonitorType.HOST;
@@ -23,6 +25,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -228,4 +231,138 @@ class TelemetryManagerTest {
 		);
 		assertEquals("TelemetryManagerHostname", telemetryManager.getHostname(List.of()));
 	}
+
+	@Test
+	void testFindMonitorByIdentity() {
+		final TelemetryManager telemetryManager = new TelemetryManager();
+		final List<String> keys = List.of("id", "serial_number");
+
+		assertTrue(telemetryManager.findMonitorByIdentity("disk", "connector", keys, Map.of("id", "1")).isEmpty());
+
+		final Monitor disk1 = diskMonitor("disk1", "connector", "1", "SN1");
+		final Monitor disk2 = diskMonitor("disk2", "connector", "2", "SN2");
+		final Monitor otherConnectorDisk = diskMonitor("disk3", "other", "1", "SN1");
+		telemetryManager.addNewMonitor(disk1, "disk", disk1.getId());
+		telemetryManager.addNewMonitor(disk2, "disk", disk2.getId());
+		telemetryManager.addNewMonitor(otherConnectorDisk, "disk", otherConnectorDisk.getId());
+
+		assertEquals(
+			Optional.of(disk1),
+			telemetryManager.findMonitorByIdentity("disk", "connector", keys, Map.of("id", "1", "serial_number", "SN1"))
+		);
+		assertEquals(
+			Optional.of(otherConnectorDisk),
+			telemetryManager.findMonitorByIdentity("disk", "other", keys, Map.of("id", "1", "serial_number", "SN1"))
+		);
+		assertTrue(
+			telemetryManager
+				.findMonitorByIdentity("disk", "connector", keys, Map.of("id", "1", "serial_number", "SN2"))
+				.isEmpty()
+		);
+		assertTrue(telemetryManager.findMonitorByIdentity("disk", "connector", keys, Map.of("id", "1")).isEmpty());
+
+		// Monitors added after the first lookup are indexed
+		final Monitor disk4 = diskMonitor("disk4", "connector", "4", "SN4");
+		telemetryManager.addNewMonitor(disk4, "disk", disk4.getId());
+		assertEquals(
+			Optional.of(disk4),
+			telemetryManager.findMonitorByIdentity("disk", "connector", keys, Map.of("id", "4", "serial_number", "SN4"))
+		);
+
+		// Rediscovered monitors are indexed with their new identity
+		disk2.addAttribute("serial_number", "SN2-B");
+		telemetryManager.invalidateMonitorIndex("disk");
+		assertEquals(
+			Optional.of(disk2),
+			telemetryManager.findMonitorByIdentity("disk", "connector", keys, Map.of("id", "2", "serial_number", "SN2-B"))
+		);
+
+		// A monitor updated without notification is never returned with its former identity
+		disk2.addAttribute("serial_number", "SN2-C");
+		assertTrue(
+			telemetryManager
+				.findMonitorByIdentity("disk", "connector", keys, Map.of("id", "2", "serial_number", "SN2-B"))
+				.isEmpty()
+		);
+
+		// A monitor updated without notification is found with its new identity
+		disk2.addAttribute("serial_number", "SN2-D");
+		assertEquals(
+			Optional.of(disk2),
+			telemetryManager.findMonitorByIdentity("disk", "connector", keys, Map.of("id", "2", "serial_number", "SN2-D"))
+		);
+	}
+
+	@Test
+	void testFindMonitorByAttribute() {
+		final TelemetryManager telemetryManager = new TelemetryManager();
+
+		assertTrue(telemetryManager.findMonitorByAttribute("disk", "id", "1").isEmpty());
+
+		final Monitor disk1 = diskMonitor("disk1", "connector", "1", "SN1");
+		final Monitor disk2 = diskMonitor("disk2", "other", "2", "SN2");
+		telemetryManager.addNewMonitor(disk1, "disk", disk1.getId());
+		telemetryManager.addNewMonitor(disk2, "disk", disk2.getId());
+
+		// Any connector
+		assertEquals(Optional.of(disk1), telemetryManager.findMonitorByAttribute("disk", "id", "1"));
+		assertEquals(Optional.of(disk2), telemetryManager.findMonitorByAttribute("disk", "serial_number", "SN2"));
+		assertTrue(telemetryManager.findMonitorByAttribute("disk", "id", "3").isEmpty());
+		assertTrue(telemetryManager.findMonitorByAttribute("disk", "id", null).isEmpty());
+		assertTrue(telemetryManager.findMonitorByAttribute("enclosure", "id", "1").isEmpty());
+
+		// Attributes updated out of the discovery are still found
+		disk2.addAttribute("id", "3");
+		assertEquals(Optional.of(disk2), telemetryManager.findMonitorByAttribute("disk", "id", "3"));
+		assertTrue(telemetryManager.findMonitorByAttribute("disk", "id", "2").isEmpty());
+	}
+
+	@Test
+	void testFindParentMonitor() {
+		final TelemetryManager telemetryManager = TelemetryManager.builder()
+			.hostConfiguration(HostConfiguration.builder().hostname(HOST_NAME).build())
+			.build();
+
+		final Monitor enclosure = Monitor.builder()
+			.id("enclosure1")
+			.type("enclosure")
+			.attributes(new HashMap<>(Map.of(MetricsHubConstants.MONITOR_ATTRIBUTE_ID, "1")))
+			.build();
+		telemetryManager.addNewMonitor(enclosure, "enclosure", enclosure.getId());
+
+		final Monitor disk = diskMonitor("disk1", "connector", "1", "SN1");
+		disk.addAttribute("hw.parent.type", "enclosure");
+		disk.addAttribute("hw.parent.id", "1");
+		assertEquals(enclosure, telemetryManager.findParentMonitor(disk));
+
+		disk.addAttribute("hw.parent.id", "2");
+		assertNull(telemetryManager.findParentMonitor(disk));
+	}
+
+	/**
+	 * Create a disk monitor discovered by the given connector.
+	 */
+	private static Monitor diskMonitor(
+		final String id,
+		final String connectorId,
+		final String idAttribute,
+		final String serialNumber
+	) {
+		return Monitor.builder()
+			.id(id)
+			.type("disk")
+			.attributes(
+				new HashMap<>(
+					Map.of(
+						MetricsHubConstants.MONITOR_ATTRIBUTE_CONNECTOR_ID,
+						connectorId,
+						"id",
+						idAttribute,
+						"serial_number",
+						serialNumber
+					)
+				)
+			)
+			.build();
+	}
 }
@@ -0,0 +1,54 @@
+package org.metricshub.engine.telemetry.metric;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class MetricKeyTest {
+
+	@Test
+	void testOf() {
+		final MetricKey key = MetricKey.of("hw.power{hw.type=\"fan\", state=\"ok\"}");
+		assertEquals("hw.power{hw.type=\"fan\", state=\"ok\"}", key.getName());
+		assertEquals("hw.power", key.getBaseName());
+		assertEquals(Map.of("hw.type", "fan", "state", "ok"), key.getAttributes());
+
+		// Interned
+		assertSame(key, MetricKey.of("hw.power{hw.type=\"fan\", state=\"ok\"}"));
+
+		final MetricKey noAttributes = MetricKey.of("hw.energy");
+		assertEquals("hw.energy", noAttributes.getBaseName());
+		assertEquals(Map.of(), noAttributes.getAttributes());
+	}
+
+	@Test
+	void testAttributesAreSortedAndImmutable() {
+		final MetricKey key = MetricKey.of("hw.status{state=\"ok\", hw.type=\"fan\"}");
+		assertEquals(List.of("hw.type", "state"), List.copyOf(key.getAttributes().keySet()));
+		assertThrows(UnsupportedOperationException.class, () -> key.getAttributes().put("key", "value"));
+	}
+
+	@Test
+	void testEquality() {
+		final MetricKey key = MetricKey.of("hw.status{hw.type=\"fan\", state=\"ok\"}");
+		final MetricKey sameAttributesOtherOrder = MetricKey.of("hw.status{state=\"ok\",hw.type=\"fan\"}");
+
+		assertNotSame(key, sameAttributesOtherOrder);
+		assertEquals(key, sameAttributesOtherOrder);
+		assertEquals(key.hashCode(), sameAttributesOtherOrder.hashCode());
+		assertNotEquals(key, MetricKey.of("hw.status{hw.type=\"disk\", state=\"ok\"}"));
+		assertNotEquals(key, MetricKey.of("hw.status"));
+	}
+
+	@Test
+	void testParseIsConsistentWithOf() {
+		assertEquals(MetricKey.of("hw.power{hw.type=\"fan\"}"), MetricKey.parse("hw.power{hw.type=\"fan\"}"));
+		assertNotSame(MetricKey.of("hw.power{hw.type=\"fan\"}"), MetricKey.parse("hw.power{hw.type=\"fan\"}"));
+	}
+}
@@ -6,8 +6,8 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
-import org.junit.jupiter.api.BeforeAll;
-import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.metricshub.engine.client.ClientsExecutor;
 import org.metricshub.engine.configuration.HostConfiguration;
 import org.metricshub.engine.connector.model.ConnectorStore;
@@ -45,16 +45,21 @@ class DellOpenManageIT {
 	);
 	private static final String LOCALHOST = "localhost";
 
-	private static TelemetryManager telemetryManager;
-	private static ClientsExecutor clientsExecutor;
-	private static ExtensionManager extensionManager;
+	private TelemetryManager telemetryManager;
+	private ClientsExecutor clientsExecutor;
+	private ExtensionManager extensionManager;
 
-	@BeforeAll
-	static void setUp() throws Exception {
+	/**
+	 * Creates the telemetry manager of the host, monitored with the given SNMP version.
+	 *
+	 * @param version The SNMP version: the tables are walked with GETNEXT requests in SNMP v1, and with GETBULK
+	 *                requests in SNMP v2c.
+	 */
+	private void setUp(final SnmpVersion version) throws Exception {
 		final SnmpConfiguration snmpConfiguration = SnmpConfiguration.builder()
 			.hostname(LOCALHOST)
 			.community("public".toCharArray())
-			.version(SnmpVersion.V1)
+			.version(version)
 			.timeout(120L)
 			.build();
 
@@ -93,8 +98,11 @@ class DellOpenManageIT {
 		snmpConfiguration.setPort(port);
 	}
 
-	@Test
-	void test() throws Exception {
+	@ParameterizedTest
+	@EnumSource(SnmpVersion.class)
+	void test(final SnmpVersion version) throws Exception {
+		setUp(version);
+
 		long discoveryTime = System.currentTimeMillis();
 		long collectTime = discoveryTime + 60 * 2 * 1000;
 		new SnmpITJob(telemetryManager, DellOpenManageIT::updateSnmpPort)
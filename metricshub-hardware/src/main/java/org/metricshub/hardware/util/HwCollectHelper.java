@@ -38,7 +38,6 @@ import org.metricshub.engine.connector.model.ConnectorStore;
 import org.metricshub.engine.strategy.utils.CollectHelper;
 import org.metricshub.engine.strategy.utils.MathOperationsHelper;
 import org.metricshub.engine.strategy.utils.StrategyHelper;
-import org.metricshub.engine.telemetry.MetricFactory;
 import org.metricshub.engine.telemetry.Monitor;
 import org.metricshub.engine.telemetry.TelemetryManager;
 import org.metricshub.engine.telemetry.metric.NumberMetric;
@@ -291,16 +290,12 @@ public class HwCollectHelper {
 	 */
 	public static boolean isMetricCollected(final Monitor monitor, final String metricNamePrefix) {
 		return monitor
-			.getMetrics()
-			.values()
+			.getMetricsByBaseName(metricNamePrefix)
 			.stream()
 			.anyMatch(metric -> {
-				// Extract the metric name prefix
-				final String currentMetricNamePrefix = MetricFactory.extractName(metric.getName());
 				final Map<String, String> metricAttributes = metric.getAttributes();
 				// CHECKSTYLE:OFF
 				return (
-					metricNamePrefix.equals(currentMetricNamePrefix) &&
 					(!metricAttributes.containsKey("hw.type") || monitor.getType().equals(metricAttributes.get("hw.type"))) &&
 					metric.isUpdated()
 				);
@@ -326,15 +321,11 @@ public class HwCollectHelper {
 		// This atomic integer is used to log a warning if multiple metrics are found with the same prefix and attributes
 		final AtomicInteger count = new AtomicInteger(0);
 		return monitor
-			.getMetrics()
-			.values()
+			.getMetricsByBaseName(metricNamePrefix)
 			.stream()
 			.filter(metric -> {
-				// Extract the metric name prefix and check if the metric attributes are contained in the given attributes
-				final boolean result =
-					metric.isUpdated() &&
-					metricNamePrefix.equals(MetricFactory.extractName(metric.getName())) &&
-					containsAllEntries(metric.getAttributes(), metricAttributes);
+				// Check if the metric attributes are contained in the given attributes
+				final boolean result = metric.isUpdated() && containsAllEntries(metric.getAttributes(), metricAttributes);
 
 				// Log a warning if multiple metrics are found with the same prefix and attributes
 				if (result && count.incrementAndGet() > 1) {
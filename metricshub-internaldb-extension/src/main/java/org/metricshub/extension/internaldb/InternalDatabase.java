@@ -0,0 +1,249 @@
+package org.metricshub.extension.internaldb;
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub Internal DB Extension
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2025 MetricsHub
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import java.lang.ref.Cleaner;
+import java.lang.ref.Cleaner.Cleanable;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Long-lived H2 in-memory database of a host, kept in its {@link org.metricshub.engine.telemetry.TelemetryManager}
+ * and shared by all the Internal DB queries executed for this host.
+ * <p>
+ * The database remembers the definition and the content of each table it holds, so that a table is only reloaded
+ * when its source table or its columns have changed. It also caches the prepared statements of the queries.
+ * </p>
+ * <p>
+ * This class is not thread-safe: callers must synchronize on the instance. The connection is closed when the
+ * instance becomes unreachable, together with its {@code TelemetryManager}.
+ * </p>
+ */
+@Slf4j
+public class InternalDatabase {
+
+	/**
+	 * Maximum number of prepared statements kept open for the queries
+	 */
+	static final int MAX_CACHED_STATEMENTS = 32;
+
+	/**
+	 * Closes the connections of the databases that are no longer reachable
+	 */
+	private static final Cleaner CLEANER = Cleaner.create();
+
+	private Connection connection;
+	private Cleanable cleanable;
+
+	/**
+	 * State of each table, keyed by the upper-cased alias of the table
+	 */
+	private final Map<String, TableState> tables = new HashMap<>();
+
+	/**
+	 * Prepared statements of the queries, the least recently used one being closed first
+	 */
+	private final Map<String, PreparedStatement> statements = new LinkedHashMap<>(16, 0.75f, true);
+
+	/**
+	 * Returns the connection to the database, opening the database if needed.
+	 *
+	 * @param hostId The identifier of the host, used to name the database.
+	 * @return The {@link Connection} to the database, not in auto-commit mode.
+	 * @throws SQLException if the database cannot be opened.
+	 */
+	public Connection getConnection(final String hostId) throws SQLException {
+		if (connection == null) {
+			final Connection newConnection = DriverManager.getConnection("jdbc:h2:mem:" + hostId + UUID.randomUUID());
+			newConnection.setAutoCommit(false);
+			connection = newConnection;
+			cleanable = CLEANER.register(this, new ConnectionCloser(newConnection));
+		}
+		return connection;
+	}
+
+	/**
+	 * Checks whether the given table is already loaded with the given definition and rows.
+	 *
+	 * @param alias      The alias of the table.
+	 * @param definition The CREATE TABLE query of the table.
+	 * @param rows       The rows of the source table.
+	 * @return <code>true</code> if the table does not need to be reloaded.
+	 */
+	public boolean isUpToDate(final String alias, final String definition, final List<List<String>> rows) {
+		final TableState state = tables.get(normalize(alias));
+		return state != null && state.matches(definition, rows);
+	}
+
+	/**
+	 * Returns the definition of the table currently loaded with the given alias.
+	 *
+	 * @param alias The alias of the table.
+	 * @return The CREATE TABLE query of the table, or <code>null</code> if the table does not exist.
+	 */
+	public String getDefinition(final String alias) {
+		final TableState state = tables.get(normalize(alias));
+		return state != null ? state.definition() : null;
+	}
+
+	/**
+	 * Records that the given table has been loaded with the given definition and rows.
+	 *
+	 * @param alias      The alias of the table.
+	 * @param definition The CREATE TABLE query of the table.
+	 * @param rows       The rows of the source table.
+	 */
+	public void tableLoaded(final String alias, final String definition, final List<List<String>> rows) {
+		tables.put(normalize(alias), new TableState(definition, rows, rows.hashCode()));
+	}
+
+	/**
+	 * Forgets the given table, which must be dropped or reloaded before its next use.
+	 *
+	 * @param alias The alias of the table.
+	 * @return <code>true</code> if the table was known.
+	 */
+	public boolean forgetTable(final String alias) {
+		return tables.remove(normalize(alias)) != null;
+	}
+
+	/**
+	 * Returns the prepared statement of the given query, preparing it if needed.
+	 *
+	 * @param hostId The identifier of the host, used to name the database.
+	 * @param query  The SQL query.
+	 * @return The cached {@link PreparedStatement}.
+	 * @throws SQLException if the query cannot be prepared.
+	 */
+	public PreparedStatement prepare(final String hostId, final String query) throws SQLException {
+		PreparedStatement statement = statements.get(query);
+		if (statement == null || statement.isClosed()) {
+			statement = getConnection(hostId).prepareStatement(query);
+			statements.put(query, statement);
+			evictStatements();
+		}
+		return statement;
+	}
+
+	/**
+	 * Closes and forgets all the cached prepared statements, for instance after a table definition has changed.
+	 */
+	public void clearStatements() {
+		statements.values().forEach(InternalDatabase::closeQuietly);
+		statements.clear();
+	}
+
+	/**
+	 * Closes the database and forgets its tables. The database is opened again on next use.
+	 */
+	public void reset() {
+		clearStatements();
+		tables.clear();
+		connection = null;
+		if (cleanable != null) {
+			cleanable.clean();
+			cleanable = null;
+		}
+	}
+
+	/**
+	 * @return The number of tables currently loaded.
+	 */
+	int getTableCount() {
+		return tables.size();
+	}
+
+	/**
+	 * Closes the least recently used statements when there are too many of them.
+	 */
+	private void evictStatements() {
+		final var iterator = statements.values().iterator();
+		while (statements.size() > MAX_CACHED_STATEMENTS && iterator.hasNext()) {
+			closeQuietly(iterator.next());
+			iterator.remove();
+		}
+	}
+
+	/**
+	 * Closes the given statement, ignoring any error.
+	 *
+	 * @param statement The statement to close.
+	 */
+	private static void closeQuietly(final PreparedStatement statement) {
+		try {
+			statement.close();
+		} catch (SQLException e) {
+			log.debug("Error when closing an Internal DB Query statement: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * Normalizes the given alias, SQL identifiers being case-insensitive.
+	 *
+	 * @param alias The alias of a table.
+	 * @return The stripped alias in upper case.
+	 */
+	private static String normalize(final String alias) {
+		return alias.strip().toUpperCase(Locale.ROOT);
+	}
+
+	/**
+	 * The definition and content of a loaded table.
+	 *
+	 * @param definition The CREATE TABLE query of the table.
+	 * @param rows       The rows loaded in the table, as provided by the source table.
+	 * @param rowsHash   The hash code of the rows when they were loaded, to detect rows modified in place.
+	 */
+	private record TableState(String definition, List<List<String>> rows, int rowsHash) {
+		/**
+		 * @return <code>true</code> if the table has been loaded with the given definition and rows.
+		 */
+		boolean matches(final String otherDefinition, final List<List<String>> otherRows) {
+			return definition.equals(otherDefinition) && rowsHash == otherRows.hashCode() && rows.equals(otherRows);
+		}
+	}
+
+	/**
+	 * Closes the connection of a database that is reset or no longer reachable, which drops the in-memory database.
+	 *
+	 * @param connection The connection to close.
+	 */
+	private record ConnectionCloser(Connection connection) implements Runnable {
+		@Override
+		public void run() {
+			try {
+				connection.close();
+			} catch (SQLException e) {
+				log.debug("Error when closing the Internal DB Query database: {}", e.getMessage());
+			}
+		}
+	}
+}
@@ -0,0 +1,1298 @@
+package org.metricshub.extension.internaldb;
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub Internal DB Extension
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2025 MetricsHub
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.IntPredicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.metricshub.engine.connector.model.common.SqlColumn;
+import org.metricshub.engine.connector.model.common.SqlTable;
+
+/**
+ * Lightweight in-process executor of the Internal DB queries, working directly on the rows of the source tables.
+ * <p>
+ * Each source table used by the query is converted into typed columns, according to the types of its
+ * {@link SqlColumn}, and the query is evaluated without creating any H2 table. Only the subset of SQL used by the
+ * connectors is supported:
+ * </p>
+ * <ul>
+ * <li><code>SELECT</code> of columns, literals, <code>*</code> and the <code>COUNT</code>, <code>SUM</code>,
+ * <code>MIN</code> and <code>MAX</code> aggregates,</li>
+ * <li><code>FROM</code> a table, followed by <code>[INNER] JOIN</code> and <code>LEFT [OUTER] JOIN</code> tables,
+ * the equality conditions of the joins being evaluated with a hash join,</li>
+ * <li><code>WHERE</code> conditions made of comparisons, <code>IS [NOT] NULL</code>, <code>AND</code>,
+ * <code>OR</code> and <code>NOT</code>,</li>
+ * <li><code>GROUP BY</code> and <code>ORDER BY</code> columns,</li>
+ * </ul>
+ * <p>
+ * on <code>VARCHAR</code>, <code>INTEGER</code>, <code>BIGINT</code> and <code>BOOLEAN</code> columns. Any other
+ * query, or any value that H2 would reject, is reported as unsupported so that the caller executes the query with
+ * H2 instead.
+ * </p>
+ */
+@Slf4j
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class NativeQueryExecutor {
+
+	private static final Pattern IDENTIFIER_PATTERN = Pattern.compile("[A-Za-z_]\\w*");
+	private static final Pattern VARCHAR_PATTERN = Pattern.compile("VARCHAR(?:\\s*\\(\\s*(\\d{1,9})\\s*\\))?");
+
+	private static final Set<String> TWO_CHAR_SYMBOLS = Set.of("<>", "<=", ">=", "!=");
+
+	/**
+	 * Keywords that cannot be used as table or column aliases
+	 */
+	private static final Set<String> RESERVED_WORDS = Set.of(
+		"AS",
+		"CROSS",
+		"EXCEPT",
+		"FETCH",
+		"FROM",
+		"FULL",
+		"GROUP",
+		"HAVING",
+		"INNER",
+		"INTERSECT",
+		"JOIN",
+		"LEFT",
+		"LIMIT",
+		"MINUS",
+		"NATURAL",
+		"OFFSET",
+		"ON",
+		"ORDER",
+		"OUTER",
+		"QUALIFY",
+		"RIGHT",
+		"UNION",
+		"USING",
+		"WHERE",
+		"WINDOW"
+	);
+
+	/**
+	 * Executes the given query on the rows of the given tables.
+	 *
+	 * @param query     The SQL query.
+	 * @param sqlTables The tables the query may use.
+	 * @param tables    The rows of each table, in the order of the <code>sqlTables</code>. A <code>null</code> element
+	 *                  stands for an empty table.
+	 * @return The result of the query, or an empty {@link Optional} if the query must be executed by H2.
+	 */
+	public static Optional<List<List<String>>> execute(
+		final String query,
+		final List<SqlTable> sqlTables,
+		final List<List<List<String>>> tables
+	) {
+		try {
+			return Optional.of(new Parser(tokenize(query), sqlTables, tables).parse().execute());
+		} catch (UnsupportedQueryException | ArithmeticException exception) {
+			log.debug("Internal DB Query {} is executed by H2: {}", query, exception.getMessage());
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * Splits the given query into tokens. Identifiers are upper-cased, like the unquoted identifiers of H2.
+	 *
+	 * @param query The SQL query.
+	 * @return The list of {@link Token}.
+	 */
+	private static List<Token> tokenize(final String query) {
+		final List<Token> tokens = new ArrayList<>();
+		final int length = query.length();
+		int index = 0;
+		while (index < length) {
+			final char c = query.charAt(index);
+			final int start = index;
+			if (Character.isWhitespace(c)) {
+				index++;
+			} else if (isIdentifierPart(c) && !Character.isDigit(c)) {
+				while (index < length && isIdentifierPart(query.charAt(index))) {
+					index++;
+				}
+				tokens.add(new Token(TokenKind.IDENTIFIER, query.substring(start, index).toUpperCase(Locale.ROOT)));
+			} else if (Character.isDigit(c)) {
+				while (index < length && Character.isDigit(query.charAt(index))) {
+					index++;
+				}
+				if (index < length && (isIdentifierPart(query.charAt(index)) || query.charAt(index) == '.')) {
+					throw new UnsupportedQueryException("Unsupported number at position " + start);
+				}
+				tokens.add(new Token(TokenKind.NUMBER, query.substring(start, index)));
+			} else if (c == '\'') {
+				final StringBuilder literal = new StringBuilder();
+				index++;
+				while (true) {
+					if (index >= length) {
+						throw new UnsupportedQueryException("Unterminated string literal at position " + start);
+					}
+					final char literalChar = query.charAt(index++);
+					if (literalChar != '\'') {
+						literal.append(literalChar);
+					} else if (index < length && query.charAt(index) == '\'') {
+						// Escaped quote
+						literal.append('\'');
+						index++;
+					} else {
+						break;
+					}
+				}
+				tokens.add(new Token(TokenKind.STRING, literal.toString()));
+			} else if (index + 1 < length && TWO_CHAR_SYMBOLS.contains(query.substring(index, index + 2))) {
+				tokens.add(new Token(TokenKind.SYMBOL, query.substring(index, index + 2)));
+				index += 2;
+			} else if (",.()*=<>;".indexOf(c) >= 0) {
+				tokens.add(new Token(TokenKind.SYMBOL, String.valueOf(c)));
+				index++;
+			} else {
+				throw new UnsupportedQueryException("Unsupported character '" + c + "' at position " + start);
+			}
+		}
+		return tokens;
+	}
+
+	/**
+	 * @return <code>true</code> if the given character can be part of an unquoted identifier.
+	 */
+	private static boolean isIdentifierPart(final char c) {
+		return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '_';
+	}
+
+	/**
+	 * Converts the rows of the given table into typed columns.
+	 *
+	 * @param sqlTable The table definition.
+	 * @param rows     The rows of the source table, <code>null</code> for an empty table.
+	 * @return The {@link ColumnarTable}.
+	 */
+	private static ColumnarTable toColumnarTable(final SqlTable sqlTable, final List<List<String>> rows) {
+		final List<List<String>> tableRows = rows != null ? rows : List.of();
+		final int rowCount = tableRows.size();
+		final Map<String, Column> columns = new LinkedHashMap<>();
+
+		for (final SqlColumn sqlColumn : sqlTable.getColumns()) {
+			final String name = normalizeIdentifier(sqlColumn.getName());
+			final ColumnType type = ColumnType.parse(sqlColumn.getType());
+			final int index = sqlColumn.getNumber() - 1;
+			if (index < 0) {
+				throw new UnsupportedQueryException("Invalid number for column " + name);
+			}
+
+			final Object[] values = new Object[rowCount];
+			for (int row = 0; row < rowCount; row++) {
+				final List<String> sourceRow = tableRows.get(row);
+				if (index >= sourceRow.size()) {
+					throw new UnsupportedQueryException("Missing value for column " + name);
+				}
+				values[row] = type.convert(sourceRow.get(index));
+			}
+
+			if (columns.put(name, new Column(name, type.valueType(), values)) != null) {
+				throw new UnsupportedQueryException("Duplicate column " + name);
+			}
+		}
+
+		return new ColumnarTable(columns, rowCount);
+	}
+
+	/**
+	 * Normalizes the given identifier like H2 does for unquoted identifiers.
+	 *
+	 * @param identifier The name of a table or a column.
+	 * @return The stripped identifier in upper case.
+	 */
+	private static String normalizeIdentifier(final String identifier) {
+		if (identifier == null || !IDENTIFIER_PATTERN.matcher(identifier.strip()).matches()) {
+			throw new UnsupportedQueryException("Unsupported identifier " + identifier);
+		}
+		return identifier.strip().toUpperCase(Locale.ROOT);
+	}
+
+	/**
+	 * Compares two non-null values of the same type.
+	 */
+	@SuppressWarnings("unchecked")
+	private static int compareValues(final Object left, final Object right) {
+		return ((Comparable<Object>) left).compareTo(right);
+	}
+
+	/**
+	 * Compares two values of the same type, <code>null</code> being lower than any other value like in H2.
+	 */
+	private static int compareNullable(final Object left, final Object right) {
+		if (left == null || right == null) {
+			return left == right ? 0 : (left == null ? -1 : 1);
+		}
+		return compareValues(left, right);
+	}
+
+	/**
+	 * Compares two group keys, value by value.
+	 */
+	private static int compareKeys(final List<Object> left, final List<Object> right) {
+		for (int i = 0; i < left.size(); i++) {
+			final int comparison = compareNullable(left.get(i), right.get(i));
+			if (comparison != 0) {
+				return comparison;
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * Formats the given value like the {@link java.sql.ResultSet#getString(int)} of H2.
+	 *
+	 * @param value The value of a column.
+	 * @return The formatted value, an empty string for <code>null</code>.
+	 */
+	private static String format(final Object value) {
+		if (value == null) {
+			return "";
+		}
+		if (value instanceof Boolean bool) {
+			return bool ? "TRUE" : "FALSE";
+		}
+		return value.toString();
+	}
+
+	/**
+	 * Reports a query that cannot be executed natively. No stack trace is captured as it only triggers the fallback.
+	 */
+	private static class UnsupportedQueryException extends RuntimeException {
+
+		private static final long serialVersionUID = 1L;
+
+		UnsupportedQueryException(final String message) {
+			super(message, null, false, false);
+		}
+	}
+
+	private enum TokenKind {
+		IDENTIFIER,
+		NUMBER,
+		STRING,
+		SYMBOL
+	}
+
+	/**
+	 * A token of a query.
+	 *
+	 * @param kind The kind of token.
+	 * @param text The upper-cased identifier, the digits, the unescaped string literal or the symbol.
+	 */
+	private record Token(TokenKind kind, String text) {}
+
+	/**
+	 * The types of the values held by the columns.
+	 */
+	private enum ValueType {
+		STRING,
+		NUMBER,
+		BOOLEAN
+	}
+
+	/**
+	 * The SQL type of a column, with the conversion of its values.
+	 *
+	 * @param valueType The type of the converted values.
+	 * @param integer   Whether the numbers are limited to 32 bits.
+	 * @param maxLength The maximum length of the strings.
+	 */
+	private record ColumnType(ValueType valueType, boolean integer, int maxLength) {
+		/**
+		 * Parses the SQL type of a column.
+		 *
+		 * @param type The type defined in the {@link SqlColumn}.
+		 * @return The {@link ColumnType}.
+		 */
+		static ColumnType parse(final String type) {
+			if (type == null) {
+				throw new UnsupportedQueryException("Missing column type");
+			}
+
+			final String normalized = type.strip().toUpperCase(Locale.ROOT);
+			final Matcher matcher = VARCHAR_PATTERN.matcher(normalized);
+			if (matcher.matches()) {
+				final int maxLength = matcher.group(1) != null ? Integer.parseInt(matcher.group(1)) : Integer.MAX_VALUE;
+				return new ColumnType(ValueType.STRING, false, maxLength);
+			}
+
+			return switch (normalized) {
+				case "INTEGER", "INT" -> new ColumnType(ValueType.NUMBER, true, 0);
+				case "BIGINT" -> new ColumnType(ValueType.NUMBER, false, 0);
+				case "BOOLEAN" -> new ColumnType(ValueType.BOOLEAN, false, 0);
+				default -> throw new UnsupportedQueryException("Unsupported column type " + type);
+			};
+		}
+
+		/**
+		 * Converts a value of the source table, the same way {@link DatabaseHelper#set} does.
+		 *
+		 * @param value The value of the source table.
+		 * @return The converted value, <code>null</code> for an empty value.
+		 */
+		Object convert(final String value) {
+			if (value == null || value.isEmpty()) {
+				return null;
+			}
+
+			switch (valueType) {
+				case STRING:
+					if (value.length() > maxLength) {
+						throw new UnsupportedQueryException("Value too long: " + value);
+					}
+					return value;
+				case BOOLEAN:
+					return Boolean.parseBoolean(value.trim());
+				default:
+					try {
+						final String trimmedValue = value.trim();
+						return integer ? Long.valueOf(Integer.parseInt(trimmedValue)) : Long.valueOf(Long.parseLong(trimmedValue));
+					} catch (NumberFormatException e) {
+						throw new UnsupportedQueryException("Invalid number: " + value);
+					}
+			}
+		}
+	}
+
+	/**
+	 * A typed column. The values are <code>String</code>, <code>Long</code> or <code>Boolean</code> objects, or
+	 * <code>null</code>.
+	 *
+	 * @param name   The upper-cased name of the column.
+	 * @param type   The type of the values.
+	 * @param values The values of the column, indexed by row.
+	 */
+	private record Column(String name, ValueType type, Object[] values) {}
+
+	/**
+	 * A table stored by column.
+	 *
+	 * @param columns  The columns, keyed by upper-cased name, in the order of their definition.
+	 * @param rowCount The number of rows.
+	 */
+	private record ColumnarTable(Map<String, Column> columns, int rowCount) {}
+
+	/**
+	 * An operand of a condition or an item of the select list. It is evaluated on a tuple holding the row index of
+	 * each table of the query, <code>-1</code> standing for the missing row of a left join.
+	 */
+	private sealed interface Operand permits BoundColumn, Literal {
+		Object value(int[] tuple);
+
+		ValueType type();
+	}
+
+	/**
+	 * A column of one of the tables of the query.
+	 *
+	 * @param tableIndex The index of the table in the query.
+	 * @param column     The column.
+	 */
+	private record BoundColumn(int tableIndex, Column column) implements Operand {
+		@Override
+		public Object value(final int[] tuple) {
+			final int row = tuple[tableIndex];
+			return row < 0 ? null : column.values()[row];
+		}
+
+		@Override
+		public ValueType type() {
+			return column.type();
+		}
+	}
+
+	private record Literal(Object value, ValueType type) implements Operand {
+		@Override
+		public Object value(final int[] tuple) {
+			return value;
+		}
+	}
+
+	/**
+	 * A condition, evaluated with the three-valued logic of SQL: <code>null</code> stands for UNKNOWN.
+	 */
+	private interface Condition {
+		Boolean test(int[] tuple);
+	}
+
+	private enum ComparisonOperator {
+		EQUAL(comparison -> comparison == 0),
+		NOT_EQUAL(comparison -> comparison != 0),
+		LOWER(comparison -> comparison < 0),
+		LOWER_OR_EQUAL(comparison -> comparison <= 0),
+		GREATER(comparison -> comparison > 0),
+		GREATER_OR_EQUAL(comparison -> comparison >= 0);
+
+		private final IntPredicate predicate;
+
+		ComparisonOperator(final IntPredicate predicate) {
+			this.predicate = predicate;
+		}
+
+		/**
+		 * @return The operator corresponding to the given symbol, or <code>null</code> if the symbol is not an operator.
+		 */
+		static ComparisonOperator of(final String symbol) {
+			return switch (symbol) {
+				case "=" -> EQUAL;
+				case "<>", "!=" -> NOT_EQUAL;
+				case "<" -> LOWER;
+				case "<=" -> LOWER_OR_EQUAL;
+				case ">" -> GREATER;
+				case ">=" -> GREATER_OR_EQUAL;
+				default -> null;
+			};
+		}
+	}
+
+	private record Comparison(Operand left, ComparisonOperator operator, Operand right) implements Condition {
+		@Override
+		public Boolean test(final int[] tuple) {
+			final Object leftValue = left.value(tuple);
+			final Object rightValue = right.value(tuple);
+			if (leftValue == null || rightValue == null) {
+				return null;
+			}
+			return operator.predicate.test(compareValues(leftValue, rightValue));
+		}
+	}
+
+	private record NullCheck(Operand operand, boolean negated) implements Condition {
+		@Override
+		public Boolean test(final int[] tuple) {
+			return (operand.value(tuple) == null) != negated;
+		}
+	}
+
+	/**
+	 * A boolean column or literal used as a condition.
+	 */
+	private record BooleanTest(Operand operand) implements Condition {
+		@Override
+		public Boolean test(final int[] tuple) {
+			return (Boolean) operand.value(tuple);
+		}
+	}
+
+	private record And(Condition left, Condition right) implements Condition {
+		@Override
+		public Boolean test(final int[] tuple) {
+			final Boolean leftResult = left.test(tuple);
+			if (Boolean.FALSE.equals(leftResult)) {
+				return false;
+			}
+			final Boolean rightResult = right.test(tuple);
+			if (Boolean.FALSE.equals(rightResult)) {
+				return false;
+			}
+			return leftResult == null || rightResult == null ? null : true;
+		}
+	}
+
+	private record Or(Condition left, Condition right) implements Condition {
+		@Override
+		public Boolean test(final int[] tuple) {
+			final Boolean leftResult = left.test(tuple);
+			if (Boolean.TRUE.equals(leftResult)) {
+				return true;
+			}
+			final Boolean rightResult = right.test(tuple);
+			if (Boolean.TRUE.equals(rightResult)) {
+				return true;
+			}
+			return leftResult == null || rightResult == null ? null : false;
+		}
+	}
+
+	private record Not(Condition condition) implements Condition {
+		@Override
+		public Boolean test(final int[] tuple) {
+			final Boolean result = condition.test(tuple);
+			return result == null ? null : !result;
+		}
+	}
+
+	private enum Aggregate {
+		COUNT,
+		SUM,
+		MIN,
+		MAX;
+
+		/**
+		 * @return The aggregate with the given upper-cased name, or <code>null</code> if there is none.
+		 */
+		static Aggregate of(final String name) {
+			for (final Aggregate aggregate : values()) {
+				if (aggregate.name().equals(name)) {
+					return aggregate;
+				}
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * An item of the select list.
+	 *
+	 * @param operand   The selected operand, <code>null</code> for <code>COUNT(*)</code>.
+	 * @param aggregate The aggregate applied to the operand, <code>null</code> if the operand is selected as is.
+	 */
+	private record SelectItem(Operand operand, Aggregate aggregate) {}
+
+	/**
+	 * @param column     The column to sort on.
+	 * @param descending Whether the order is descending.
+	 */
+	private record OrderItem(BoundColumn column, boolean descending) {}
+
+	/**
+	 * A joined table.
+	 *
+	 * @param left      Whether this is a left outer join.
+	 * @param condition The join condition.
+	 */
+	private record Join(boolean left, Condition condition) {}
+
+	/**
+	 * The aggregated values of a group.
+	 */
+	private static class Group {
+
+		private final int[] firstTuple;
+		private final long[] counts;
+		private final Object[] values;
+
+		Group(final int[] firstTuple, final int itemCount) {
+			this.firstTuple = firstTuple;
+			counts = new long[itemCount];
+			values = new Object[itemCount];
+		}
+
+		/**
+		 * Adds the given tuple to the aggregates of the group.
+		 */
+		void add(final List<SelectItem> items, final int[] tuple) {
+			for (int i = 0; i < items.size(); i++) {
+				final SelectItem item = items.get(i);
+				if (item.aggregate() == null) {
+					continue;
+				}
+
+				final Object value = item.operand() != null ? item.operand().value(tuple) : Boolean.TRUE;
+				if (value == null) {
+					continue;
+				}
+
+				counts[i]++;
+				switch (item.aggregate()) {
+					case SUM -> values[i] = values[i] == null ? value : Math.addExact((Long) values[i], (Long) value);
+					case MIN -> values[i] = values[i] == null || compareValues(value, values[i]) < 0 ? value : values[i];
+					case MAX -> values[i] = values[i] == null || compareValues(value, values[i]) > 0 ? value : values[i];
+					default -> {
+						// Only the count is needed
+					}
+				}
+			}
+		}
+
+		/**
+		 * @return The result row of the group.
+		 */
+		List<String> toRow(final List<SelectItem> items) {
+			final List<String> row = new ArrayList<>(items.size());
+			for (int i = 0; i < items.size(); i++) {
+				final SelectItem item = items.get(i);
+				if (item.aggregate() == Aggregate.COUNT) {
+					row.add(Long.toString(counts[i]));
+				} else if (item.aggregate() != null) {
+					row.add(format(values[i]));
+				} else {
+					// A literal, or a column of the GROUP BY clause which has the same value for all the tuples of the group
+					row.add(format(item.operand().value(firstTuple)));
+				}
+			}
+			return row;
+		}
+	}
+
+	/**
+	 * A parsed query, bound to the columns of its tables.
+	 *
+	 * @param tables  The tables of the query, in the order of the FROM clause.
+	 * @param joins   The joins of the second and next tables.
+	 * @param where   The WHERE condition, <code>null</code> if none.
+	 * @param items   The select list.
+	 * @param groupBy The GROUP BY columns.
+	 * @param orderBy The ORDER BY columns.
+	 */
+	private record Query(
+		List<ColumnarTable> tables,
+		List<Join> joins,
+		Condition where,
+		List<SelectItem> items,
+		List<BoundColumn> groupBy,
+		List<OrderItem> orderBy
+	) {
+		/**
+		 * @return <code>true</code> if the query returns one row per group.
+		 */
+		boolean isAggregated() {
+			return !groupBy.isEmpty() || items.stream().anyMatch(item -> item.aggregate() != null);
+		}
+
+		/**
+		 * Executes the query.
+		 *
+		 * @return The result rows.
+		 */
+		List<List<String>> execute() {
+			List<int[]> tuples = scan();
+			for (int i = 1; i < tables.size(); i++) {
+				tuples = join(tuples, i, joins.get(i - 1));
+			}
+
+			if (where != null) {
+				tuples.removeIf(tuple -> !Boolean.TRUE.equals(where.test(tuple)));
+			}
+
+			if (isAggregated()) {
+				return aggregate(tuples);
+			}
+
+			if (!orderBy.isEmpty()) {
+				tuples.sort(orderComparator());
+			}
+
+			final List<List<String>> result = new ArrayList<>(tuples.size());
+			for (final int[] tuple : tuples) {
+				final List<String> row = new ArrayList<>(items.size());
+				for (final SelectItem item : items) {
+					row.add(format(item.operand().value(tuple)));
+				}
+				result.add(row);
+			}
+			return result;
+		}
+
+		/**
+		 * @return One tuple for each row of the first table.
+		 */
+		private List<int[]> scan() {
+			final int rowCount = tables.get(0).rowCount();
+			final List<int[]> tuples = new ArrayList<>(rowCount);
+			for (int row = 0; row < rowCount; row++) {
+				final int[] tuple = new int[tables.size()];
+				Arrays.fill(tuple, -1);
+				tuple[0] = row;
+				tuples.add(tuple);
+			}
+			return tuples;
+		}
+
+		/**
+		 * Joins the given tuples with the rows of a table. The equality conditions between a column of the joined table
+		 * and a column of the previous tables are evaluated with a hash table built on the joined table, the other
+		 * conditions on each matching pair. The result follows the order of the given tuples, then the order of the
+		 * rows of the joined table.
+		 *
+		 * @param tuples     The tuples of the previous tables.
+		 * @param tableIndex The index of the joined table.
+		 * @param join       The join.
+		 * @return The joined tuples.
+		 */
+		private List<int[]> join(final List<int[]> tuples, final int tableIndex, final Join join) {
+			final List<BoundColumn> leftKeys = new ArrayList<>();
+			final List<BoundColumn> rightKeys = new ArrayList<>();
+			Condition residual = null;
+			for (final Condition term : conjuncts(join.condition())) {
+				if (
+					term instanceof Comparison comparison &&
+					comparison.operator() == ComparisonOperator.EQUAL &&
+					comparison.left() instanceof BoundColumn left &&
+					comparison.right() instanceof BoundColumn right &&
+					(left.tableIndex() == tableIndex) != (right.tableIndex() == tableIndex)
+				) {
+					leftKeys.add(left.tableIndex() == tableIndex ? right : left);
+					rightKeys.add(left.tableIndex() == tableIndex ? left : right);
+				} else {
+					residual = residual == null ? term : new And(residual, term);
+				}
+			}
+
+			final int rowCount = tables.get(tableIndex).rowCount();
+
+			// Chain the rows of the joined table by key, keeping their order
+			Map<Object, Integer> firstRows = null;
+			int[] nextRows = null;
+			if (!leftKeys.isEmpty()) {
+				firstRows = new HashMap<>();
+				nextRows = new int[rowCount];
+				final int[] rowTuple = new int[tables.size()];
+				for (int row = rowCount - 1; row >= 0; row--) {
+					rowTuple[tableIndex] = row;
+					final Object key = keyOf(rightKeys, rowTuple);
+					if (key != null) {
+						final Integer next = firstRows.put(key, row);
+						nextRows[row] = next != null ? next : -1;
+					}
+				}
+			}
+
+			final List<int[]> result = new ArrayList<>(tuples.size());
+			for (final int[] tuple : tuples) {
+				boolean matched = false;
+				int[] candidate = tuple.clone();
+
+				int row;
+				if (firstRows != null) {
+					final Object key = keyOf(leftKeys, tuple);
+					final Integer firstRow = key != null ? firstRows.get(key) : null;
+					row = firstRow != null ? firstRow : -1;
+				} else {
+					row = rowCount > 0 ? 0 : -1;
+				}
+
+				while (row >= 0) {
+					candidate[tableIndex] = row;
+					if (residual == null || Boolean.TRUE.equals(residual.test(candidate))) {
+						result.add(candidate);
+						candidate = tuple.clone();
+						matched = true;
+					}
+					if (nextRows != null) {
+						row = nextRows[row];
+					} else {
+						row = row + 1 < rowCount ? row + 1 : -1;
+					}
+				}
+
+				if (join.left() && !matched) {
+					candidate[tableIndex] = -1;
+					result.add(candidate);
+				}
+			}
+			return result;
+		}
+
+		/**
+		 * Evaluates the GROUP BY clause and the aggregates. The groups are sorted by key.
+		 *
+		 * @param tuples The filtered tuples.
+		 * @return One row per group.
+		 */
+		private List<List<String>> aggregate(final List<int[]> tuples) {
+			final Map<List<Object>, Group> groups = new TreeMap<>(NativeQueryExecutor::compareKeys);
+			if (groupBy.isEmpty()) {
+				// Aggregates without GROUP BY always return one row
+				groups.put(List.of(), new Group(null, items.size()));
+			}
+
+			for (final int[] tuple : tuples) {
+				final Object[] key = new Object[groupBy.size()];
+				for (int i = 0; i < key.length; i++) {
+					key[i] = groupBy.get(i).value(tuple);
+				}
+				groups.computeIfAbsent(Arrays.asList(key), _ -> new Group(tuple, items.size())).add(items, tuple);
+			}
+
+			final List<List<String>> result = new ArrayList<>(groups.size());
+			for (final Group group : groups.values()) {
+				result.add(group.toRow(items));
+			}
+			return result;
+		}
+
+		/**
+		 * @return The comparator of the tuples following the ORDER BY clause.
+		 */
+		private Comparator<int[]> orderComparator() {
+			return (left, right) -> {
+				for (final OrderItem item : orderBy) {
+					final int comparison = compareNullable(item.column().value(left), item.column().value(right));
+					if (comparison != 0) {
+						return item.descending() ? -comparison : comparison;
+					}
+				}
+				return 0;
+			};
+		}
+
+		/**
+		 * Computes the hash key of a tuple.
+		 *
+		 * @param columns The key columns.
+		 * @param tuple   The tuple.
+		 * @return The key, or <code>null</code> if one of its values is <code>null</code> and cannot match any row.
+		 */
+		private static Object keyOf(final List<BoundColumn> columns, final int[] tuple) {
+			if (columns.size() == 1) {
+				return columns.get(0).value(tuple);
+			}
+
+			final Object[] key = new Object[columns.size()];
+			for (int i = 0; i < key.length; i++) {
+				key[i] = columns.get(i).value(tuple);
+				if (key[i] == null) {
+					return null;
+				}
+			}
+			return List.of(key);
+		}
+
+		/**
+		 * @return The terms of the given condition, split on the top-level <code>AND</code> operators.
+		 */
+		private static List<Condition> conjuncts(final Condition condition) {
+			if (condition instanceof And and) {
+				final List<Condition> terms = new ArrayList<>(conjuncts(and.left()));
+				terms.addAll(conjuncts(and.right()));
+				return terms;
+			}
+			return List.of(condition);
+		}
+	}
+
+	/**
+	 * Recursive descent parser of the supported subset of SQL. The FROM clause is parsed first, so that the columns
+	 * of the select list can be resolved.
+	 */
+	private static class Parser {
+
+		private final List<Token> tokens;
+		private final List<SqlTable> sqlTables;
+		private final List<List<List<String>>> rows;
+		private final Map<String, ColumnarTable> convertedTables = new HashMap<>();
+		private final List<ColumnarTable> tables = new ArrayList<>();
+		private final List<String> tableNames = new ArrayList<>();
+		private int position;
+
+		Parser(final List<Token> tokens, final List<SqlTable> sqlTables, final List<List<List<String>>> rows) {
+			this.tokens = tokens;
+			this.sqlTables = sqlTables;
+			this.rows = rows;
+		}
+
+		/**
+		 * Parses the query.
+		 *
+		 * @return The {@link Query}.
+		 */
+		Query parse() {
+			expectKeyword("SELECT");
+			final int selectPosition = position;
+			final int fromPosition = indexOfFrom();
+
+			position = fromPosition + 1;
+			addTable();
+			final List<Join> joins = new ArrayList<>();
+			Join join;
+			while ((join = parseJoin()) != null) {
+				joins.add(join);
+			}
+
+			final Condition where = acceptKeyword("WHERE") ? parseCondition() : null;
+
+			final List<BoundColumn> groupBy = new ArrayList<>();
+			if (acceptKeyword("GROUP")) {
+				expectKeyword("BY");
+				do {
+					groupBy.add(parseColumn());
+				} while (acceptSymbol(","));
+			}
+
+			final List<OrderItem> orderBy = new ArrayList<>();
+			if (acceptKeyword("ORDER")) {
+				expectKeyword("BY");
+				do {
+					final BoundColumn column = parseColumn();
+					final boolean descending = acceptKeyword("DESC");
+					if (!descending) {
+						acceptKeyword("ASC");
+					}
+					orderBy.add(new OrderItem(column, descending));
+				} while (acceptSymbol(","));
+			}
+
+			acceptSymbol(";");
+			if (position < tokens.size()) {
+				throw new UnsupportedQueryException("Unexpected " + tokens.get(position).text());
+			}
+
+			position = selectPosition;
+			final List<SelectItem> items = parseSelectList();
+			if (position != fromPosition) {
+				throw new UnsupportedQueryException("Unexpected " + tokens.get(position).text());
+			}
+
+			final Query query = new Query(tables, joins, where, items, groupBy, orderBy);
+			if (query.isAggregated()) {
+				if (!orderBy.isEmpty()) {
+					throw new UnsupportedQueryException("ORDER BY with aggregates");
+				}
+				for (final SelectItem item : items) {
+					if (
+						item.aggregate() == null &&
+						item.operand() instanceof BoundColumn column &&
+						!groupBy.contains(column)
+					) {
+						throw new UnsupportedQueryException("Column not in the GROUP BY clause");
+					}
+				}
+			}
+			return query;
+		}
+
+		/**
+		 * @return The position of the FROM keyword.
+		 */
+		private int indexOfFrom() {
+			for (int i = position; i < tokens.size(); i++) {
+				if (isKeyword(tokens.get(i), "FROM")) {
+					return i;
+				}
+			}
+			throw new UnsupportedQueryException("Missing FROM clause");
+		}
+
+		/**
+		 * Parses a table of the FROM clause, with its optional alias, and adds it to the tables of the query.
+		 */
+		private void addTable() {
+			final String name = expectIdentifier();
+			String alias = name;
+			if (acceptKeyword("AS")) {
+				alias = expectIdentifier();
+			} else if (isAlias(peek())) {
+				alias = tokens.get(position++).text();
+			}
+
+			if (tableNames.contains(alias)) {
+				throw new UnsupportedQueryException("Duplicate table " + alias);
+			}
+			tables.add(getTable(name));
+			tableNames.add(alias);
+		}
+
+		/**
+		 * Returns the columnar version of the given table, converting it on first use.
+		 *
+		 * @param name The upper-cased alias of the {@link SqlTable}.
+		 * @return The {@link ColumnarTable}.
+		 */
+		private ColumnarTable getTable(final String name) {
+			final ColumnarTable table = convertedTables.get(name);
+			if (table != null) {
+				return table;
+			}
+
+			int index = -1;
+			for (int i = 0; i < sqlTables.size(); i++) {
+				final String alias = sqlTables.get(i).getAlias();
+				if (alias != null && name.equals(alias.strip().toUpperCase(Locale.ROOT))) {
+					if (index >= 0) {
+						throw new UnsupportedQueryException("Duplicate table " + name);
+					}
+					index = i;
+				}
+			}
+			if (index < 0) {
+				throw new UnsupportedQueryException("Unknown table " + name);
+			}
+
+			final ColumnarTable converted = toColumnarTable(sqlTables.get(index), rows.get(index));
+			convertedTables.put(name, converted);
+			return converted;
+		}
+
+		/**
+		 * @return The next join, or <code>null</code> if there is none.
+		 */
+		private Join parseJoin() {
+			final boolean left;
+			if (acceptKeyword("LEFT")) {
+				acceptKeyword("OUTER");
+				expectKeyword("JOIN");
+				left = true;
+			} else if (acceptKeyword("INNER")) {
+				expectKeyword("JOIN");
+				left = false;
+			} else if (acceptKeyword("JOIN")) {
+				left = false;
+			} else {
+				return null;
+			}
+
+			addTable();
+			expectKeyword("ON");
+			return new Join(left, parseCondition());
+		}
+
+		/**
+		 * Parses a condition made of <code>OR</code> terms.
+		 */
+		private Condition parseCondition() {
+			Condition condition = parseAnd();
+			while (acceptKeyword("OR")) {
+				condition = new Or(condition, parseAnd());
+			}
+			return condition;
+		}
+
+		private Condition parseAnd() {
+			Condition condition = parseNot();
+			while (acceptKeyword("AND")) {
+				condition = new And(condition, parseNot());
+			}
+			return condition;
+		}
+
+		private Condition parseNot() {
+			return acceptKeyword("NOT") ? new Not(parseNot()) : parsePredicate();
+		}
+
+		private Condition parsePredicate() {
+			if (acceptSymbol("(")) {
+				final Condition condition = parseCondition();
+				expectSymbol(")");
+				return condition;
+			}
+
+			final Operand left = parseOperand();
+			if (acceptKeyword("IS")) {
+				final boolean negated = acceptKeyword("NOT");
+				expectKeyword("NULL");
+				return new NullCheck(left, negated);
+			}
+
+			final Token token = peek();
+			final ComparisonOperator operator = token != null && token.kind() == TokenKind.SYMBOL
+				? ComparisonOperator.of(token.text())
+				: null;
+			if (operator != null) {
+				position++;
+				final Operand right = parseOperand();
+				// H2 would convert one of the operands, possibly failing
+				if (left.type() != right.type()) {
+					throw new UnsupportedQueryException("Comparison of " + left.type() + " with " + right.type());
+				}
+				return new Comparison(left, operator, right);
+			}
+
+			if (left.type() != ValueType.BOOLEAN) {
+				throw new UnsupportedQueryException("Unsupported condition");
+			}
+			return new BooleanTest(left);
+		}
+
+		/**
+		 * @return The items of the select list, <code>*</code> being expanded to all the columns of all the tables.
+		 */
+		private List<SelectItem> parseSelectList() {
+			final List<SelectItem> items = new ArrayList<>();
+			do {
+				if (acceptSymbol("*")) {
+					for (int i = 0; i < tables.size(); i++) {
+						for (final Column column : tables.get(i).columns().values()) {
+							items.add(new SelectItem(new BoundColumn(i, column), null));
+						}
+					}
+					continue;
+				}
+
+				items.add(parseSelectItem());
+				if (acceptKeyword("AS")) {
+					expectIdentifier();
+				} else if (isAlias(peek())) {
+					position++;
+				}
+			} while (acceptSymbol(","));
+			return items;
+		}
+
+		private SelectItem parseSelectItem() {
+			final Token token = peek();
+			final Aggregate aggregate = token != null && token.kind() == TokenKind.IDENTIFIER
+				? Aggregate.of(token.text())
+				: null;
+			if (aggregate == null || !isSymbol(position + 1, "(")) {
+				return new SelectItem(parseOperand(), null);
+			}
+
+			position += 2;
+			if (aggregate == Aggregate.COUNT && acceptSymbol("*")) {
+				expectSymbol(")");
+				return new SelectItem(null, aggregate);
+			}
+
+			final BoundColumn column = parseColumn();
+			if (aggregate == Aggregate.SUM && column.type() != ValueType.NUMBER) {
+				throw new UnsupportedQueryException("SUM of " + column.type());
+			}
+			expectSymbol(")");
+			return new SelectItem(column, aggregate);
+		}
+
+		private BoundColumn parseColumn() {
+			if (parseOperand() instanceof BoundColumn column) {
+				return column;
+			}
+			throw new UnsupportedQueryException("Column expected");
+		}
+
+		/**
+		 * Parses a column, optionally qualified by its table, or a literal.
+		 */
+		private Operand parseOperand() {
+			if (position >= tokens.size()) {
+				throw new UnsupportedQueryException("Unexpected end of query");
+			}
+
+			final Token token = tokens.get(position++);
+			switch (token.kind()) {
+				case STRING:
+					return new Literal(token.text(), ValueType.STRING);
+				case NUMBER:
+					try {
+						return new Literal(Long.valueOf(Integer.parseInt(token.text())), ValueType.NUMBER);
+					} catch (NumberFormatException e) {
+						throw new UnsupportedQueryException("Unsupported number " + token.text());
+					}
+				case IDENTIFIER:
+					break;
+				default:
+					throw new UnsupportedQueryException("Unexpected " + token.text());
+			}
+
+			if ("TRUE".equals(token.text()) || "FALSE".equals(token.text())) {
+				return new Literal(Boolean.valueOf(token.text()), ValueType.BOOLEAN);
+			}
+			if (isSymbol(position, "(")) {
+				throw new UnsupportedQueryException("Unsupported function " + token.text());
+			}
+
+			if (acceptSymbol(".")) {
+				return resolveColumn(token.text(), expectIdentifier());
+			}
+			return resolveColumn(null, token.text());
+		}
+
+		/**
+		 * Finds the given column in the tables of the query.
+		 *
+		 * @param tableName The table qualifying the column, <code>null</code> to search all the tables.
+		 * @param name      The name of the column.
+		 * @return The {@link BoundColumn}.
+		 */
+		private BoundColumn resolveColumn(final String tableName, final String name) {
+			BoundColumn found = null;
+			for (int i = 0; i < tables.size(); i++) {
+				if (tableName == null || tableName.equals(tableNames.get(i))) {
+					final Column column = tables.get(i).columns().get(name);
+					if (column != null) {
+						if (found != null) {
+							throw new UnsupportedQueryException("Ambiguous column " + name);
+						}
+						found = new BoundColumn(i, column);
+					}
+				}
+			}
+			if (found == null) {
+				throw new UnsupportedQueryException("Unknown column " + name);
+			}
+			return found;
+		}
+
+		private Token peek() {
+			return position < tokens.size() ? tokens.get(position) : null;
+		}
+
+		private boolean isAlias(final Token token) {
+			return token != null && token.kind() == TokenKind.IDENTIFIER && !RESERVED_WORDS.contains(token.text());
+		}
+
+		private static boolean isKeyword(final Token token, final String keyword) {
+			return token.kind() == TokenKind.IDENTIFIER && token.text().equals(keyword);
+		}
+
+		private boolean isSymbol(final int index, final String symbol) {
+			return (
+				index < tokens.size() &&
+				tokens.get(index).kind() == TokenKind.SYMBOL &&
+				tokens.get(index).text().equals(symbol)
+			);
+		}
+
+		private boolean acceptKeyword(final String keyword) {
+			final Token token = peek();
+			if (token != null && isKeyword(token, keyword)) {
+				position++;
+				return true;
+			}
+			return false;
+		}
+
+		private boolean acceptSymbol(final String symbol) {
+			if (isSymbol(position, symbol)) {
+				position++;
+				return true;
+			}
+			return false;
+		}
+
+		private void expectKeyword(final String keyword) {
+			if (!acceptKeyword(keyword)) {
+				throw new UnsupportedQueryException(keyword + " expected");
+			}
+		}
+
+		private void expectSymbol(final String symbol) {
+			if (!acceptSymbol(symbol)) {
+				throw new UnsupportedQueryException(symbol + " expected");
+			}
+		}
+
+		private String expectIdentifier() {
+			final Token token = peek();
+			if (token == null || token.kind() != TokenKind.IDENTIFIER) {
+				throw new UnsupportedQueryException("Identifier expected");
+			}
+			position++;
+			return token.text();
+		}
+	}
+}
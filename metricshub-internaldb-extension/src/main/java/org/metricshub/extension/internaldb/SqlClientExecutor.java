@@ -22,7 +22,6 @@ package org.metricshub.extension.internaldb;
  */
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
@@ -31,7 +30,7 @@ import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
+import java.util.Optional;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -57,8 +56,10 @@ public class SqlClientExecutor {
 	private String connectorId;
 
 	/**
-	 * Creates a new H2 in-memory database and create a connection to it.
-	 * Creates and fill the SQL tables corresponding to the {@link SqlTable} in the sqlTables {@link List}.
+	 * Execute the query directly on the rows of the source tables when the {@link NativeQueryExecutor} supports it.
+	 * Otherwise, retrieves the H2 in-memory database of the host, creating it on first use.
+	 * Creates, or reloads if their content has changed, the SQL tables corresponding to the {@link SqlTable}
+	 * in the sqlTables {@link List}.
 	 * Execute the query and return the result in a form of a list of lists of strings.
 	 * @param sqlTables The tables to execute the query on.
 	 * @param query     The query to execute.
@@ -75,37 +76,70 @@ public class SqlClientExecutor {
 			return new ArrayList<>();
 		}
 
+		// The source tables are looked up once, for both the native executor and H2
+		final List<List<List<String>>> tables = sqlTables.stream().map(this::lookupTable).toList();
+
+		final Optional<List<List<String>>> nativeResult = NativeQueryExecutor.execute(query, sqlTables, tables);
+		if (nativeResult.isPresent()) {
+			return nativeResult.get();
+		}
+
+		return executeOnDatabase(sqlTables, tables, query);
+	}
+
+	/**
+	 * Execute the query with the H2 in-memory database of the host, creating it on first use.
+	 * Creates, or reloads if their content has changed, the SQL tables corresponding to the {@link SqlTable}
+	 * in the sqlTables {@link List}.
+	 *
+	 * @param sqlTables The tables to execute the query on.
+	 * @param tables    The rows of each table, in the order of the <code>sqlTables</code>. A <code>null</code> element
+	 *                  stands for a source table that is not found or empty.
+	 * @param query     The query to execute.
+	 * @return          The result of the query.
+	 */
+	List<List<String>> executeOnDatabase(
+		final List<SqlTable> sqlTables,
+		final List<List<List<String>>> tables,
+		final String query
+	) {
 		final String hostId = telemetryManager.getHostConfiguration().getHostId();
-		final String connectionName = "jdbc:h2:mem:" + hostId + UUID.randomUUID().toString();
-		// Creation of the connection to the H2 database in memory
-		try (Connection connection = DriverManager.getConnection(connectionName)) {
-			connection.setAutoCommit(false);
-
-			// Prepare the SQL tables
-			for (SqlTable sqlTable : sqlTables) {
-				createAndInsert(sqlTable, connection);
-			}
 
-			return executeQuery(query, connection);
-		} catch (Exception exception) {
-			log.error("Error when creating the database for the Internal DB Query: {}", exception.getMessage());
-			log.debug("Exception: ", exception);
-			return new ArrayList<>();
+		// The database of the host lives as long as the telemetry manager, queries of the host run one at a time
+		final InternalDatabase database = telemetryManager.getExtensionState(InternalDatabase.class, InternalDatabase::new);
+		synchronized (database) {
+			try {
+				final Connection connection = database.getConnection(hostId);
+
+				// Prepare the SQL tables
+				for (int i = 0; i < sqlTables.size(); i++) {
+					refreshTable(sqlTables.get(i), tables.get(i), database, connection);
+				}
+
+				return executeQuery(query, database, hostId);
+			} catch (Exception exception) {
+				log.error("Error when creating the database for the Internal DB Query: {}", exception.getMessage());
+				log.debug("Exception: ", exception);
+				// Start again from a fresh database on next query
+				database.reset();
+				return new ArrayList<>();
+			}
 		}
 	}
 
 	/**
-	 * Execute a SQL query on the connection object and return the result in a form
+	 * Execute a SQL query on the database and return the result in a form
 	 * of a list of lists of strings.
 	 *
-	 * @param query      The query to execute.
-	 * @param connection The connection to the database.
+	 * @param query    The query to execute.
+	 * @param database The database of the host.
+	 * @param hostId   The identifier of the host.
 	 * @return The result of the query.
 	 */
-	private List<List<String>> executeQuery(final String query, final Connection connection) {
+	private List<List<String>> executeQuery(final String query, final InternalDatabase database, final String hostId) {
 		final List<List<String>> result = new ArrayList<>();
 
-		try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery(query)) {
+		try (ResultSet resultSet = database.prepare(hostId, query).executeQuery()) {
 			if (resultSet == null) {
 				log.error("The Internal DB Query {} returned a null result.", query);
 				return result;
@@ -132,39 +166,93 @@ public class SqlClientExecutor {
 	}
 
 	/**
-	 * Create the SQL tables corresponding to the sqlTables in the database linked to the connection object.
-	 * @param sqlTable   The tables to use to create SQL tables.
+	 * Make sure the SQL table corresponding to the given {@link SqlTable} is loaded with the current content of its
+	 * source table. The table is left untouched if neither its definition nor its source table have changed,
+	 * emptied and filled again if only the content has changed, and created again if its definition has changed.
+	 *
+	 * @param sqlTable   The table to use to create the SQL table.
+	 * @param table      The rows of the source table, or <code>null</code> if the source table is not found or empty.
+	 * @param database   The database of the host.
 	 * @param connection The connection to the database.
+	 * @throws SQLException if the table cannot be dropped.
 	 */
-	private void createAndInsert(final SqlTable sqlTable, final Connection connection) {
+	private void refreshTable(
+		final SqlTable sqlTable,
+		final List<List<String>> table,
+		final InternalDatabase database,
+		final Connection connection
+	) throws SQLException {
 		final String createTableQuery = createTableQuery(sqlTable);
 		if (createTableQuery == null) {
 			log.debug("Error when creating Internal DB Query CREATE TABLE query for source {}", sqlTable.getSource());
+			dropTable(sqlTable.getAlias(), database, connection);
+			return;
+		}
+
+		final List<List<String>> rows = table != null ? table : List.of();
+		if (database.isUpToDate(sqlTable.getAlias(), createTableQuery, rows)) {
+			log.debug("Internal DB Query table {} is up to date.", sqlTable.getAlias());
 			return;
 		}
 
-		try {
-			final Statement statement = connection.createStatement();
+		final String alias = sqlTable.getAlias().strip();
+		final boolean sameDefinition = createTableQuery.equals(database.getDefinition(alias));
+
+		// Until the rows are loaded, the table is unknown and will be created again on next use
+		if (database.forgetTable(alias) && !sameDefinition) {
+			// The prepared statements may use the previous definition of the table
+			database.clearStatements();
+		}
 
-			statement.execute(createTableQuery);
+		try (Statement statement = connection.createStatement()) {
+			if (sameDefinition) {
+				// Same definition, only the rows have changed
+				statement.execute("TRUNCATE TABLE " + alias);
+			} else {
+				statement.execute("DROP TABLE IF EXISTS " + alias);
+				statement.execute(createTableQuery);
+				log.debug("Executing CREATE TABLE query: {}", createTableQuery);
+			}
 			connection.commit();
-			log.debug("Executing CREATE TABLE query: {}", createTableQuery);
 		} catch (SQLException exception) {
 			log.error("Error when executing CREATE TABLE query {}: {}", createTableQuery, exception.getMessage());
 			log.debug("CREATE TABLE SQL Exception: ", exception);
 			return;
 		}
 
-		insertTableDataBatch(sqlTable, connection);
+		if (table == null || insertTableDataBatch(sqlTable, table, connection)) {
+			database.tableLoaded(alias, createTableQuery, rows);
+		}
 	}
 
 	/**
-	 * Insert the data from the {@link SourceTable} corresponding to the {@link SqlTable} object into the SQL table
+	 * Drop the given table if the database holds it. The cached statements are cleared as they may use the table.
 	 *
-	 * @param sqlTable   The table to insert the data from.
+	 * @param alias      The alias of the table.
+	 * @param database   The database of the host.
 	 * @param connection The connection to the database.
+	 * @throws SQLException if the table cannot be dropped.
 	 */
-	private void insertTableDataBatch(final SqlTable sqlTable, final Connection connection) {
+	private static void dropTable(final String alias, final InternalDatabase database, final Connection connection)
+		throws SQLException {
+		if (alias == null || !database.forgetTable(alias)) {
+			return;
+		}
+
+		database.clearStatements();
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("DROP TABLE IF EXISTS " + alias.strip());
+			connection.commit();
+		}
+	}
+
+	/**
+	 * Look up the rows of the source table corresponding to the {@link SqlTable} object.
+	 *
+	 * @param sqlTable The table to look up.
+	 * @return The rows of the source table, or <code>null</code> if the source table is not found or empty.
+	 */
+	private List<List<String>> lookupTable(final SqlTable sqlTable) {
 		final SourceTable sourceTable = SourceTable.lookupSourceTable(
 			sqlTable.getSource(),
 			connectorId,
@@ -175,15 +263,31 @@ public class SqlClientExecutor {
 				"The source table {} is not found during the Internal DB Query job. Skip processing.",
 				sqlTable.getSource()
 			);
-			return;
+			return null;
 		}
 
-		List<List<String>> table = sourceTable.getTable();
+		final List<List<String>> table = sourceTable.getTable();
 		if (table == null || table.isEmpty()) {
 			log.error("The source table {} is empty. Skip Internal DB Query job processing.", sqlTable.getSource());
-			return;
+			return null;
 		}
 
+		return table;
+	}
+
+	/**
+	 * Insert the rows of the source table corresponding to the {@link SqlTable} object into the SQL table
+	 *
+	 * @param sqlTable   The table to insert the data from.
+	 * @param table      The rows of the source table.
+	 * @param connection The connection to the database.
+	 * @return <code>true</code> if the rows have been inserted.
+	 */
+	private boolean insertTableDataBatch(
+		final SqlTable sqlTable,
+		final List<List<String>> table,
+		final Connection connection
+	) {
 		// Build the INSERT statement with placeholders
 		final String alias = sqlTable.getAlias().strip();
 		final List<SqlColumn> columns = sqlTable.getColumns();
@@ -242,9 +346,11 @@ public class SqlClientExecutor {
 			preparedStatement.clearBatch(); // Clears final cache
 			connection.commit();
 			log.debug("Final batch INSERT completed for table: {}. Total rows committed: {}", alias, count);
+			return true;
 		} catch (Exception exception) {
 			log.error("Error when batch inserting for table {}: {}", alias, exception.getMessage());
 			log.debug("Batch Insert SQL Exception: ", exception);
+			return false;
 		}
 	}
 
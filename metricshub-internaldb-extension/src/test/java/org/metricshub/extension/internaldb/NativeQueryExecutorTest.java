@@ -0,0 +1,319 @@
+package org.metricshub.extension.internaldb;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.metricshub.engine.configuration.HostConfiguration;
+import org.metricshub.engine.connector.model.common.DeviceKind;
+import org.metricshub.engine.connector.model.common.SqlColumn;
+import org.metricshub.engine.connector.model.common.SqlTable;
+import org.metricshub.engine.telemetry.TelemetryManager;
+
+class NativeQueryExecutorTest {
+
+	private static final SqlTable DISKS = SqlTable.builder()
+		.alias("DISKS")
+		.columns(
+			List.of(
+				SqlColumn.builder().name("ID").number(1).type("VARCHAR(255)").build(),
+				SqlColumn.builder().name("CONTROLLER").number(2).type("VARCHAR(255)").build(),
+				SqlColumn.builder().name("SIZE").number(3).type("BIGINT").build(),
+				SqlColumn.builder().name("FAILED").number(4).type("BOOLEAN").build()
+			)
+		)
+		.build();
+
+	private static final SqlTable CONTROLLERS = SqlTable.builder()
+		.alias("CONTROLLERS")
+		.columns(
+			List.of(
+				SqlColumn.builder().name("ID").number(1).type("VARCHAR(255)").build(),
+				SqlColumn.builder().name("MODEL").number(2).type("VARCHAR(255)").build()
+			)
+		)
+		.build();
+
+	private static final SqlTable SLOTS = SqlTable.builder()
+		.alias("SLOTS")
+		.columns(
+			List.of(
+				SqlColumn.builder().name("ID").number(1).type("VARCHAR(255)").build(),
+				SqlColumn.builder().name("SLOT").number(2).type("INTEGER").build(),
+				SqlColumn.builder().name("ENCLOSURE").number(3).type("VARCHAR(255)").build()
+			)
+		)
+		.build();
+
+	private static final List<List<String>> DISK_ROWS = Arrays.asList(
+		Arrays.asList("disk1", "ctrl1", "100", "false"),
+		Arrays.asList("disk2", "ctrl2", " 200 ", "TRUE"),
+		Arrays.asList("disk3", "ctrl1", "300", "false"),
+		Arrays.asList("disk4", "ctrl3", "", null)
+	);
+
+	private static final List<List<String>> CONTROLLER_ROWS = Arrays.asList(
+		Arrays.asList("ctrl1", "PERC"),
+		Arrays.asList("ctrl2", "SmartArray")
+	);
+
+	private static final List<List<String>> SLOT_ROWS = Arrays.asList(
+		Arrays.asList("disk1", "1", "enc1"),
+		Arrays.asList("disk3", "2", null),
+		Arrays.asList("disk5", "3", "enc2"),
+		Arrays.asList("disk2", "", "enc1"),
+		Arrays.asList(null, "4", "enc2")
+	);
+
+	/**
+	 * Executes the queries with the H2 database, as the queries not supported by {@link NativeQueryExecutor}.
+	 */
+	private static final SqlClientExecutor H2_EXECUTOR = new SqlClientExecutor(
+		TelemetryManager.builder()
+			.hostConfiguration(
+				HostConfiguration.builder().hostname("localhost").hostId("localhost").hostType(DeviceKind.LINUX).build()
+			)
+			.build(),
+		"connector"
+	);
+
+	private static Optional<List<List<String>>> execute(final String query) {
+		return NativeQueryExecutor.execute(
+			query,
+			List.of(DISKS, CONTROLLERS, SLOTS),
+			Arrays.asList(DISK_ROWS, CONTROLLER_ROWS, SLOT_ROWS)
+		);
+	}
+
+	private static List<List<String>> executeWithH2(final String query) {
+		return H2_EXECUTOR.executeOnDatabase(
+			List.of(DISKS, CONTROLLERS, SLOTS),
+			Arrays.asList(DISK_ROWS, CONTROLLER_ROWS, SLOT_ROWS),
+			query
+		);
+	}
+
+	/**
+	 * Asserts that the native executor supports the given query and returns the same rows as H2, in the same order if
+	 * <code>ordered</code> is <code>true</code>.
+	 */
+	private static void assertSameAsH2(final String query, final boolean ordered) {
+		final Optional<List<List<String>>> result = execute(query);
+		assertTrue(result.isPresent(), query);
+
+		final List<List<String>> expected = executeWithH2(query);
+		if (ordered) {
+			assertEquals(expected, result.get(), query);
+		} else {
+			assertEquals(sorted(expected), sorted(result.get()), query);
+		}
+	}
+
+	/**
+	 * Asserts that the given query needing a conversion is left to H2, and that H2 returns the same rows as the native
+	 * executor for the same query written without any conversion.
+	 */
+	private static void assertConvertedByH2(final String query, final String queryWithoutConversion) {
+		assertTrue(execute(query).isEmpty(), query);
+
+		final Optional<List<List<String>>> result = execute(queryWithoutConversion);
+		assertTrue(result.isPresent(), queryWithoutConversion);
+		assertEquals(sorted(executeWithH2(query)), sorted(result.get()), query);
+	}
+
+	private static List<List<String>> sorted(final List<List<String>> rows) {
+		final List<List<String>> sortedRows = new ArrayList<>(rows);
+		sortedRows.sort(Comparator.comparing(List::toString));
+		return sortedRows;
+	}
+
+	@Test
+	void testSelectWhere() {
+		assertEquals(
+			Optional.of(List.of(List.of("disk1", "100", "FALSE"), List.of("disk3", "300", "FALSE"))),
+			execute("SELECT ID, SIZE, FAILED FROM DISKS WHERE CONTROLLER = 'ctrl1';")
+		);
+		assertEquals(
+			Optional.of(List.of(List.of("disk2"), List.of("disk4"))),
+			execute("select id from disks where failed or size is null")
+		);
+		assertEquals(
+			Optional.of(List.of(List.of("disk3", "300"), List.of("disk2", "200"))),
+			execute("SELECT ID, SIZE FROM DISKS WHERE NOT (SIZE < 200) ORDER BY SIZE DESC")
+		);
+		assertEquals(
+			Optional.of(List.of(List.of("disk1", "ctrl1", "100", "FALSE"))),
+			execute("SELECT * FROM DISKS WHERE SIZE <= 100")
+		);
+	}
+
+	@Test
+	void testJoin() {
+		assertEquals(
+			Optional.of(
+				List.of(List.of("disk1", "PERC"), List.of("disk2", "SmartArray"), List.of("disk3", "PERC"))
+			),
+			execute("SELECT D.ID, C.MODEL FROM DISKS D JOIN CONTROLLERS AS C ON D.CONTROLLER = C.ID;")
+		);
+		assertEquals(
+			Optional.of(
+				List.of(
+					List.of("disk1", "PERC"),
+					List.of("disk2", ""),
+					List.of("disk3", "PERC"),
+					List.of("disk4", "")
+				)
+			),
+			execute(
+				"SELECT D.ID, C.MODEL FROM DISKS D LEFT OUTER JOIN CONTROLLERS C ON D.CONTROLLER = C.ID AND C.MODEL <> 'SmartArray'"
+			)
+		);
+	}
+
+	@Test
+	void testGroupBy() {
+		assertEquals(
+			Optional.of(
+				List.of(
+					List.of("ctrl1", "2", "400", "100", "300"),
+					List.of("ctrl2", "1", "200", "200", "200"),
+					List.of("ctrl3", "1", "", "", "")
+				)
+			),
+			execute("SELECT CONTROLLER, COUNT(*), SUM(SIZE), MIN(SIZE), MAX(SIZE) FROM DISKS GROUP BY CONTROLLER")
+		);
+		// Aggregates without GROUP BY return one row, even without any matching row
+		assertEquals(
+			Optional.of(List.of(List.of("0", ""))),
+			execute("SELECT COUNT(*), MAX(SIZE) FROM DISKS WHERE ID = 'disk9'")
+		);
+	}
+
+	@Test
+	void testLeftJoinSameAsH2() {
+		assertSameAsH2("SELECT D.ID, C.ID, C.MODEL FROM DISKS D LEFT JOIN CONTROLLERS C ON D.CONTROLLER = C.ID", false);
+		assertSameAsH2(
+			"SELECT D.ID, S.SLOT, S.ENCLOSURE FROM DISKS D LEFT JOIN SLOTS S ON S.ID = D.ID ORDER BY D.ID",
+			true
+		);
+		// Null join keys, and rows padded with nulls joined again
+		assertSameAsH2(
+			"SELECT S.ID, D.SIZE, C.MODEL FROM SLOTS S LEFT JOIN DISKS D ON S.ID = D.ID " +
+			"LEFT JOIN CONTROLLERS C ON D.CONTROLLER = C.ID",
+			false
+		);
+		assertSameAsH2("SELECT D.ID FROM DISKS D LEFT JOIN SLOTS S ON D.ID = S.ID WHERE S.ID IS NULL", false);
+		assertSameAsH2("SELECT D.ID, S.ID FROM DISKS D LEFT JOIN SLOTS S ON D.ID = S.ID AND S.SLOT > 1", false);
+	}
+
+	@Test
+	void testNullLogicSameAsH2() {
+		assertSameAsH2("SELECT ID FROM DISKS WHERE NOT (SIZE > 150)", false);
+		assertSameAsH2("SELECT ID FROM DISKS WHERE NOT FAILED", false);
+		assertSameAsH2("SELECT ID FROM DISKS WHERE FAILED OR SIZE > 250", false);
+		assertSameAsH2("SELECT ID FROM DISKS WHERE NOT (FAILED AND SIZE > 0)", false);
+		assertSameAsH2("SELECT ID FROM DISKS WHERE NOT (FAILED OR SIZE > 1000)", false);
+		assertSameAsH2("SELECT ID FROM DISKS WHERE SIZE <> 100 OR SIZE IS NULL", false);
+		assertSameAsH2("SELECT ID FROM SLOTS WHERE NOT (ENCLOSURE = 'enc1' OR SLOT > 2)", false);
+		assertSameAsH2("SELECT SLOT FROM SLOTS WHERE ID IS NOT NULL AND NOT ENCLOSURE <> 'enc1'", false);
+	}
+
+	@Test
+	void testOrderBySameAsH2() {
+		assertSameAsH2("SELECT ID, SIZE FROM DISKS ORDER BY SIZE", true);
+		assertSameAsH2("SELECT ID, SIZE FROM DISKS ORDER BY SIZE DESC", true);
+		assertSameAsH2("SELECT ID, FAILED FROM DISKS ORDER BY FAILED, ID DESC", true);
+		assertSameAsH2("SELECT ID, SLOT, ENCLOSURE FROM SLOTS ORDER BY ENCLOSURE DESC, SLOT", true);
+		assertSameAsH2("SELECT ID, SLOT FROM SLOTS ORDER BY ID ASC", true);
+	}
+
+	@Test
+	void testAggregatesSameAsH2() {
+		// Empty input
+		assertSameAsH2(
+			"SELECT COUNT(*), COUNT(SIZE), SUM(SIZE), MIN(ID), MAX(FAILED) FROM DISKS WHERE SIZE > 1000",
+			true
+		);
+		assertSameAsH2("SELECT COUNT(SIZE), SUM(SIZE), MAX(SIZE) FROM DISKS WHERE SIZE IS NULL", true);
+		assertSameAsH2("SELECT CONTROLLER, COUNT(*) FROM DISKS WHERE SIZE > 1000 GROUP BY CONTROLLER", true);
+
+		// Order of the groups, including the null group
+		assertSameAsH2("SELECT CONTROLLER, COUNT(*), SUM(SIZE) FROM DISKS GROUP BY CONTROLLER", true);
+		assertSameAsH2("SELECT FAILED, COUNT(*), MIN(SIZE), MAX(ID) FROM DISKS GROUP BY FAILED", true);
+		assertSameAsH2("SELECT ENCLOSURE, SUM(SLOT), COUNT(ID) FROM SLOTS GROUP BY ENCLOSURE", true);
+		assertSameAsH2(
+			"SELECT S.ENCLOSURE, D.CONTROLLER, COUNT(*) FROM SLOTS S LEFT JOIN DISKS D ON S.ID = D.ID " +
+			"GROUP BY S.ENCLOSURE, D.CONTROLLER",
+			true
+		);
+	}
+
+	@Test
+	void testComparisonsSameAsH2() {
+		// INTEGER and BIGINT columns, and integer literals
+		assertSameAsH2("SELECT S.ID, D.ID FROM SLOTS S JOIN DISKS D ON S.SLOT = 1 OR S.SLOT > D.SIZE", false);
+		assertSameAsH2("SELECT D.ID, S.ID FROM DISKS D JOIN SLOTS S ON S.SLOT < D.SIZE WHERE D.SIZE <= 200", false);
+		assertSameAsH2("SELECT ID FROM SLOTS WHERE SLOT >= 2 AND SLOT != 4", false);
+
+		// Strings are compared case-sensitively, booleans with FALSE lower than TRUE
+		assertSameAsH2("SELECT ID FROM DISKS WHERE ID > 'disk2' AND CONTROLLER < 'ctrl3'", false);
+		assertSameAsH2("SELECT ID FROM CONTROLLERS WHERE MODEL >= 'Smart' AND MODEL <> 'PERC'", false);
+		assertSameAsH2("SELECT ID FROM DISKS WHERE FAILED = FALSE OR FAILED > FALSE", false);
+
+		// Comparisons needing a conversion are left to H2, which converts the string literal to the type of the column
+		assertConvertedByH2("SELECT ID FROM DISKS WHERE SIZE = '100'", "SELECT ID FROM DISKS WHERE SIZE = 100");
+		assertConvertedByH2("SELECT ID FROM DISKS WHERE FAILED = 'TRUE'", "SELECT ID FROM DISKS WHERE FAILED");
+		assertConvertedByH2("SELECT ID FROM SLOTS WHERE SLOT < '3'", "SELECT ID FROM SLOTS WHERE SLOT < 3");
+	}
+
+	@Test
+	void testUnsupportedQueries() {
+		// Functions and expressions
+		assertTrue(execute("SELECT CONCAT(ID, MODEL) FROM CONTROLLERS").isEmpty());
+		assertTrue(execute("SELECT SIZE * 10 FROM DISKS").isEmpty());
+
+		// Comparisons needing a conversion
+		assertTrue(execute("SELECT ID FROM DISKS WHERE SIZE = '100'").isEmpty());
+
+		// Other clauses
+		assertTrue(execute("SELECT ID FROM DISKS LIMIT 1").isEmpty());
+		assertTrue(execute("SELECT ID FROM DISKS RIGHT JOIN CONTROLLERS ON CONTROLLER = CONTROLLERS.ID").isEmpty());
+
+		// Ambiguous or unknown columns and tables
+		assertTrue(execute("SELECT ID FROM DISKS JOIN CONTROLLERS ON CONTROLLER = MODEL").isEmpty());
+		assertTrue(execute("SELECT NAME FROM DISKS").isEmpty());
+		assertTrue(execute("SELECT ID FROM ENCLOSURES").isEmpty());
+
+		// Column not in the GROUP BY clause
+		assertTrue(execute("SELECT ID, COUNT(*) FROM DISKS GROUP BY CONTROLLER").isEmpty());
+
+		// Unsupported column type, or value H2 would reject
+		final SqlTable dates = SqlTable.builder()
+			.alias("DATES")
+			.columns(List.of(SqlColumn.builder().name("DAY").number(1).type("DATE").build()))
+			.build();
+		assertTrue(
+			NativeQueryExecutor.execute(
+				"SELECT DAY FROM DATES",
+				List.of(dates),
+				List.of(List.of(List.of("2025-01-30")))
+			).isEmpty()
+		);
+		final SqlTable numbers = SqlTable.builder()
+			.alias("NUMBERS")
+			.columns(List.of(SqlColumn.builder().name("N").number(1).type("INTEGER").build()))
+			.build();
+		assertTrue(
+			NativeQueryExecutor.execute(
+				"SELECT N FROM NUMBERS",
+				List.of(numbers),
+				List.of(List.of(List.of("not a number")))
+			).isEmpty()
+		);
+	}
+}
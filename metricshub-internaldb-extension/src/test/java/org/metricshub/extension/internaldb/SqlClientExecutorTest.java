@@ -1,6 +1,8 @@
 package org.metricshub.extension.internaldb;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -377,4 +379,66 @@ class SqlClientExecutorTest {
 
 		assertEquals(expectedResult, result);
 	}
+
+	@Test
+	void testSqlQueryReusesHostDatabase() {
+		final HostConfiguration hostConfiguration = HostConfiguration.builder()
+			.hostname("localhost")
+			.hostId("localhost")
+			.hostType(DeviceKind.LINUX)
+			.build();
+
+		final Map<String, SourceTable> mapSources = new HashMap<>();
+		mapSources.put(
+			TAB1_REF,
+			SourceTable.builder()
+				.table(Arrays.asList(Arrays.asList(LOWERCASE_A, ONE), Arrays.asList(LOWERCASE_B, TWO)))
+				.build()
+		);
+
+		final ConnectorNamespace connectorNamespace = ConnectorNamespace.builder().sourceTables(mapSources).build();
+		final HostProperties hostProperties = HostProperties.builder()
+			.connectorNamespaces(new HashMap<>(Map.of(CONNECTOR_ID, connectorNamespace)))
+			.isLocalhost(true)
+			.build();
+		final TelemetryManager telemetryManager = TelemetryManager.builder()
+			.hostConfiguration(hostConfiguration)
+			.hostProperties(hostProperties)
+			.build();
+
+		final List<SqlColumn> columns = new ArrayList<>();
+		columns.add(SqlColumn.builder().name("COL1").number(1).type("VARCHAR(255)").build());
+		columns.add(SqlColumn.builder().name("COL2").number(2).type("INTEGER").build());
+		final SqlTable sqlTable = SqlTable.builder().alias("T1").columns(columns).source(TAB1_REF).build();
+		final String query = "SELECT COL1, COL2 * 10 FROM T1 ORDER BY COL1;";
+
+		List<List<String>> result = new SqlClientExecutor(telemetryManager, CONNECTOR_ID).executeQuery(
+			List.of(sqlTable),
+			query
+		);
+		assertEquals(List.of(List.of(LOWERCASE_A, "10"), List.of(LOWERCASE_B, "20")), result);
+
+		// The database is kept in the telemetry manager and shared by the next executors
+		final InternalDatabase database = telemetryManager.getExtensionState(InternalDatabase.class, () -> null);
+		assertNotNull(database);
+		assertEquals(1, database.getTableCount());
+
+		result = new SqlClientExecutor(telemetryManager, CONNECTOR_ID).executeQuery(List.of(sqlTable), query);
+		assertEquals(List.of(List.of(LOWERCASE_A, "10"), List.of(LOWERCASE_B, "20")), result);
+		assertSame(database, telemetryManager.getExtensionState(InternalDatabase.class, InternalDatabase::new));
+
+		// The table is reloaded when the source table changes
+		mapSources.put(TAB1_REF, SourceTable.builder().table(Arrays.asList(Arrays.asList(LOWERCASE_C, THREE))).build());
+		result = new SqlClientExecutor(telemetryManager, CONNECTOR_ID).executeQuery(List.of(sqlTable), query);
+		assertEquals(List.of(List.of(LOWERCASE_C, "30")), result);
+
+		// The table is created again when its columns change
+		columns.set(1, SqlColumn.builder().name("COL2").number(2).type("VARCHAR(255)").build());
+		result = new SqlClientExecutor(telemetryManager, CONNECTOR_ID).executeQuery(
+			List.of(sqlTable),
+			"SELECT COL1, CONCAT(COL2, 'x') FROM T1;"
+		);
+		assertEquals(List.of(List.of(LOWERCASE_C, "3x")), result);
+		assertEquals(1, database.getTableCount());
+	}
 }
@@ -21,11 +21,14 @@ package org.metricshub.extension.oscommand;
  * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
  */
 
+import java.util.Arrays;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.metricshub.engine.common.exception.NoCredentialProvidedException;
+import org.metricshub.engine.connector.model.common.EmbeddedFile;
 import org.metricshub.engine.connector.model.identity.criterion.CommandLineCriterion;
 import org.metricshub.engine.strategy.detection.CriterionTestResult;
 import org.metricshub.engine.strategy.utils.OsCommandResult;
@@ -71,14 +74,30 @@ public class CommandLineCriterionProcessor {
 		}
 
 		try {
-			final OsCommandResult osCommandResult = osCommandService.runOsCommand(
-				commandLineCriterion.getCommandLine(),
-				telemetryManager,
-				commandLineCriterion.getTimeout(),
-				commandLineCriterion.getExecuteLocally(),
-				telemetryManager.getHostProperties().isLocalhost(),
-				telemetryManager.getEmbeddedFiles(connectorId)
-			);
+			// Connectors running the same command line during the detection share a single execution, unless the command
+			// references the embedded files of its connector
+			final Map<Integer, EmbeddedFile> embeddedFiles = telemetryManager.getEmbeddedFiles(connectorId);
+			final OsCommandResult osCommandResult = telemetryManager
+				.getDetectionProbeCache()
+				.get(
+					Arrays.asList(
+						"oscommand",
+						telemetryManager.getHostname(),
+						commandLineCriterion.getCommandLine(),
+						commandLineCriterion.getTimeout(),
+						commandLineCriterion.getExecuteLocally(),
+						embeddedFiles.isEmpty() ? null : connectorId
+					),
+					() ->
+						osCommandService.runOsCommand(
+							commandLineCriterion.getCommandLine(),
+							telemetryManager,
+							commandLineCriterion.getTimeout(),
+							commandLineCriterion.getExecuteLocally(),
+							telemetryManager.getHostProperties().isLocalhost(),
+							embeddedFiles
+						)
+				);
 
 			final CommandLineCriterion osCommandNoPassword = CommandLineCriterion.builder()
 				.commandLine(osCommandResult.getNoPasswordCommand())
@@ -98,7 +117,9 @@ public class CommandLineCriterionProcessor {
 		} catch (NoCredentialProvidedException noCredentialProvidedException) {
 			return CriterionTestResult.error(commandLineCriterion, noCredentialProvidedException.getMessage());
 		} catch (Exception exception) {
-			// NOSONAR on interruption
+			if (exception instanceof InterruptedException) {
+				Thread.currentThread().interrupt();
+			}
 			return CriterionTestResult.error(commandLineCriterion, exception);
 		}
 	}
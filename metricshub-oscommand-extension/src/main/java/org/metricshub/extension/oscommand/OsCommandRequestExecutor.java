@@ -27,8 +27,10 @@ import static org.springframework.util.Assert.isTrue;
 import io.opentelemetry.instrumentation.annotations.SpanAttribute;
 import io.opentelemetry.instrumentation.annotations.WithSpan;
 import java.io.File;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.regex.Matcher;
 import lombok.AccessLevel;
@@ -51,8 +53,19 @@ public class OsCommandRequestExecutor {
 	private static final String SSH_REMOTE_DIRECTORY = "/var/tmp/";
 	private static final String WINDOWS_SSH_REMOTE_DIRECTORY = "C:\\Windows\\Temp\\";
 
+	/**
+	 * Authenticated SSH sessions, reused by the commands run on the same host with the same credentials.
+	 */
+	private static final SshSessionPool SESSION_POOL = new SshSessionPool();
+
 	/**
 	 * Use ssh-client in order to run ssh command.
+	 * <p>
+	 * The command runs on a new exec channel of an idle authenticated session of the host when there is one, and the
+	 * session is kept for the next commands if the command succeeded. The idle session is checked before anything is
+	 * sent to the host: if it is no longer usable, e.g. because the host closed it, a new session is opened instead.
+	 * A command that fails once sent is never run again.
+	 * </p>
 	 *
 	 * @param hostname         The hostname or IP address to connect to.
 	 * @param username         The SSH username.
@@ -111,32 +124,27 @@ public class OsCommandRequestExecutor {
 		// Create the collection that will store the paths of remote files that need to be removed
 		final List<String> remoteFilePaths = new ArrayList<>();
 
-		SshClient sshClient = null;
+		final Object sessionKey = Arrays.asList(
+			hostname,
+			port,
+			username,
+			SshSessionPool.credentialsDigest(password),
+			keyFilePath
+		);
+		SshClient sshClient = SESSION_POOL.borrow(sessionKey);
+		boolean reusable = false;
 		try {
-			// Create an SSH client instance
-			sshClient = createSshClientInstance(hostname);
-
-			// Connect to the SSH server
-			sshClient.connect((int) timeoutInMilliseconds, port);
-
-			if (password == null) {
-				log.warn("Hostname {} - Password could not be read. Using an empty password instead.", hostname);
+			if (sshClient != null && !isUsable(sshClient, hostname)) {
+				SshSessionPool.close(sshClient);
+				sshClient = null;
 			}
 
-			// Authenticate the SSH client
-			authenticateSsh(sshClient, hostname, username, password, keyFilePath);
-
-			if (localFiles != null && !localFiles.isEmpty()) {
-				// copy all local files using SCP
-				for (final File file : localFiles) {
-					final String filename = file.getName();
-					sshClient.scp(file.getAbsolutePath(), filename, remoteDirectory, SSH_FILE_MODE);
-
-					// Add the remote file path to the list
-					remoteFilePaths.add(remoteDirectory + filename);
-				}
+			if (sshClient == null) {
+				sshClient = openSession(hostname, username, password, keyFilePath, timeoutInMilliseconds, port);
 			}
 
+			copyLocalFiles(sshClient, localFiles, remoteDirectory, remoteFilePaths);
+
 			final long startTime = System.currentTimeMillis();
 
 			final SshClient.CommandResult commandResult = sshClient.executeCommand(
@@ -146,6 +154,9 @@ public class OsCommandRequestExecutor {
 
 			final long responseTime = System.currentTimeMillis() - startTime;
 
+			// The command ran and failed on its own, the session itself can still be reused
+			reusable = true;
+
 			if (!commandResult.success) {
 				final String message = String.format(
 					"Hostname %s - Command \"%s\" failed with result %s.",
@@ -186,7 +197,104 @@ public class OsCommandRequestExecutor {
 			log.error("Hostname {} - {}. Exception message: {}.", hostname, message, e.getMessage());
 			throw new ClientException(message, (Exception) e.getCause());
 		} finally {
-			release(sshClient, remoteFilePaths, hostname, username);
+			if (reusable) {
+				removeCopiedRemoteFiles(sshClient, remoteFilePaths, hostname, username);
+				SESSION_POOL.release(sessionKey, sshClient);
+			} else {
+				release(sshClient, remoteFilePaths, hostname, username);
+			}
+		}
+	}
+
+	/**
+	 * Opens a new SSH session: connects to the host and authenticates.
+	 *
+	 * @param hostname              The hostname or IP address to connect to.
+	 * @param username              The SSH username.
+	 * @param password              The SSH password as a character array.
+	 * @param keyFilePath           The path to the SSH key file.
+	 * @param timeoutInMilliseconds The connection timeout in milliseconds.
+	 * @param port                  The SSH port number.
+	 * @return The connected and authenticated {@link SshClient}.
+	 * @throws IOException     If the connection failed.
+	 * @throws ClientException If the authentication failed.
+	 */
+	private static SshClient openSession(
+		final String hostname,
+		final String username,
+		final char[] password,
+		final File keyFilePath,
+		final long timeoutInMilliseconds,
+		final Integer port
+	) throws IOException, ClientException {
+		// Create an SSH client instance
+		final SshClient sshClient = createSshClientInstance(hostname);
+
+		try {
+			// Connect to the SSH server
+			sshClient.connect((int) timeoutInMilliseconds, port);
+
+			if (password == null) {
+				log.warn("Hostname {} - Password could not be read. Using an empty password instead.", hostname);
+			}
+
+			// Authenticate the SSH client
+			authenticateSsh(sshClient, hostname, username, password, keyFilePath);
+		} catch (final Exception e) {
+			sshClient.close();
+			throw e;
+		}
+
+		return sshClient;
+	}
+
+	/**
+	 * Checks that an idle session is still usable by opening a channel on it and closing it right away. Nothing is run
+	 * on the channel, so a stale session can be replaced by a new one without any risk of running the command twice.
+	 *
+	 * @param sshClient The idle SSH client borrowed from the session pool.
+	 * @param hostname  The hostname or IP address used for logging.
+	 * @return <code>true</code> if a channel could be opened on the session, otherwise <code>false</code>.
+	 */
+	static boolean isUsable(final SshClient sshClient, final String hostname) {
+		try {
+			sshClient.openSession();
+			sshClient.closeSession();
+			return true;
+		} catch (final Exception e) {
+			log.debug(
+				"Hostname {} - Idle SSH session no longer usable, opening a new session. Exception message: {}.",
+				hostname,
+				e.getMessage()
+			);
+			return false;
+		}
+	}
+
+	/**
+	 * Copies the local files to the remote host with the given session.
+	 *
+	 * @param sshClient       The connected and authenticated SSH client.
+	 * @param localFiles      List of local files to be transferred to the remote host.
+	 * @param remoteDirectory The remote directory where the local files are copied.
+	 * @param remoteFilePaths The collection where the paths of the copied remote files are added.
+	 * @throws IOException If the copy failed.
+	 */
+	private static void copyLocalFiles(
+		final SshClient sshClient,
+		final List<File> localFiles,
+		final String remoteDirectory,
+		final List<String> remoteFilePaths
+	) throws IOException {
+		if (localFiles != null && !localFiles.isEmpty()) {
+			// copy all local files using SCP
+			for (final File file : localFiles) {
+				final String filename = file.getName();
+				sshClient.scp(file.getAbsolutePath(), filename, remoteDirectory, SSH_FILE_MODE);
+
+				// Add the remote file path to the list
+				remoteFilePaths.add(remoteDirectory + filename);
+			}
 		}
 	}
 
@@ -0,0 +1,277 @@
+package org.metricshub.extension.oscommand;
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub OsCommand Extension
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2025 MetricsHub
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.metricshub.engine.telemetry.SshSemaphoreFactory;
+import org.metricshub.ssh.SshClient;
+
+/**
+ * Keyed pool of idle, connected and authenticated {@link SshClient} sessions, so that the commands run on the same host
+ * with the same credentials open a new exec channel on an existing session instead of going through the key exchange
+ * and the authentication again.
+ * <p>
+ * A session runs one command at a time: it is borrowed before the command and released after it, or closed if the
+ * command failed. The number of sessions of a host is therefore bounded by the {@link SshSemaphoreFactory} permits,
+ * which limit the commands running at the same time on the host. At most {@code maxIdlePerKey} idle sessions are kept
+ * for each key, and the sessions idle for longer than {@code idleTimeout} are closed, either when the key is borrowed
+ * or by a background eviction task.
+ * </p>
+ */
+@Slf4j
+public class SshSessionPool {
+
+	/**
+	 * Default number of idle sessions kept for each key.
+	 */
+	public static final int DEFAULT_MAX_IDLE_PER_KEY = SshSemaphoreFactory.MAX_PERMITS;
+
+	/**
+	 * Default duration after which an idle session is closed.
+	 */
+	public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(5);
+
+	private static final ScheduledExecutorService EVICTION_EXECUTOR = Executors.newSingleThreadScheduledExecutor(
+		Thread.ofPlatform().name("metricshub-ssh-session-eviction").daemon().factory()
+	);
+
+	private final int maxIdlePerKey;
+	private final long idleTimeoutNanos;
+	private final Map<Object, Deque<IdleSession>> idleSessions = new HashMap<>();
+	private final AtomicBoolean evictionScheduled = new AtomicBoolean();
+
+	/**
+	 * An idle session, and the time it was released.
+	 *
+	 * @param sshClient  The connected and authenticated SSH client.
+	 * @param releasedAt The value of {@link System#nanoTime()} when the session was released.
+	 */
+	private record IdleSession(SshClient sshClient, long releasedAt) {}
+
+	/**
+	 * Creates a pool keeping {@link #DEFAULT_MAX_IDLE_PER_KEY} idle sessions per key for {@link #DEFAULT_IDLE_TIMEOUT}.
+	 */
+	public SshSessionPool() {
+		this(DEFAULT_MAX_IDLE_PER_KEY, DEFAULT_IDLE_TIMEOUT);
+	}
+
+	/**
+	 * Creates a pool.
+	 *
+	 * @param maxIdlePerKey The number of idle sessions kept for each key.
+	 * @param idleTimeout   The duration after which an idle session is closed.
+	 */
+	public SshSessionPool(final int maxIdlePerKey, final Duration idleTimeout) {
+		if (maxIdlePerKey < 0 || idleTimeout.isNegative()) {
+			throw new IllegalArgumentException(
+				String.format("Invalid SSH session pool settings (max idle: %d, idle timeout: %s).", maxIdlePerKey, idleTimeout)
+			);
+		}
+		this.maxIdlePerKey = maxIdlePerKey;
+		this.idleTimeoutNanos = idleTimeout.toNanos();
+	}
+
+	/**
+	 * Borrows the most recently released session of the given key.
+	 *
+	 * @param key The key identifying the host and the credentials of the session.
+	 * @return An idle session, or <code>null</code> if there is none and a new session must be opened.
+	 */
+	public SshClient borrow(final Object key) {
+		final long now = System.nanoTime();
+		final List<SshClient> expiredSessions = new ArrayList<>();
+		SshClient sshClient = null;
+
+		synchronized (this) {
+			final Deque<IdleSession> sessions = idleSessions.get(key);
+			while (sessions != null && !sessions.isEmpty() && sshClient == null) {
+				final IdleSession idleSession = sessions.pollFirst();
+				if (isExpired(idleSession, now)) {
+					expiredSessions.add(idleSession.sshClient());
+				} else {
+					sshClient = idleSession.sshClient();
+				}
+			}
+			if (sessions != null && sessions.isEmpty()) {
+				idleSessions.remove(key);
+			}
+		}
+
+		expiredSessions.forEach(SshSessionPool::close);
+		return sshClient;
+	}
+
+	/**
+	 * Releases a session after a successful command, so that it can be borrowed by the next command of the same key.
+	 * The session is closed if the key already has {@code maxIdlePerKey} idle sessions.
+	 *
+	 * @param key       The key identifying the host and the credentials of the session.
+	 * @param sshClient The session to release.
+	 */
+	public void release(final Object key, final SshClient sshClient) {
+		boolean pooled = false;
+
+		synchronized (this) {
+			final Deque<IdleSession> sessions = idleSessions.computeIfAbsent(key, _ -> new ArrayDeque<>());
+			if (sessions.size() < maxIdlePerKey) {
+				sessions.addFirst(new IdleSession(sshClient, System.nanoTime()));
+				pooled = true;
+			} else if (sessions.isEmpty()) {
+				idleSessions.remove(key);
+			}
+		}
+
+		if (pooled) {
+			scheduleEviction();
+		} else {
+			close(sshClient);
+		}
+	}
+
+	/**
+	 * Closes the sessions idle for longer than the idle timeout.
+	 */
+	public void evictIdle() {
+		evictIdle(System.nanoTime());
+	}
+
+	/**
+	 * Closes the sessions idle for longer than the idle timeout at the given time.
+	 *
+	 * @param now The current value of {@link System#nanoTime()}.
+	 */
+	void evictIdle(final long now) {
+		final List<SshClient> expiredSessions = new ArrayList<>();
+
+		synchronized (this) {
+			final Iterator<Deque<IdleSession>> iterator = idleSessions.values().iterator();
+			while (iterator.hasNext()) {
+				final Deque<IdleSession> sessions = iterator.next();
+				// The oldest sessions are at the end of the queue
+				while (!sessions.isEmpty() && isExpired(sessions.peekLast(), now)) {
+					expiredSessions.add(sessions.pollLast().sshClient());
+				}
+				if (sessions.isEmpty()) {
+					iterator.remove();
+				}
+			}
+		}
+
+		expiredSessions.forEach(SshSessionPool::close);
+	}
+
+	/**
+	 * Closes all the idle sessions.
+	 */
+	public void clear() {
+		final List<SshClient> sessions = new ArrayList<>();
+
+		synchronized (this) {
+			idleSessions.values().forEach(queue -> queue.forEach(idleSession -> sessions.add(idleSession.sshClient())));
+			idleSessions.clear();
+		}
+
+		sessions.forEach(SshSessionPool::close);
+	}
+
+	/**
+	 * @return The number of idle sessions of the given key.
+	 */
+	synchronized int idleCount(final Object key) {
+		final Deque<IdleSession> sessions = idleSessions.get(key);
+		return sessions == null ? 0 : sessions.size();
+	}
+
+	/**
+	 * @return <code>true</code> if the given session has been idle for longer than the idle timeout.
+	 */
+	private boolean isExpired(final IdleSession idleSession, final long now) {
+		return now - idleSession.releasedAt() >= idleTimeoutNanos;
+	}
+
+	/**
+	 * Schedules the eviction of the idle sessions, once the first session is released.
+	 */
+	private void scheduleEviction() {
+		if (evictionScheduled.compareAndSet(false, true)) {
+			final long period = Math.max(idleTimeoutNanos / 2, TimeUnit.SECONDS.toNanos(1));
+			EVICTION_EXECUTOR.scheduleWithFixedDelay(this::evictIdle, period, period, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	/**
+	 * Computes the SHA-256 digest of the given password, so that the keys of the pool identify the credentials of the
+	 * sessions without holding them in clear text.
+	 *
+	 * @param password The password, may be <code>null</code>.
+	 * @return The digest as a hexadecimal string, or <code>null</code> if the password is <code>null</code>.
+	 */
+	public static String credentialsDigest(final char[] password) {
+		if (password == null) {
+			return null;
+		}
+
+		final ByteBuffer bytes = StandardCharsets.UTF_8.encode(CharBuffer.wrap(password));
+		try {
+			final MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+			messageDigest.update(bytes.duplicate());
+			return HexFormat.of().formatHex(messageDigest.digest());
+		} catch (NoSuchAlgorithmException e) {
+			// Every Java platform supports SHA-256
+			throw new IllegalStateException("SHA-256 is not supported.", e);
+		} finally {
+			Arrays.fill(bytes.array(), (byte) 0);
+		}
+	}
+
+	/**
+	 * Disconnects the given session, ignoring any error.
+	 *
+	 * @param sshClient The session to close.
+	 */
+	static void close(final SshClient sshClient) {
+		try {
+			sshClient.close();
+		} catch (Exception e) {
+			log.debug("Error while closing SSH session. Error: {}.", e.getMessage());
+		}
+	}
+}
@@ -8,12 +8,15 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.metricshub.engine.common.helpers.KnownMonitorType.HOST;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import com.fasterxml.jackson.databind.node.BooleanNode;
 import com.fasterxml.jackson.databind.node.IntNode;
@@ -879,6 +882,51 @@ class OsCommandExtensionTest {
 		assertEquals(result, criterionTestResult.getResult());
 	}
 
+	@Test
+	void testProcessCommandLineSharedExecution() throws Exception {
+		final OsCommandService osCommandService = mock(OsCommandService.class);
+		final OsCommandExtension osCommandExtension = new OsCommandExtension(osCommandService);
+
+		final ConnectorStore connectorStore = new ConnectorStore();
+		connectorStore.setStore(
+			Map.of("connector1", Connector.builder().build(), "connector2", Connector.builder().build())
+		);
+
+		final CommandLineCriterion criterion = new CommandLineCriterion();
+		criterion.setCommandLine(TEST_COMMAND_LINE);
+		criterion.setExpectedResult(SUCCESS_RESPONSE);
+		criterion.setExecuteLocally(true);
+
+		final HostConfiguration hostConfiguration = HostConfiguration.builder()
+			.hostId("id")
+			.hostname(HOSTNAME)
+			.hostType(DeviceKind.LINUX)
+			.build();
+
+		final TelemetryManager telemetryManager = TelemetryManager.builder()
+			.hostConfiguration(hostConfiguration)
+			.hostProperties(HostProperties.builder().isLocalhost(false).build())
+			.connectorStore(connectorStore)
+			.build();
+
+		doReturn(new OsCommandResult(SUCCESS_RESPONSE, TEST_COMMAND_LINE))
+			.when(osCommandService)
+			.runOsCommand(anyString(), any(TelemetryManager.class), any(), anyBoolean(), anyBoolean(), any());
+
+		// Both connectors run the same command line during the detection, it is executed once
+		telemetryManager.getDetectionProbeCache().open();
+		assertTrue(osCommandExtension.processCriterion(criterion, "connector1", telemetryManager, true).isSuccess());
+		assertTrue(osCommandExtension.processCriterion(criterion, "connector2", telemetryManager, true).isSuccess());
+		verify(osCommandService, times(1))
+			.runOsCommand(anyString(), any(TelemetryManager.class), any(), anyBoolean(), anyBoolean(), any());
+
+		// Outside of the detection, the command line is executed again
+		telemetryManager.getDetectionProbeCache().close();
+		assertTrue(osCommandExtension.processCriterion(criterion, "connector1", telemetryManager, true).isSuccess());
+		verify(osCommandService, times(2))
+			.runOsCommand(anyString(), any(TelemetryManager.class), any(), anyBoolean(), anyBoolean(), any());
+	}
+
 	@Test
 	void testExecuteQuery() throws Exception {
 		final OsCommandService osCommandService = mock(OsCommandService.class);
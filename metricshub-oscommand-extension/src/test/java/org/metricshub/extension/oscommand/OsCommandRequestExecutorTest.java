@@ -4,9 +4,16 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import java.io.File;
 import java.io.IOException;
@@ -15,8 +22,10 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.metricshub.engine.common.exception.ClientException;
+import org.metricshub.engine.connector.model.common.DeviceKind;
 import org.metricshub.ssh.SshClient;
 import org.mockito.Mock;
+import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -75,6 +84,86 @@ class OsCommandRequestExecutorTest {
 		);
 	}
 
+	@Test
+	void runRemoteSshCommandReusesSessionTest() throws Exception {
+		final String hostname = "session-reuse-host";
+		final SshClient firstSession = mockSession();
+		final SshClient secondSession = mockSession();
+
+		try (
+			MockedStatic<OsCommandRequestExecutor> mockedExecutor = mockStatic(
+				OsCommandRequestExecutor.class,
+				CALLS_REAL_METHODS
+			)
+		) {
+			mockedExecutor
+				.when(() -> OsCommandRequestExecutor.createSshClientInstance(hostname))
+				.thenReturn(firstSession, secondSession);
+
+			// The session of the first command is kept and reused by the second command
+			assertEquals("result", runRemoteSshCommand(hostname));
+			assertEquals("result", runRemoteSshCommand(hostname));
+			verify(firstSession, times(1)).connect(anyInt(), anyInt());
+			verify(firstSession, times(2)).executeCommand(anyString(), anyInt());
+			verify(firstSession, never()).close();
+
+			// The host closed the idle session: a new session is opened before the command is sent
+			doThrow(new IOException("Connection closed")).when(firstSession).openSession();
+			assertEquals("result", runRemoteSshCommand(hostname));
+			verify(firstSession, times(2)).executeCommand(anyString(), anyInt());
+			verify(firstSession, times(1)).close();
+			verify(secondSession, times(1)).executeCommand(anyString(), anyInt());
+
+			// A command that ran and failed on its own fails the request, but its session is kept
+			final SshClient.CommandResult failedResult = new SshClient.CommandResult();
+			failedResult.success = false;
+			failedResult.result = "error";
+			doReturn(failedResult).when(secondSession).executeCommand(anyString(), anyInt());
+			assertThrows(ClientException.class, () -> runRemoteSshCommand(hostname));
+			verify(secondSession, times(2)).executeCommand(anyString(), anyInt());
+			verify(secondSession, never()).close();
+
+			// A command failing once sent is not run again
+			doThrow(new IOException("Broken pipe")).when(secondSession).executeCommand(anyString(), anyInt());
+			assertThrows(ClientException.class, () -> runRemoteSshCommand(hostname));
+			verify(secondSession, times(3)).executeCommand(anyString(), anyInt());
+			verify(secondSession, times(1)).close();
+			mockedExecutor.verify(() -> OsCommandRequestExecutor.createSshClientInstance(hostname), times(2));
+		}
+	}
+
+	/**
+	 * Creates a connected SSH session mock, authenticating with a password and running commands successfully.
+	 */
+	private static SshClient mockSession() throws IOException {
+		final SshClient session = mock(SshClient.class);
+		doReturn(true).when(session).authenticate(anyString(), any(char[].class));
+
+		final SshClient.CommandResult commandResult = new SshClient.CommandResult();
+		commandResult.success = true;
+		commandResult.result = "result";
+		doReturn(commandResult).when(session).executeCommand(anyString(), anyInt());
+		return session;
+	}
+
+	/**
+	 * Runs the <code>hostname</code> command on the given host, as user with a password.
+	 */
+	private static String runRemoteSshCommand(final String hostname) throws ClientException {
+		return OsCommandRequestExecutor.runRemoteSshCommand(
+			hostname,
+			"user",
+			"password".toCharArray(),
+			null,
+			"hostname",
+			30,
+			22,
+			null,
+			null,
+			DeviceKind.LINUX
+		);
+	}
+
 	@Test
 	void updateCommandWithLocalListTest() throws IOException {
 		final String remoteDirectory = "/var/tmp/";
@@ -0,0 +1,113 @@
+package org.metricshub.extension.oscommand;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.metricshub.ssh.SshClient;
+
+class SshSessionPoolTest {
+
+	private static final List<Object> KEY_1 = List.of("host1", 22, "user", "password");
+	private static final List<Object> KEY_2 = List.of("host2", 22, "user", "password");
+
+	@Test
+	void testBorrowAndRelease() {
+		final SshSessionPool pool = new SshSessionPool(2, Duration.ofMinutes(1));
+		final SshClient session1 = mock(SshClient.class);
+		final SshClient session2 = mock(SshClient.class);
+
+		assertNull(pool.borrow(KEY_1));
+
+		pool.release(KEY_1, session1);
+		pool.release(KEY_1, session2);
+		assertEquals(2, pool.idleCount(KEY_1));
+
+		// Sessions are not shared between keys, and the most recently released session is borrowed first
+		assertNull(pool.borrow(KEY_2));
+		assertSame(session2, pool.borrow(List.of("host1", 22, "user", "password")));
+		assertSame(session1, pool.borrow(KEY_1));
+		assertNull(pool.borrow(KEY_1));
+		assertEquals(0, pool.idleCount(KEY_1));
+
+		verify(session1, never()).close();
+		verify(session2, never()).close();
+	}
+
+	@Test
+	void testMaxIdlePerKey() {
+		final SshSessionPool pool = new SshSessionPool(1, Duration.ofMinutes(1));
+		final SshClient session1 = mock(SshClient.class);
+		final SshClient session2 = mock(SshClient.class);
+
+		pool.release(KEY_1, session1);
+		pool.release(KEY_1, session2);
+
+		assertEquals(1, pool.idleCount(KEY_1));
+		verify(session1, never()).close();
+		verify(session2, times(1)).close();
+	}
+
+	@Test
+	void testIdleTimeout() {
+		final SshSessionPool pool = new SshSessionPool(2, Duration.ofMinutes(1));
+		final SshClient session1 = mock(SshClient.class);
+		final SshClient session2 = mock(SshClient.class);
+		pool.release(KEY_1, session1);
+		pool.release(KEY_2, session2);
+
+		pool.evictIdle(System.nanoTime());
+		assertEquals(1, pool.idleCount(KEY_1));
+
+		pool.evictIdle(System.nanoTime() + Duration.ofMinutes(2).toNanos());
+		assertEquals(0, pool.idleCount(KEY_1));
+		assertEquals(0, pool.idleCount(KEY_2));
+		verify(session1, times(1)).close();
+		verify(session2, times(1)).close();
+
+		// Expired sessions are never borrowed
+		final SshSessionPool expiringPool = new SshSessionPool(2, Duration.ZERO);
+		final SshClient session3 = mock(SshClient.class);
+		expiringPool.release(KEY_1, session3);
+		assertNull(expiringPool.borrow(KEY_1));
+		verify(session3, times(1)).close();
+	}
+
+	@Test
+	void testClear() {
+		final SshSessionPool pool = new SshSessionPool();
+		final SshClient session = mock(SshClient.class);
+		pool.release(KEY_1, session);
+
+		pool.clear();
+
+		assertEquals(0, pool.idleCount(KEY_1));
+		verify(session, times(1)).close();
+	}
+
+	@Test
+	void testCredentialsDigest() {
+		final String digest = SshSessionPool.credentialsDigest("password".toCharArray());
+		assertEquals(64, digest.length());
+		assertEquals(digest, SshSessionPool.credentialsDigest("password".toCharArray()));
+		assertNotEquals(digest, SshSessionPool.credentialsDigest("Password".toCharArray()));
+		assertFalse(digest.contains("password"));
+		assertNull(SshSessionPool.credentialsDigest(null));
+	}
+
+	@Test
+	void testInvalidSettings() {
+		assertThrows(IllegalArgumentException.class, () -> new SshSessionPool(-1, Duration.ofMinutes(1)));
+		assertThrows(IllegalArgumentException.class, () -> new SshSessionPool(1, Duration.ofMinutes(-1)));
+	}
+}
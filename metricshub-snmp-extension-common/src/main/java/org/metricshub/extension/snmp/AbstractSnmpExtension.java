@@ -32,7 +32,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import lombok.extern.slf4j.Slf4j;
 import org.metricshub.engine.common.helpers.TextTableHelper;
 import org.metricshub.engine.configuration.IConfiguration;
@@ -68,6 +71,25 @@ public abstract class AbstractSnmpExtension implements IProtocolExtension {
 	public static final String WALK = "walk";
 	public static final String TABLE = "table";
 
+	/**
+	 * The OIDs of the sysDescr, sysObjectID and sysUpTime objects of the SNMPv2-MIB used to fingerprint the host
+	 */
+	static final String SYS_DESCR_OID = "1.3.6.1.2.1.1.1.0";
+	static final String SYS_OBJECT_ID_OID = "1.3.6.1.2.1.1.2.0";
+	static final String SYS_UP_TIME_OID = "1.3.6.1.2.1.1.3.0";
+
+	/**
+	 * The boot time of the host is rounded to this granularity to absorb the clock drift and the request latency
+	 */
+	static final long BOOT_TIME_GRANULARITY = TimeUnit.MINUTES.toMillis(10);
+
+	/**
+	 * Pattern matching a TimeTicks value formatted as {@code [<days> day(s), ]<hours>:<minutes>:<seconds>[.<hundredths>]}
+	 */
+	private static final Pattern TIME_TICKS_PATTERN = Pattern.compile(
+		"^(?:(\\d+) days?, )?(\\d+):(\\d{1,2}):(\\d{1,2})(?:\\.(\\d{1,2}))?$"
+	);
+
 	/**
 	 * Returns the SNMP request executor used for executing SNMP requests.
 	 * @return The SNMP request executor.
@@ -135,6 +157,95 @@ public abstract class AbstractSnmpExtension implements IProtocolExtension {
 		return Optional.of(result != null);
 	}
 
+	@Override
+	public Optional<String> getDetectionFingerprint(final TelemetryManager telemetryManager) {
+		final Class<? extends ISnmpConfiguration> configurationClass = getConfigurationClass();
+		final ISnmpConfiguration configuration = (ISnmpConfiguration) telemetryManager
+			.getHostConfiguration()
+			.getConfigurations()
+			.get(configurationClass);
+
+		if (configuration == null) {
+			return Optional.empty();
+		}
+
+		final String hostname = telemetryManager.getHostname(List.of(configurationClass));
+		final AbstractSnmpRequestExecutor executor = getRequestExecutor();
+
+		try {
+			final String sysObjectId = executor.executeSNMPGet(
+				SYS_OBJECT_ID_OID,
+				configuration,
+				hostname,
+				false,
+				telemetryManager.getHostname()
+			);
+			if (sysObjectId == null || sysObjectId.isBlank()) {
+				return Optional.empty();
+			}
+
+			// Without the boot time, a reboot cannot be noticed
+			final Long uptime = parseTimeTicks(
+				executor.executeSNMPGet(SYS_UP_TIME_OID, configuration, hostname, false, telemetryManager.getHostname())
+			);
+			if (uptime == null) {
+				return Optional.empty();
+			}
+
+			final String sysDescr = executor.executeSNMPGet(
+				SYS_DESCR_OID,
+				configuration,
+				hostname,
+				false,
+				telemetryManager.getHostname()
+			);
+
+			final long bootTime = (System.currentTimeMillis() - uptime) / BOOT_TIME_GRANULARITY;
+
+			return Optional.of(String.join("|", sysObjectId, String.valueOf(sysDescr), String.valueOf(bootTime)));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (Exception e) {
+			log.debug("Hostname {} - Cannot compute the {} fingerprint of the host: ", hostname, getIdentifier(), e);
+		}
+		return Optional.empty();
+	}
+
+	/**
+	 * Parse the given TimeTicks value, either a raw number of hundredths of a second or a formatted duration such as
+	 * {@code 3 days, 4:05:06.07}.
+	 *
+	 * @param value The TimeTicks value returned by the agent.
+	 * @return The duration in milliseconds, or {@code null} if the value cannot be parsed.
+	 */
+	static Long parseTimeTicks(final String value) {
+		if (value == null || value.isBlank()) {
+			return null;
+		}
+
+		final String trimmed = value.trim();
+		try {
+			return Long.parseLong(trimmed) * 10;
+		} catch (NumberFormatException e) {
+			// Not a raw number, try the formatted duration
+		}
+
+		final Matcher matcher = TIME_TICKS_PATTERN.matcher(trimmed);
+		if (!matcher.matches()) {
+			return null;
+		}
+
+		final long days = matcher.group(1) != null ? Long.parseLong(matcher.group(1)) : 0;
+		final long hundredths = matcher.group(5) != null ? Long.parseLong(matcher.group(5)) : 0;
+		return (
+			TimeUnit.DAYS.toMillis(days) +
+			TimeUnit.HOURS.toMillis(Long.parseLong(matcher.group(2))) +
+			TimeUnit.MINUTES.toMillis(Long.parseLong(matcher.group(3))) +
+			TimeUnit.SECONDS.toMillis(Long.parseLong(matcher.group(4))) +
+			hundredths * 10
+		);
+	}
+
 	@Override
 	public SourceTable processSource(Source source, String connectorId, TelemetryManager telemetryManager) {
 		final Function<TelemetryManager, ISnmpConfiguration> configurationRetriever = manager ->
@@ -24,10 +24,18 @@ package org.metricshub.extension.snmp;
 import io.opentelemetry.instrumentation.annotations.SpanAttribute;
 import io.opentelemetry.instrumentation.annotations.WithSpan;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.metricshub.engine.common.helpers.LoggingHelper;
@@ -43,6 +51,21 @@ import org.metricshub.snmp.client.SnmpClient;
 @Slf4j
 public abstract class AbstractSnmpRequestExecutor {
 
+	/**
+	 * Idle SNMP clients, reused by the requests with the same {@link #clientPoolKey}.
+	 */
+	private final SnmpClientPool<ISnmpClient> clientPool = new SnmpClientPool<>(ISnmpClient::freeResources);
+
+	/**
+	 * Idle {@link SnmpPduClient} instances, reused by the GETBULK requests with the same {@link #clientPoolKey}.
+	 */
+	private final SnmpClientPool<SnmpPduClient> pduClientPool = new SnmpClientPool<>(SnmpPduClient::close);
+
+	/**
+	 * Coalescer of the concurrent GET requests of the same OID with the same {@link #clientPoolKey}.
+	 */
+	private final SnmpGetCoalescer getCoalescer = new SnmpGetCoalescer();
+
 	/**
 	 * Creates an SNMP client based on the provided configuration and hostname.
 	 *
@@ -53,6 +76,67 @@ public abstract class AbstractSnmpRequestExecutor {
 	 */
 	protected abstract ISnmpClient createSnmpClient(ISnmpConfiguration configuration, String hostname) throws IOException;
 
+	/**
+	 * Returns the key identifying the SNMP clients that can be reused for the given configuration and hostname, i.e.
+	 * the clients created with the same agent address, version and credentials.
+	 * <p>
+	 * By default, clients are not pooled: a new client is created for each request and freed afterwards.
+	 * </p>
+	 *
+	 * @param configuration The SNMP configuration containing connection details.
+	 * @param hostname      The hostname or IP address of the SNMP-enabled device.
+	 * @return The key, implementing {@link Object#equals(Object)} and {@link Object#hashCode()}, or <code>null</code>
+	 *         if the clients must not be pooled.
+	 */
+	protected Object clientPoolKey(final ISnmpConfiguration configuration, final String hostname) {
+		return null;
+	}
+
+	/**
+	 * Creates the SNMP4J based client sending the GETBULK requests that the {@link ISnmpClient} does not support, for
+	 * the given SNMP v2c or v3 configuration and hostname. All the other requests are sent by the {@link ISnmpClient}.
+	 * <p>
+	 * By default, this executor has no such client, and the tables and walks are retrieved with GETNEXT requests.
+	 * </p>
+	 *
+	 * @param configuration The SNMP configuration containing connection details.
+	 * @param hostname      The hostname or IP address of the SNMP-enabled device.
+	 * @return The created {@link SnmpPduClient}, or an empty {@link Optional} if this executor has no such client.
+	 * @throws IOException If an error occurs during the creation of the {@link SnmpPduClient}.
+	 */
+	protected Optional<SnmpPduClient> createPduClient(final ISnmpConfiguration configuration, final String hostname)
+		throws IOException {
+		return Optional.empty();
+	}
+
+	/**
+	 * Computes the SHA-256 digest of the given credentials, so that the {@link #clientPoolKey} of the clients created
+	 * with the same credentials are equal without keeping the credentials in clear text.
+	 *
+	 * @param secrets The credentials, each of them possibly <code>null</code>.
+	 * @return The digest of the credentials in hexadecimal format.
+	 */
+	protected static String credentialsDigest(final char[]... secrets) {
+		try {
+			final MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+			for (final char[] secret : secrets) {
+				if (secret == null) {
+					messageDigest.update(ByteBuffer.allocate(Integer.BYTES).putInt(-1).array());
+					continue;
+				}
+				final ByteBuffer bytes = StandardCharsets.UTF_8.encode(CharBuffer.wrap(secret));
+				// The length prefix makes the digest of ("ab", "c") differ from the digest of ("a", "bc")
+				messageDigest.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.remaining()).array());
+				messageDigest.update(bytes.duplicate());
+				Arrays.fill(bytes.array(), (byte) 0);
+			}
+			return HexFormat.of().formatHex(messageDigest.digest());
+		} catch (NoSuchAlgorithmException e) {
+			// Every Java platform supports SHA-256
+			throw new IllegalStateException("SHA-256 is not supported.", e);
+		}
+	}
+
 	/**
 	 * Execute SNMP GetNext request
 	 *
@@ -187,10 +271,16 @@ public abstract class AbstractSnmpRequestExecutor {
 	 * Executes a generic SNMP request operation.
 	 *
 	 * <p>This method centralizes common concerns for all SNMP operations:
-	 * client creation, timeout-aware execution, optional stats tracking, error logging, and
-	 * deterministic resource cleanup.</p>
+	 * client creation or reuse, timeout-aware execution, optional stats tracking, error logging, and
+	 * deterministic resource cleanup. The client is released to the pool after a successful request, and freed
+	 * after a failed or timed out request.</p>
 	 *
+	 * @param <C> The type of the SNMP client.
 	 * @param <T> The type of result to return.
+	 * @param pool The pool of the idle clients.
+	 * @param client The client already borrowed or created for this request, or {@code null} to borrow one from the
+	 *               pool or create one with the client factory.
+	 * @param clientFactory The function creating a client when none is given and the pool has no idle client.
 	 * @param operation The operation to execute against the SNMP client.
 	 * @param protocol The SNMP configuration containing connection details.
 	 * @param hostname The hostname or IP address of the SNMP-enabled device.
@@ -203,8 +293,11 @@ public abstract class AbstractSnmpRequestExecutor {
 	 * @throws ExecutionException  If an exception occurs during the execution of the SNMP request.
 	 * @throws TimeoutException    If the SNMP request times out.
 	 */
-	private <T> T runSnmpRequest(
-		final SnmpOperation<T> operation,
+	private <C, T> T runSnmpRequest(
+		final SnmpClientPool<C> pool,
+		final C client,
+		final SnmpClientFactory<C> clientFactory,
+		final SnmpOperation<C, T> operation,
 		final ISnmpConfiguration protocol,
 		final String hostname,
 		final boolean logMode,
@@ -212,14 +305,22 @@ public abstract class AbstractSnmpRequestExecutor {
 		final String requestName,
 		final String oid
 	) throws InterruptedException, ExecutionException, TimeoutException {
-		final ISnmpClient[] clientHolder = new ISnmpClient[1];
+		final Object poolKey = clientPoolKey(protocol, hostname);
+		// A given or pooled client is held from the start, so that it is freed even if the request never runs
+		final AtomicReference<C> clientHolder = new AtomicReference<>(
+			client != null || poolKey == null ? client : pool.borrow(poolKey)
+		);
+		final boolean[] succeeded = new boolean[1];
 
 		final java.util.concurrent.Callable<T> callable = () -> {
-			final ISnmpClient snmpClient = createSnmpClient(protocol, hostname);
-			clientHolder[0] = snmpClient;
+			final C heldClient = clientHolder.get();
+			final C snmpClient = heldClient != null ? heldClient : clientFactory.create(protocol, hostname);
+			clientHolder.set(snmpClient);
 
 			try {
-				return operation.apply(snmpClient);
+				final T result = operation.apply(snmpClient);
+				succeeded[0] = true;
+				return result;
 			} catch (Exception e) {
 				if (logMode) {
 					log.warn(
@@ -234,28 +335,114 @@ public abstract class AbstractSnmpRequestExecutor {
 			}
 		};
 
+		boolean completed = false;
 		try {
-			return resourceHostname != null
+			final T result = resourceHostname != null
 				? ThreadHelper.execute(callable, protocol.getTimeout(), resourceHostname, "snmp")
 				: ThreadHelper.execute(callable, protocol.getTimeout());
+			completed = true;
+			return result;
 		} finally {
-			final ISnmpClient snmpClient = clientHolder[0];
-			if (snmpClient != null) {
-				try {
-					snmpClient.freeResources();
-				} catch (Exception e) {
-					log.debug(
-						"Hostname {} - Error while freeing SNMP client resources for {} query OID: {}. Error: {}.",
-						hostname,
-						requestName,
-						oid,
-						e.getMessage()
-					);
-				}
+			final C snmpClient = clientHolder.get();
+			if (snmpClient != null && poolKey != null && completed && succeeded[0]) {
+				pool.release(poolKey, snmpClient);
+			} else if (snmpClient != null) {
+				log.debug("Hostname {} - Freeing the SNMP client of the {} query OID: {}.", hostname, requestName, oid);
+				pool.free(snmpClient);
 			}
 		}
 	}
 
+	/**
+	 * Executes an SNMP request operation with a pooled {@link ISnmpClient}.
+	 *
+	 * @see #runSnmpRequest(SnmpClientPool, Object, SnmpClientFactory, SnmpOperation, ISnmpConfiguration, String,
+	 *      boolean, String, String, String)
+	 */
+	private <T> T runSnmpRequest(
+		final SnmpOperation<ISnmpClient, T> operation,
+		final ISnmpConfiguration protocol,
+		final String hostname,
+		final boolean logMode,
+		final String resourceHostname,
+		final String requestName,
+		final String oid
+	) throws InterruptedException, ExecutionException, TimeoutException {
+		return runSnmpRequest(
+			clientPool,
+			null,
+			this::createSnmpClient,
+			operation,
+			protocol,
+			hostname,
+			logMode,
+			resourceHostname,
+			requestName,
+			oid
+		);
+	}
+
+	/**
+	 * Executes an SNMP request operation with the given {@link SnmpPduClient}, released to its pool afterwards.
+	 *
+	 * @see #runSnmpRequest(SnmpClientPool, Object, SnmpClientFactory, SnmpOperation, ISnmpConfiguration, String,
+	 *      boolean, String, String, String)
+	 */
+	private <T> T runSnmpPduRequest(
+		final SnmpPduClient client,
+		final SnmpOperation<SnmpPduClient, T> operation,
+		final ISnmpConfiguration protocol,
+		final String hostname,
+		final boolean logMode,
+		final String resourceHostname,
+		final String requestName,
+		final String oid
+	) throws InterruptedException, ExecutionException, TimeoutException {
+		return runSnmpRequest(
+			pduClientPool,
+			client,
+			(configuration, host) -> client,
+			operation,
+			protocol,
+			hostname,
+			logMode,
+			resourceHostname,
+			requestName,
+			oid
+		);
+	}
+
+	/**
+	 * Borrows or creates the {@link SnmpPduClient} sending the GETBULK requests of the given configuration.
+	 *
+	 * @param protocol The SNMP configuration.
+	 * @param hostname The hostname or IP address of the SNMP-enabled device.
+	 * @return The client, or an empty {@link Optional} for SNMP v1, which has no GETBULK request, when this executor
+	 *         has no such client, or when the client cannot be created.
+	 */
+	private Optional<SnmpPduClient> getBulkClient(final ISnmpConfiguration protocol, final String hostname) {
+		if (protocol.getIntVersion() == 1) {
+			return Optional.empty();
+		}
+
+		final Object poolKey = clientPoolKey(protocol, hostname);
+		final SnmpPduClient pooledClient = poolKey != null ? pduClientPool.borrow(poolKey) : null;
+		if (pooledClient != null) {
+			return Optional.of(pooledClient);
+		}
+
+		try {
+			return createPduClient(protocol, hostname);
+		} catch (IOException e) {
+			log.debug(
+				"Hostname {} - Cannot create the SNMP GETBULK client, GETNEXT requests are used instead. Error: {}.",
+				hostname,
+				e.getMessage()
+			);
+			return Optional.empty();
+		}
+	}
+
 	/**
 	 * Enum representing different types of SNMP requests.
 	 * These requests are used to specify the type of SNMP operation
@@ -327,6 +514,10 @@ public abstract class AbstractSnmpRequestExecutor {
 
 	/**
 	 * Executes an SNMP {@code GET} operation.
+	 * <p>
+	 * When this executor pools its clients, the GETs of the same OID sent to the same agent while such a GET is in
+	 * flight are coalesced into a single request.
+	 * </p>
 	 *
 	 * @param oid The OID to query.
 	 * @param protocol SNMP configuration.
@@ -345,15 +536,22 @@ public abstract class AbstractSnmpRequestExecutor {
 		final boolean logMode,
 		final String resourceHostname
 	) throws InterruptedException, ExecutionException, TimeoutException {
-		return runSnmpRequest(
-			client -> client.get(oid),
-			protocol,
-			hostname,
-			logMode,
-			resourceHostname,
-			SnmpGetRequest.GET.name(),
-			oid
-		);
+		final SnmpGetCoalescer.GetRequest request = () ->
+			runSnmpRequest(
+				client -> client.get(oid),
+				protocol,
+				hostname,
+				logMode,
+				resourceHostname,
+				SnmpGetRequest.GET.name(),
+				oid
+			);
+
+		final Object poolKey = clientPoolKey(protocol, hostname);
+		if (poolKey == null) {
+			return request.send();
+		}
+		return getCoalescer.get(List.of(poolKey, oid), protocol.getTimeout(), request);
 	}
 
 	/**
@@ -387,8 +585,27 @@ public abstract class AbstractSnmpRequestExecutor {
 		);
 	}
 
+	/**
+	 * Creates the retriever of SNMP tables and walks with GETBULK requests for the given client.
+	 *
+	 * @param client   The SNMP client sending the GETBULK requests.
+	 * @param protocol The SNMP configuration.
+	 * @return A new {@link SnmpBulkRetriever}.
+	 */
+	private static SnmpBulkRetriever bulkRetriever(final ISnmpBulkClient client, final ISnmpConfiguration protocol) {
+		final Integer maxRepetitions = protocol.getMaxRepetitions();
+		return new SnmpBulkRetriever(
+			client,
+			maxRepetitions != null ? maxRepetitions : ISnmpConfiguration.DEFAULT_MAX_REPETITIONS
+		);
+	}
+
 	/**
 	 * Executes an SNMP {@code TABLE} operation.
+	 * <p>
+	 * The columns are walked together with GETBULK requests when this executor has {@link SnmpPduClient} instances
+	 * and the version is not SNMP v1, otherwise with GETNEXT requests.
+	 * </p>
 	 *
 	 * @param oid The table OID to query.
 	 * @param selectColumnArray Requested table columns.
@@ -409,6 +626,23 @@ public abstract class AbstractSnmpRequestExecutor {
 		final boolean logMode,
 		final String resourceHostname
 	) throws InterruptedException, ExecutionException, TimeoutException {
+		// The bulk retriever only walks the selected columns, the ID column alone is left to the GETNEXT table
+		final boolean hasColumn = Arrays.stream(selectColumnArray)
+			.anyMatch(column -> !SnmpBulkRetriever.ID_COLUMN.equals(column));
+		final Optional<SnmpPduClient> bulkClient = hasColumn ? getBulkClient(protocol, hostname) : Optional.empty();
+		if (bulkClient.isPresent()) {
+			return runSnmpPduRequest(
+				bulkClient.get(),
+				client -> bulkRetriever(client, protocol).table(oid, selectColumnArray),
+				protocol,
+				hostname,
+				logMode,
+				resourceHostname,
+				SnmpGetRequest.TABLE.name(),
+				oid
+			);
+		}
+
 		return runSnmpRequest(
 			client -> client.table(oid, selectColumnArray),
 			protocol,
@@ -421,7 +655,8 @@ public abstract class AbstractSnmpRequestExecutor {
 	}
 
 	/**
-	 * Executes an SNMP {@code WALK} operation.
+	 * Executes an SNMP {@code WALK} operation, with GETBULK requests when this executor has {@link SnmpPduClient}
+	 * instances and the version is not SNMP v1.
 	 *
 	 * @param oid The root OID to walk.
 	 * @param protocol SNMP configuration.
@@ -440,6 +675,20 @@ public abstract class AbstractSnmpRequestExecutor {
 		final boolean logMode,
 		final String resourceHostname
 	) throws InterruptedException, ExecutionException, TimeoutException {
+		final Optional<SnmpPduClient> bulkClient = getBulkClient(protocol, hostname);
+		if (bulkClient.isPresent()) {
+			return runSnmpPduRequest(
+				bulkClient.get(),
+				client -> bulkRetriever(client, protocol).walk(oid),
+				protocol,
+				hostname,
+				logMode,
+				resourceHostname,
+				SnmpGetRequest.WALK.name(),
+				oid
+			);
+		}
+
 		return runSnmpRequest(
 			client -> client.walk(oid),
 			protocol,
@@ -454,10 +703,11 @@ public abstract class AbstractSnmpRequestExecutor {
 	/**
 	 * Functional contract describing a single SNMP operation to run using a provided client.
 	 *
+	 * @param <C> SNMP client type
 	 * @param <T> operation result type
 	 */
 	@FunctionalInterface
-	private interface SnmpOperation<T> {
+	private interface SnmpOperation<C, T> {
 		/**
 		 * Executes the operation with the given SNMP client.
 		 *
@@ -465,6 +715,24 @@ public abstract class AbstractSnmpRequestExecutor {
 		 * @return operation result
 		 * @throws Exception if execution fails
 		 */
-		T apply(ISnmpClient client) throws Exception;
+		T apply(C client) throws Exception;
+	}
+
+	/**
+	 * Functional contract describing the creation of an SNMP client.
+	 *
+	 * @param <C> SNMP client type
+	 */
+	@FunctionalInterface
+	private interface SnmpClientFactory<C> {
+		/**
+		 * Creates an SNMP client for the given configuration and hostname.
+		 *
+		 * @param configuration The SNMP configuration containing connection details.
+		 * @param hostname      The hostname or IP address of the SNMP-enabled device.
+		 * @return The created client.
+		 * @throws IOException If an error occurs during the creation of the client.
+		 */
+		C create(ISnmpConfiguration configuration, String hostname) throws IOException;
 	}
 }
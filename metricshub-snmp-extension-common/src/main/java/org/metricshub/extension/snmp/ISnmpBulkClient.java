@@ -0,0 +1,44 @@
+package org.metricshub.extension.snmp;
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub SNMP Extension Common
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2025 MetricsHub
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * The ISnmpBulkClient interface is implemented by the SNMP clients able to send SNMP GETBULK requests (SNMP v2c and
+ * v3), which {@link AbstractSnmpRequestExecutor} then uses to retrieve tables and walks with a few requests instead of
+ * one GETNEXT request per value.
+ */
+public interface ISnmpBulkClient {
+	/**
+	 * Sends an SNMP GETBULK request, without non-repeaters, for the given OIDs.
+	 *
+	 * @param oids           The OIDs whose successors are requested.
+	 * @param maxRepetitions The maximum number of successors returned for each OID.
+	 * @return For each requested OID, in the same order, its successors as <code>OID\tTYPE\tVALUE</code> lines, in the
+	 *         format of the GETNEXT results, stopping at the end of the MIB view.
+	 * @throws SnmpTooBigException If the agent answered with a <code>tooBig</code> error.
+	 * @throws IOException         If the request failed.
+	 */
+	List<List<String>> getBulk(List<String> oids, int maxRepetitions) throws IOException;
+}
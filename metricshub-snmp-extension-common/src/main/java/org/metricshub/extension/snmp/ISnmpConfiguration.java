@@ -28,6 +28,11 @@ import org.metricshub.engine.configuration.IConfiguration;
  * protocols in the MetricsHub extension system.
  */
 public interface ISnmpConfiguration extends IConfiguration {
+	/**
+	 * Default number of values requested for each column in each SNMP GETBULK request.
+	 */
+	int DEFAULT_MAX_REPETITIONS = 25;
+
 	/**
 	 * Gets the timeout for the SNMP protocol
 	 *
@@ -48,4 +53,13 @@ public interface ISnmpConfiguration extends IConfiguration {
 	 * @return The port as a Integer value.
 	 */
 	Integer getPort();
+
+	/**
+	 * Gets the number of values requested for each column in each SNMP GETBULK request
+	 *
+	 * @return The max-repetitions as a Integer value.
+	 */
+	default Integer getMaxRepetitions() {
+		return DEFAULT_MAX_REPETITIONS;
+	}
 }
@@ -0,0 +1,239 @@
+package org.metricshub.extension.snmp;
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub SNMP Extension Common
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2025 MetricsHub
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Retrieves SNMP tables and walks with GETBULK requests, each returning up to {@code maxRepetitions} successive values
+ * of every column still being walked, instead of one GETNEXT request per value.
+ * <p>
+ * The number of repetitions is halved each time the agent answers with a <code>tooBig</code> error, and kept for the
+ * next requests of the same retrieval.
+ * </p>
+ */
+@Slf4j
+public class SnmpBulkRetriever {
+
+	/**
+	 * The selected column holding the index of the rows.
+	 */
+	static final String ID_COLUMN = "ID";
+
+	private static final Pattern OID_PATTERN = Pattern.compile("\\d+(\\.\\d+)*");
+
+	private final ISnmpBulkClient client;
+	private int maxRepetitions;
+
+	/**
+	 * Creates a retriever.
+	 *
+	 * @param client         The SNMP client sending the GETBULK requests.
+	 * @param maxRepetitions The number of values requested for each column in each request.
+	 */
+	public SnmpBulkRetriever(final ISnmpBulkClient client, final int maxRepetitions) {
+		this.client = client;
+		this.maxRepetitions = Math.max(1, maxRepetitions);
+	}
+
+	/**
+	 * @return The number of values currently requested for each column in each request.
+	 */
+	int getMaxRepetitions() {
+		return maxRepetitions;
+	}
+
+	/**
+	 * Walks the OIDs under the given root OID.
+	 *
+	 * @param rootOid The root OID.
+	 * @return The <code>OID\tTYPE\tVALUE</code> lines of the OIDs under the root OID, separated by new lines.
+	 * @throws IOException If a request failed.
+	 */
+	public String walk(final String rootOid) throws IOException {
+		final List<String> lines = new ArrayList<>();
+		final String prefix = rootOid + ".";
+		String current = rootOid;
+		boolean done = false;
+
+		while (!done) {
+			final List<String> successors = getBulk(List.of(current)).get(0);
+			done = successors.isEmpty();
+			for (final String line : successors) {
+				final String oid = oidOf(line);
+				if (!oid.startsWith(prefix) || compareOids(oid, current) <= 0) {
+					done = true;
+					break;
+				}
+				lines.add(line);
+				current = oid;
+			}
+		}
+
+		return String.join("\n", lines);
+	}
+
+	/**
+	 * Retrieves the given columns of an SNMP table, walking all the columns in the same requests.
+	 *
+	 * @param tableOid      The OID of the table entry.
+	 * @param selectColumns The column numbers to retrieve, or {@link #ID_COLUMN} for the index of the rows.
+	 * @return One row per index found in any column, in OID order, with an empty value for the missing cells.
+	 * @throws IOException If a request failed or a column number is invalid.
+	 */
+	public List<List<String>> table(final String tableOid, final String[] selectColumns) throws IOException {
+		final Map<String, Map<String, String>> valuesByColumn = new HashMap<>();
+		final Map<String, String> currentOids = new LinkedHashMap<>();
+		for (final String column : selectColumns) {
+			if (ID_COLUMN.equals(column)) {
+				continue;
+			}
+			if (!OID_PATTERN.matcher(column).matches()) {
+				throw new IOException("Invalid SNMP table column: " + column);
+			}
+			valuesByColumn.put(column, new HashMap<>());
+			currentOids.put(column, tableOid + "." + column);
+		}
+
+		final TreeSet<String> indexes = new TreeSet<>(SnmpBulkRetriever::compareOids);
+		while (!currentOids.isEmpty()) {
+			final List<String> columns = new ArrayList<>(currentOids.keySet());
+			final List<List<String>> successors = getBulk(columns.stream().map(currentOids::get).toList());
+
+			for (int i = 0; i < columns.size(); i++) {
+				final String column = columns.get(i);
+				final String prefix = tableOid + "." + column + ".";
+				final Map<String, String> values = valuesByColumn.get(column);
+				String current = currentOids.get(column);
+				boolean done = successors.get(i).isEmpty();
+
+				for (final String line : successors.get(i)) {
+					final String oid = oidOf(line);
+					if (!oid.startsWith(prefix) || compareOids(oid, current) <= 0) {
+						done = true;
+						break;
+					}
+					final String index = oid.substring(prefix.length());
+					values.put(index, valueOf(line));
+					indexes.add(index);
+					current = oid;
+				}
+
+				if (done) {
+					currentOids.remove(column);
+				} else {
+					currentOids.put(column, current);
+				}
+			}
+		}
+
+		final List<List<String>> table = new ArrayList<>(indexes.size());
+		for (final String index : indexes) {
+			table.add(
+				Arrays.stream(selectColumns)
+					.map(column -> ID_COLUMN.equals(column) ? index : valuesByColumn.get(column).getOrDefault(index, ""))
+					.toList()
+			);
+		}
+		return table;
+	}
+
+	/**
+	 * Sends a GETBULK request, halving the number of repetitions until the response fits in a message of the agent.
+	 *
+	 * @param oids The OIDs whose successors are requested.
+	 * @return The successors of each OID.
+	 * @throws IOException If the request failed, or the response does not fit even with a single repetition.
+	 */
+	private List<List<String>> getBulk(final List<String> oids) throws IOException {
+		while (true) {
+			try {
+				final List<List<String>> successors = client.getBulk(oids, maxRepetitions);
+				if (successors == null || successors.size() != oids.size()) {
+					throw new IOException("Invalid SNMP GETBULK response for OIDs " + oids);
+				}
+				return successors;
+			} catch (SnmpTooBigException e) {
+				if (maxRepetitions == 1) {
+					throw e;
+				}
+				maxRepetitions = Math.max(1, maxRepetitions / 2);
+				log.debug("SNMP GETBULK response too big for OIDs {}. Retrying with {} repetitions.", oids, maxRepetitions);
+			}
+		}
+	}
+
+	/**
+	 * @return The OID of the given <code>OID\tTYPE\tVALUE</code> line.
+	 */
+	private static String oidOf(final String line) {
+		final int tab = line.indexOf('\t');
+		return tab < 0 ? line : line.substring(0, tab);
+	}
+
+	/**
+	 * @return The value of the given <code>OID\tTYPE\tVALUE</code> line.
+	 */
+	private static String valueOf(final String line) {
+		final String[] parts = line.split("\t", 3);
+		return parts.length > 2 ? parts[2] : "";
+	}
+
+	/**
+	 * Compares two OIDs by their numeric sub-identifiers.
+	 *
+	 * @param first  The first OID.
+	 * @param second The second OID.
+	 * @return A negative number, zero or a positive number if the first OID is before, equal to or after the second one.
+	 */
+	static int compareOids(final String first, final String second) {
+		final String[] firstIds = first.split("\\.");
+		final String[] secondIds = second.split("\\.");
+		for (int i = 0; i < Math.min(firstIds.length, secondIds.length); i++) {
+			final int comparison = compareSubIdentifiers(firstIds[i], secondIds[i]);
+			if (comparison != 0) {
+				return comparison;
+			}
+		}
+		return Integer.compare(firstIds.length, secondIds.length);
+	}
+
+	/**
+	 * @return The comparison of two sub-identifiers as numbers, or as strings if they are not numbers.
+	 */
+	private static int compareSubIdentifiers(final String first, final String second) {
+		try {
+			return Long.compare(Long.parseLong(first), Long.parseLong(second));
+		} catch (NumberFormatException e) {
+			return first.compareTo(second);
+		}
+	}
+}
@@ -0,0 +1,266 @@
+package org.metricshub.extension.snmp;
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub SNMP Extension Common
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2025 MetricsHub
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.metricshub.snmp.client.ISnmpClient;
+
+/**
+ * Keyed pool of idle SNMP clients, such as {@link ISnmpClient} or {@link SnmpPduClient} instances, so that the SNMP
+ * requests sent to the same agent with the same settings reuse the UDP transport of a previous request and, for
+ * SNMPv3, its engine discovery and USM setup.
+ * <p>
+ * A client is used by one request at a time: it is borrowed before the request and released after it, or freed if
+ * the request failed or timed out. At most {@code maxIdlePerKey} idle clients are kept for each key, and the clients
+ * idle for longer than {@code idleTimeout} are freed, either when the key is borrowed or by a background eviction task.
+ * </p>
+ *
+ * @param <C> The type of the pooled clients.
+ */
+@Slf4j
+public class SnmpClientPool<C> {
+
+	/**
+	 * Default number of idle clients kept for each key.
+	 */
+	public static final int DEFAULT_MAX_IDLE_PER_KEY = 4;
+
+	/**
+	 * Default duration after which an idle client is freed.
+	 */
+	public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(2);
+
+	private static final ScheduledExecutorService EVICTION_EXECUTOR = Executors.newSingleThreadScheduledExecutor(
+		Thread.ofPlatform().name("metricshub-snmp-client-eviction").daemon().factory()
+	);
+
+	private final int maxIdlePerKey;
+	private final long idleTimeoutNanos;
+	private final ClientFreer<? super C> clientFreer;
+	private final Map<Object, Deque<IdleClient<C>>> idleClients = new HashMap<>();
+	private final AtomicBoolean evictionScheduled = new AtomicBoolean();
+
+	/**
+	 * Frees the resources of an SNMP client.
+	 *
+	 * @param <C> The type of the client.
+	 */
+	@FunctionalInterface
+	public interface ClientFreer<C> {
+		/**
+		 * Frees the resources of the given client.
+		 *
+		 * @param client The client to free.
+		 * @throws Exception If the resources cannot be freed.
+		 */
+		void free(C client) throws Exception;
+	}
+
+	/**
+	 * An idle client, and the time it was released.
+	 *
+	 * @param client     The SNMP client.
+	 * @param releasedAt The value of {@link System#nanoTime()} when the client was released.
+	 * @param <T>        The type of the client.
+	 */
+	private record IdleClient<T>(T client, long releasedAt) {}
+
+	/**
+	 * Creates a pool keeping {@link #DEFAULT_MAX_IDLE_PER_KEY} idle clients per key for {@link #DEFAULT_IDLE_TIMEOUT}.
+	 *
+	 * @param clientFreer The function freeing the resources of a client.
+	 */
+	public SnmpClientPool(final ClientFreer<? super C> clientFreer) {
+		this(DEFAULT_MAX_IDLE_PER_KEY, DEFAULT_IDLE_TIMEOUT, clientFreer);
+	}
+
+	/**
+	 * Creates a pool.
+	 *
+	 * @param maxIdlePerKey The number of idle clients kept for each key.
+	 * @param idleTimeout   The duration after which an idle client is freed.
+	 * @param clientFreer   The function freeing the resources of a client.
+	 */
+	public SnmpClientPool(final int maxIdlePerKey, final Duration idleTimeout, final ClientFreer<? super C> clientFreer) {
+		if (maxIdlePerKey < 0 || idleTimeout.isNegative()) {
+			throw new IllegalArgumentException(
+				String.format("Invalid SNMP client pool settings (max idle: %d, idle timeout: %s).", maxIdlePerKey, idleTimeout)
+			);
+		}
+		this.maxIdlePerKey = maxIdlePerKey;
+		this.idleTimeoutNanos = idleTimeout.toNanos();
+		this.clientFreer = clientFreer;
+	}
+
+	/**
+	 * Borrows the most recently released client of the given key.
+	 *
+	 * @param key The key identifying the agent and the settings of the client.
+	 * @return An idle client, or <code>null</code> if there is none and a new client must be created.
+	 */
+	public C borrow(final Object key) {
+		final long now = System.nanoTime();
+		final List<C> expiredClients = new ArrayList<>();
+		C client = null;
+
+		synchronized (this) {
+			final Deque<IdleClient<C>> clients = idleClients.get(key);
+			while (clients != null && !clients.isEmpty() && client == null) {
+				final IdleClient<C> idleClient = clients.pollFirst();
+				if (isExpired(idleClient, now)) {
+					expiredClients.add(idleClient.client());
+				} else {
+					client = idleClient.client();
+				}
+			}
+			if (clients != null && clients.isEmpty()) {
+				idleClients.remove(key);
+			}
+		}
+
+		expiredClients.forEach(this::free);
+		return client;
+	}
+
+	/**
+	 * Releases a client after a successful request, so that it can be borrowed by the next request of the same key.
+	 * The client is freed if the key already has {@code maxIdlePerKey} idle clients.
+	 *
+	 * @param key    The key identifying the agent and the settings of the client.
+	 * @param client The client to release.
+	 */
+	public void release(final Object key, final C client) {
+		boolean pooled = false;
+
+		synchronized (this) {
+			final Deque<IdleClient<C>> clients = idleClients.computeIfAbsent(key, _ -> new ArrayDeque<>());
+			if (clients.size() < maxIdlePerKey) {
+				clients.addFirst(new IdleClient<>(client, System.nanoTime()));
+				pooled = true;
+			} else if (clients.isEmpty()) {
+				idleClients.remove(key);
+			}
+		}
+
+		if (pooled) {
+			scheduleEviction();
+		} else {
+			free(client);
+		}
+	}
+
+	/**
+	 * Frees the clients idle for longer than the idle timeout.
+	 */
+	public void evictIdle() {
+		evictIdle(System.nanoTime());
+	}
+
+	/**
+	 * Frees the clients idle for longer than the idle timeout at the given time.
+	 *
+	 * @param now The current value of {@link System#nanoTime()}.
+	 */
+	void evictIdle(final long now) {
+		final List<C> expiredClients = new ArrayList<>();
+
+		synchronized (this) {
+			final Iterator<Deque<IdleClient<C>>> iterator = idleClients.values().iterator();
+			while (iterator.hasNext()) {
+				final Deque<IdleClient<C>> clients = iterator.next();
+				// The oldest clients are at the end of the queue
+				while (!clients.isEmpty() && isExpired(clients.peekLast(), now)) {
+					expiredClients.add(clients.pollLast().client());
+				}
+				if (clients.isEmpty()) {
+					iterator.remove();
+				}
+			}
+		}
+
+		expiredClients.forEach(this::free);
+	}
+
+	/**
+	 * Frees all the idle clients.
+	 */
+	public void clear() {
+		final List<C> clients = new ArrayList<>();
+
+		synchronized (this) {
+			idleClients.values().forEach(queue -> queue.forEach(idleClient -> clients.add(idleClient.client())));
+			idleClients.clear();
+		}
+
+		clients.forEach(this::free);
+	}
+
+	/**
+	 * @return The number of idle clients of the given key.
+	 */
+	synchronized int idleCount(final Object key) {
+		final Deque<IdleClient<C>> clients = idleClients.get(key);
+		return clients == null ? 0 : clients.size();
+	}
+
+	/**
+	 * @return <code>true</code> if the given client has been idle for longer than the idle timeout.
+	 */
+	private boolean isExpired(final IdleClient<C> idleClient, final long now) {
+		return now - idleClient.releasedAt() >= idleTimeoutNanos;
+	}
+
+	/**
+	 * Schedules the eviction of the idle clients, once the first client is released.
+	 */
+	private void scheduleEviction() {
+		if (evictionScheduled.compareAndSet(false, true)) {
+			final long period = Math.max(idleTimeoutNanos / 2, TimeUnit.SECONDS.toNanos(1));
+			EVICTION_EXECUTOR.scheduleWithFixedDelay(this::evictIdle, period, period, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	/**
+	 * Frees the resources of the given client, ignoring any error.
+	 *
+	 * @param client The client to free.
+	 */
+	public void free(final C client) {
+		try {
+			clientFreer.free(client);
+		} catch (Exception e) {
+			log.debug("Error while freeing SNMP client resources. Error: {}.", e.getMessage());
+		}
+	}
+}
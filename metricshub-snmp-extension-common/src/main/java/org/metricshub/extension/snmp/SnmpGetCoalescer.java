@@ -0,0 +1,203 @@
+package org.metricshub.extension.snmp;
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub SNMP Extension Common
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2025 MetricsHub
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Coalesces the concurrent SNMP GET requests of the same OID, sent to the same agent with the same settings.
+ * <p>
+ * The first GET of a key is sent immediately. The GETs of the same key requested while it is in flight are queued,
+ * and the first queued caller sends a single request for all of them once the previous request has completed, so that
+ * a GET never returns a value read before it was requested. A single GET therefore never waits for other GETs, while
+ * the concurrent GETs of the same OID share one request instead of one request each.
+ * </p>
+ */
+public class SnmpGetCoalescer {
+
+	private final Map<Object, Deque<PendingGet>> pendingGets = new HashMap<>();
+
+	/**
+	 * Sends a GET request and returns its value.
+	 */
+	@FunctionalInterface
+	public interface GetRequest {
+		/**
+		 * Sends the GET request.
+		 *
+		 * @return The value, or <code>null</code> if the request failed.
+		 * @throws InterruptedException If the request is interrupted.
+		 * @throws ExecutionException   If the request fails.
+		 * @throws TimeoutException     If the request times out.
+		 */
+		String send() throws InterruptedException, ExecutionException, TimeoutException;
+	}
+
+	/**
+	 * A queued GET, and its result once the request including it has completed.
+	 */
+	private static class PendingGet {
+
+		private String value;
+		private Exception error;
+		private boolean done;
+		private boolean sender;
+	}
+
+	/**
+	 * Gets a value with the given request, possibly shared with the concurrent GETs of the same key.
+	 *
+	 * @param key     The key identifying the agent, the settings and the OID of the request.
+	 * @param timeout The maximum time to wait for the request in flight, in seconds, before sending this one.
+	 * @param request The GET request.
+	 * @return The value, or <code>null</code> if the request failed.
+	 * @throws InterruptedException If the request is interrupted, or the current thread is interrupted while waiting for
+	 *                              another request.
+	 * @throws ExecutionException   If the request fails.
+	 * @throws TimeoutException     If the request times out, or the request in flight has not completed in time.
+	 */
+	public String get(final Object key, final long timeout, final GetRequest request)
+		throws InterruptedException, ExecutionException, TimeoutException {
+		final PendingGet pendingGet = new PendingGet();
+		final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeout);
+
+		synchronized (this) {
+			final Deque<PendingGet> queue = pendingGets.get(key);
+			if (queue == null) {
+				// No request in flight for this key
+				final Deque<PendingGet> newQueue = new ArrayDeque<>();
+				newQueue.add(pendingGet);
+				pendingGets.put(key, newQueue);
+				pendingGet.sender = true;
+			} else {
+				queue.addLast(pendingGet);
+			}
+
+			try {
+				while (!pendingGet.done && !pendingGet.sender) {
+					final long remaining = deadline - System.nanoTime();
+					if (remaining <= 0) {
+						giveUp(key, pendingGet);
+						throw new TimeoutException("The SNMP GET request in flight did not complete in " + timeout + " s.");
+					}
+					TimeUnit.NANOSECONDS.timedWait(this, remaining);
+				}
+			} catch (InterruptedException e) {
+				giveUp(key, pendingGet);
+				throw e;
+			}
+		}
+
+		if (!pendingGet.done) {
+			send(key, pendingGet, request);
+		}
+
+		final Exception error = pendingGet.error;
+		if (error instanceof ExecutionException executionException) {
+			throw executionException;
+		} else if (error instanceof TimeoutException timeoutException) {
+			throw timeoutException;
+		} else if (error != null) {
+			throw new ExecutionException(error);
+		}
+		return pendingGet.value;
+	}
+
+	/**
+	 * Sends the request for all the queued GETs of the given key, then hands the next request over to the first GET
+	 * queued in the meantime.
+	 * <p>
+	 * If the sender is interrupted, only the sender fails: the other GETs stay queued and the next one sends the
+	 * request. The other errors are those of the request, and are shared by all the GETs.
+	 * </p>
+	 */
+	private void send(final Object key, final PendingGet sender, final GetRequest request) throws InterruptedException {
+		final List<PendingGet> batch;
+		synchronized (this) {
+			batch = List.copyOf(pendingGets.get(key));
+		}
+
+		String value = null;
+		Exception error = null;
+		try {
+			value = request.send();
+		} catch (InterruptedException e) {
+			synchronized (this) {
+				giveUp(key, sender);
+			}
+			throw e;
+		} catch (Exception e) {
+			error = e;
+		}
+
+		synchronized (this) {
+			for (final PendingGet pendingGet : batch) {
+				pendingGet.value = value;
+				pendingGet.error = error;
+				pendingGet.done = true;
+			}
+
+			final Deque<PendingGet> queue = pendingGets.get(key);
+			queue.removeAll(batch);
+			handOver(key, queue);
+		}
+	}
+
+	/**
+	 * Removes a GET from the queue of the given key, and hands the next request over to the next queued GET if it was
+	 * the turn of the removed GET. Must be called while holding the lock of this coalescer.
+	 */
+	private void giveUp(final Object key, final PendingGet pendingGet) {
+		final Deque<PendingGet> queue = pendingGets.get(key);
+		if (queue != null && queue.remove(pendingGet) && pendingGet.sender) {
+			handOver(key, queue);
+		}
+	}
+
+	/**
+	 * Makes the first queued GET of the given key send the next request, or forgets the key if no GET is queued.
+	 * Must be called while holding the lock of this coalescer.
+	 */
+	private void handOver(final Object key, final Deque<PendingGet> queue) {
+		if (queue.isEmpty()) {
+			pendingGets.remove(key);
+		} else {
+			queue.peekFirst().sender = true;
+		}
+		notifyAll();
+	}
+
+	/**
+	 * @return The number of GETs of the given key waiting for a request, including the GETs being sent.
+	 */
+	synchronized int pendingCount(final Object key) {
+		final Deque<PendingGet> queue = pendingGets.get(key);
+		return queue == null ? 0 : queue.size();
+	}
+}
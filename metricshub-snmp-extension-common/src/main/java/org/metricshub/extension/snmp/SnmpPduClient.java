@@ -0,0 +1,449 @@
+package org.metricshub.extension.snmp;
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub SNMP Extension Common
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2025 MetricsHub
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.snmp4j.CommunityTarget;
+import org.snmp4j.MessageDispatcher;
+import org.snmp4j.MessageDispatcherImpl;
+import org.snmp4j.PDU;
+import org.snmp4j.ScopedPDU;
+import org.snmp4j.Snmp;
+import org.snmp4j.Target;
+import org.snmp4j.TimeoutModel;
+import org.snmp4j.UserTarget;
+import org.snmp4j.event.ResponseEvent;
+import org.snmp4j.mp.MPv1;
+import org.snmp4j.mp.MPv2c;
+import org.snmp4j.mp.MPv3;
+import org.snmp4j.mp.SnmpConstants;
+import org.snmp4j.security.SecurityLevel;
+import org.snmp4j.security.SecurityProtocols;
+import org.snmp4j.security.USM;
+import org.snmp4j.security.UsmUser;
+import org.snmp4j.smi.Address;
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.OctetString;
+import org.snmp4j.smi.SMIConstants;
+import org.snmp4j.smi.UdpAddress;
+import org.snmp4j.smi.Variable;
+import org.snmp4j.smi.VariableBinding;
+import org.snmp4j.transport.DefaultUdpTransportMapping;
+
+/**
+ * SNMP client sending the GETBULK requests that the snmp-java {@link org.metricshub.snmp.client.ISnmpClient} does not
+ * support, built on SNMP4J.
+ * <p>
+ * SNMP v1 and v2c agents are reached with a community, SNMP v3 agents with the User-based Security Model. The values
+ * are formatted like the results of the snmp-java client. The client owns a UDP socket, and must be closed once it is
+ * no longer used. A client may be used by several threads at the same time.
+ * </p>
+ */
+@Slf4j
+public class SnmpPduClient implements ISnmpBulkClient, Closeable {
+
+	/**
+	 * Intervals between the attempts of a request, in milliseconds, when none are configured.
+	 */
+	static final int[] DEFAULT_RETRY_INTERVALS = { 500, 1000, 2000, 4000, 8000 };
+
+	private final Snmp snmp;
+	private final Target<Address> target;
+	private final String contextName;
+
+	static {
+		SecurityProtocols.getInstance().addDefaultProtocols();
+	}
+
+	/**
+	 * Creates a client.
+	 *
+	 * @param snmp        The SNMP session, listening on its UDP transport.
+	 * @param target      The agent, with its version and credentials.
+	 * @param contextName The SNMP v3 context name, or <code>null</code>.
+	 */
+	private SnmpPduClient(final Snmp snmp, final Target<Address> target, final String contextName) {
+		this.snmp = snmp;
+		this.target = target;
+		this.contextName = contextName;
+	}
+
+	/**
+	 * Creates a client for an SNMP v1 or v2c agent.
+	 *
+	 * @param hostname       The hostname or IP address of the agent.
+	 * @param port           The UDP port of the agent.
+	 * @param version        The SNMP version: 1 or 2.
+	 * @param community      The community.
+	 * @param retryIntervals The intervals between the attempts of a request in milliseconds, or <code>null</code>.
+	 * @return A new client.
+	 * @throws IOException If the UDP socket cannot be opened or the hostname cannot be resolved.
+	 */
+	public static SnmpPduClient createCommunityClient(
+		final String hostname,
+		final int port,
+		final int version,
+		final char[] community,
+		final int[] retryIntervals
+	) throws IOException {
+		final CommunityTarget<Address> target = new CommunityTarget<>();
+		target.setCommunity(new OctetString(encode(community)));
+		target.setVersion(version == 1 ? SnmpConstants.version1 : SnmpConstants.version2c);
+
+		final MessageDispatcher messageDispatcher = new MessageDispatcherImpl();
+		messageDispatcher.addMessageProcessingModel(new MPv1());
+		messageDispatcher.addMessageProcessingModel(new MPv2c());
+
+		return open(messageDispatcher, target, hostname, port, retryIntervals, null);
+	}
+
+	/**
+	 * Creates a client for an SNMP v3 agent.
+	 *
+	 * @param hostname          The hostname or IP address of the agent.
+	 * @param port              The UDP port of the agent.
+	 * @param username          The security name.
+	 * @param authProtocol      The OID of the SNMP4J authentication protocol, or <code>null</code> without
+	 *                          authentication.
+	 * @param password          The authentication password.
+	 * @param privacyProtocol   The OID of the SNMP4J privacy protocol, or <code>null</code> without encryption.
+	 * @param privacyPassword   The privacy password.
+	 * @param contextName       The context name, or <code>null</code>.
+	 * @param retryIntervals    The intervals between the attempts of a request in milliseconds, or <code>null</code>.
+	 * @return A new client.
+	 * @throws IOException If the UDP socket cannot be opened or the hostname cannot be resolved.
+	 */
+	public static SnmpPduClient createUsmClient(
+		final String hostname,
+		final int port,
+		final String username,
+		final OID authProtocol,
+		final char[] password,
+		final OID privacyProtocol,
+		final char[] privacyPassword,
+		final String contextName,
+		final int[] retryIntervals
+	) throws IOException {
+		final OctetString securityName = new OctetString(username != null ? username : "");
+		final OID privacy = authProtocol != null ? privacyProtocol : null;
+
+		// Each client has its own USM, so that the users of different configurations never clash
+		final USM usm = new USM(SecurityProtocols.getInstance(), new OctetString(MPv3.createLocalEngineID()), 0);
+		usm.addUser(
+			new UsmUser(
+				securityName,
+				authProtocol,
+				authProtocol != null ? new OctetString(encode(password)) : null,
+				privacy,
+				privacy != null ? new OctetString(encode(privacyPassword)) : null
+			)
+		);
+
+		final UserTarget<Address> target = new UserTarget<>();
+		target.setVersion(SnmpConstants.version3);
+		target.setSecurityName(securityName);
+		if (authProtocol == null) {
+			target.setSecurityLevel(SecurityLevel.NOAUTH_NOPRIV);
+		} else if (privacy == null) {
+			target.setSecurityLevel(SecurityLevel.AUTH_NOPRIV);
+		} else {
+			target.setSecurityLevel(SecurityLevel.AUTH_PRIV);
+		}
+
+		final MessageDispatcher messageDispatcher = new MessageDispatcherImpl();
+		messageDispatcher.addMessageProcessingModel(new MPv3(usm));
+
+		return open(messageDispatcher, target, hostname, port, retryIntervals, contextName);
+	}
+
+	/**
+	 * Opens the UDP transport of a client and starts listening to the responses.
+	 */
+	private static SnmpPduClient open(
+		final MessageDispatcher messageDispatcher,
+		final Target<Address> target,
+		final String hostname,
+		final int port,
+		final int[] retryIntervals,
+		final String contextName
+	) throws IOException {
+		final int[] intervals = retryIntervals != null && retryIntervals.length > 0
+			? retryIntervals
+			: DEFAULT_RETRY_INTERVALS;
+		target.setAddress(new UdpAddress(InetAddress.getByName(hostname), port));
+		target.setRetries(intervals.length - 1);
+		target.setTimeout(intervals[0]);
+
+		final Snmp snmp = new Snmp(messageDispatcher, new DefaultUdpTransportMapping());
+		snmp.setTimeoutModel(new RetryIntervalsTimeoutModel(intervals));
+		try {
+			snmp.listen();
+		} catch (IOException e) {
+			snmp.close();
+			throw e;
+		}
+
+		return new SnmpPduClient(snmp, target, contextName);
+	}
+
+	@Override
+	public List<List<String>> getBulk(final List<String> oids, final int maxRepetitions) throws IOException {
+		if (target.getVersion() == SnmpConstants.version1) {
+			throw new IOException("GETBULK requests are not supported by SNMP v1 agents.");
+		}
+
+		final PDU request = createPdu(PDU.GETBULK);
+		request.setNonRepeaters(0);
+		request.setMaxRepetitions(maxRepetitions);
+		oids.forEach(oid -> request.add(new VariableBinding(new OID(oid))));
+
+		final List<List<String>> successors = new ArrayList<>(oids.size());
+		oids.forEach(_ -> successors.add(new ArrayList<>()));
+		if (oids.isEmpty()) {
+			return successors;
+		}
+
+		// The response holds the first successor of each OID, then the second successor of each OID, and so on
+		final List<? extends VariableBinding> bindings = send(request).getVariableBindings();
+		final boolean[] ended = new boolean[oids.size()];
+		for (int i = 0; i < bindings.size(); i++) {
+			final int column = i % oids.size();
+			final VariableBinding binding = bindings.get(i);
+			if (binding.isException()) {
+				ended[column] = true;
+			}
+			if (!ended[column]) {
+				successors.get(column).add(toLine(binding));
+			}
+		}
+
+		return successors;
+	}
+
+	/**
+	 * Creates a request PDU of the given type, scoped to the context of the client for SNMP v3.
+	 *
+	 * @param type The PDU type.
+	 * @return A new PDU.
+	 */
+	private PDU createPdu(final int type) {
+		final PDU pdu;
+		if (target.getVersion() == SnmpConstants.version3) {
+			final ScopedPDU scopedPdu = new ScopedPDU();
+			if (contextName != null) {
+				scopedPdu.setContextName(new OctetString(contextName));
+			}
+			pdu = scopedPdu;
+		} else {
+			pdu = new PDU();
+		}
+		pdu.setType(type);
+		return pdu;
+	}
+
+	/**
+	 * Sends a request and waits for its response, retrying according to the retry intervals of the client.
+	 *
+	 * @param request The request.
+	 * @return The response, without error.
+	 * @throws SnmpTooBigException If the agent answered with a <code>tooBig</code> error.
+	 * @throws IOException         If the request failed, timed out, or the agent answered with another error.
+	 */
+	PDU send(final PDU request) throws IOException {
+		final ResponseEvent<Address> event = snmp.send(request, target);
+		final PDU response = event != null ? event.getResponse() : null;
+		if (response == null) {
+			if (event != null && event.getError() != null) {
+				throw new IOException("SNMP request failed: " + event.getError().getMessage(), event.getError());
+			}
+			throw new IOException("SNMP request timed out: no response from " + target.getAddress() + ".");
+		}
+
+		switch (response.getErrorStatus()) {
+			case PDU.noError:
+				return response;
+			case PDU.tooBig:
+				throw new SnmpTooBigException("SNMP response too big for " + request.size() + " variable bindings.");
+			default:
+				throw new IOException(
+					String.format(
+						"SNMP error %s at index %d.",
+						response.getErrorStatusText(),
+						response.getErrorIndex()
+					)
+				);
+		}
+	}
+
+	/**
+	 * Formats a variable binding as an <code>OID\tTYPE\tVALUE</code> line, like the GETNEXT results.
+	 *
+	 * @param binding The variable binding.
+	 * @return The formatted line.
+	 */
+	static String toLine(final VariableBinding binding) {
+		final Variable variable = binding.getVariable();
+		return binding.getOid().toDottedString() + "\t" + typeOf(variable) + "\t" + valueOf(variable);
+	}
+
+	/**
+	 * @return The type of the given variable, as named in the results of the snmp-java client.
+	 */
+	static String typeOf(final Variable variable) {
+		switch (variable.getSyntax()) {
+			case SMIConstants.SYNTAX_INTEGER:
+				return "ASN_INTEGER";
+			case SMIConstants.SYNTAX_NULL:
+				return "ASN_NULL";
+			case SMIConstants.SYNTAX_OBJECT_IDENTIFIER:
+				return "ASN_OBJECT_ID";
+			case SMIConstants.SYNTAX_IPADDRESS:
+				return "IPADDRESS";
+			case SMIConstants.SYNTAX_COUNTER32:
+				return "COUNTER";
+			case SMIConstants.SYNTAX_COUNTER64:
+				return "COUNTER64";
+			case SMIConstants.SYNTAX_GAUGE32:
+				return "GAUGE";
+			case SMIConstants.SYNTAX_TIMETICKS:
+				return "TIMETICKS";
+			case SMIConstants.SYNTAX_OPAQUE:
+				return "OPAQUE";
+			default:
+				return "ASN_OCTET_STR";
+		}
+	}
+
+	/**
+	 * Formats the value of a variable like the snmp-java client: numbers in decimal, OIDs in dotted notation, and
+	 * octet strings as text when they are printable, or as lowercase hexadecimal bytes separated by spaces otherwise.
+	 *
+	 * @param variable The variable.
+	 * @return The formatted value.
+	 */
+	static String valueOf(final Variable variable) {
+		if (variable instanceof OctetString octetString) {
+			final byte[] bytes = octetString.getValue();
+			final int printableLength = printableLength(bytes);
+			return printableLength >= 0
+				? new String(bytes, 0, printableLength, StandardCharsets.US_ASCII)
+				: HexFormat.ofDelimiter(" ").formatHex(bytes);
+		}
+		if (variable instanceof OID oid) {
+			return oid.toDottedString();
+		}
+		switch (variable.getSyntax()) {
+			case SMIConstants.SYNTAX_NULL:
+				return "";
+			case SMIConstants.SYNTAX_TIMETICKS:
+				// The number of hundredths of a second, rather than the duration formatted by SNMP4J
+				return String.valueOf(variable.toLong());
+			default:
+				return variable.toString();
+		}
+	}
+
+	/**
+	 * Checks whether the given bytes are printable ASCII characters or white spaces, possibly followed by a final null
+	 * character.
+	 *
+	 * @param bytes The bytes of an octet string.
+	 * @return The number of printable bytes, excluding the final null character, or <code>-1</code> if the bytes are
+	 *         not printable.
+	 */
+	private static int printableLength(final byte[] bytes) {
+		for (int i = 0; i < bytes.length; i++) {
+			final byte b = bytes[i];
+			if (b == 0 && i > 0 && i == bytes.length - 1) {
+				return i;
+			}
+			if ((b < 0x20 || b >= 0x7f) && b != '\t' && b != '\n' && b != '\r') {
+				return -1;
+			}
+		}
+		return bytes.length;
+	}
+
+	/**
+	 * Encodes the given secret in UTF-8.
+	 *
+	 * @param secret The secret, possibly <code>null</code>.
+	 * @return The UTF-8 bytes of the secret.
+	 */
+	private static byte[] encode(final char[] secret) {
+		if (secret == null) {
+			return new byte[0];
+		}
+		final ByteBuffer buffer = StandardCharsets.UTF_8.encode(CharBuffer.wrap(secret));
+		final byte[] bytes = Arrays.copyOfRange(buffer.array(), buffer.position(), buffer.limit());
+		Arrays.fill(buffer.array(), (byte) 0);
+		return bytes;
+	}
+
+	/**
+	 * Closes the UDP transport of the client.
+	 */
+	@Override
+	public void close() {
+		try {
+			snmp.close();
+		} catch (IOException e) {
+			log.debug("Error while closing the SNMP session. Error: {}.", e.getMessage());
+		}
+	}
+
+	/**
+	 * Timeout model waiting for the configured interval before each retry of a request.
+	 */
+	private static class RetryIntervalsTimeoutModel implements TimeoutModel {
+
+		private final int[] intervals;
+
+		RetryIntervalsTimeoutModel(final int[] intervals) {
+			this.intervals = intervals.clone();
+		}
+
+		@Override
+		public long getRetryTimeout(final int retryCount, final int totalNumberOfRetries, final long targetTimeout) {
+			return intervals[Math.min(retryCount, intervals.length - 1)];
+		}
+
+		@Override
+		public long getRequestTimeout(final int totalNumberOfRetries, final long targetTimeout) {
+			long total = 0;
+			for (int retry = 0; retry <= totalNumberOfRetries; retry++) {
+				total += getRetryTimeout(retry, totalNumberOfRetries, targetTimeout);
+			}
+			return total;
+		}
+	}
+}
@@ -97,13 +97,13 @@ public class SnmpGetCriterionProcessor {
 		final String hostname = telemetryManager.getHostname(List.of(snmpConfiguration.getClass()));
 
 		try {
-			final String result = snmpRequestExecutor.executeSNMPGet(
-				snmpGetCriterion.getOid(),
-				snmpConfiguration,
-				hostname,
-				false,
-				telemetryManager.getHostname()
-			);
+			// Connectors testing the same OID during the detection share a single request
+			final String oid = snmpGetCriterion.getOid();
+			final String result = telemetryManager
+				.getDetectionProbeCache()
+				.get(List.of("snmp-get", snmpConfiguration.getClass().getName(), hostname, oid), () ->
+					snmpRequestExecutor.executeSNMPGet(oid, snmpConfiguration, hostname, false, telemetryManager.getHostname())
+				);
 
 			final CriterionTestResult criterionTestResult = checkSNMPGetResult(
 				hostname,
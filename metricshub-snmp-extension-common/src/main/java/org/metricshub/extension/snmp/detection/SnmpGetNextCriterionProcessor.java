@@ -103,13 +103,19 @@ public class SnmpGetNextCriterionProcessor {
 		final String hostname = telemetryManager.getHostname(List.of(snmpConfiguration.getClass()));
 
 		try {
-			final String result = snmpRequestExecutor.executeSNMPGetNext(
-				snmpGetNextCriterion.getOid(),
-				snmpConfiguration,
-				hostname,
-				false,
-				telemetryManager.getHostname()
-			);
+			// Connectors testing the same OID during the detection share a single request
+			final String oid = snmpGetNextCriterion.getOid();
+			final String result = telemetryManager
+				.getDetectionProbeCache()
+				.get(List.of("snmp-getnext", snmpConfiguration.getClass().getName(), hostname, oid), () ->
+					snmpRequestExecutor.executeSNMPGetNext(
+						oid,
+						snmpConfiguration,
+						hostname,
+						false,
+						telemetryManager.getHostname()
+					)
+				);
 
 			final CriterionTestResult criterionTestResult = checkSNMPGetNextResult(
 				hostname,
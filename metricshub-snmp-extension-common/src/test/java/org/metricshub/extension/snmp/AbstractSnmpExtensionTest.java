@@ -2,8 +2,13 @@ package org.metricshub.extension.snmp;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.metricshub.extension.snmp.AbstractSnmpExtension.SYS_DESCR_OID;
+import static org.metricshub.extension.snmp.AbstractSnmpExtension.SYS_OBJECT_ID_OID;
+import static org.metricshub.extension.snmp.AbstractSnmpExtension.SYS_UP_TIME_OID;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -133,6 +138,53 @@ class AbstractSnmpExtensionTest {
 		assertFalse(result.get());
 	}
 
+	@Test
+	void testGetDetectionFingerprint() throws Exception {
+		assertEquals(Optional.empty(), extension.getDetectionFingerprint(createTelemetryManager(null)));
+
+		when(snmpConfiguration.getHostname()).thenReturn(HOSTNAME);
+		final TelemetryManager telemetryManager = createTelemetryManager(snmpConfiguration);
+		when(requestExecutor.executeSNMPGet(SYS_OBJECT_ID_OID, snmpConfiguration, HOSTNAME, false, HOSTNAME)).thenReturn(
+			"1.3.6.1.4.1.232"
+		);
+		when(requestExecutor.executeSNMPGet(SYS_DESCR_OID, snmpConfiguration, HOSTNAME, false, HOSTNAME)).thenReturn(
+			"HP-UX"
+		);
+		when(requestExecutor.executeSNMPGet(SYS_UP_TIME_OID, snmpConfiguration, HOSTNAME, false, HOSTNAME)).thenReturn(
+			"10 days, 1:02:03.04", "0:01:00.00"
+		);
+
+		final Optional<String> beforeReboot = extension.getDetectionFingerprint(telemetryManager);
+		assertTrue(beforeReboot.isPresent());
+		assertTrue(beforeReboot.get().startsWith("1.3.6.1.4.1.232|HP-UX|"));
+
+		// The host has been rebooted
+		final Optional<String> afterReboot = extension.getDetectionFingerprint(telemetryManager);
+		assertTrue(afterReboot.isPresent());
+		assertNotEquals(beforeReboot, afterReboot);
+	}
+
+	@Test
+	void testGetDetectionFingerprintTimeout() throws Exception {
+		when(snmpConfiguration.getHostname()).thenReturn(HOSTNAME);
+		final TelemetryManager telemetryManager = createTelemetryManager(snmpConfiguration);
+		when(requestExecutor.executeSNMPGet(anyString(), any(), anyString(), anyBoolean(), any())).thenThrow(
+			new TimeoutException("timeout")
+		);
+		assertEquals(Optional.empty(), extension.getDetectionFingerprint(telemetryManager));
+	}
+
+	@Test
+	void testParseTimeTicks() {
+		assertNull(AbstractSnmpExtension.parseTimeTicks(null));
+		assertNull(AbstractSnmpExtension.parseTimeTicks(" "));
+		assertNull(AbstractSnmpExtension.parseTimeTicks("not a duration"));
+		assertEquals(12_340L, (long) AbstractSnmpExtension.parseTimeTicks("1234"));
+		assertEquals(3_723_040L, (long) AbstractSnmpExtension.parseTimeTicks("1:02:03.04"));
+		assertEquals(90_000_000L, (long) AbstractSnmpExtension.parseTimeTicks("1 day, 1:00:00.00"));
+		assertEquals(867_723_000L, (long) AbstractSnmpExtension.parseTimeTicks("10 days, 1:02:03"));
+	}
+
 	@Test
 	void testProcessSourceSnmpTable() throws Exception {
 		final TelemetryManager telemetryManager = createTelemetryManager(snmpConfiguration);
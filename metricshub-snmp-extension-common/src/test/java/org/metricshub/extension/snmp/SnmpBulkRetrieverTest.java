@@ -0,0 +1,125 @@
+package org.metricshub.extension.snmp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.junit.jupiter.api.Test;
+
+class SnmpBulkRetrieverTest {
+
+	/**
+	 * SNMP agent answering GETBULK requests from a sorted MIB, and failing with <code>tooBig</code> when a response
+	 * has more values than its limit.
+	 */
+	private static class FakeBulkClient implements ISnmpBulkClient {
+
+		private final TreeMap<String, String> mib = new TreeMap<>(SnmpBulkRetriever::compareOids);
+		private final int maxValues;
+		private int requestCount;
+
+		FakeBulkClient(final Map<String, String> values, final int maxValues) {
+			mib.putAll(values);
+			this.maxValues = maxValues;
+		}
+
+		@Override
+		public List<List<String>> getBulk(final List<String> oids, final int maxRepetitions) throws IOException {
+			requestCount++;
+			if (oids.size() * maxRepetitions > maxValues) {
+				throw new SnmpTooBigException("Response too big");
+			}
+			final List<List<String>> result = new ArrayList<>();
+			for (final String oid : oids) {
+				final List<String> successors = new ArrayList<>();
+				String current = oid;
+				while (successors.size() < maxRepetitions && mib.higherKey(current) != null) {
+					current = mib.higherKey(current);
+					successors.add(current + "\tASN_OCTET_STR\t" + mib.get(current));
+				}
+				result.add(successors);
+			}
+			return result;
+		}
+	}
+
+	private static final Map<String, String> MIB = Map.of(
+		"1.3.6.1.2.1.1.1.0",
+		"system",
+		"1.3.6.1.4.1.9.1.2.1",
+		"disk1",
+		"1.3.6.1.4.1.9.1.2.2",
+		"disk2",
+		"1.3.6.1.4.1.9.1.2.10",
+		"disk10",
+		"1.3.6.1.4.1.9.1.3.1",
+		"ok",
+		"1.3.6.1.4.1.9.1.3.10",
+		"failed",
+		"1.3.6.1.4.1.9.2.1.0",
+		"next"
+	);
+
+	@Test
+	void testWalk() throws IOException {
+		final FakeBulkClient client = new FakeBulkClient(MIB, 100);
+		final SnmpBulkRetriever retriever = new SnmpBulkRetriever(client, 2);
+
+		assertEquals(
+			"1.3.6.1.4.1.9.1.2.1\tASN_OCTET_STR\tdisk1\n" +
+			"1.3.6.1.4.1.9.1.2.2\tASN_OCTET_STR\tdisk2\n" +
+			"1.3.6.1.4.1.9.1.2.10\tASN_OCTET_STR\tdisk10",
+			retriever.walk("1.3.6.1.4.1.9.1.2")
+		);
+		assertEquals(2, client.requestCount);
+
+		// Nothing under the root OID, and end of the MIB view
+		assertEquals("", retriever.walk("1.3.6.1.4.1.9.1.1"));
+		assertEquals("", retriever.walk("1.3.6.1.4.1.9.2.1.0"));
+	}
+
+	@Test
+	void testTable() throws IOException {
+		final FakeBulkClient client = new FakeBulkClient(MIB, 100);
+		final SnmpBulkRetriever retriever = new SnmpBulkRetriever(client, 25);
+
+		assertEquals(
+			List.of(List.of("1", "disk1", "ok"), List.of("2", "disk2", ""), List.of("10", "disk10", "failed")),
+			retriever.table("1.3.6.1.4.1.9.1", new String[] { "ID", "2", "3" })
+		);
+		// All the columns are retrieved in a single request
+		assertEquals(1, client.requestCount);
+
+		assertEquals(List.of(), retriever.table("1.3.6.1.4.1.9.1", new String[] { "ID", "4" }));
+		assertThrows(IOException.class, () -> retriever.table("1.3.6.1.4.1.9.1", new String[] { "ID", "name" }));
+	}
+
+	@Test
+	void testTooBig() throws IOException {
+		final FakeBulkClient client = new FakeBulkClient(MIB, 6);
+		final SnmpBulkRetriever retriever = new SnmpBulkRetriever(client, 25);
+
+		assertEquals(
+			List.of(List.of("disk1", "ok"), List.of("disk2", ""), List.of("disk10", "failed")),
+			retriever.table("1.3.6.1.4.1.9.1", new String[] { "2", "3" })
+		);
+		assertEquals(3, retriever.getMaxRepetitions());
+
+		final SnmpBulkRetriever tooBigRetriever = new SnmpBulkRetriever(new FakeBulkClient(MIB, 0), 25);
+		assertThrows(SnmpTooBigException.class, () -> tooBigRetriever.walk("1.3.6.1.4.1.9.1"));
+		assertEquals(1, tooBigRetriever.getMaxRepetitions());
+	}
+
+	@Test
+	void testCompareOids() {
+		assertTrue(SnmpBulkRetriever.compareOids("1.3.6.1.2", "1.3.6.1.10") < 0);
+		assertTrue(SnmpBulkRetriever.compareOids("1.3.6.1", "1.3.6.1.1") < 0);
+		assertTrue(SnmpBulkRetriever.compareOids("1.3.6.2", "1.3.6.1.1") > 0);
+		assertEquals(0, SnmpBulkRetriever.compareOids("1.3.6.1", "1.3.6.1"));
+	}
+}
@@ -0,0 +1,133 @@
+package org.metricshub.extension.snmp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.metricshub.snmp.client.ISnmpClient;
+
+class SnmpClientPoolTest {
+
+	private static final List<Object> KEY_1 = List.of("host1", 161, 2, "public");
+	private static final List<Object> KEY_2 = List.of("host2", 161, 2, "public");
+
+	@Test
+	void testBorrowAndRelease() throws Exception {
+		final SnmpClientPool<ISnmpClient> pool = new SnmpClientPool<>(2, Duration.ofMinutes(1), ISnmpClient::freeResources);
+		final ISnmpClient client1 = mock(ISnmpClient.class);
+		final ISnmpClient client2 = mock(ISnmpClient.class);
+
+		assertNull(pool.borrow(KEY_1));
+
+		pool.release(KEY_1, client1);
+		pool.release(KEY_1, client2);
+		assertEquals(2, pool.idleCount(KEY_1));
+
+		// Clients are not shared between keys, and the most recently released client is borrowed first
+		assertNull(pool.borrow(KEY_2));
+		assertSame(client2, pool.borrow(List.of("host1", 161, 2, "public")));
+		assertSame(client1, pool.borrow(KEY_1));
+		assertNull(pool.borrow(KEY_1));
+		assertEquals(0, pool.idleCount(KEY_1));
+
+		verify(client1, never()).freeResources();
+		verify(client2, never()).freeResources();
+	}
+
+	@Test
+	void testMaxIdlePerKey() throws Exception {
+		final SnmpClientPool<ISnmpClient> pool = new SnmpClientPool<>(1, Duration.ofMinutes(1), ISnmpClient::freeResources);
+		final ISnmpClient client1 = mock(ISnmpClient.class);
+		final ISnmpClient client2 = mock(ISnmpClient.class);
+
+		pool.release(KEY_1, client1);
+		pool.release(KEY_1, client2);
+
+		assertEquals(1, pool.idleCount(KEY_1));
+		verify(client1, never()).freeResources();
+		verify(client2, times(1)).freeResources();
+	}
+
+	@Test
+	void testIdleTimeout() throws Exception {
+		final SnmpClientPool<ISnmpClient> pool = new SnmpClientPool<>(2, Duration.ofMinutes(1), ISnmpClient::freeResources);
+		final ISnmpClient client1 = mock(ISnmpClient.class);
+		final ISnmpClient client2 = mock(ISnmpClient.class);
+		pool.release(KEY_1, client1);
+		pool.release(KEY_2, client2);
+
+		pool.evictIdle(System.nanoTime());
+		assertEquals(1, pool.idleCount(KEY_1));
+
+		pool.evictIdle(System.nanoTime() + Duration.ofMinutes(2).toNanos());
+		assertEquals(0, pool.idleCount(KEY_1));
+		assertEquals(0, pool.idleCount(KEY_2));
+		verify(client1, times(1)).freeResources();
+		verify(client2, times(1)).freeResources();
+
+		// Expired clients are never borrowed
+		final SnmpClientPool<ISnmpClient> expiringPool = new SnmpClientPool<>(
+			2,
+			Duration.ZERO,
+			ISnmpClient::freeResources
+		);
+		final ISnmpClient client3 = mock(ISnmpClient.class);
+		expiringPool.release(KEY_1, client3);
+		assertNull(expiringPool.borrow(KEY_1));
+		verify(client3, times(1)).freeResources();
+	}
+
+	@Test
+	void testClear() throws Exception {
+		final SnmpClientPool<ISnmpClient> pool = new SnmpClientPool<>(ISnmpClient::freeResources);
+		final ISnmpClient client = mock(ISnmpClient.class);
+		pool.release(KEY_1, client);
+
+		pool.clear();
+
+		assertEquals(0, pool.idleCount(KEY_1));
+		verify(client, times(1)).freeResources();
+	}
+
+	@Test
+	void testInvalidSettings() {
+		assertThrows(
+			IllegalArgumentException.class,
+			() -> new SnmpClientPool<ISnmpClient>(-1, Duration.ofMinutes(1), ISnmpClient::freeResources)
+		);
+		assertThrows(
+			IllegalArgumentException.class,
+			() -> new SnmpClientPool<ISnmpClient>(1, Duration.ofMinutes(-1), ISnmpClient::freeResources)
+		);
+	}
+
+	@Test
+	void testCredentialsDigest() {
+		final String digest = AbstractSnmpRequestExecutor.credentialsDigest("public".toCharArray());
+
+		assertEquals(64, digest.length());
+		assertFalse(digest.contains("public"));
+		assertEquals(digest, AbstractSnmpRequestExecutor.credentialsDigest("public".toCharArray()));
+		assertNotEquals(digest, AbstractSnmpRequestExecutor.credentialsDigest("private".toCharArray()));
+
+		// The credentials are not concatenated
+		assertNotEquals(
+			AbstractSnmpRequestExecutor.credentialsDigest("ab".toCharArray(), "c".toCharArray()),
+			AbstractSnmpRequestExecutor.credentialsDigest("a".toCharArray(), "bc".toCharArray())
+		);
+		assertNotEquals(
+			AbstractSnmpRequestExecutor.credentialsDigest(null, "pass".toCharArray()),
+			AbstractSnmpRequestExecutor.credentialsDigest(new char[0], "pass".toCharArray())
+		);
+	}
+}
@@ -0,0 +1,166 @@
+package org.metricshub.extension.snmp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class SnmpGetCoalescerTest {
+
+	private static final List<Object> KEY = List.of("host1", 161, 2, "public", "1.3.6.1.2.1.1.3.0");
+
+	@Test
+	void testGet() throws Exception {
+		final SnmpGetCoalescer coalescer = new SnmpGetCoalescer();
+
+		assertEquals("value", coalescer.get(KEY, 30, () -> "value"));
+		assertEquals(0, coalescer.pendingCount(KEY));
+
+		// Failed request
+		assertNull(coalescer.get(KEY, 30, () -> null));
+		assertThrows(
+			TimeoutException.class,
+			() ->
+				coalescer.get(
+					KEY,
+					30,
+					() -> {
+						throw new TimeoutException("timeout");
+					}
+				)
+		);
+		assertEquals(0, coalescer.pendingCount(KEY));
+	}
+
+	@Test
+	void testCoalescing() throws Exception {
+		final SnmpGetCoalescer coalescer = new SnmpGetCoalescer();
+		final AtomicInteger requests = new AtomicInteger();
+		final CountDownLatch firstRequestSent = new CountDownLatch(1);
+		final CountDownLatch agentResponding = new CountDownLatch(1);
+		final SnmpGetCoalescer.GetRequest request = () -> {
+			final int requestNumber = requests.incrementAndGet();
+			firstRequestSent.countDown();
+			agentResponding.await();
+			return "value-" + requestNumber;
+		};
+
+		final ExecutorService executor = Executors.newFixedThreadPool(6);
+		try {
+			final List<Future<String>> results = new ArrayList<>();
+			results.add(executor.submit(() -> coalescer.get(KEY, 30, request)));
+			firstRequestSent.await();
+
+			// The GETs requested while the first one is in flight are queued
+			for (int i = 1; i < 6; i++) {
+				results.add(executor.submit(() -> coalescer.get(KEY, 30, request)));
+			}
+			while (coalescer.pendingCount(KEY) < 6) {
+				Thread.sleep(10);
+			}
+			agentResponding.countDown();
+
+			// The queued GETs share a single request, sent after the first one
+			assertEquals("value-1", results.get(0).get());
+			for (int i = 1; i < 6; i++) {
+				assertEquals("value-2", results.get(i).get());
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertEquals(2, requests.get());
+		assertEquals(0, coalescer.pendingCount(KEY));
+	}
+
+	@Test
+	void testInterruptedSender() throws Exception {
+		final SnmpGetCoalescer coalescer = new SnmpGetCoalescer();
+		final AtomicInteger requests = new AtomicInteger();
+		final CountDownLatch firstRequestSent = new CountDownLatch(1);
+		final SnmpGetCoalescer.GetRequest request = () -> {
+			if (requests.incrementAndGet() == 1) {
+				firstRequestSent.countDown();
+				// The first request only ends when its sender is interrupted
+				new CountDownLatch(1).await();
+			}
+			return "value";
+		};
+
+		final CompletableFuture<Exception> senderError = new CompletableFuture<>();
+		final Thread sender = new Thread(() -> {
+			try {
+				coalescer.get(KEY, 30, request);
+				senderError.complete(null);
+			} catch (Exception e) {
+				senderError.complete(e);
+			}
+		});
+		sender.start();
+		firstRequestSent.await();
+
+		final ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			final List<Future<String>> results = List.of(
+				executor.submit(() -> coalescer.get(KEY, 30, request)),
+				executor.submit(() -> coalescer.get(KEY, 30, request))
+			);
+			while (coalescer.pendingCount(KEY) < 3) {
+				Thread.sleep(10);
+			}
+			sender.interrupt();
+
+			// Only the interrupted sender fails, the next queued GET sends the request for the other GETs
+			assertInstanceOf(InterruptedException.class, senderError.get(10, TimeUnit.SECONDS));
+			for (final Future<String> result : results) {
+				assertEquals("value", result.get(10, TimeUnit.SECONDS));
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertEquals(2, requests.get());
+		assertEquals(0, coalescer.pendingCount(KEY));
+	}
+
+	@Test
+	void testWaitTimeout() throws Exception {
+		final SnmpGetCoalescer coalescer = new SnmpGetCoalescer();
+		final CountDownLatch firstRequestSent = new CountDownLatch(1);
+		final CountDownLatch agentResponding = new CountDownLatch(1);
+		final SnmpGetCoalescer.GetRequest request = () -> {
+			firstRequestSent.countDown();
+			agentResponding.await();
+			return "value";
+		};
+
+		final ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			final Future<String> first = executor.submit(() -> coalescer.get(KEY, 30, request));
+			firstRequestSent.await();
+
+			// The queued GET does not wait longer than its timeout for the request in flight
+			assertThrows(TimeoutException.class, () -> coalescer.get(KEY, 1, request));
+			assertEquals(1, coalescer.pendingCount(KEY));
+
+			agentResponding.countDown();
+			assertEquals("value", first.get(10, TimeUnit.SECONDS));
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertEquals(0, coalescer.pendingCount(KEY));
+	}
+}
@@ -0,0 +1,340 @@
+package org.metricshub.extension.snmp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.metricshub.snmp.client.ISnmpClient;
+import org.metricshub.snmp.client.SnmpClient;
+import org.snmp4j.PDU;
+import org.snmp4j.smi.Counter32;
+import org.snmp4j.smi.Counter64;
+import org.snmp4j.smi.Gauge32;
+import org.snmp4j.smi.Integer32;
+import org.snmp4j.smi.IpAddress;
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.OctetString;
+import org.snmp4j.smi.Opaque;
+import org.snmp4j.smi.TimeTicks;
+import org.snmp4j.smi.Variable;
+import org.snmp4j.smi.VariableBinding;
+
+class SnmpPduClientTest {
+
+	private static final Map<String, Variable> MIB = Map.of(
+		"1.3.6.1.2.1.1.1.0",
+		new OctetString("system"),
+		"1.3.6.1.4.1.9.1.2.1",
+		new OctetString("disk1"),
+		"1.3.6.1.4.1.9.1.2.2",
+		new OctetString("disk2"),
+		"1.3.6.1.4.1.9.1.2.10",
+		new OctetString("disk10"),
+		"1.3.6.1.4.1.9.1.3.1",
+		new Integer32(2),
+		"1.3.6.1.4.1.9.1.3.10",
+		new Integer32(4),
+		"1.3.6.1.4.1.9.2.1.0",
+		new Counter32(10)
+	);
+
+	private static final int[] RETRY_INTERVALS = { 2000 };
+
+	/**
+	 * Table with one column per type of value, in two rows.
+	 */
+	private static final String TYPES_TABLE = "1.3.6.1.4.1.99.1";
+
+	private static final List<Variable> TYPE_VALUES = List.of(
+		new Integer32(-1),
+		new OctetString("a text"),
+		new OctetString(new byte[] { 't', 'e', 'x', 't', 0 }),
+		new OctetString(new byte[] { 0, 0x1a, (byte) 0xff }),
+		new OctetString(),
+		new OID("1.3.6.1.4.1.9"),
+		new IpAddress("10.0.0.1"),
+		new Counter32(4000000000L),
+		new Gauge32(4000000000L),
+		new TimeTicks(360000),
+		new Opaque(new byte[] { 1, 2 }),
+		new Counter64(12345678901L)
+	);
+
+	private SnmpTestAgent agent;
+
+	/**
+	 * Executor sending its requests to the test agent.
+	 */
+	private class TestRequestExecutor extends AbstractSnmpRequestExecutor {
+
+		@Override
+		protected ISnmpClient createSnmpClient(final ISnmpConfiguration configuration, final String hostname)
+			throws IOException {
+			return createSnmpJavaClient(agent, configuration.getIntVersion());
+		}
+
+		@Override
+		protected Object clientPoolKey(final ISnmpConfiguration configuration, final String hostname) {
+			return List.of(hostname, agent.getPort(), configuration.getIntVersion());
+		}
+
+		@Override
+		protected Optional<SnmpPduClient> createPduClient(final ISnmpConfiguration configuration, final String hostname)
+			throws IOException {
+			return Optional.of(
+				SnmpPduClient.createCommunityClient(
+					hostname,
+					agent.getPort(),
+					configuration.getIntVersion(),
+					"public".toCharArray(),
+					RETRY_INTERVALS
+				)
+			);
+		}
+	}
+
+	@BeforeEach
+	void setUp() throws IOException {
+		agent = new SnmpTestAgent(MIB);
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		agent.close();
+	}
+
+	private SnmpPduClient createClient(final int version) throws IOException {
+		return createClient(agent, version);
+	}
+
+	private static SnmpPduClient createClient(final SnmpTestAgent snmpAgent, final int version) throws IOException {
+		return SnmpPduClient.createCommunityClient(
+			"127.0.0.1",
+			snmpAgent.getPort(),
+			version,
+			"public".toCharArray(),
+			RETRY_INTERVALS
+		);
+	}
+
+	private static ISnmpClient createSnmpJavaClient(final SnmpTestAgent snmpAgent, final int version)
+		throws IOException {
+		return new SnmpClient(
+			"127.0.0.1",
+			snmpAgent.getPort(),
+			version,
+			RETRY_INTERVALS,
+			"public",
+			null,
+			null,
+			null,
+			null,
+			null,
+			null,
+			null
+		);
+	}
+
+	private static ISnmpConfiguration createConfiguration(final int version) {
+		final ISnmpConfiguration configuration = mock(ISnmpConfiguration.class);
+		when(configuration.getIntVersion()).thenReturn(version);
+		when(configuration.getTimeout()).thenReturn(30L);
+		when(configuration.getMaxRepetitions()).thenReturn(2);
+		return configuration;
+	}
+
+	@Test
+	void testGetBulk() throws IOException {
+		try (SnmpPduClient client = createClient(2)) {
+			assertEquals(
+				List.of(
+					List.of("1.3.6.1.4.1.9.1.2.1\tASN_OCTET_STR\tdisk1", "1.3.6.1.4.1.9.1.2.2\tASN_OCTET_STR\tdisk2"),
+					List.of("1.3.6.1.4.1.9.1.3.1\tASN_INTEGER\t2", "1.3.6.1.4.1.9.1.3.10\tASN_INTEGER\t4")
+				),
+				client.getBulk(List.of("1.3.6.1.4.1.9.1.2", "1.3.6.1.4.1.9.1.3"), 2)
+			);
+
+			// The successors stop at the end of the MIB view
+			assertEquals(
+				List.of(List.of("1.3.6.1.4.1.9.2.1.0\tCOUNTER\t10"), List.of()),
+				client.getBulk(List.of("1.3.6.1.4.1.9.1.3.10", "1.3.6.1.4.1.9.2.1.0"), 3)
+			);
+		}
+
+		assertEquals(2, agent.getRequests().size());
+		assertTrue(agent.getRequests().stream().allMatch(request -> request.getType() == PDU.GETBULK));
+		assertEquals(2, agent.getRequests().get(0).getMaxRepetitions());
+	}
+
+	@Test
+	void testGetBulkErrors() throws IOException {
+		agent.setMaxResponseSize(3);
+		try (SnmpPduClient client = createClient(2)) {
+			assertThrows(SnmpTooBigException.class, () -> client.getBulk(List.of("1.3.6.1.4.1.9.1.2"), 4));
+
+			// The bulk retriever halves the number of repetitions until the response fits
+			final SnmpBulkRetriever retriever = new SnmpBulkRetriever(client, 4);
+			assertEquals(
+				List.of(List.of("1", "disk1", "2"), List.of("2", "disk2", ""), List.of("10", "disk10", "4")),
+				retriever.table("1.3.6.1.4.1.9.1", new String[] { "ID", "2", "3" })
+			);
+			assertEquals(1, retriever.getMaxRepetitions());
+		}
+
+		try (SnmpPduClient client = createClient(1)) {
+			assertThrows(IOException.class, () -> client.getBulk(List.of("1.3.6.1.4.1.9.1.2"), 4));
+		}
+
+		agent.close();
+		try (
+			SnmpPduClient client = SnmpPduClient.createCommunityClient(
+				"127.0.0.1",
+				agent.getPort(),
+				2,
+				"public".toCharArray(),
+				new int[] { 100, 100 }
+			)
+		) {
+			assertThrows(IOException.class, () -> client.getBulk(List.of("1.3.6.1.4.1.9.1.2"), 4));
+		}
+	}
+
+	@Test
+	void testTableAndWalkThroughExecutor() throws Exception {
+		final TestRequestExecutor executor = new TestRequestExecutor();
+
+		assertEquals(
+			List.of(List.of("1", "disk1", "2"), List.of("2", "disk2", ""), List.of("10", "disk10", "4")),
+			executor.executeSNMPTable(
+				"1.3.6.1.4.1.9.1",
+				new String[] { "ID", "2", "3" },
+				createConfiguration(2),
+				"127.0.0.1",
+				true,
+				null
+			)
+		);
+		// Both columns are walked in the same GETBULK requests of 2 repetitions
+		assertEquals(2, agent.getRequests().size());
+		assertEquals(List.of(2, 2), agent.getRequests().stream().map(PDU::size).toList());
+
+		assertEquals(
+			"1.3.6.1.4.1.9.1.2.1\tASN_OCTET_STR\tdisk1\n" +
+			"1.3.6.1.4.1.9.1.2.2\tASN_OCTET_STR\tdisk2\n" +
+			"1.3.6.1.4.1.9.1.2.10\tASN_OCTET_STR\tdisk10",
+			executor.executeSNMPWalk("1.3.6.1.4.1.9.1.2", createConfiguration(2), "127.0.0.1", true, null)
+		);
+		assertTrue(agent.getRequests().stream().allMatch(request -> request.getType() == PDU.GETBULK));
+	}
+
+	@Test
+	void testSnmpV1ThroughExecutor() throws Exception {
+		final TestRequestExecutor executor = new TestRequestExecutor();
+
+		// SNMP v1 has no GETBULK request, the table is walked by the snmp-java client
+		assertEquals(
+			List.of(List.of("1", "disk1", "2"), List.of("2", "disk2", ""), List.of("10", "disk10", "4")),
+			executor.executeSNMPTable(
+				"1.3.6.1.4.1.9.1",
+				new String[] { "ID", "2", "3" },
+				createConfiguration(1),
+				"127.0.0.1",
+				true,
+				null
+			)
+		);
+		assertTrue(agent.getRequests().stream().allMatch(request -> request.getType() == PDU.GETNEXT));
+	}
+
+	@Test
+	void testGetThroughExecutor() throws Exception {
+		final TestRequestExecutor executor = new TestRequestExecutor();
+
+		// The GET requests are sent by the snmp-java client, whatever the version
+		assertEquals(
+			"system",
+			executor.executeSNMPGet("1.3.6.1.2.1.1.1.0", createConfiguration(2), "127.0.0.1", true, null)
+		);
+		assertEquals("10", executor.executeSNMPGet("1.3.6.1.4.1.9.2.1.0", createConfiguration(1), "127.0.0.1", true, null));
+		assertEquals(
+			"1.3.6.1.4.1.9.1.2.1\tASN_OCTET_STR\tdisk1",
+			executor.executeSNMPGetNext("1.3.6.1.4.1.9.1.2", createConfiguration(2), "127.0.0.1", true, null)
+		);
+		assertEquals(
+			List.of(PDU.GET, PDU.GET, PDU.GETNEXT),
+			agent.getRequests().stream().map(PDU::getType).toList()
+		);
+	}
+
+	@Test
+	void testValueFormattingParity() throws Exception {
+		final Map<String, Variable> mib = new HashMap<>();
+		for (int column = 1; column <= TYPE_VALUES.size(); column++) {
+			mib.put(TYPES_TABLE + "." + column + ".1", TYPE_VALUES.get(column - 1));
+			mib.put(TYPES_TABLE + "." + column + ".2", TYPE_VALUES.get(column - 1));
+		}
+		final String[] columns = IntStream.rangeClosed(0, TYPE_VALUES.size())
+			.mapToObj(column -> column == 0 ? SnmpBulkRetriever.ID_COLUMN : String.valueOf(column))
+			.toArray(String[]::new);
+
+		try (SnmpTestAgent typesAgent = new SnmpTestAgent(mib); SnmpPduClient pduClient = createClient(typesAgent, 2)) {
+			final ISnmpClient snmpJavaClient = createSnmpJavaClient(typesAgent, 2);
+			try {
+				final SnmpBulkRetriever retriever = new SnmpBulkRetriever(pduClient, 5);
+
+				// The GETBULK results must read exactly like the GETNEXT results of the snmp-java client, for each type
+				for (int column = 1; column <= TYPE_VALUES.size(); column++) {
+					final String columnOid = TYPES_TABLE + "." + column;
+					final Variable value = TYPE_VALUES.get(column - 1);
+					assertEquals(
+						snmpJavaClient.walk(columnOid),
+						retriever.walk(columnOid),
+						() -> value.getSyntaxString() + " value " + value
+					);
+				}
+				assertEquals(snmpJavaClient.table(TYPES_TABLE, columns), retriever.table(TYPES_TABLE, columns));
+			} finally {
+				snmpJavaClient.freeResources();
+			}
+		}
+	}
+
+	@Test
+	void testValueFormatting() {
+		assertEquals("ASN_INTEGER", SnmpPduClient.typeOf(new Integer32(-1)));
+		assertEquals("-1", SnmpPduClient.valueOf(new Integer32(-1)));
+		assertEquals("GAUGE", SnmpPduClient.typeOf(new Gauge32(4000000000L)));
+		assertEquals("4000000000", SnmpPduClient.valueOf(new Gauge32(4000000000L)));
+		assertEquals("COUNTER64", SnmpPduClient.typeOf(new Counter64(12345678901L)));
+		assertEquals("12345678901", SnmpPduClient.valueOf(new Counter64(12345678901L)));
+		assertEquals("TIMETICKS", SnmpPduClient.typeOf(new TimeTicks(360000)));
+		assertEquals("360000", SnmpPduClient.valueOf(new TimeTicks(360000)));
+		assertEquals("IPADDRESS", SnmpPduClient.typeOf(new IpAddress("10.0.0.1")));
+		assertEquals("10.0.0.1", SnmpPduClient.valueOf(new IpAddress("10.0.0.1")));
+		assertEquals("ASN_OBJECT_ID", SnmpPduClient.typeOf(new OID("1.3.6.1.4.1.9")));
+		assertEquals("1.3.6.1.4.1.9", SnmpPduClient.valueOf(new OID("1.3.6.1.4.1.9")));
+
+		// Octet strings are printed as text, or in hexadecimal when they are not printable
+		assertEquals("ASN_OCTET_STR", SnmpPduClient.typeOf(new OctetString("text")));
+		assertEquals("a text", SnmpPduClient.valueOf(new OctetString("a text")));
+		assertEquals("text", SnmpPduClient.valueOf(new OctetString(new byte[] { 't', 'e', 'x', 't', 0 })));
+		assertEquals("00 1a ff", SnmpPduClient.valueOf(new OctetString(new byte[] { 0, 0x1a, (byte) 0xff })));
+		assertEquals("", SnmpPduClient.valueOf(new OctetString()));
+
+		assertEquals(
+			"1.3.6.1.2.1.1.1.0\tASN_OCTET_STR\tsystem",
+			SnmpPduClient.toLine(new VariableBinding(new OID("1.3.6.1.2.1.1.1.0"), new OctetString("system")))
+		);
+	}
+}
@@ -0,0 +1,184 @@
+package org.metricshub.extension.snmp;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import org.snmp4j.CommandResponder;
+import org.snmp4j.CommandResponderEvent;
+import org.snmp4j.MessageException;
+import org.snmp4j.PDU;
+import org.snmp4j.Snmp;
+import org.snmp4j.mp.MessageProcessingModel;
+import org.snmp4j.mp.StatusInformation;
+import org.snmp4j.smi.Address;
+import org.snmp4j.smi.Null;
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.UdpAddress;
+import org.snmp4j.smi.Variable;
+import org.snmp4j.smi.VariableBinding;
+import org.snmp4j.transport.DefaultUdpTransportMapping;
+
+/**
+ * SNMP v1 and v2c agent listening on a local UDP port, and answering the GET, GETNEXT and GETBULK requests from a MIB
+ * held in memory. The agent records the requests it receives, can fail the responses larger than a given number of
+ * variable bindings with a <code>tooBig</code> error, and can hold its responses until it is told to answer.
+ */
+class SnmpTestAgent implements CommandResponder, Closeable {
+
+	private final TreeMap<OID, Variable> mib = new TreeMap<>();
+	private final List<PDU> requests = new CopyOnWriteArrayList<>();
+	private final Snmp snmp;
+	private final int port;
+	private volatile int maxResponseSize = Integer.MAX_VALUE;
+	private volatile CountDownLatch responseGate = new CountDownLatch(0);
+
+	SnmpTestAgent(final Map<String, Variable> values) throws IOException {
+		values.forEach((oid, variable) -> mib.put(new OID(oid), variable));
+		try (DatagramSocket socket = new DatagramSocket(0, InetAddress.getLoopbackAddress())) {
+			port = socket.getLocalPort();
+		}
+		snmp = new Snmp(new DefaultUdpTransportMapping(new UdpAddress(InetAddress.getLoopbackAddress(), port)));
+		snmp.addCommandResponder(this);
+		snmp.listen();
+	}
+
+	int getPort() {
+		return port;
+	}
+
+	/**
+	 * @return The requests received so far.
+	 */
+	List<PDU> getRequests() {
+		return requests;
+	}
+
+	/**
+	 * Fails the responses with more than the given number of variable bindings with a <code>tooBig</code> error.
+	 */
+	void setMaxResponseSize(final int maxResponseSize) {
+		this.maxResponseSize = maxResponseSize;
+	}
+
+	/**
+	 * Holds the responses until the returned latch is counted down.
+	 */
+	CountDownLatch holdResponses() {
+		responseGate = new CountDownLatch(1);
+		return responseGate;
+	}
+
+	@Override
+	public <A extends Address> void processPdu(final CommandResponderEvent<A> event) {
+		final PDU request = event.getPDU();
+		if (request == null) {
+			return;
+		}
+		requests.add(request);
+
+		try {
+			responseGate.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return;
+		}
+
+		final PDU response = respond(request, event.getMessageProcessingModel() == MessageProcessingModel.MPv1);
+		response.setType(PDU.RESPONSE);
+		response.setRequestID(request.getRequestID());
+		try {
+			event
+				.getMessageDispatcher()
+				.returnResponsePdu(
+					event.getMessageProcessingModel(),
+					event.getSecurityModel(),
+					event.getSecurityName(),
+					event.getSecurityLevel(),
+					response,
+					event.getMaxSizeResponsePDU(),
+					event.getStateReference(),
+					new StatusInformation()
+				);
+		} catch (MessageException e) {
+			throw new IllegalStateException(e);
+		}
+		event.setProcessed(true);
+	}
+
+	/**
+	 * Builds the response of the given request from the MIB.
+	 */
+	private PDU respond(final PDU request, final boolean v1) {
+		final List<? extends VariableBinding> bindings = request.getVariableBindings();
+		final PDU response = new PDU();
+
+		switch (request.getType()) {
+			case PDU.GET:
+				for (int i = 0; i < bindings.size(); i++) {
+					final OID oid = bindings.get(i).getOid();
+					final Variable value = mib.get(oid);
+					if (value == null && v1) {
+						return error(request, PDU.noSuchName, i + 1);
+					}
+					response.add(new VariableBinding(oid, value != null ? value : Null.noSuchObject));
+				}
+				break;
+			case PDU.GETNEXT:
+				for (int i = 0; i < bindings.size(); i++) {
+					final Map.Entry<OID, Variable> next = mib.higherEntry(bindings.get(i).getOid());
+					if (next == null && v1) {
+						return error(request, PDU.noSuchName, i + 1);
+					}
+					response.add(
+						next != null
+							? new VariableBinding(next.getKey(), next.getValue())
+							: new VariableBinding(bindings.get(i).getOid(), Null.endOfMibView)
+					);
+				}
+				break;
+			case PDU.GETBULK:
+				final OID[] current = bindings.stream().map(VariableBinding::getOid).toArray(OID[]::new);
+				boolean ended = false;
+				for (int repetition = 0; repetition < request.getMaxRepetitions() && !ended; repetition++) {
+					ended = true;
+					for (int i = 0; i < current.length; i++) {
+						final Map.Entry<OID, Variable> next = mib.higherEntry(current[i]);
+						if (next == null) {
+							response.add(new VariableBinding(current[i], Null.endOfMibView));
+						} else {
+							current[i] = next.getKey();
+							response.add(new VariableBinding(next.getKey(), next.getValue()));
+							ended = false;
+						}
+					}
+				}
+				break;
+			default:
+				return error(request, PDU.genErr, 0);
+		}
+
+		return response.size() > maxResponseSize ? error(request, PDU.tooBig, 0) : response;
+	}
+
+	/**
+	 * @return An error response to the given request.
+	 */
+	private static PDU error(final PDU request, final int errorStatus, final int errorIndex) {
+		final PDU response = new PDU(request);
+		response.setErrorStatus(errorStatus);
+		response.setErrorIndex(errorIndex);
+		return response;
+	}
+
+	@Override
+	public void close() throws IOException {
+		responseGate.countDown();
+		snmp.close();
+	}
+}
@@ -6,6 +6,8 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Map;
@@ -85,6 +87,32 @@ public class SnmpGetCriterionProcessorTest {
 		assertTrue(criterionTestResult.isSuccess());
 	}
 
+	// Test case for connectors testing the same OID during the detection
+	@Test
+	void testProcess_SharedDuringDetection() throws Exception {
+		TelemetryManager telemetryManager = createTelemetryManagerWithHostConfiguration();
+
+		ISnmpConfiguration snmpConfiguration = mock(ISnmpConfiguration.class);
+		when(configurationRetriever.apply(any(TelemetryManager.class))).thenReturn(snmpConfiguration);
+
+		String oid = "1.3.6.1.2.1.1.1.0";
+		when(snmpRequestExecutor.executeSNMPGet(oid, snmpConfiguration, "hostname", false, "hostname")).thenReturn(
+			"TestValue"
+		);
+
+		SnmpGetCriterion snmpGetCriterion = SnmpGetCriterion.builder().oid(oid).expectedResult("TestValue").build();
+
+		telemetryManager.getDetectionProbeCache().open();
+		try {
+			assertTrue(snmpGetCriterionProcessor.process(snmpGetCriterion, "connector1", telemetryManager).isSuccess());
+			assertTrue(snmpGetCriterionProcessor.process(snmpGetCriterion, "connector2", telemetryManager).isSuccess());
+		} finally {
+			telemetryManager.getDetectionProbeCache().close();
+		}
+
+		verify(snmpRequestExecutor, times(1)).executeSNMPGet(oid, snmpConfiguration, "hostname", false, "hostname");
+	}
+
 	// Test case when snmpGetCriterion is null
 	@Test
 	public void testProcess_NullCriterion() {
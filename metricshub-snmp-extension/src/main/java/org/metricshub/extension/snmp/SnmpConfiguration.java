@@ -71,6 +71,10 @@ public class SnmpConfiguration implements ISnmpConfiguration {
 	@JsonDeserialize(using = TimeDeserializer.class)
 	private Long timeout = 60L;
 
+	@Default
+	@JsonSetter(nulls = SKIP)
+	private Integer maxRepetitions = DEFAULT_MAX_REPETITIONS;
+
 	@JsonSetter(nulls = SKIP)
 	@JsonDeserialize(using = MultiValueDeserializer.class)
 	private String hostname;
@@ -173,6 +177,19 @@ public class SnmpConfiguration implements ISnmpConfiguration {
 				)
 		);
 
+		StringHelper.validateConfigurationAttribute(
+			maxRepetitions,
+			attr -> attr == null || attr < 1,
+			() ->
+				String.format(
+					"Resource %s - maxRepetitions value is invalid for protocol %s." +
+						" maxRepetitions value returned: %s. This resource will not be monitored. Please verify the configured maxRepetitions value.",
+					resourceKey,
+					displayName,
+					maxRepetitions
+				)
+		);
+
 		StringHelper.validateConfigurationAttribute(
 			retryIntervals,
 			attr -> Objects.nonNull(attr) && Arrays.stream(attr).allMatch(value -> value < 1),
@@ -198,6 +215,7 @@ public class SnmpConfiguration implements ISnmpConfiguration {
 			.community(community)
 			.port(port)
 			.timeout(timeout)
+			.maxRepetitions(maxRepetitions)
 			.retryIntervals(retryIntervals)
 			.version(version)
 			.hostname(hostname)
@@ -216,6 +234,8 @@ public class SnmpConfiguration implements ISnmpConfiguration {
 				return getPort().toString();
 			case "timeout":
 				return getTimeout().toString();
+			case "maxrepetitions":
+				return getMaxRepetitions().toString();
 			case "retryintervals":
 				return Arrays.toString(getRetryIntervals());
 			case "version":
@@ -22,12 +22,15 @@ package org.metricshub.extension.snmp;
  */
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Optional;
 import org.metricshub.snmp.client.ISnmpClient;
 import org.metricshub.snmp.client.SnmpClient;
 
 /**
  * The SnmpRequestExecutor class extends {@link AbstractSnmpRequestExecutor} and provides utility methods
- * for executing various SNMP requests on local or remote hosts.
+ * for executing various SNMP requests on local or remote hosts. The SNMP clients are pooled per agent, version and
+ * community. The GETBULK requests of SNMP v2c are sent by {@link SnmpPduClient} instances.
  */
 public class SnmpRequestExecutor extends AbstractSnmpRequestExecutor {
 
@@ -50,4 +53,32 @@ public class SnmpRequestExecutor extends AbstractSnmpRequestExecutor {
 			null
 		);
 	}
+
+	@Override
+	protected Optional<SnmpPduClient> createPduClient(ISnmpConfiguration protocol, String hostname) throws IOException {
+		final SnmpConfiguration snmpConfig = (SnmpConfiguration) protocol;
+
+		return Optional.of(
+			SnmpPduClient.createCommunityClient(
+				hostname,
+				snmpConfig.getPort(),
+				snmpConfig.getIntVersion(),
+				snmpConfig.getCommunity(),
+				snmpConfig.getRetryIntervals()
+			)
+		);
+	}
+
+	@Override
+	protected Object clientPoolKey(ISnmpConfiguration protocol, String hostname) {
+		final SnmpConfiguration snmpConfig = (SnmpConfiguration) protocol;
+
+		return Arrays.asList(
+			hostname,
+			snmpConfig.getPort(),
+			snmpConfig.getIntVersion(),
+			Arrays.toString(snmpConfig.getRetryIntervals()),
+			credentialsDigest(snmpConfig.getCommunity())
+		);
+	}
 }
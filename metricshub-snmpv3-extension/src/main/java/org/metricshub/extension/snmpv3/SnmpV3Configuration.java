@@ -65,6 +65,10 @@ public class SnmpV3Configuration implements ISnmpConfiguration {
 	@JsonDeserialize(using = TimeDeserializer.class)
 	private Long timeout = 60L;
 
+	@Default
+	@JsonSetter(nulls = SKIP)
+	private Integer maxRepetitions = DEFAULT_MAX_REPETITIONS;
+
 	private String contextName;
 
 	@JsonDeserialize(using = AuthTypeDeserializer.class)
@@ -122,6 +126,19 @@ public class SnmpV3Configuration implements ISnmpConfiguration {
 				)
 		);
 
+		StringHelper.validateConfigurationAttribute(
+			maxRepetitions,
+			attr -> attr == null || attr < 1,
+			() ->
+				String.format(
+					"Resource %s - maxRepetitions value is invalid for protocol %s." +
+						" maxRepetitions value returned: %s. This resource will not be monitored. Please verify the configured maxRepetitions value.",
+					resourceKey,
+					SNMP_V3_DESCRIPTION,
+					maxRepetitions
+				)
+		);
+
 		StringHelper.validateConfigurationAttribute(
 			username,
 			attr -> attr == null || attr.isBlank(),
@@ -242,6 +259,7 @@ public class SnmpV3Configuration implements ISnmpConfiguration {
 			.privacyPassword(privacyPassword)
 			.retryIntervals(retryIntervals)
 			.timeout(timeout)
+			.maxRepetitions(maxRepetitions)
 			.username(username)
 			.hostname(hostname)
 			.build();
@@ -269,6 +287,8 @@ public class SnmpV3Configuration implements ISnmpConfiguration {
 				return Arrays.toString(getRetryIntervals());
 			case "timeout":
 				return getTimeout().toString();
+			case "maxrepetitions":
+				return getMaxRepetitions().toString();
 			case "username":
 				return getUsername();
 			case "hostname":
@@ -22,15 +22,30 @@ package org.metricshub.extension.snmpv3;
  */
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Optional;
 import org.metricshub.extension.snmp.AbstractSnmpRequestExecutor;
 import org.metricshub.extension.snmp.ISnmpConfiguration;
+import org.metricshub.extension.snmp.SnmpPduClient;
 import org.metricshub.snmp.client.ISnmpClient;
 import org.metricshub.snmp.client.SnmpClient;
+import org.snmp4j.security.AuthHMAC128SHA224;
+import org.snmp4j.security.AuthHMAC192SHA256;
+import org.snmp4j.security.AuthHMAC256SHA384;
+import org.snmp4j.security.AuthHMAC384SHA512;
+import org.snmp4j.security.AuthMD5;
+import org.snmp4j.security.AuthSHA;
+import org.snmp4j.security.PrivAES128;
+import org.snmp4j.security.PrivAES192;
+import org.snmp4j.security.PrivAES256;
+import org.snmp4j.security.PrivDES;
+import org.snmp4j.smi.OID;
 
 /**
  * The SnmpRequestExecutor class extends {@link AbstractSnmpRequestExecutor} and provides utility methods
- * for executing various SNMP V3 requests on local or remote hosts.
+ * for executing various SNMP V3 requests on local or remote hosts. The SNMP clients are pooled per agent and
+ * credentials, so that the engine discovery is not repeated for each request. The GETBULK requests are sent by
+ * {@link SnmpPduClient} instances.
  */
 public class SnmpV3RequestExecutor extends AbstractSnmpRequestExecutor {
 
@@ -60,4 +75,80 @@ public class SnmpV3RequestExecutor extends AbstractSnmpRequestExecutor {
 			null
 		);
 	}
+
+	@Override
+	protected Optional<SnmpPduClient> createPduClient(ISnmpConfiguration protocol, String hostname) throws IOException {
+		final SnmpV3Configuration snmpConfig = (SnmpV3Configuration) protocol;
+
+		return Optional.of(
+			SnmpPduClient.createUsmClient(
+				hostname,
+				snmpConfig.getPort(),
+				snmpConfig.getUsername(),
+				authProtocol(snmpConfig.getAuthType()),
+				snmpConfig.getPassword(),
+				privacyProtocol(snmpConfig.getPrivacy()),
+				snmpConfig.getPrivacyPassword(),
+				snmpConfig.getContextName(),
+				snmpConfig.getRetryIntervals()
+			)
+		);
+	}
+
+	/**
+	 * Returns the SNMP4J authentication protocol of the given authentication type.
+	 *
+	 * @param authType The authentication type.
+	 * @return The OID of the authentication protocol, or <code>null</code> without authentication.
+	 */
+	static OID authProtocol(final SnmpV3Configuration.AuthType authType) {
+		if (authType == null) {
+			return null;
+		}
+		return switch (authType) {
+			case MD5 -> AuthMD5.ID;
+			case SHA -> AuthSHA.ID;
+			case SHA224 -> AuthHMAC128SHA224.ID;
+			case SHA256 -> AuthHMAC192SHA256.ID;
+			case SHA384 -> AuthHMAC256SHA384.ID;
+			case SHA512 -> AuthHMAC384SHA512.ID;
+			case NO_AUTH -> null;
+		};
+	}
+
+	/**
+	 * Returns the SNMP4J privacy protocol of the given privacy type.
+	 *
+	 * @param privacy The privacy type.
+	 * @return The OID of the privacy protocol, or <code>null</code> without encryption.
+	 */
+	static OID privacyProtocol(final SnmpV3Configuration.Privacy privacy) {
+		if (privacy == null) {
+			return null;
+		}
+		return switch (privacy) {
+			case DES -> PrivDES.ID;
+			case AES -> PrivAES128.ID;
+			case AES192 -> PrivAES192.ID;
+			case AES256 -> PrivAES256.ID;
+			case NO_ENCRYPTION -> null;
+		};
+	}
+
+	@Override
+	protected Object clientPoolKey(ISnmpConfiguration protocol, String hostname) {
+		final SnmpV3Configuration snmpConfig = (SnmpV3Configuration) protocol;
+
+		return Arrays.asList(
+			hostname,
+			snmpConfig.getPort(),
+			snmpConfig.getIntVersion(),
+			Arrays.toString(snmpConfig.getRetryIntervals()),
+			snmpConfig.getAuthType(),
+			snmpConfig.getUsername(),
+			snmpConfig.getPrivacy(),
+			credentialsDigest(snmpConfig.getPassword(), snmpConfig.getPrivacyPassword()),
+			snmpConfig.getContextName()
+		);
+	}
 }
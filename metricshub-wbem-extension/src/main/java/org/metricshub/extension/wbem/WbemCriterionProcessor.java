@@ -24,6 +24,7 @@ package org.metricshub.extension.wbem;
 import static org.metricshub.engine.common.helpers.MetricsHubConstants.AUTOMATIC_NAMESPACE;
 import static org.metricshub.engine.common.helpers.MetricsHubConstants.TABLE_SEP;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -373,18 +374,26 @@ public class WbemCriterionProcessor {
 		@NonNull final WqlCriterion criterion,
 		@NonNull final TelemetryManager telemetryManager
 	) {
-		// Make the WBEM query
+		// Make the WBEM query. Connectors running the same query on the same namespace during the detection share a
+		// single request
 		final List<List<String>> queryResult;
 		try {
-			queryResult = wbemRequestExecutor.executeWbem(
-				hostname,
-				configuration,
-				criterion.getQuery(),
-				criterion.getNamespace(),
-				telemetryManager,
-				telemetryManager.getHostname()
-			);
-		} catch (ClientException e) {
+			queryResult = telemetryManager
+				.getDetectionProbeCache()
+				.get(Arrays.asList("wbem", hostname, criterion.getNamespace(), criterion.getQuery()), () ->
+					wbemRequestExecutor.executeWbem(
+						hostname,
+						configuration,
+						criterion.getQuery(),
+						criterion.getNamespace(),
+						telemetryManager,
+						telemetryManager.getHostname()
+					)
+				);
+		} catch (Exception e) {
+			if (e instanceof InterruptedException) {
+				Thread.currentThread().interrupt();
+			}
 			if (logMode) {
 				log.error(
 					"Hostname {} - Error executing WBEM criterion: {}. Exception message {}. Connector ID: {}.",
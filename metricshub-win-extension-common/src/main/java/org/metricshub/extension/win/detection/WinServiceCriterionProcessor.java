@@ -112,7 +112,8 @@ public class WinServiceCriterionProcessor {
 			serviceWmiCriterion,
 			connectorId,
 			logMode,
-			telemetryManager.getRecordOutputDirectory()
+			telemetryManager.getRecordOutputDirectory(),
+			telemetryManager.getDetectionProbeCache()
 		);
 		if (!wmiTestResult.isSuccess()) {
 			return wmiTestResult;
@@ -159,7 +159,8 @@ public class WmiCriterionProcessor {
 				cachedNamespaceCriterion,
 				connectorId,
 				logMode,
-				recordOutputDirectory
+				recordOutputDirectory,
+				telemetryManager.getDetectionProbeCache()
 			);
 		}
 
@@ -170,7 +171,8 @@ public class WmiCriterionProcessor {
 			wmiCriterion,
 			connectorId,
 			logMode,
-			recordOutputDirectory
+			recordOutputDirectory,
+			telemetryManager.getDetectionProbeCache()
 		);
 	}
 
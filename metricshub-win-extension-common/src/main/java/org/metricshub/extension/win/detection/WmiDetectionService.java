@@ -23,6 +23,7 @@ package org.metricshub.extension.win.detection;
 
 import static org.metricshub.engine.common.helpers.MetricsHubConstants.TABLE_SEP;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -32,6 +33,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.metricshub.engine.connector.model.identity.criterion.WmiCriterion;
 import org.metricshub.engine.strategy.detection.CriterionTestResult;
+import org.metricshub.engine.strategy.detection.DetectionProbeCache;
 import org.metricshub.engine.strategy.source.SourceTable;
 import org.metricshub.engine.strategy.utils.PslUtils;
 import org.metricshub.extension.win.IWinConfiguration;
@@ -74,18 +76,74 @@ public class WmiDetectionService {
 		@NonNull String connectorId,
 		final boolean logMode,
 		final String recordOutputDirectory
+	) {
+		return performDetectionTest(
+			hostname,
+			winConfiguration,
+			wmiCriterion,
+			connectorId,
+			logMode,
+			recordOutputDirectory,
+			null
+		);
+	}
+
+	/**
+	 * Perform the specified WMI detection test, on the specified Win protocol configuration, sharing the WMI query
+	 * with the other connectors running the same query on the same namespace during the detection.
+	 * <br>
+	 * Note: "Automatic" namespace is not supported in this method.
+	 * <br>
+	 *
+	 * @param hostname               Host name
+	 * @param winConfiguration       Win configuration (credentials, timeout)
+	 * @param wmiCriterion           WMI detection properties (WQL, namespace, expected result)
+	 * @param connectorId            Connector ID (used for logging purposes)
+	 * @param logMode                Whether to log or not the error in case of failure
+	 * @param recordOutputDirectory  Directory where WMI responses are recorded, or {@code null} to skip recording
+	 * @param detectionProbeCache    The detection probe cache of the host, or {@code null} to always run the query
+	 * @return {@link CriterionTestResult} which indicates if the check has succeeded or not.
+	 */
+	public CriterionTestResult performDetectionTest(
+		final String hostname,
+		@NonNull final IWinConfiguration winConfiguration,
+		@NonNull final WmiCriterion wmiCriterion,
+		@NonNull String connectorId,
+		final boolean logMode,
+		final String recordOutputDirectory,
+		final DetectionProbeCache detectionProbeCache
 	) {
 		// Make the WBEM query
 		final List<List<String>> queryResult;
 		try {
-			queryResult = winRequestExecutor.executeWmi(
-				hostname,
-				winConfiguration,
-				wmiCriterion.getQuery(),
-				wmiCriterion.getNamespace(),
-				recordOutputDirectory
-			);
+			final DetectionProbeCache.Probe<List<List<String>>> query = () ->
+				winRequestExecutor.executeWmi(
+					hostname,
+					winConfiguration,
+					wmiCriterion.getQuery(),
+					wmiCriterion.getNamespace(),
+					recordOutputDirectory
+				);
+
+			if (detectionProbeCache == null) {
+				queryResult = query.execute();
+			} else {
+				// Connectors running the same query on the same namespace during the detection share a single request
+				queryResult = detectionProbeCache.get(
+					Arrays.asList(
+						"wmi",
+						winConfiguration.getClass().getName(),
+						hostname,
+						wmiCriterion.getNamespace(),
+						wmiCriterion.getQuery()
+					),
+					query
+				);
+			}
 		} catch (Exception e) {
+			if (e instanceof InterruptedException) {
+				Thread.currentThread().interrupt();
+			}
 			if (logMode) {
 				log.error(
 					"Hostname {} - Error executing WMI criterion: {}. Exception message {}. Connector ID: {}.",
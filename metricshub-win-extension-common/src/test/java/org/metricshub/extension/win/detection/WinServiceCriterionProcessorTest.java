@@ -218,7 +218,7 @@ class WinServiceCriterionProcessorTest {
 
 			doReturn(CriterionTestResult.success(serviceCriterion, SERVICE_NAME + ";running"))
 				.when(wmiDetectionServiceMock)
-				.performDetectionTest(any(), any(), any(), any(), anyBoolean(), any());
+				.performDetectionTest(any(), any(), any(), any(), anyBoolean(), any(), any());
 
 			final CriterionTestResult criterionTestResult = winServiceCriterionProcessor.process(
 				serviceCriterion,
@@ -261,7 +261,7 @@ class WinServiceCriterionProcessorTest {
 
 			doReturn(CriterionTestResult.success(serviceCriterion, SERVICE_NAME + ";down"))
 				.when(wmiDetectionServiceMock)
-				.performDetectionTest(any(), any(), any(), any(), anyBoolean(), any());
+				.performDetectionTest(any(), any(), any(), any(), anyBoolean(), any(), any());
 
 			final CriterionTestResult criterionTestResult = winServiceCriterionProcessor.process(
 				serviceCriterion,
@@ -304,7 +304,7 @@ class WinServiceCriterionProcessorTest {
 
 			doReturn(CriterionTestResult.success(serviceCriterion, null))
 				.when(wmiDetectionServiceMock)
-				.performDetectionTest(any(), any(), any(), any(), anyBoolean(), any());
+				.performDetectionTest(any(), any(), any(), any(), anyBoolean(), any(), any());
 
 			final CriterionTestResult criterionTestResult = winServiceCriterionProcessor.process(
 				serviceCriterion,
@@ -347,7 +347,7 @@ class WinServiceCriterionProcessorTest {
 
 			doReturn(CriterionTestResult.error(serviceCriterion, "error"))
 				.when(wmiDetectionServiceMock)
-				.performDetectionTest(any(), any(), any(), any(), anyBoolean(), any());
+				.performDetectionTest(any(), any(), any(), any(), anyBoolean(), any(), any());
 
 			final CriterionTestResult criterionTestResult = winServiceCriterionProcessor.process(
 				serviceCriterion,
@@ -131,7 +131,7 @@ class WmiCriterionProcessorTest {
 		final WmiCriterion wmiCriterion = WmiCriterion.builder().query(WQL_CUSTOM).namespace(namespace).build();
 		doReturn(CriterionTestResult.success(wmiCriterion, WQL_RESULT_VALUE))
 			.when(wmiDetectionServiceMock)
-			.performDetectionTest(any(), eq(wmiConfiguration), eq(wmiCriterion), anyString(), eq(true), isNull());
+			.performDetectionTest(any(), eq(wmiConfiguration), eq(wmiCriterion), anyString(), eq(true), isNull(), any());
 
 		final CriterionTestResult result = wmiCriterionProcessor.process(wmiCriterion, telemetryManager);
 		assertTrue(result.isSuccess());
@@ -168,7 +168,15 @@ class WmiCriterionProcessorTest {
 		cachedNamespaceCriterion.setNamespace(cachedNamespace);
 		doReturn(CriterionTestResult.success(cachedNamespaceCriterion, WQL_RESULT_VALUE))
 			.when(wmiDetectionServiceMock)
-			.performDetectionTest(any(), eq(wmiConfiguration), eq(cachedNamespaceCriterion), anyString(), eq(true), isNull());
+			.performDetectionTest(
+				any(),
+				eq(wmiConfiguration),
+				eq(cachedNamespaceCriterion),
+				anyString(),
+				eq(true),
+				isNull(),
+				any()
+			);
 
 		final CriterionTestResult result = wmiCriterionProcessor.process(wmiCriterion, telemetryManager);
 		assertTrue(result.isSuccess());
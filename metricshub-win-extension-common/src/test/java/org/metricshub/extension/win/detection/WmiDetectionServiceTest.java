@@ -10,6 +10,8 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import java.util.Collections;
 import java.util.List;
@@ -20,6 +22,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.metricshub.engine.common.exception.ClientException;
 import org.metricshub.engine.connector.model.identity.criterion.WmiCriterion;
 import org.metricshub.engine.strategy.detection.CriterionTestResult;
+import org.metricshub.engine.strategy.detection.DetectionProbeCache;
 import org.metricshub.extension.win.IWinConfiguration;
 import org.metricshub.extension.win.IWinRequestExecutor;
 import org.metricshub.extension.win.WmiTestConfiguration;
@@ -103,6 +106,58 @@ class WmiDetectionServiceTest {
 		assertTrue(result.isSuccess());
 	}
 
+	@Test
+	void testProcessWmiCriterionSharedQuery() throws Exception {
+		final IWinConfiguration winConfiguration = WmiTestConfiguration.builder().build();
+		doReturn(List.of(List.of("MetricsHubServiceManager"), List.of("otelcol-contrib")))
+			.when(winRequestExecutorMock)
+			.executeWmi(HOST_NAME, winConfiguration, WMI_QUERY, WMI_NAMESPACE, null);
+		final WmiCriterion metricsHubCriterion = WmiCriterion.builder()
+			.query(WMI_QUERY)
+			.expectedResult("metricshub")
+			.build();
+		final WmiCriterion otelCriterion = WmiCriterion.builder().query(WMI_QUERY).expectedResult("otelcol").build();
+
+		// During the detection, the criteria running the same query on the same namespace share a single request
+		final DetectionProbeCache detectionProbeCache = new DetectionProbeCache();
+		detectionProbeCache.open();
+		final CriterionTestResult metricsHubResult = wmiDetectionService.performDetectionTest(
+			HOST_NAME,
+			winConfiguration,
+			metricsHubCriterion,
+			CONNECTOR_ID,
+			true,
+			null,
+			detectionProbeCache
+		);
+		final CriterionTestResult otelResult = wmiDetectionService.performDetectionTest(
+			HOST_NAME,
+			winConfiguration,
+			otelCriterion,
+			CONNECTOR_ID,
+			true,
+			null,
+			detectionProbeCache
+		);
+		assertTrue(metricsHubResult.isSuccess());
+		assertTrue(otelResult.isSuccess());
+		verify(winRequestExecutorMock, times(1)).executeWmi(HOST_NAME, winConfiguration, WMI_QUERY, WMI_NAMESPACE, null);
+
+		// Once the detection is over, each test runs its query
+		detectionProbeCache.close();
+		final CriterionTestResult closedCacheResult = wmiDetectionService.performDetectionTest(
+			HOST_NAME,
+			winConfiguration,
+			otelCriterion,
+			CONNECTOR_ID,
+			true,
+			null,
+			detectionProbeCache
+		);
+		assertTrue(closedCacheResult.isSuccess());
+		verify(winRequestExecutorMock, times(2)).executeWmi(HOST_NAME, winConfiguration, WMI_QUERY, WMI_NAMESPACE, null);
+	}
+
 	@Test
 	void testPerformDetectionTest() throws Exception {
 		// Invalid parameters
@@ -305,7 +305,15 @@ class WinRmExtensionTest {
 			final WmiCriterion wmiCriterion = WmiCriterion.builder().query(WQL).namespace(namespace).build();
 			doReturn(CriterionTestResult.success(wmiCriterion, "metricshub"))
 				.when(wmiDetectionServiceMock)
-				.performDetectionTest(any(), eq(winRmConfiguration), eq(wmiCriterion), anyString(), anyBoolean(), isNull());
+				.performDetectionTest(
+					any(),
+					eq(winRmConfiguration),
+					eq(wmiCriterion),
+					anyString(),
+					anyBoolean(),
+					isNull(),
+					any()
+				);
 			assertTrue(winRmExtension.processCriterion(wmiCriterion, CONNECTOR_ID, telemetryManager, true).isSuccess());
 		}
 		{
@@ -341,7 +349,7 @@ class WinRmExtensionTest {
 
 				doReturn(CriterionTestResult.success(serviceCriterion, "metricshub;running"))
 					.when(wmiDetectionServiceMock)
-					.performDetectionTest(any(), any(), any(), anyString(), anyBoolean(), any());
+					.performDetectionTest(any(), any(), any(), anyString(), anyBoolean(), any(), any());
 
 				assertTrue(winRmExtension.processCriterion(serviceCriterion, CONNECTOR_ID, telemetryManager, true).isSuccess());
 			}
@@ -84,6 +84,12 @@ public class WmiExtension implements IProtocolExtension {
 	 */
 	public static final String WMI_TEST_QUERY = "SELECT Name FROM Win32_ComputerSystem";
 
+	/**
+	 * WMI Query used to fingerprint the host: the boot time changes on reboot and the version on upgrade
+	 */
+	public static final String WMI_FINGERPRINT_QUERY =
+		"SELECT LastBootUpTime,Version,BuildNumber,SerialNumber FROM Win32_OperatingSystem";
+
 	/**
 	 * The identifier for the Wmi protocol.
 	 */
@@ -216,6 +222,49 @@ public class WmiExtension implements IProtocolExtension {
 		);
 	}
 
+	@Override
+	public Optional<String> getDetectionFingerprint(TelemetryManager telemetryManager) {
+		final WmiConfiguration wmiConfiguration = (WmiConfiguration) telemetryManager
+			.getHostConfiguration()
+			.getConfigurations()
+			.get(WmiConfiguration.class);
+
+		if (wmiConfiguration == null) {
+			return Optional.empty();
+		}
+
+		final String hostname = telemetryManager.getHostname(List.of(WmiConfiguration.class));
+
+		try {
+			final List<List<String>> wmiResult = wmiRequestExecutor.executeWmi(
+				hostname,
+				wmiConfiguration,
+				WMI_FINGERPRINT_QUERY,
+				WMI_TEST_NAMESPACE,
+				telemetryManager.getRecordOutputDirectory()
+			);
+			if (wmiResult == null || wmiResult.isEmpty() || wmiResult.get(0).isEmpty()) {
+				return Optional.empty();
+			}
+
+			// Without the boot time, a reboot cannot be noticed
+			final List<String> row = wmiResult.get(0);
+			if (row.get(0) == null || row.get(0).isBlank()) {
+				return Optional.empty();
+			}
+
+			return Optional.of(String.join("|", row));
+		} catch (Exception e) {
+			// The interruption of the query is wrapped in the ClientException
+			if (e.getCause() instanceof InterruptedException) {
+				Thread.currentThread().interrupt();
+				return Optional.empty();
+			}
+			log.debug("Hostname {} - Cannot compute the WMI fingerprint of the host: ", hostname, e);
+			return Optional.empty();
+		}
+	}
+
 	@Override
 	public SourceTable processSource(Source source, String connectorId, TelemetryManager telemetryManager) {
 		final Function<TelemetryManager, IWinConfiguration> configurationRetriever = manager ->
@@ -180,6 +180,42 @@ class WmiExtensionTest {
 		}
 	}
 
+	@Test
+	void testGetDetectionFingerprint() throws ClientException {
+		initWmi();
+
+		doReturn(List.of(List.of("20250101000000.000000+000", "10.0.20348", "20348", "00454-60000")))
+			.when(wmiRequestExecutorMock)
+			.executeWmi(
+				anyString(),
+				any(WmiConfiguration.class),
+				eq(WmiExtension.WMI_FINGERPRINT_QUERY),
+				eq(WmiExtension.WMI_TEST_NAMESPACE),
+				isNull()
+			);
+		assertEquals(
+			Optional.of("20250101000000.000000+000|10.0.20348|20348|00454-60000"),
+			wmiExtension.getDetectionFingerprint(telemetryManager)
+		);
+
+		// An interrupted query gives no fingerprint, and the interruption is kept
+		doThrow(new ClientException("WMI query failed.", new InterruptedException()))
+			.when(wmiRequestExecutorMock)
+			.executeWmi(
+				anyString(),
+				any(WmiConfiguration.class),
+				eq(WmiExtension.WMI_FINGERPRINT_QUERY),
+				eq(WmiExtension.WMI_TEST_NAMESPACE),
+				isNull()
+			);
+		try {
+			assertEquals(Optional.empty(), wmiExtension.getDetectionFingerprint(telemetryManager));
+			assertTrue(Thread.currentThread().isInterrupted());
+		} finally {
+			Thread.interrupted();
+		}
+	}
+
 	@Test
 	void testCheckProtocolDown() throws ClientException {
 		// Create a telemetry manager using a WMI HostConfiguration
@@ -305,7 +341,15 @@ class WmiExtensionTest {
 			final WmiCriterion wmiCriterion = WmiCriterion.builder().query(WQL).namespace(namespace).build();
 			doReturn(CriterionTestResult.success(wmiCriterion, "metricshub"))
 				.when(wmiDetectionServiceMock)
-				.performDetectionTest(any(), eq(wmiConfiguration), eq(wmiCriterion), anyString(), anyBoolean(), isNull());
+				.performDetectionTest(
+					any(),
+					eq(wmiConfiguration),
+					eq(wmiCriterion),
+					anyString(),
+					anyBoolean(),
+					isNull(),
+					any()
+				);
 			assertTrue(wmiExtension.processCriterion(wmiCriterion, CONNECTOR_ID, telemetryManager, true).isSuccess());
 		}
 		{
@@ -339,7 +383,7 @@ class WmiExtensionTest {
 
 				doReturn(CriterionTestResult.success(serviceCriterion, "metricshub;running"))
 					.when(wmiDetectionServiceMock)
-					.performDetectionTest(any(), any(), any(), anyString(), anyBoolean(), any());
+					.performDetectionTest(any(), any(), any(), anyString(), anyBoolean(), any(), any());
 
 				assertTrue(wmiExtension.processCriterion(serviceCriterion, CONNECTOR_ID, telemetryManager, true).isSuccess());
 			}